@@ -0,0 +1,146 @@
+package simplex;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mikrobenchmarks der Grundrechenarten von {@link Fraction}. Die Operanden werden zyklisch aus
+ * einem festen Vorrat gelesen, damit der JIT-Compiler die Ergebnisse nicht vorab berechnen kann.
+ * Mit magnitude = SMALL passen alle Werte in ein long, mit BIG rechnet jede Operation mit
+ * BigInteger.
+ *
+ * @author Alexander Loeffler
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FractionBenchmark {
+
+    /** Anzahl der Operanden im Vorrat, eine Zweierpotenz für die Maske */
+    private static final int OPERANDS = 1 << 10;
+
+    /** Startwert des Zufallsgenerators, damit alle Läufe dieselben Operanden nutzen */
+    private static final long SEED = 42;
+
+    /** Größter Betrag von Zähler und Nenner kleiner Brüche */
+    private static final int SMALL_BOUND = 1000;
+
+    /** Größenordnung der Operanden: SMALL oder BIG */
+    @Param({"SMALL", "BIG"})
+    private String magnitude;
+
+    /** Linke Operanden */
+    private Fraction[] left;
+
+    /** Rechte Operanden, alle ungleich 0 */
+    private Fraction[] right;
+
+    /** Position im Vorrat */
+    private int index;
+
+    /**
+     * Erzeugt die Operanden.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        left = new Fraction[OPERANDS];
+        right = new Fraction[OPERANDS];
+
+        for (int i = 0; i < OPERANDS; i++) {
+            left[i] = operand(random);
+            right[i] = operand(random);
+        }
+    }
+
+    /**
+     * @param random Zufallsgenerator
+     * @return Bruch ungleich 0 der eingestellten Größenordnung
+     */
+    private Fraction operand(Random random) {
+        if ("BIG".equals(magnitude)) {
+            // Zaehler und Nenner nahe Long.MAX_VALUE, Produkte laufen immer ueber
+            return new Fraction(Long.MAX_VALUE - random.nextInt(SMALL_BOUND),
+                    Long.MAX_VALUE / 2 + random.nextInt(SMALL_BOUND));
+        }
+        return new Fraction(1 + random.nextInt(SMALL_BOUND), 1 + random.nextInt(SMALL_BOUND));
+    }
+
+    /**
+     * @return Index des nächsten Operandenpaars
+     */
+    private int next() {
+        index = (index + 1) & (OPERANDS - 1);
+        return index;
+    }
+
+    /**
+     * @return Summe zweier Operanden
+     */
+    @Benchmark
+    public Fraction add() {
+        int i = next();
+        return left[i].add(right[i]);
+    }
+
+    /**
+     * @return Differenz zweier Operanden
+     */
+    @Benchmark
+    public Fraction subtract() {
+        int i = next();
+        return left[i].subtract(right[i]);
+    }
+
+    /**
+     * @return Produkt zweier Operanden
+     */
+    @Benchmark
+    public Fraction multiplyBy() {
+        int i = next();
+        return left[i].multiplyBy(right[i]);
+    }
+
+    /**
+     * @return Quotient zweier Operanden
+     */
+    @Benchmark
+    public Fraction divideBy() {
+        int i = next();
+        return left[i].divideBy(right[i]);
+    }
+
+    /**
+     * @return Differenz eines Operanden und des Produkts zweier Operanden, einzeln berechnet
+     */
+    @Benchmark
+    public Fraction subtractMultiplyBy() {
+        int i = next();
+        return left[i].subtract(right[i].multiplyBy(left[(i + 1) & (OPERANDS - 1)]));
+    }
+
+    /**
+     * @return Differenz eines Operanden und des Produkts zweier Operanden, zusammengefasst
+     */
+    @Benchmark
+    public Fraction subtractProduct() {
+        int i = next();
+        return left[i].subtractProduct(right[i], left[(i + 1) & (OPERANDS - 1)]);
+    }
+
+}
@@ -0,0 +1,70 @@
+package simplex;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark von {@link SimplexSolver#solve()} von der Erstellung des Automaten bis zur optimalen
+ * Lösung. Gelöst werden zufällige, immer lösbare Probleme aus dem
+ * {@link LinearProgramGenerator} mit rows Restriktionen und ebenso vielen Variablen, in denen
+ * ungefähr der Anteil density der Koeffizienten ungleich 0 ist. Schritte werden an
+ * {@link SolverListener#NOOP} gemeldet, damit keine Ausgabe mitgemessen wird.
+ *
+ * @author Alexander Loeffler
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SimplexSolverBenchmark {
+
+    /** Startwert des Zufallsgenerators, damit alle Läufe dasselbe Problem lösen */
+    private static final long SEED = 42;
+
+    /** Anzahl der Restriktionen und Variablen */
+    @Param({"10", "25", "50"})
+    private int rows;
+
+    /** Anteil der Koeffizienten ungleich 0 */
+    @Param({"0.2", "1.0"})
+    private double density;
+
+    /** Speicherform des Tableaus */
+    @Param({"FRACTION", "PRIMITIVE", "SPARSE"})
+    private TableauType type;
+
+    /** Zu lösendes Problem */
+    private SparseLinearProgram lp;
+
+    /**
+     * Erzeugt das Problem.
+     */
+    @Setup
+    public void setUp() {
+        LinearProgramGenerator generator = new LinearProgramGenerator(SEED);
+        generator.setDensity(density);
+        lp = generator.random(rows, rows);
+    }
+
+    /**
+     * @return optimale Lösung des Problems
+     */
+    @Benchmark
+    public Fraction[] solve() {
+        return new SimplexSolver(lp, type, SolverListener.NOOP).solve();
+    }
+
+}
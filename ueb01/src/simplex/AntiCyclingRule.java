@@ -0,0 +1,30 @@
+package simplex;
+
+/**
+ * Regel, auf die ein {@link SimplexSolver} umschaltet, sobald er während entarteter
+ * Simplexschritte eine bereits besuchte Basis erreicht. Nur die Regel von Bland garantiert, dass
+ * keine Basis ein weiteres Mal besucht wird. Wiederholt sich unter einer anderen Regel eine Basis,
+ * schaltet der Automat daher auf die Regel von Bland um. Nach dem nächsten nicht entarteten
+ * Schritt gilt wieder die eingestellte {@link PricingStrategy}.
+ *
+ * @author Alexander Loeffler
+ */
+public enum AntiCyclingRule {
+
+    /**
+     * Regel von Bland: aufgenommen wird die Spalte mit dem kleinsten Index unter den Kandidaten,
+     * bei gleichen Quotienten verlässt die Basisvariable mit dem kleinsten Index die Basis.
+     */
+    BLAND,
+
+    /**
+     * Lexikographischer Quotiententest: die Pivotspalte wählt weiterhin die
+     * {@link PricingStrategy}, gleiche Quotienten werden über die Einheitsspalten der
+     * Restriktionen (die Zeilen der inversen Basis) aufgelöst. Da erst mitten im Lösen
+     * umgeschaltet wird, sind die Zeilen dann nicht unbedingt lexikographisch positiv, und bei
+     * {@link TableauLayout#COMPACT} fehlen die Einheitsspalten der EQ-Restriktionen. Zyklen
+     * werden daher meist, aber nicht immer vermieden.
+     */
+    LEXICOGRAPHIC
+
+}
@@ -0,0 +1,233 @@
+package simplex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Löst viele voneinander unabhängige lineare Probleme auf einer festen Anzahl von Threads. Jeder
+ * Thread behält das Tableau seines letzten Problems und verwendet es für das nächste Problem
+ * gleicher Größe wieder, so dass bei vielen kleinen Problemen kaum neue Tableaus angelegt werden.
+ *
+ * Über alle Aufrufe werden die Anzahl gelöster Probleme und die dafür benötigte Zeit gezählt,
+ * daraus ergibt sich der Durchsatz {@link #getThroughput()}.
+ *
+ * @author Alexander Loeffler
+ */
+public final class BatchSolver implements AutoCloseable {
+
+    /** Nanosekunden pro Sekunde */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /** Beim Lösen eines Streams höchstens gleichzeitig übergebene Probleme je Thread */
+    private static final int IN_FLIGHT_PER_THREAD = 2;
+
+    /** Threads, auf denen die Probleme gelöst werden */
+    private final ExecutorService executor;
+
+    /** Speicherform der Tableaus */
+    private final TableauType type;
+
+    /** Beim Lösen eines Streams höchstens gleichzeitig übergebene, noch nicht gelöste Probleme */
+    private final int maxInFlight;
+
+    /** Zuletzt benutztes Tableau je Thread */
+    private final ThreadLocal<Tableau> scratch = new ThreadLocal<>();
+
+    /** Anzahl der gelösten Probleme */
+    private final AtomicLong solved = new AtomicLong();
+
+    /** Anzahl der Probleme, die ein vorhandenes Tableau wiederverwendet haben */
+    private final AtomicLong reused = new AtomicLong();
+
+    /** Summe der Laufzeiten aller Aufrufe in Nanosekunden */
+    private final AtomicLong elapsed = new AtomicLong();
+
+    /**
+     * Konstruktor für Tableaus der Speicherform {@link TableauType#FRACTION}.
+     *
+     * @param threads Anzahl der Threads
+     * @pre threads > 0
+     */
+    public BatchSolver(int threads) {
+        this(threads, TableauType.FRACTION);
+    }
+
+    /**
+     * Konstruktor.
+     *
+     * @param threads Anzahl der Threads
+     * @param type Speicherform der Tableaus
+     * @pre threads > 0
+     * @pre type != null
+     */
+    public BatchSolver(int threads, TableauType type) {
+        assert threads > 0;
+        assert type != null;
+
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.type = type;
+        this.maxInFlight = threads * IN_FLIGHT_PER_THREAD;
+    }
+
+    /**
+     * Löst alle Probleme und wartet, bis alle gelöst sind.
+     *
+     * @param programs zu lösende Probleme
+     * @return Lösungen in der Reihenfolge der Probleme, null für unlösbare Probleme
+     * @pre programs != null
+     * @pre programs enthält kein null
+     */
+    public List<Fraction[]> solveAll(Collection<LinearProgram> programs) {
+        assert programs != null;
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Fraction[]>> futures = new ArrayList<>(programs.size());
+
+        for (LinearProgram lp : programs) {
+            futures.add(CompletableFuture.supplyAsync(() -> solveOne(lp), executor));
+        }
+
+        List<Fraction[]> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<Fraction[]> future : futures) {
+            results.add(future.join());
+        }
+
+        elapsed.addAndGet(System.nanoTime() - start);
+        return results;
+    }
+
+    /**
+     * Löst alle Probleme eines Streams und wartet, bis alle gelöst sind. Die Probleme werden
+     * während des Durchlaufens übergeben, der Stream wird also nicht vorab gesammelt. Sind
+     * {@link #getMaxInFlight()} Probleme übergeben, aber noch nicht gelöst, wartet der aufrufende
+     * Thread, bevor er das nächste Problem aus dem Stream holt.
+     *
+     * @param programs zu lösende Probleme
+     * @return Lösungen in der Reihenfolge der Probleme, null für unlösbare Probleme
+     * @pre programs != null
+     * @pre programs enthält kein null
+     */
+    public List<Fraction[]> solveAll(Stream<LinearProgram> programs) {
+        assert programs != null;
+
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(maxInFlight);
+        List<CompletableFuture<Fraction[]>> futures = new ArrayList<>();
+        Iterator<LinearProgram> iterator = programs.iterator();
+
+        while (iterator.hasNext()) {
+            LinearProgram lp = iterator.next();
+            permits.acquireUninterruptibly();
+            futures.add(CompletableFuture.supplyAsync(() -> solveOne(lp), executor)
+                    .whenComplete((result, error) -> permits.release()));
+        }
+
+        List<Fraction[]> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<Fraction[]> future : futures) {
+            results.add(future.join());
+        }
+
+        elapsed.addAndGet(System.nanoTime() - start);
+        return results;
+    }
+
+    /**
+     * Löst alle Probleme und übergibt jede Lösung, sobald sie vorliegt. Der Empfänger wird aus
+     * den Threads des BatchSolvers aufgerufen, ggf. gleichzeitig. Die Methode kehrt zurück, wenn
+     * alle Lösungen übergeben wurden.
+     *
+     * @param programs zu lösende Probleme
+     * @param consumer Empfänger des Index des Problems und der Lösung (null, wenn unlösbar)
+     * @pre programs != null
+     * @pre programs enthält kein null
+     * @pre consumer != null
+     */
+    public void solveEach(Collection<LinearProgram> programs,
+            BiConsumer<Integer, Fraction[]> consumer) {
+        assert programs != null;
+        assert consumer != null;
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[programs.size()];
+        int index = 0;
+
+        for (LinearProgram lp : programs) {
+            int current = index;
+            futures[index++] = CompletableFuture.supplyAsync(() -> solveOne(lp), executor)
+                    .thenAccept(result -> consumer.accept(current, result));
+        }
+
+        CompletableFuture.allOf(futures).join();
+        elapsed.addAndGet(System.nanoTime() - start);
+    }
+
+    /**
+     * @return höchste Anzahl übergebener, noch nicht gelöster Probleme beim Lösen eines Streams
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return Anzahl der bisher gelösten Probleme
+     */
+    public long getSolvedCount() {
+        return solved.get();
+    }
+
+    /**
+     * @return Anzahl der Probleme, die das Tableau eines vorherigen Problems wiederverwendet haben
+     */
+    public long getReusedTableauCount() {
+        return reused.get();
+    }
+
+    /**
+     * Gibt den Durchsatz über alle bisherigen Aufrufe zurück.
+     *
+     * @return gelöste Probleme pro Sekunde, 0 solange noch nichts gelöst wurde
+     */
+    public double getThroughput() {
+        long nanos = elapsed.get();
+        return (nanos == 0) ? 0 : solved.get() * NANOS_PER_SECOND / nanos;
+    }
+
+    /**
+     * Beendet die Threads, nachdem alle bereits übergebenen Probleme gelöst sind.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Löst ein Problem mit dem Tableau des aktuellen Threads.
+     *
+     * @param lp zu lösendes Problem
+     * @return Lösung oder null, wenn unlösbar
+     */
+    private Fraction[] solveOne(LinearProgram lp) {
+        Tableau previous = scratch.get();
+        SimplexSolver solver = new SimplexSolver(SparseLinearProgram.of(lp), type,
+                TableauLayout.FULL, SolverListener.NOOP, previous);
+
+        if (solver.getTableau() == previous) {
+            reused.incrementAndGet();
+        }
+        scratch.set(solver.getTableau());
+
+        Fraction[] result = solver.solve();
+        solved.incrementAndGet();
+        return result;
+    }
+
+}
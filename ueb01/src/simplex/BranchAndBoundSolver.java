@@ -0,0 +1,305 @@
+package simplex;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Löst gemischt-ganzzahlige lineare Probleme mit Branch-and-Bound. Variablen, die als ganzzahlig
+ * markiert sind, werden bei einem gebrochenen Wert x in zwei Teilprobleme mit den Schranken
+ * {@code <= floor(x)} und {@code >= floor(x) + 1} aufgeteilt.
+ *
+ * Jeder Knoten übernimmt das optimale Tableau seines Elternknotens, hängt seine Schranke mit
+ * {@link SimplexSolver#addRestriction(SparseLinearProgram.Restriction)} an und rechnet mit
+ * {@link SimplexSolver#solveDual()} weiter, statt das Problem neu aufzubauen. Offene Knoten liegen
+ * in einer gemeinsamen Warteschlange, aus der immer der Knoten mit der besten Schranke gewählt
+ * wird (best bound). Die Knoten werden als Aufgaben eines {@link ForkJoinPool} bearbeitet, die
+ * beste bisher gefundene ganzzahlige Lösung teilen sich alle Threads, um Knoten abzuschneiden.
+ *
+ * Optional werden im Wurzelknoten vor dem Verzweigen Schnitte mit dem
+ * {@link GomoryCutGenerator} hinzugefügt. Sie gelten für das ganze Problem und werden von allen
+ * Knoten übernommen, die Schranke der Wurzel ist damit enger und es entstehen weniger Knoten.
+ *
+ * @author Alexander Loeffler
+ */
+public final class BranchAndBoundSolver {
+
+    /**
+     * Ein offener Knoten: ein Automat mit dem optimalen Tableau des Elternknotens, den nur dieser
+     * Knoten benutzt, und die Schranke, um die sich der Knoten vom Elternknoten unterscheidet.
+     */
+    private static final class Node {
+
+        /** Automat im optimalen Tableau des Elternknotens */
+        private final SimplexSolver solver;
+
+        /** Anzuhängende Schranke oder null für die Wurzel */
+        private final SparseLinearProgram.Restriction bound;
+
+        /** Zielfunktionswert des Elternknotens, Schranke für alle Lösungen des Knotens */
+        private final Fraction parentValue;
+
+        /**
+         * Konstruktor.
+         *
+         * @param solver Automat im optimalen Tableau des Elternknotens
+         * @param bound anzuhängende Schranke oder null
+         * @param parentValue Zielfunktionswert des Elternknotens oder null für die Wurzel
+         */
+        private Node(SimplexSolver solver, SparseLinearProgram.Restriction bound,
+                Fraction parentValue) {
+            this.solver = solver;
+            this.bound = bound;
+            this.parentValue = parentValue;
+        }
+    }
+
+    /**
+     * Bearbeitet einen Knoten aus der Warteschlange. Für jeden Knoten in der Warteschlange wird
+     * genau eine Aufgabe gestartet, die Warteschlange ist beim Entnehmen daher nie leer. Welcher
+     * Knoten entnommen wird, entscheidet die Warteschlange, nicht die Aufgabe.
+     */
+    private final class NodeTask extends RecursiveAction {
+
+        @Override
+        protected void compute() {
+            Node node = open.poll();
+            assert node != null;
+
+            List<NodeTask> children = new ArrayList<>();
+            for (int k = branch(node); k > 0; k--) {
+                children.add(new NodeTask());
+            }
+            invokeAll(children);
+        }
+    }
+
+    /** Zu lösendes Problem */
+    private final LinearProgram lp;
+
+    /** true je Variable, die ganzzahlig sein muss */
+    private final boolean[] integral;
+
+    /** Speicherform der Tableaus */
+    private final TableauType type;
+
+    /** Offene Knoten, der Knoten mit der besten Schranke zuerst */
+    private final PriorityBlockingQueue<Node> open;
+
+    /** Beste bisher gefundene ganzzahlige Lösung oder null */
+    private final AtomicReference<Fraction[]> incumbent = new AtomicReference<>();
+
+    /** Anzahl der gelösten Knoten */
+    private final AtomicInteger nodes = new AtomicInteger();
+
+    /** Höchstzahl an Runden von Schnitten im Wurzelknoten */
+    private int cutRounds;
+
+    /** Anzahl der im Wurzelknoten hinzugefügten Schnitte */
+    private volatile int cutCount;
+
+    /**
+     * Konstruktor für Tableaus der Speicherform {@link TableauType#FRACTION}.
+     *
+     * @param lp zu lösendes Problem
+     * @param integral true je Variable, die ganzzahlig sein muss
+     * @pre lp != null
+     * @pre integral.length == lp.getObjectiveTerm().length
+     */
+    public BranchAndBoundSolver(LinearProgram lp, boolean[] integral) {
+        this(lp, integral, TableauType.FRACTION);
+    }
+
+    /**
+     * Konstruktor.
+     *
+     * @param lp zu lösendes Problem
+     * @param integral true je Variable, die ganzzahlig sein muss
+     * @param type Speicherform der Tableaus
+     * @pre lp != null
+     * @pre integral.length == lp.getObjectiveTerm().length
+     * @pre type != null
+     */
+    public BranchAndBoundSolver(LinearProgram lp, boolean[] integral, TableauType type) {
+        assert lp != null;
+        assert integral.length == lp.getObjectiveTerm().length;
+        assert type != null;
+
+        this.lp = lp;
+        this.integral = integral.clone();
+        this.type = type;
+
+        Comparator<Node> byBound = (a, b) -> compareValues(b.parentValue, a.parentValue);
+        this.open = new PriorityBlockingQueue<>(1, byBound);
+    }
+
+    /**
+     * Löst das Problem auf dem gemeinsamen Pool von {@link ForkJoinPool#commonPool()}.
+     *
+     * @return optimale Koeffizienten und Wert der Zielfunktion (x1, x2, ..., xn, z) oder null,
+     *         wenn es keine ganzzahlige Lösung gibt oder die Relaxation unbeschränkt ist
+     */
+    public Fraction[] solve() {
+        return solve(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Löst das Problem auf dem übergebenen Pool. Gibt es mehrere optimale Lösungen, hängt es bei
+     * mehr als einem Thread von der Reihenfolge der Bearbeitung ab, welche zurückgegeben wird.
+     *
+     * @param pool Pool, auf dem die Knoten bearbeitet werden
+     * @return optimale Koeffizienten und Wert der Zielfunktion (x1, x2, ..., xn, z) oder null,
+     *         wenn es keine ganzzahlige Lösung gibt oder die Relaxation unbeschränkt ist
+     * @pre pool != null
+     */
+    public Fraction[] solve(ForkJoinPool pool) {
+        assert pool != null;
+
+        incumbent.set(null);
+        nodes.set(0);
+        cutCount = 0;
+        open.add(new Node(new SimplexSolver(lp, type), null, null));
+        pool.invoke(new NodeTask());
+
+        return incumbent.get();
+    }
+
+    /**
+     * @return Anzahl der beim letzten Lösen gelösten Knoten
+     */
+    public int getNodeCount() {
+        return nodes.get();
+    }
+
+    /**
+     * Setzt die Höchstzahl an Runden von Gomory-Schnitten im Wurzelknoten, siehe
+     * {@link GomoryCutGenerator#solve(int)}.
+     *
+     * @param rounds Höchstzahl an Runden, 0 für keine Schnitte
+     * @pre rounds >= 0
+     */
+    public void setCutRounds(int rounds) {
+        assert rounds >= 0;
+
+        this.cutRounds = rounds;
+    }
+
+    /**
+     * @return Anzahl der beim letzten Lösen im Wurzelknoten hinzugefügten Schnitte
+     */
+    public int getCutCount() {
+        return cutCount;
+    }
+
+    /**
+     * Löst einen Knoten und legt bei einer gebrochenen ganzzahligen Variable zwei Kindknoten in
+     * die Warteschlange. Knoten, deren Schranke nicht besser als die bisher beste Lösung ist,
+     * werden ohne Lösen verworfen.
+     *
+     * @param node zu bearbeitender Knoten
+     * @return Anzahl der neuen Knoten (0 oder 2)
+     */
+    private int branch(Node node) {
+        if (node.parentValue != null && !improves(node.parentValue)) {
+            return 0;
+        }
+
+        SimplexSolver solver = node.solver;
+        Fraction[] result;
+        if (node.bound == null) {
+            GomoryCutGenerator generator = new GomoryCutGenerator(solver, lp, integral);
+            result = generator.addCuts(solver.solve(), cutRounds);
+            cutCount = generator.getCuts().size();
+        } else {
+            solver.addRestriction(node.bound);
+            result = solver.solveDual();
+        }
+        nodes.incrementAndGet();
+
+        Fraction value = (result == null) ? null : result[result.length - 1];
+        if (value == null || !improves(value)) {
+            return 0;
+        }
+
+        int variable = firstFractional(result);
+        if (variable == -1) {
+            incumbent.accumulateAndGet(result, (current, offered) -> (current == null
+                    || compareValues(offered[offered.length - 1],
+                            current[current.length - 1]) > 0) ? offered : current);
+            return 0;
+        }
+
+        Fraction floor = new Fraction(result[variable].getBigNumerator()
+                .divide(result[variable].getBigDenominator()), BigInteger.ONE);
+
+        // Beide Kinder brauchen ein eigenes Tableau, das zweite uebernimmt das des Knotens
+        open.add(new Node(solver.copy(), bound(variable, Type.LE, floor), value));
+        open.add(new Node(solver, bound(variable, Type.GE, floor.add(Fraction.ONE)), value));
+        return 2;
+    }
+
+    /**
+     * Gibt zurück, ob ein Zielfunktionswert besser als die bisher beste ganzzahlige Lösung ist.
+     *
+     * @param value Zielfunktionswert
+     * @return true, wenn es noch keine Lösung gibt oder value echt besser ist
+     */
+    private boolean improves(Fraction value) {
+        Fraction[] best = incumbent.get();
+        return best == null || compareValues(value, best[best.length - 1]) > 0;
+    }
+
+    /**
+     * Vergleicht zwei Zielfunktionswerte nach der Optimierungsrichtung. null gilt als besser als
+     * jeder Wert, damit die Wurzel zuerst bearbeitet wird.
+     *
+     * @param a erster Wert oder null
+     * @param b zweiter Wert oder null
+     * @return positiv, wenn a besser als b ist, negativ, wenn schlechter, sonst 0
+     */
+    private int compareValues(Fraction a, Fraction b) {
+        if (a == null || b == null) {
+            return (a == null ? 1 : 0) - (b == null ? 1 : 0);
+        }
+        return (lp.getSolveType() == SolveType.MAX) ? a.compareTo(b) : b.compareTo(a);
+    }
+
+    /**
+     * Gibt die erste ganzzahlige Variable zurück, deren Wert gebrochen ist.
+     *
+     * @param result Lösung der Relaxation
+     * @return Index der Variable oder -1, wenn die Lösung ganzzahlig ist
+     */
+    private int firstFractional(Fraction[] result) {
+        for (int j = 0; j < integral.length; j++) {
+            if (integral[j] && !result[j].getBigDenominator().equals(BigInteger.ONE)) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Erzeugt eine Schranke für eine einzelne Variable.
+     *
+     * @param variable Index der Variable
+     * @param type LE für eine obere, GE für eine untere Schranke
+     * @param value Wert der Schranke
+     * @return Restriktion variable type value
+     */
+    private static SparseLinearProgram.Restriction bound(int variable, Type type,
+            Fraction value) {
+        return new SparseLinearProgram.Restriction(new int[] {variable},
+                new Fraction[] {Fraction.ONE}, type, value);
+    }
+
+}
@@ -0,0 +1,30 @@
+package simplex;
+
+/**
+ * Signal, mit dem ein anderer Thread einen laufenden Lösungsvorgang abbricht, siehe
+ * {@link SolveConfig#setCancellationToken(CancellationToken)}. Ein Token kann für mehrere
+ * Lösungsvorgänge verwendet werden und bricht nach {@link #cancel()} alle ab.
+ *
+ * @author Alexander Loeffler
+ */
+public final class CancellationToken {
+
+    /** true, sobald abgebrochen wurde */
+    private volatile boolean cancelled;
+
+    /**
+     * Bricht alle Lösungsvorgänge ab, die dieses Token verwenden. Der Abbruch erfolgt vor dem
+     * nächsten Simplexschritt.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return true, wenn {@link #cancel()} aufgerufen wurde
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+}
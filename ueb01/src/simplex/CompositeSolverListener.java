@@ -0,0 +1,106 @@
+package simplex;
+
+/**
+ * Beobachter, der jedes Ereignis der Reihe nach an mehrere Beobachter weitergibt, z.B. an eine
+ * {@link SolverStatistics}, einen {@link TableauCheckpoint} und einen
+ * {@link ConsoleSolverListener} zugleich. Angelegt wird er über
+ * {@link SolverListener#of(SolverListener...)}.
+ *
+ * @author Alexander Loeffler
+ */
+final class CompositeSolverListener implements SolverListener {
+
+    /** Beobachter in der Reihenfolge, in der sie benachrichtigt werden */
+    private final SolverListener[] listeners;
+
+    /**
+     * Konstruktor.
+     *
+     * @param listeners Beobachter in der Reihenfolge, in der sie benachrichtigt werden
+     * @pre listeners != null
+     * @pre listeners enthält kein null
+     */
+    CompositeSolverListener(SolverListener[] listeners) {
+        assert listeners != null;
+
+        this.listeners = listeners.clone();
+    }
+
+    @Override
+    public void tableauCreated(SimplexSolver solver) {
+        for (SolverListener listener : listeners) {
+            listener.tableauCreated(solver);
+        }
+    }
+
+    @Override
+    public void solveStarted(SimplexSolver solver) {
+        for (SolverListener listener : listeners) {
+            listener.solveStarted(solver);
+        }
+    }
+
+    @Override
+    public void phaseChanged(SimplexSolver solver, int phase) {
+        for (SolverListener listener : listeners) {
+            listener.phaseChanged(solver, phase);
+        }
+    }
+
+    @Override
+    public void iterationStarted(SimplexSolver solver, int iteration) {
+        for (SolverListener listener : listeners) {
+            listener.iterationStarted(solver, iteration);
+        }
+    }
+
+    @Override
+    public void pivotColumnSelected(SimplexSolver solver, int pivotCol) {
+        for (SolverListener listener : listeners) {
+            listener.pivotColumnSelected(solver, pivotCol);
+        }
+    }
+
+    @Override
+    public void pivotRowSelected(SimplexSolver solver, int pivotRow) {
+        for (SolverListener listener : listeners) {
+            listener.pivotRowSelected(solver, pivotRow);
+        }
+    }
+
+    @Override
+    public void basisChanged(SimplexSolver solver, int row, int leavingVar, int enteringVar) {
+        for (SolverListener listener : listeners) {
+            listener.basisChanged(solver, row, leavingVar, enteringVar);
+        }
+    }
+
+    @Override
+    public void pivotRowNormalized(SimplexSolver solver, int pivotRow) {
+        for (SolverListener listener : listeners) {
+            listener.pivotRowNormalized(solver, pivotRow);
+        }
+    }
+
+    @Override
+    public void rowsReduced(SimplexSolver solver) {
+        for (SolverListener listener : listeners) {
+            listener.rowsReduced(solver);
+        }
+    }
+
+    @Override
+    public void tableauChanged(SimplexSolver solver) {
+        for (SolverListener listener : listeners) {
+            listener.tableauChanged(solver);
+        }
+    }
+
+    @Override
+    public void solved(SimplexSolver solver, Fraction[] result) {
+        for (SolverListener listener : listeners) {
+            listener.solved(solver, result);
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package simplex;
+
+import java.io.PrintStream;
+
+/**
+ * Beobachter, der die Schritte eines {@link SimplexSolver} wie bisher als Text ausgibt, inklusive
+ * Tableau und Basis nach jeder Änderung. Nur zur Fehlersuche gedacht, da jede Ausgabe das gesamte
+ * Tableau erzeugt.
+ *
+ * @author Alexander Loeffler
+ */
+public final class ConsoleSolverListener implements SolverListener {
+
+    /** Ziel der Ausgaben */
+    private final PrintStream out;
+
+    /**
+     * Konstruktor. Gibt auf {@link System#out} aus.
+     */
+    public ConsoleSolverListener() {
+        this(System.out);
+    }
+
+    /**
+     * Konstruktor.
+     *
+     * @param out Ziel der Ausgaben
+     * @pre out != null
+     */
+    public ConsoleSolverListener(PrintStream out) {
+        assert out != null;
+
+        this.out = out;
+    }
+
+    @Override
+    public void tableauCreated(SimplexSolver solver) {
+        out.println(" ");
+        out.println("Simplex Solver gestartet!");
+        out.println("Generiere Table");
+        out.println(" ");
+        printTable(solver);
+        printBase(solver);
+    }
+
+    @Override
+    public void solveStarted(SimplexSolver solver) {
+        out.println(" ");
+        out.println("Das Loesen des Tables hat begonnen");
+        out.println(" ");
+        out.println("Liegt eine gueltige Loesung vor: " + solver.isValidSolution());
+        out.println(" ");
+    }
+
+    @Override
+    public void phaseChanged(SimplexSolver solver, int phase) {
+        if (phase == 1) {
+            out.println("Es liegt nocht KEINE Valide Loesung vor!");
+        } else {
+            out.println("Es liegt eine Valide Loesung vor!");
+        }
+    }
+
+    @Override
+    public void iterationStarted(SimplexSolver solver, int iteration) {
+        out.println("Loesung noch nicht optimal!");
+        out.println("----------------------------------");
+        out.println("Simplexschritte werden ausgefuehrt");
+        out.println("Durchlauf: " + iteration);
+    }
+
+    @Override
+    public void pivotColumnSelected(SimplexSolver solver, int pivotCol) {
+        out.println(" ");
+        out.println("Pivotspalte wird ausgewaehlt.");
+        out.println("Pivotspalte gefunden: " + pivotCol);
+        out.println(" ");
+
+        if (pivotCol == -1) {
+            out.println("Pivotspalte nicht gueltig! Abbruch!");
+        }
+    }
+
+    @Override
+    public void pivotRowSelected(SimplexSolver solver, int pivotRow) {
+        out.println(" ");
+        out.println("Pivotzeile wird ausgewaehlt.");
+        out.println("Pivotzeile gefunden: " + pivotRow);
+
+        if (pivotRow == -1) {
+            out.println("Pivotzeile nicht gueltig! Abbruch!");
+        }
+    }
+
+    @Override
+    public void basisChanged(SimplexSolver solver, int row, int leavingVar, int enteringVar) {
+        out.println(" ");
+        out.println("Tausche Base in Zeile " + row + " und Index " + leavingVar + " mit Index "
+                + enteringVar);
+        out.println("Neue Basis: ");
+        printBase(solver);
+    }
+
+    @Override
+    public void pivotRowNormalized(SimplexSolver solver, int pivotRow) {
+        out.println("Normiere Pivotzeile: ");
+        printTable(solver);
+    }
+
+    @Override
+    public void rowsReduced(SimplexSolver solver) {
+        out.println("Reduziere alle Zeilen: ");
+        printTable(solver);
+        out.println("----------------------------------");
+    }
+
+    @Override
+    public void solved(SimplexSolver solver, Fraction[] result) {
+        if (result == null) {
+            return;
+        }
+
+        out.println("Loesung ist optimal! Juhu");
+        out.println("Loesung fertig! Ergebnis: ");
+
+        for (Fraction fraction : result) {
+            out.println(fraction.toString());
+        }
+
+        out.println("----------------------------------");
+        out.println("----------------------------------");
+    }
+
+    /**
+     * Gibt das aktuelle Tableau aus.
+     *
+     * @param solver Solver, dessen Tableau ausgegeben wird
+     */
+    private void printTable(SimplexSolver solver) {
+        out.println(" ");
+        out.println("Aktueller Table: ");
+
+        for (Fraction[] row : solver.getTable()) {
+            StringBuilder rowString = new StringBuilder();
+
+            for (Fraction column : row) {
+                rowString.append(column.toString()).append(column.signum() < 0 ? " " : "  ");
+            }
+            out.println(rowString);
+        }
+        out.println(" ");
+    }
+
+    /**
+     * Gibt die aktuelle Basis aus.
+     *
+     * @param solver Solver, dessen Basis ausgegeben wird
+     */
+    private void printBase(SimplexSolver solver) {
+        out.println(" ");
+        out.println("Aktuelle Basis: ");
+
+        for (int baseVar : solver.getBaseVars()) {
+            out.println(baseVar);
+        }
+        out.println(" ");
+    }
+
+}
@@ -0,0 +1,112 @@
+package simplex;
+
+/**
+ * Werte der Kandidatenspalten, unter denen ein {@link Pricer} die Pivotspalte wählt. In Phase II
+ * ist das die Zielfunktionszeile, die direkt im Tableau gelesen wird: Vorzeichen und Vergleiche
+ * laufen über {@link Tableau#signum(int, int)} und {@link Tableau#compare(int, int, int, int)},
+ * so dass z.B. ein {@link LongTableau} für die Regel von Dantzig keine Brüche anlegt. In Phase I
+ * sind es die vorab gebildeten Spaltensummen.
+ *
+ * @author Alexander Loeffler
+ */
+final class CostRow {
+
+    /** Tableau mit der Zeile der Werte oder null, wenn die Werte als Brüche vorliegen */
+    private final Tableau table;
+
+    /** Zeile der Werte im Tableau */
+    private final int row;
+
+    /** Werte als Brüche oder null, wenn sie im Tableau stehen */
+    private final Fraction[] values;
+
+    /** Anzahl der Kandidatenspalten */
+    private final int count;
+
+    /**
+     * Konstruktor.
+     *
+     * @param table Tableau mit der Zeile der Werte oder null
+     * @param row Zeile der Werte im Tableau
+     * @param values Werte als Brüche oder null
+     * @param count Anzahl der Kandidatenspalten
+     */
+    private CostRow(Tableau table, int row, Fraction[] values, int count) {
+        this.table = table;
+        this.row = row;
+        this.values = values;
+        this.count = count;
+    }
+
+    /**
+     * Liest die Werte aus einer Zeile des Tableaus, ohne sie zu kopieren.
+     *
+     * @param table Tableau
+     * @param row Zeile der Werte
+     * @param count Anzahl der Kandidatenspalten, beginnend bei Spalte 0
+     * @return Werte der Zeile
+     * @pre table != null
+     * @pre row >= 0 && row < table.getRowCount()
+     * @pre count >= 0 && count <= table.getColumnCount()
+     */
+    static CostRow of(Tableau table, int row, int count) {
+        assert table != null;
+        assert row >= 0 && row < table.getRowCount();
+        assert count >= 0 && count <= table.getColumnCount();
+
+        return new CostRow(table, row, null, count);
+    }
+
+    /**
+     * Verwendet die übergebenen Brüche als Werte.
+     *
+     * @param values Werte, Index j gehört zur Spalte j des Tableaus
+     * @return Werte des Arrays
+     * @pre values != null
+     */
+    static CostRow of(Fraction[] values) {
+        assert values != null;
+
+        return new CostRow(null, 0, values, values.length);
+    }
+
+    /**
+     * @return Anzahl der Kandidatenspalten
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * @param col Spalte
+     * @return Vorzeichen des Werts der Spalte (-1, 0 oder 1)
+     * @pre col >= 0 && col < size()
+     */
+    int signum(int col) {
+        return (table == null) ? values[col].signum() : table.signum(row, col);
+    }
+
+    /**
+     * Vergleicht die Werte zweier Spalten (wie {@link Fraction#compareTo(Fraction)}).
+     *
+     * @param colA erste Spalte
+     * @param colB zweite Spalte
+     * @return Vergleichsergebnis (kleiner, gleich, oder größer 0)
+     * @pre colA >= 0 && colA < size()
+     * @pre colB >= 0 && colB < size()
+     */
+    int compare(int colA, int colB) {
+        return (table == null) ? values[colA].compareTo(values[colB])
+                : table.compare(row, colA, row, colB);
+    }
+
+    /**
+     * @param col Spalte
+     * @return Wert der Spalte, ggf. neu angelegt
+     * @pre col >= 0 && col < size()
+     */
+    Fraction get(int col) {
+        return (table == null) ? values[col] : table.get(row, col);
+    }
+
+}
@@ -0,0 +1,76 @@
+package simplex;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Erkennt Zyklen in einer Folge von Simplexschritten. Ein nicht entarteter Schritt verbessert
+ * den Zielfunktionswert echt, so dass keine vorherige Basis wieder erreicht werden kann. Gemerkt
+ * werden daher nur die Basen seit dem letzten nicht entarteten Schritt. Wird eine davon erneut
+ * erreicht, ist ein Zyklus erkannt und die Gegenmaßnahme bleibt bis zum nächsten nicht
+ * entarteten Schritt aktiv. Wiederholt sich trotz aktiver Gegenmaßnahme eine Basis, wird auf die
+ * Regel von Bland eskaliert, die keine Basis ein weiteres Mal erreicht.
+ *
+ * @author Alexander Loeffler
+ */
+final class CycleDetector {
+
+    /** Basen seit dem letzten nicht entarteten Schritt */
+    private final Set<BitSet> bases = new HashSet<>();
+
+    /** true, solange nach einem erkannten Zyklus noch kein nicht entarteter Schritt erfolgte */
+    private boolean active;
+
+    /** true, wenn sich trotz Gegenmaßnahme eine Basis wiederholt hat */
+    private boolean escalated;
+
+    /**
+     * Merkt sich die Basis nach einem Simplexschritt.
+     *
+     * @param baseVars Basisvariablen nach dem Schritt
+     * @param degenerate true, wenn der Schritt den Zielfunktionswert nicht verändert hat
+     * @return true, wenn mit diesem Schritt ein Zyklus erkannt wurde, auch bei aktiver
+     *         Gegenmaßnahme
+     */
+    boolean pivoted(int[] baseVars, boolean degenerate) {
+        if (!degenerate) {
+            bases.clear();
+            active = false;
+            escalated = false;
+            return false;
+        }
+
+        BitSet basis = new BitSet();
+        for (int baseVar : baseVars) {
+            basis.set(baseVar);
+        }
+
+        if (bases.add(basis) || escalated) {
+            return false;
+        }
+
+        // Basen vor dem Umschalten darf die neue Regel noch einmal erreichen, erst eine weitere
+        // Wiederholung ist ein Zyklus unter dieser Regel
+        escalated = active;
+        active = true;
+        bases.clear();
+        bases.add(basis);
+        return true;
+    }
+
+    /**
+     * @return true, wenn die Gegenmaßnahme gegen Zyklen angewendet werden muss
+     */
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return true, wenn statt der eingestellten Gegenmaßnahme die Regel von Bland gelten muss
+     */
+    boolean isEscalated() {
+        return escalated;
+    }
+
+}
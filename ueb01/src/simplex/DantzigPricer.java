@@ -0,0 +1,29 @@
+package simplex;
+
+/**
+ * Spaltenwahl nach {@link PricingStrategy#DANTZIG}: die Spalte mit dem größten Wert, bei
+ * Gleichheit die erste.
+ *
+ * @author Alexander Loeffler
+ */
+class DantzigPricer implements Pricer {
+
+    @Override
+    public int chooseColumn(Tableau table, CostRow costs) {
+        int col = -1;
+
+        for (int j = 0; j < costs.size(); j++) {
+            if (costs.signum(j) > 0 && (col == -1 || costs.compare(j, col) > 0)) {
+                col = j;
+            }
+        }
+
+        return col;
+    }
+
+    @Override
+    public void pivoted(Tableau table, int row, int col, int leaving, int candidates) {
+        // kein Zustand
+    }
+
+}
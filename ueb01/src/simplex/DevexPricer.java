@@ -0,0 +1,80 @@
+package simplex;
+
+import java.util.Arrays;
+
+/**
+ * Spaltenwahl nach {@link PricingStrategy#DEVEX}. Jede Kandidatenspalte hat ein Gewicht, das die
+ * Länge der Spalte relativ zum Referenzsystem der Variablen beim ersten Simplexschritt annähert.
+ * Bewertet wird das Quadrat des Werts geteilt durch das Gewicht. Die Gewichte werden nach jedem
+ * Simplexschritt allein aus der Pivotzeile fortgeschrieben und damit deutlich günstiger als die
+ * exakten Längen von {@link SteepestEdgePricer}. Ändert sich die Anzahl der Spalten, z.B. durch
+ * eine neue Restriktion, beginnt ein neues Referenzsystem mit allen Gewichten 1.
+ *
+ * @author Alexander Loeffler
+ */
+class DevexPricer implements Pricer {
+
+    /** Gewichte der Kandidatenspalten oder null vor dem ersten Aufruf */
+    private double[] weights;
+
+    @Override
+    public int chooseColumn(Tableau table, CostRow costs) {
+        resetIfResized(costs.size());
+
+        int col = -1;
+        double best = 0;
+
+        for (int j = 0; j < costs.size(); j++) {
+            if (costs.signum(j) > 0) {
+                double cost = costs.get(j).getAsFPN();
+                double score = cost * cost / weights[j];
+
+                if (col == -1 || score > best) {
+                    col = j;
+                    best = score;
+                }
+            }
+        }
+
+        return col;
+    }
+
+    @Override
+    public void pivoted(Tableau table, int row, int col, int leaving, int candidates) {
+        if (resetIfResized(candidates) || col >= candidates) {
+            return;
+        }
+
+        // Die normierte Pivotzeile enthaelt a_rj / a_rq, in der Spalte der verlassenden
+        // Variable steht 1 / a_rq
+        double pivotWeight = weights[col];
+
+        for (int j = 0; j < candidates; j++) {
+            if (j != col && table.signum(row, j) != 0) {
+                double ratio = table.get(row, j).getAsFPN();
+                double weight = ratio * ratio * pivotWeight;
+
+                weights[j] = (j == leaving) ? Math.max(weight, 1) : Math.max(weights[j], weight);
+            }
+        }
+
+        weights[col] = 1;
+    }
+
+    /**
+     * Beginnt ein neues Referenzsystem, wenn sich die Anzahl der Kandidatenspalten geändert hat.
+     *
+     * @param candidates Anzahl der Kandidatenspalten
+     * @return true, wenn die Gewichte zurückgesetzt wurden
+     */
+    private boolean resetIfResized(int candidates) {
+        if (weights != null && weights.length == candidates) {
+            return false;
+        }
+
+        weights = new double[candidates];
+        Arrays.fill(weights, 1);
+        return true;
+    }
+
+}
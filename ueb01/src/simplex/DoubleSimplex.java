@@ -0,0 +1,225 @@
+package simplex;
+
+/**
+ * Simplexverfahren in Gleitkommaarithmetik. Arbeitet auf einer double-Kopie eines Tableaus mit
+ * demselben Aufbau wie im {@link SimplexSolver} (Variablen, Schlupfvariablen, künstliche
+ * Variablen, rechte Seite) und liefert nur die gefundene Basis. Die Werte selbst werden vom
+ * SimplexSolver anschließend exakt aus dieser Basis berechnet.
+ *
+ * @author Alexander Loeffler
+ */
+class DoubleSimplex {
+
+    /** Faktor für die maximale Anzahl an Simplexschritten bezogen auf Zeilen + Spalten */
+    private static final int ITERATION_FACTOR = 10;
+
+    /** Tableau mit den Zeilen in der ersten und den Spalten in der zweiten Dimension */
+    private final double[][] table;
+
+    /** Indices der Basisvariablen */
+    private final int[] baseVars;
+
+    /** Anzahl der Variablen und Schlupfvariablen, danach folgen die künstlichen Variablen */
+    private final int numberRegularVars;
+
+    /** Index der letzten Spalte (rechte Seite) */
+    private final int rightSide;
+
+    /** Kleinster Betrag, den ein Pivotelement haben muss */
+    private final double pivotTolerance;
+
+    /** Werte, deren Betrag kleiner ist, gelten bei Zulässigkeits- und Optimalitätstests als 0 */
+    private final double feasibilityTolerance;
+
+    /**
+     * Konstruktor. Übernimmt die Werte des übergebenen Tableaus als double.
+     *
+     * @param tableau Ausgangstableau
+     * @param baseVars Indices der Basisvariablen des Ausgangstableaus
+     * @param numberRegularVars Anzahl der Variablen und Schlupfvariablen
+     * @param numberAiVars Anzahl der künstlichen Variablen
+     * @param pivotTolerance kleinster zulässiger Betrag eines Pivotelements
+     * @param feasibilityTolerance Toleranz für Zulässigkeits- und Optimalitätstests
+     * @pre tableau != null
+     * @pre baseVars.length == tableau.getRowCount() - 1
+     * @pre pivotTolerance > 0
+     * @pre feasibilityTolerance > 0
+     */
+    DoubleSimplex(Tableau tableau, int[] baseVars, int numberRegularVars, int numberAiVars,
+            double pivotTolerance, double feasibilityTolerance) {
+        assert tableau != null;
+        assert baseVars.length == tableau.getRowCount() - 1;
+        assert pivotTolerance > 0;
+        assert feasibilityTolerance > 0;
+
+        this.table = new double[tableau.getRowCount()][tableau.getColumnCount()];
+        for (int i = 0; i < table.length; i++) {
+            for (int j = 0; j < table[i].length; j++) {
+                table[i][j] = tableau.get(i, j).getAsFPN();
+            }
+        }
+
+        this.baseVars = baseVars.clone();
+        this.numberRegularVars = numberRegularVars;
+        this.rightSide = numberRegularVars + numberAiVars;
+        this.pivotTolerance = pivotTolerance;
+        this.feasibilityTolerance = feasibilityTolerance;
+    }
+
+    /**
+     * Führt Simplexschritte aus, bis das Tableau im Rahmen der Toleranzen optimal ist.
+     *
+     * @return Indices der Basisvariablen der gefundenen Lösung oder null, wenn in Gleitkomma
+     *         keine optimale Basis gefunden wurde (unlösbar, unbeschränkt oder zu viele Schritte)
+     */
+    int[] solve() {
+        int maxIterations = ITERATION_FACTOR * (table.length + table[0].length);
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            boolean phaseOne = hasAiVarInBase();
+
+            int pivotCol = phaseOne ? choosePhaseOneColumn() : chooseObjectiveColumn();
+            if (pivotCol == -1) {
+
+                // Phase I ohne Verbesserung: nur zulaessig, wenn die KV bereits (fast) 0 sind
+                return (!phaseOne || aiVarsAreZero()) ? baseVars.clone() : null;
+            }
+
+            int pivotRow = choosePivotRow(pivotCol);
+            if (pivotRow == -1) {
+                return null;
+            }
+
+            pivot(pivotRow, pivotCol);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return Spalte mit der größten Summe über alle Zeilen mit künstlicher Basisvariable oder
+     *         -1, wenn keine Summe die Toleranz überschreitet
+     */
+    private int choosePhaseOneColumn() {
+        int pivotCol = -1;
+        double biggestValue = feasibilityTolerance;
+
+        for (int j = 0; j < numberRegularVars; j++) {
+            double sum = 0;
+
+            for (int i = 0; i < baseVars.length; i++) {
+                if (baseVars[i] >= numberRegularVars) {
+                    sum += table[i][j];
+                }
+            }
+
+            if (sum > biggestValue) {
+                biggestValue = sum;
+                pivotCol = j;
+            }
+        }
+
+        return pivotCol;
+    }
+
+    /**
+     * @return Spalte mit dem größten Wert in der Zielfunktionszeile oder -1, wenn kein Wert die
+     *         Toleranz überschreitet
+     */
+    private int chooseObjectiveColumn() {
+        double[] objective = table[table.length - 1];
+        int pivotCol = -1;
+        double biggestValue = feasibilityTolerance;
+
+        for (int j = 0; j < numberRegularVars; j++) {
+            if (objective[j] > biggestValue) {
+                biggestValue = objective[j];
+                pivotCol = j;
+            }
+        }
+
+        return pivotCol;
+    }
+
+    /**
+     * Quotiententest. Bei gleichen Quotienten wird das betragsgrößere Pivotelement gewählt.
+     *
+     * @param pivotCol Pivotspalte
+     * @return Pivotzeile oder -1, wenn die Spalte kein zulässiges Pivotelement enthält
+     */
+    private int choosePivotRow(int pivotCol) {
+        int pivotRow = -1;
+        double smallestRatio = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < baseVars.length; i++) {
+            double value = table[i][pivotCol];
+
+            if (value > pivotTolerance) {
+                double ratio = Math.max(table[i][rightSide], 0) / value;
+
+                if (ratio < smallestRatio - feasibilityTolerance
+                        || (ratio <= smallestRatio + feasibilityTolerance
+                                && value > table[pivotRow][pivotCol])) {
+                    smallestRatio = ratio;
+                    pivotRow = i;
+                }
+            }
+        }
+
+        return pivotRow;
+    }
+
+    /**
+     * Nimmt die Variable der Pivotspalte in der Pivotzeile in die Basis auf.
+     *
+     * @param pivotRow Pivotzeile
+     * @param pivotCol Pivotspalte
+     */
+    private void pivot(int pivotRow, int pivotCol) {
+        double[] row = table[pivotRow];
+        double baseValue = row[pivotCol];
+
+        for (int j = 0; j < row.length; j++) {
+            row[j] /= baseValue;
+        }
+        row[pivotCol] = 1;
+
+        for (int i = 0; i < table.length; i++) {
+            double factor = table[i][pivotCol];
+
+            if (i != pivotRow && factor != 0) {
+                for (int j = 0; j < row.length; j++) {
+                    table[i][j] -= factor * row[j];
+                }
+                table[i][pivotCol] = 0;
+            }
+        }
+
+        baseVars[pivotRow] = pivotCol;
+    }
+
+    /**
+     * @return true, wenn mindestens eine künstliche Variable in der Basis ist
+     */
+    private boolean hasAiVarInBase() {
+        for (int baseVar : baseVars) {
+            if (baseVar >= numberRegularVars) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true, wenn alle künstlichen Basisvariablen im Rahmen der Toleranz den Wert 0 haben
+     */
+    private boolean aiVarsAreZero() {
+        for (int i = 0; i < baseVars.length; i++) {
+            if (baseVars[i] >= numberRegularVars && table[i][rightSide] > feasibilityTolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
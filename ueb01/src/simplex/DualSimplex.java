@@ -0,0 +1,143 @@
+package simplex;
+
+/**
+ * Duale Simplexschritte eines {@link SimplexSolver}, siehe {@link SimplexSolver#solveDual()}. Das
+ * Tableau muss dual zulässig sein, d.h. die Zielfunktionszeile hat bei Variablen und
+ * Schlupfvariablen keine positiven Werte. In jedem Schritt verlässt die Basisvariable mit dem
+ * kleinsten negativen Wert die Basis, aufgenommen wird die Variable mit dem kleinsten Quotienten
+ * aus Zielfunktionszeile und negativem Eintrag der Zeile. Die Schritte selbst führt der Automat
+ * aus, so dass sie wie die primalen Schritte gemeldet und gezählt werden.
+ *
+ * @author Alexander Loeffler
+ */
+final class DualSimplex {
+
+    /** Automat, dessen Tableau dual zulässig ist */
+    private final SimplexSolver solver;
+
+    /**
+     * Konstruktor.
+     *
+     * @param solver Automat, dessen Tableau dual zulässig ist
+     * @pre solver != null
+     */
+    DualSimplex(SimplexSolver solver) {
+        assert solver != null;
+
+        this.solver = solver;
+    }
+
+    /**
+     * Gibt die Zeile mit dem kleinsten negativen Wert auf der rechten Seite zurück (bei
+     * Gleichheit die erste).
+     *
+     * @param table Tableau, die letzte Zeile ist die Zielfunktionszeile
+     * @return Pivotzeile des dualen Simplexschritts oder -1, wenn alle Werte nicht-negativ sind
+     */
+    static int choosePivotRow(Tableau table) {
+        int rhs = table.getColumnCount() - 1;
+        int row = -1;
+
+        for (int i = 0; i < table.getRowCount() - 1; i++) {
+            if (table.signum(i, rhs) < 0 && (row == -1 || table.compare(i, rhs, row, rhs) < 0)) {
+                row = i;
+            }
+        }
+
+        return row;
+    }
+
+    /**
+     * Führt duale Simplexschritte aus, bis alle Werte der rechten Seite nicht-negativ sind oder
+     * sich das Problem als unlösbar erweist.
+     *
+     * @return optimale Koeffizienten und Wert der Zielfunktion oder null, wenn unlösbar
+     */
+    Fraction[] solve() {
+        SolverListener listener = solver.getListener();
+        CycleDetector detector = new CycleDetector();
+        int index = 1;
+        int pivotRow = choosePivotRow(solver.getTableau());
+
+        while (pivotRow != -1) {
+            if (solver.checkLimits()) {
+                return null;
+            }
+
+            listener.iterationStarted(solver, index);
+            listener.pivotRowSelected(solver, pivotRow);
+
+            Tableau table = solver.getTableau();
+            int pivotCol = choosePivotColumn(table, pivotRow);
+            listener.pivotColumnSelected(solver, pivotCol);
+            if (pivotCol == -1) {
+                return null;
+            }
+
+            // Dual entartet ist ein Schritt mit 0 in der Zielfunktionszeile der Pivotspalte
+            boolean degenerate = table.signum(table.getRowCount() - 1, pivotCol) == 0;
+            solver.exchange(pivotRow, pivotCol);
+            if (detector.pivoted(solver.getBaseVars(), degenerate)) {
+                solver.countCycle();
+            }
+
+            index++;
+            pivotRow = detector.isActive() ? chooseBlandPivotRow(solver.getTableau())
+                    : choosePivotRow(solver.getTableau());
+        }
+
+        return solver.collectResult();
+    }
+
+    /**
+     * Gibt nach der Regel von Bland unter den Zeilen mit negativer rechter Seite die Zeile mit
+     * dem kleinsten Index der Basisvariable zurück. Zusammen mit der Spaltenwahl von
+     * {@link #choosePivotColumn(Tableau, int)}, die bei gleichen Quotienten die erste Spalte
+     * nimmt, können keine Zyklen entstehen.
+     *
+     * @param table Tableau
+     * @return Pivotzeile des dualen Simplexschritts oder -1, wenn alle Werte nicht-negativ sind
+     */
+    private int chooseBlandPivotRow(Tableau table) {
+        int[] baseVars = solver.getBaseVars();
+        int rhs = table.getColumnCount() - 1;
+        int row = -1;
+
+        for (int i = 0; i < baseVars.length; i++) {
+            if (table.signum(i, rhs) < 0 && (row == -1 || baseVars[i] < baseVars[row])) {
+                row = i;
+            }
+        }
+
+        return row;
+    }
+
+    /**
+     * Gibt unter den Spalten mit negativem Eintrag in der Pivotzeile die Spalte mit dem kleinsten
+     * Quotienten aus Zielfunktionszeile und Eintrag zurück (bei Gleichheit die erste).
+     *
+     * @param table Tableau
+     * @param pivotRow Pivotzeile
+     * @return Pivotspalte des dualen Simplexschritts oder -1, wenn die Zeile keinen negativen
+     *         Eintrag hat und das Problem damit unlösbar ist
+     */
+    private int choosePivotColumn(Tableau table, int pivotRow) {
+        int objectiveRow = table.getRowCount() - 1;
+        int col = -1;
+        Fraction smallestRatio = null;
+
+        for (int j = 0; j < solver.getRegularColumnCount(); j++) {
+            if (table.signum(pivotRow, j) < 0) {
+                Fraction ratio = table.get(objectiveRow, j).divideBy(table.get(pivotRow, j));
+
+                if (smallestRatio == null || ratio.compareTo(smallestRatio) < 0) {
+                    smallestRatio = ratio;
+                    col = j;
+                }
+            }
+        }
+
+        return col;
+    }
+
+}
@@ -1,5 +1,8 @@
 package simplex;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.Arrays; // darf nur in "toMatrix" verwendet werden
 
 /**
@@ -7,6 +10,11 @@ import java.util.Arrays; // darf nur in "toMatrix" verwendet werden
  * Fraction-Instanzen sind unveränderlich, d.h. für Änderungen werden stets neue Instanzen
  * angelegt.
  * 
+ * Solange Zähler und Nenner in ein long passen, wird ausschließlich mit long gerechnet. Jede
+ * Operation prüft dabei exakt auf Überlauf (Math.*Exact). Tritt ein Überlauf auf, wird nur das
+ * betroffene Ergebnis mit BigInteger berechnet und gespeichert. Passt ein Ergebnis wieder in ein
+ * long, wird es automatisch wieder als long abgelegt.
+ * 
  * @author kar, mhe, Alexander Loeffler
  */
 public class Fraction implements Comparable<Fraction> {
@@ -26,6 +34,12 @@ public class Fraction implements Comparable<Fraction> {
     /** Der Nenner des Bruchs */
     private final long denominator;
 
+    /** Der Zähler des Bruchs, falls er oder der Nenner nicht in ein long passt, sonst null */
+    private final BigInteger bigNumerator;
+
+    /** Der Nenner des Bruchs, falls er oder der Zähler nicht in ein long passt, sonst null */
+    private final BigInteger bigDenominator;
+
     /**
      * Erstellt einen vollständig gekürzten Bruch aus dem übergebenen Zähler und Nenner. Die
      * interne Repräsentation des Nenners ist nicht-negativ. Die Zahl 0 wird durch den Zähler 0
@@ -38,20 +52,92 @@ public class Fraction implements Comparable<Fraction> {
     public Fraction(long numerator, long denominator) {
         assert denominator != 0;
 
-        if (denominator == 1) {
+        // Long.MIN_VALUE laesst sich nicht negieren und wird daher mit BigInteger gekuerzt
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            Fraction big = new Fraction(BigInteger.valueOf(numerator),
+                    BigInteger.valueOf(denominator));
+            this.numerator = big.numerator;
+            this.denominator = big.denominator;
+            this.bigNumerator = big.bigNumerator;
+            this.bigDenominator = big.bigDenominator;
+        } else if (denominator == 1) {
             this.numerator = numerator;
             this.denominator = denominator;
+            this.bigNumerator = null;
+            this.bigDenominator = null;
         } else {
 
+            // Das Vorzeichen wandert in den Zaehler
+            if (denominator < 0) {
+                numerator = -numerator;
+                denominator = -denominator;
+            }
+
             // Falls der Zaehler negativ ist wird er fuer den ggt * -1 gerechnet.
             long ggt = (numerator < 0) ? ggt(numerator * -1, denominator)
                     : ggt(numerator, denominator);
 
             this.numerator = numerator / ggt;
             this.denominator = denominator / ggt;
+            this.bigNumerator = null;
+            this.bigDenominator = null;
         }
     }
 
+    /**
+     * Erstellt einen vollständig gekürzten Bruch aus beliebig großem Zähler und Nenner. Passen
+     * beide nach dem Kürzen in ein long, wird der Bruch wie bei
+     * {@link #Fraction(long, long)} als long gespeichert.
+     * 
+     * @param numerator Zu verwendender Zähler (beliebige ganze Zahl)
+     * @param denominator Zu verwendender Nenner (beliebige ganze Zahl, außer 0)
+     * @pre numerator != null
+     * @pre denominator != null
+     * @pre denominator != 0
+     */
+    public Fraction(BigInteger numerator, BigInteger denominator) {
+        assert numerator != null;
+        assert denominator != null;
+        assert denominator.signum() != 0;
+
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+
+        BigInteger ggt = numerator.gcd(denominator);
+        numerator = numerator.divide(ggt);
+        denominator = denominator.divide(ggt);
+
+        if (fitsLong(numerator) && fitsLong(denominator)) {
+            this.numerator = numerator.longValue();
+            this.denominator = denominator.longValue();
+            this.bigNumerator = null;
+            this.bigDenominator = null;
+        } else {
+            this.numerator = 0;
+            this.denominator = 1;
+            this.bigNumerator = numerator;
+            this.bigDenominator = denominator;
+        }
+    }
+
+    /**
+     * Erstellt einen Bruch direkt aus seinen Feldern, ohne zu kürzen.
+     * 
+     * @param numerator vollständig gekürzter Zähler
+     * @param denominator gekürzter, positiver Nenner
+     * @param bigNumerator Zähler als BigInteger oder null
+     * @param bigDenominator Nenner als BigInteger oder null
+     */
+    private Fraction(long numerator, long denominator, BigInteger bigNumerator,
+            BigInteger bigDenominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = bigNumerator;
+        this.bigDenominator = bigDenominator;
+    }
+
     /**
      * Erstellt einen Bruch aus dem übergebenen Zähler und dem Nenner 1.
      * 
@@ -71,15 +157,23 @@ public class Fraction implements Comparable<Fraction> {
     public Fraction add(Fraction other) {
         assert other != null;
 
-        // Berechnet den kgv der beiden Zahlen
-        long kgv = kgv(this.denominator, other.denominator);
+        if (this.isBig() || other.isBig()) {
+            return addBig(other.getBigNumerator(), other.getBigDenominator());
+        }
+
+        try {
+            // Berechnet den kgv der beiden Zahlen
+            long kgv = kgv(this.denominator, other.denominator);
 
-        // Berechnet den Faktor der beiden Zahlen zum Erweitern auf den kgv
-        long factorX = kgv / this.denominator;
-        long factorY = kgv / other.denominator;
+            // Berechnet den Faktor der beiden Zahlen zum Erweitern auf den kgv
+            long factorX = kgv / this.denominator;
+            long factorY = kgv / other.denominator;
 
-        return new Fraction(this.numerator * factorX + other.numerator * factorY,
-                other.denominator * factorY);
+            return new Fraction(Math.addExact(Math.multiplyExact(this.numerator, factorX),
+                    Math.multiplyExact(other.numerator, factorY)), kgv);
+        } catch (ArithmeticException e) {
+            return addBig(other.getBigNumerator(), other.getBigDenominator());
+        }
     }
 
     /**
@@ -92,15 +186,83 @@ public class Fraction implements Comparable<Fraction> {
     public Fraction subtract(Fraction other) {
         assert other != null;
 
-        // Berechnet den kgv der beiden Zahlen
-        long kgv = kgv(this.denominator, other.denominator);
+        if (this.isBig() || other.isBig()) {
+            return addBig(other.getBigNumerator().negate(), other.getBigDenominator());
+        }
 
-        // Berechnet den Faktor der beiden Zahlen zum Erweitern auf den kgv
-        long factorX = kgv / this.denominator;
-        long factorY = kgv / other.denominator;
+        try {
+            // Berechnet den kgv der beiden Zahlen
+            long kgv = kgv(this.denominator, other.denominator);
 
-        return new Fraction(this.numerator * factorX - other.numerator * factorY,
-                this.denominator * factorX);
+            // Berechnet den Faktor der beiden Zahlen zum Erweitern auf den kgv
+            long factorX = kgv / this.denominator;
+            long factorY = kgv / other.denominator;
+
+            return new Fraction(Math.subtractExact(Math.multiplyExact(this.numerator, factorX),
+                    Math.multiplyExact(other.numerator, factorY)), kgv);
+        } catch (ArithmeticException e) {
+            return addBig(other.getBigNumerator().negate(), other.getBigDenominator());
+        }
+    }
+
+    /**
+     * Gibt einen neuen Bruch zurück, der aus der Subtraktion des Produkts der übergebenen Brüche
+     * entsteht (this - factor * multiplier). Anders als
+     * {@code subtract(factor.multiplyBy(multiplier))} wird kein Zwischenergebnis angelegt und das
+     * Ergebnis nur einmal gekürzt: Das über Kreuz gekürzte Produkt ist bereits vollständig
+     * gekürzt, und da beide Operanden der Differenz gekürzt sind, teilt jeder gemeinsame Teiler
+     * von Zähler und Hauptnenner auch den ggT der beiden Nenner. Bei Nenner 1 entfällt der
+     * jeweilige ggT ganz.
+     * 
+     * @param factor erster Faktor des Produkts
+     * @param multiplier zweiter Faktor des Produkts
+     * @return neuer Bruch (Differenz)
+     * @pre factor != null
+     * @pre multiplier != null
+     */
+    public Fraction subtractProduct(Fraction factor, Fraction multiplier) {
+        assert factor != null;
+        assert multiplier != null;
+
+        if (factor.signum() == 0 || multiplier.signum() == 0) {
+            return this;
+        }
+
+        if (this.isBig() || factor.isBig() || multiplier.isBig()) {
+            return subtract(factor.multiplyBy(multiplier));
+        }
+
+        try {
+            long ggtX = (multiplier.denominator == 1) ? 1
+                    : ggt(Math.abs(factor.numerator), multiplier.denominator);
+            long ggtY = (factor.denominator == 1) ? 1
+                    : ggt(Math.abs(multiplier.numerator), factor.denominator);
+            long productNum = Math.multiplyExact(factor.numerator / ggtX,
+                    multiplier.numerator / ggtY);
+            long productDen = Math.multiplyExact(factor.denominator / ggtY,
+                    multiplier.denominator / ggtX);
+
+            long ggtDen = (this.denominator == 1 || productDen == 1) ? 1
+                    : ggt(this.denominator, productDen);
+            long num = Math.subtractExact(Math.multiplyExact(this.numerator, productDen / ggtDen),
+                    Math.multiplyExact(productNum, this.denominator / ggtDen));
+
+            if (num == 0) {
+                return ZERO;
+            }
+
+            // Long.MIN_VALUE laesst sich nicht negieren und wird daher mit BigInteger gekuerzt
+            if (num != Long.MIN_VALUE) {
+                long ggtNum = (ggtDen == 1) ? 1 : ggt(Math.abs(num), ggtDen);
+                return new Fraction(num / ggtNum,
+                        Math.multiplyExact(this.denominator / ggtDen, productDen / ggtNum), null,
+                        null);
+            }
+        } catch (ArithmeticException e) {
+            // Berechnung unten ueber die BigInteger-Darstellung
+        }
+
+        return subtract(factor.multiplyBy(multiplier));
     }
 
     /**
@@ -114,7 +276,25 @@ public class Fraction implements Comparable<Fraction> {
     public Fraction multiplyBy(Fraction other) {
         assert other != null;
 
-        return new Fraction(this.numerator * other.numerator, this.denominator * other.denominator);
+        if (this.isBig() || other.isBig()) {
+            return multiplyBig(other);
+        }
+
+        if (this.numerator == 0 || other.numerator == 0) {
+            return ZERO;
+        }
+
+        // Ueberkreuz kuerzen, damit die Produkte moeglichst klein bleiben
+        long ggtX = ggt(Math.abs(this.numerator), other.denominator);
+        long ggtY = ggt(Math.abs(other.numerator), this.denominator);
+
+        try {
+            return new Fraction(
+                    Math.multiplyExact(this.numerator / ggtX, other.numerator / ggtY),
+                    Math.multiplyExact(this.denominator / ggtY, other.denominator / ggtX));
+        } catch (ArithmeticException e) {
+            return multiplyBig(other);
+        }
     }
 
     /**
@@ -127,34 +307,83 @@ public class Fraction implements Comparable<Fraction> {
     public Fraction divideBy(Fraction other) {
         assert other != null;
 
+        assert other.signum() != 0;
+
         Fraction firstFraction = this;
 
         // Gebildet aus dem Kehrwert des zweiten Bruches
-        Fraction secondFraction =
-                (other.numerator < 0) ? new Fraction(other.denominator * -1, other.numerator * -1)
-                        : new Fraction(other.denominator, other.numerator);
+        Fraction secondFraction;
+        if (other.isBig()) {
+            secondFraction = new Fraction(other.bigDenominator, other.bigNumerator);
+        } else {
+            secondFraction = (other.numerator < 0)
+                    ? new Fraction(other.denominator * -1, other.numerator * -1)
+                    : new Fraction(other.denominator, other.numerator);
+        }
 
         return firstFraction.multiplyBy(secondFraction);
     }
 
     /**
      * @return der Zähler des Bruchs
+     * @throws ArithmeticException wenn Zähler oder Nenner nicht in ein long passen
      */
     public long getNumerator() {
+        if (isBig()) {
+            throw new ArithmeticException("Bruch passt nicht in long: " + this);
+        }
         return this.numerator;
     }
 
     /**
      * @return der Nenner des Bruchs
+     * @throws ArithmeticException wenn Zähler oder Nenner nicht in ein long passen
      */
     public long getDenominator() {
+        if (isBig()) {
+            throw new ArithmeticException("Bruch passt nicht in long: " + this);
+        }
         return this.denominator;
     }
 
+    /**
+     * @return der Zähler des Bruchs als BigInteger
+     */
+    public BigInteger getBigNumerator() {
+        return isBig() ? this.bigNumerator : BigInteger.valueOf(this.numerator);
+    }
+
+    /**
+     * @return der Nenner des Bruchs als BigInteger
+     */
+    public BigInteger getBigDenominator() {
+        return isBig() ? this.bigDenominator : BigInteger.valueOf(this.denominator);
+    }
+
+    /**
+     * @return true, wenn Zähler oder Nenner nicht in ein long passen und der Bruch daher mit
+     *         BigInteger gespeichert ist
+     */
+    public boolean isBig() {
+        return this.bigNumerator != null;
+    }
+
+    /**
+     * @return das Vorzeichen des Bruchs (-1, 0 oder 1)
+     */
+    public int signum() {
+        return isBig() ? this.bigNumerator.signum() : Long.signum(this.numerator);
+    }
+
     /**
      * @return der Wert des Bruchs als Gleitkommazahl (floating-point number)
      */
     public double getAsFPN() {
+        if (isBig()) {
+            return new BigDecimal(this.bigNumerator)
+                    .divide(new BigDecimal(this.bigDenominator), MathContext.DECIMAL64)
+                    .doubleValue();
+        }
         return (double) this.numerator / this.denominator;
     }
 
@@ -163,6 +392,10 @@ public class Fraction implements Comparable<Fraction> {
      */
     @Override
     public String toString() {
+        if (isBig()) {
+            return this.bigNumerator + (BigInteger.ONE.equals(this.bigDenominator) ? ""
+                    : "/" + this.bigDenominator);
+        }
         return this.numerator + (this.denominator == 1 ? "" : "/" + this.denominator);
     }
 
@@ -179,20 +412,24 @@ public class Fraction implements Comparable<Fraction> {
     public int compareTo(Fraction other) {
         assert other != null;
 
-        // Berechnet den kgv der beiden Zahlen
-        long kgv = kgv(this.denominator, other.denominator);
+        if (!this.isBig() && !other.isBig()) {
+            try {
+                // Berechnet den kgv der beiden Zahlen
+                long kgv = kgv(this.denominator, other.denominator);
 
-        // Berechnet den Faktor der beiden Zahlen zum Erweitern auf den kgv
-        long factorX = kgv / this.denominator;
-        long factorY = kgv / other.denominator;
+                // Berechnet den Faktor der beiden Zahlen zum Erweitern auf den kgv
+                long factorX = kgv / this.denominator;
+                long factorY = kgv / other.denominator;
 
-        if (this.numerator * factorX > other.numerator * factorY) {
-            return 1;
-        } else if (this.numerator * factorX < other.numerator * factorY) {
-            return -1;
-        } else {
-            return 0;
+                return Long.compare(Math.multiplyExact(this.numerator, factorX),
+                        Math.multiplyExact(other.numerator, factorY));
+            } catch (ArithmeticException e) {
+                // Vergleich unten mit BigInteger
+            }
         }
+
+        return getBigNumerator().multiply(other.getBigDenominator())
+                .compareTo(other.getBigNumerator().multiply(getBigDenominator()));
     }
 
     @Override
@@ -204,11 +441,19 @@ public class Fraction implements Comparable<Fraction> {
             return false;
         }
         Fraction other = (Fraction) obj;
+        if (this.isBig() || other.isBig()) {
+            // Die Darstellung ist eindeutig, ein BigInteger-Bruch ist nie gleich einem long-Bruch
+            return this.isBig() && other.isBig() && this.bigNumerator.equals(other.bigNumerator)
+                    && this.bigDenominator.equals(other.bigDenominator);
+        }
         return this.numerator == other.numerator && this.denominator == other.denominator;
     }
 
     @Override
     public int hashCode() {
+        if (isBig()) {
+            return 31 * bigNumerator.hashCode() + bigDenominator.hashCode();
+        }
         final int prime = 31;
         int result = 1;
         result = prime * result + (int) (numerator ^ (numerator >>> 32));
@@ -235,25 +480,59 @@ public class Fraction implements Comparable<Fraction> {
     }
 
     /**
-     * Gibt den groessten gemeinsamen Teiler fuer 2 Zahlen x und y wieder
+     * Gibt einen neuen Bruch zurück, der aus der Addition von num / den mit BigInteger entsteht.
+     * 
+     * @param num Zähler des Summanden
+     * @param den positiver Nenner des Summanden
+     * @return neuer Bruch (Summe)
+     */
+    private Fraction addBig(BigInteger num, BigInteger den) {
+        BigInteger ownDen = getBigDenominator();
+        BigInteger ggt = ownDen.gcd(den);
+
+        return new Fraction(
+                getBigNumerator().multiply(den.divide(ggt)).add(num.multiply(ownDen.divide(ggt))),
+                ownDen.divide(ggt).multiply(den));
+    }
+
+    /**
+     * Gibt einen neuen Bruch zurück, der aus der Multiplikation mit BigInteger entsteht.
+     * 
+     * @param other zu multiplizierenden Bruch (Faktor)
+     * @return neuer Bruch (Produkt)
+     */
+    private Fraction multiplyBig(Fraction other) {
+        return new Fraction(getBigNumerator().multiply(other.getBigNumerator()),
+                getBigDenominator().multiply(other.getBigDenominator()));
+    }
+
+    /**
+     * Gibt zurück, ob eine ganze Zahl ohne Überlauf in ein long passt. Long.MIN_VALUE wird
+     * ausgeschlossen, damit long-Werte immer negiert werden können.
+     * 
+     * @param value zu prüfende Zahl
+     * @return true, wenn die Zahl als long gespeichert werden kann
+     */
+    private static boolean fitsLong(BigInteger value) {
+        return value.bitLength() < Long.SIZE && value.longValue() != Long.MIN_VALUE;
+    }
+
+    /**
+     * Gibt den groessten gemeinsamen Teiler fuer 2 Zahlen x und y wieder (euklidischer
+     * Algorithmus)
      * 
      * @param x erste Zahl
      * @param y zweite Zahl
      * @return der ggt der beiden Zahlen
+     * @pre x >= 0
+     * @pre y >= 0
      */
-    private long ggt(long x, long y) {
-
-        if (x == 0) {
-            return y;
-        }
+    static long ggt(long x, long y) {
 
         while (y != 0) {
-
-            if (x > y) {
-                x = x - y;
-            } else {
-                y = y - x;
-            }
+            long rest = x % y;
+            x = y;
+            y = rest;
         }
 
         return x;
@@ -265,20 +544,12 @@ public class Fraction implements Comparable<Fraction> {
      * @param x erste Zahl
      * @param y zweite Zahl
      * @return der kgv der beiden Zahlen
+     * @throws ArithmeticException wenn der kgv nicht in ein long passt
+     * @pre x > 0
+     * @pre y > 0
      */
-    private long kgv(long x, long y) {
-        long xTemp = x;
-        long yTemp = y;
-
-        while (xTemp != yTemp) {
-            if (xTemp < yTemp) {
-                xTemp += x;
-            } else {
-                yTemp += y;
-            }
-        }
-
-        return xTemp;
+    private static long kgv(long x, long y) {
+        return Math.multiplyExact(x / ggt(x, y), y);
     }
 
 }
@@ -0,0 +1,144 @@
+package simplex;
+
+/**
+ * Veränderliche Summe von Brüchen und Produkten von Brüchen, etwa für Skalarprodukte. Anders als
+ * bei einer Kette von {@link Fraction#add(Fraction)} wird die Summe nicht nach jedem Summanden
+ * gekürzt: Zähler und Nenner werden ungekürzt in long geführt und erst gekürzt, wenn einer von
+ * beiden {@link #REDUCE_LIMIT} übersteigt, sowie einmal in {@link #toFraction()}. Bei gleichen
+ * Nennern (häufig 1) entfällt dadurch jeder ggT.
+ * <p>
+ * Läuft die Rechnung in long über, wird die Summe ab diesem Summanden exakt als {@link Fraction}
+ * weitergeführt, bis sie wieder in ein long passt.
+ *
+ * @author Alexander Loeffler
+ */
+public final class FractionAccumulator {
+
+    /** Betrag von Zähler oder Nenner, ab dem die Summe gekürzt wird */
+    static final long REDUCE_LIMIT = 0x80000000L;
+
+    /** Ungekürzter Zähler der Summe */
+    private long numerator;
+
+    /** Ungekürzter, positiver Nenner der Summe */
+    private long denominator = 1;
+
+    /** Summe, falls sie nicht in long geführt werden kann, sonst null */
+    private Fraction exact;
+
+    /**
+     * Addiert einen Bruch zur Summe.
+     *
+     * @param value Summand
+     * @pre value != null
+     */
+    public void add(Fraction value) {
+        assert value != null;
+
+        if (exact != null || value.isBig()
+                || !addUnreduced(value.getNumerator(), value.getDenominator())) {
+            addExact(value);
+        }
+    }
+
+    /**
+     * Addiert das Produkt zweier Brüche zur Summe, ohne das Produkt zu kürzen.
+     *
+     * @param factor erster Faktor
+     * @param multiplier zweiter Faktor
+     * @pre factor != null
+     * @pre multiplier != null
+     */
+    public void addProduct(Fraction factor, Fraction multiplier) {
+        assert factor != null;
+        assert multiplier != null;
+
+        if (factor.signum() == 0 || multiplier.signum() == 0) {
+            return;
+        }
+
+        if (exact == null && !factor.isBig() && !multiplier.isBig()) {
+            try {
+                long productNum = Math.multiplyExact(factor.getNumerator(),
+                        multiplier.getNumerator());
+                long productDen = Math.multiplyExact(factor.getDenominator(),
+                        multiplier.getDenominator());
+                if (addUnreduced(productNum, productDen)) {
+                    return;
+                }
+            } catch (ArithmeticException e) {
+                // Summe unten exakt weiterfuehren
+            }
+        }
+
+        addExact(factor.multiplyBy(multiplier));
+    }
+
+    /**
+     * @return die Summe als vollständig gekürzter Bruch
+     */
+    public Fraction toFraction() {
+        return (exact != null) ? exact : new Fraction(numerator, denominator);
+    }
+
+    /**
+     * Addiert einen ungekürzten Bruch zur in long geführten Summe. Bei Überlauf bleibt die Summe
+     * unverändert.
+     *
+     * @param num Zähler des Summanden
+     * @param den positiver Nenner des Summanden
+     * @return true, wenn der Summand ohne Überlauf addiert wurde
+     * @pre den > 0
+     */
+    private boolean addUnreduced(long num, long den) {
+        assert den > 0;
+
+        long sumNum;
+        long sumDen;
+        try {
+            if (den == denominator) {
+                sumNum = Math.addExact(numerator, num);
+                sumDen = denominator;
+            } else {
+                sumNum = Math.addExact(Math.multiplyExact(numerator, den),
+                        Math.multiplyExact(num, denominator));
+                sumDen = Math.multiplyExact(denominator, den);
+            }
+        } catch (ArithmeticException e) {
+            return false;
+        }
+
+        // Long.MIN_VALUE laesst sich nicht negieren und damit nicht kuerzen
+        if (sumNum == Long.MIN_VALUE) {
+            return false;
+        }
+
+        numerator = sumNum;
+        denominator = sumDen;
+        if (Math.abs(numerator) > REDUCE_LIMIT || denominator > REDUCE_LIMIT) {
+            long ggt = Fraction.ggt(Math.abs(numerator), denominator);
+            numerator /= ggt;
+            denominator /= ggt;
+        }
+        return true;
+    }
+
+    /**
+     * Addiert einen Bruch exakt zur Summe und führt sie wieder in long weiter, sobald sie in ein
+     * long passt.
+     *
+     * @param value Summand
+     */
+    private void addExact(Fraction value) {
+        Fraction sum = toFraction().add(value);
+
+        if (sum.isBig()) {
+            exact = sum;
+        } else {
+            exact = null;
+            numerator = sum.getNumerator();
+            denominator = sum.getDenominator();
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package simplex;
+
+import java.util.Arrays;
+
+/**
+ * Tableau aus einem zweidimensionalen Fraction-Array. Entspricht der ursprünglichen Speicherform
+ * des {@link SimplexSolver}, {@link #toFractions()} liefert daher eine Referenz auf das Array.
+ *
+ * @author Alexander Loeffler
+ */
+class FractionTableau implements Tableau {
+
+    /** Zellen mit den Zeilen in der ersten und den Spalten in der zweiten Dimension */
+    private final Fraction[][] cells;
+
+    /**
+     * Legt ein Tableau an, dessen Zellen alle 0 sind.
+     *
+     * @param rows Anzahl der Zeilen
+     * @param cols Anzahl der Spalten
+     * @pre rows > 0
+     * @pre cols > 0
+     */
+    FractionTableau(int rows, int cols) {
+        assert rows > 0;
+        assert cols > 0;
+
+        this.cells = new Fraction[rows][cols];
+        for (Fraction[] row : cells) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = Fraction.ZERO;
+            }
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return cells.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return cells[0].length;
+    }
+
+    @Override
+    public Fraction get(int row, int col) {
+        return cells[row][col];
+    }
+
+    @Override
+    public void set(int row, int col, Fraction value) {
+        assert value != null;
+
+        cells[row][col] = value;
+    }
+
+    @Override
+    public int signum(int row, int col) {
+        return cells[row][col].signum();
+    }
+
+    @Override
+    public int compare(int rowA, int colA, int rowB, int colB) {
+        return cells[rowA][colA].compareTo(cells[rowB][colB]);
+    }
+
+    @Override
+    public void divideRow(int row, int col) {
+        assert signum(row, col) != 0;
+
+        Fraction[] cellRow = cells[row];
+        Fraction baseValue = cellRow[col];
+
+        for (int j = 0; j < cellRow.length; j++) {
+            cellRow[j] = cellRow[j].divideBy(baseValue);
+        }
+    }
+
+    @Override
+    public void eliminate(int pivotRow, int pivotCol, int row) {
+        assert row != pivotRow;
+
+        Fraction[] cellRow = cells[row];
+        Fraction[] pivotCells = cells[pivotRow];
+        Fraction valueAtPivot = cellRow[pivotCol];
+
+        for (int j = 0; j < cellRow.length; j++) {
+            cellRow[j] = cellRow[j].subtractProduct(pivotCells[j], valueAtPivot);
+        }
+    }
+
+    @Override
+    public void addRowTo(int row, Fraction[] sums) {
+        assert sums.length <= getColumnCount();
+
+        for (int j = 0; j < sums.length; j++) {
+            sums[j] = sums[j].add(cells[row][j]);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Fraction[] row : cells) {
+            Arrays.fill(row, Fraction.ZERO);
+        }
+    }
+
+    @Override
+    public Fraction[][] toFractions() {
+        return cells;
+    }
+
+}
@@ -0,0 +1,318 @@
+package simplex;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import simplex.LinearProgram.Restriction.Type;
+
+/**
+ * Erzeugt gebrochene Schnitte nach Gomory aus dem optimalen Tableau eines {@link SimplexSolver}.
+ * Hat eine ganzzahlige Basisvariable einen gebrochenen Wert, folgt aus ihrer Zeile
+ * {@code x_b + sum(a_j * y_j) = b} für ganzzahlige Nichtbasisvariablen y_j der Schnitt
+ * {@code sum(frac(a_j) * y_j) >= frac(b)}, den die aktuelle Lösung verletzt. Da das Tableau exakt
+ * in Brüchen vorliegt, sind die Anteile frac(.) ohne Rundungsfehler.
+ *
+ * Schlupfvariablen im Schnitt werden über ihre Restriktion durch die Variablen ersetzt, der
+ * Schnitt wird mit {@link SimplexSolver#addRestriction(LinearProgram.Restriction)} angehängt und
+ * mit {@link SimplexSolver#solveDual()} nachoptimiert. Eine Schlupfvariable gilt als ganzzahlig,
+ * wenn ihre Restriktion nur ganzzahlige Variablen mit ganzzahligen Koeffizienten und eine
+ * ganzzahlige rechte Seite hat, die Schlupfvariable eines Schnitts ist immer ganzzahlig. Zeilen,
+ * in denen eine nicht ganzzahlige Nichtbasisvariable vorkommt, liefern keinen Schnitt.
+ *
+ * @author Alexander Loeffler
+ */
+public final class GomoryCutGenerator {
+
+    /**
+     * Darstellung einer Schlupfvariable durch die Variablen:
+     * {@code s = sign * (rightSide - term * x)}.
+     */
+    private static final class Slack {
+
+        /** Koeffizienten der Restriktion */
+        private final Fraction[] term;
+
+        /** Rechte Seite der Restriktion */
+        private final Fraction rightSide;
+
+        /** 1 bei LE, -1 bei GE */
+        private final int sign;
+
+        /** true, wenn die Schlupfvariable in jeder ganzzahligen Lösung ganzzahlig ist */
+        private final boolean integral;
+
+        /**
+         * Konstruktor.
+         *
+         * @param restriction Restriktion der Schlupfvariable
+         * @param integral true, wenn die Schlupfvariable ganzzahlig ist
+         */
+        private Slack(LinearProgram.Restriction restriction, boolean integral) {
+            this.term = restriction.getTerm();
+            this.rightSide = restriction.getRightSide();
+            this.sign = (restriction.getType() == Type.GE) ? -1 : 1;
+            this.integral = integral;
+        }
+    }
+
+    /** Automat, dessen Tableau die Schnitte liefert und erhält */
+    private final SimplexSolver solver;
+
+    /** true je Variable, die ganzzahlig sein muss */
+    private final boolean[] integral;
+
+    /** Schlupfvariablen in der Reihenfolge ihrer Spalten */
+    private final List<Slack> slacks = new ArrayList<>();
+
+    /** Bisher hinzugefügte Schnitte */
+    private final List<LinearProgram.Restriction> cuts = new ArrayList<>();
+
+    /**
+     * Konstruktor.
+     *
+     * @param lp zu lösendes Problem
+     * @param integral true je Variable, die ganzzahlig sein muss
+     * @pre lp != null
+     * @pre integral.length == lp.getObjectiveTerm().length
+     */
+    public GomoryCutGenerator(LinearProgram lp, boolean[] integral) {
+        this(new SimplexSolver(lp), lp, integral);
+    }
+
+    /**
+     * Konstruktor für einen bereits vorhandenen Automaten.
+     *
+     * @param solver Automat mit {@link TableauLayout#FULL}, erstellt aus lp, dem seitdem keine
+     *            Restriktionen hinzugefügt wurden
+     * @param lp Problem des Automaten
+     * @param integral true je Variable, die ganzzahlig sein muss
+     * @pre solver != null
+     * @pre lp != null
+     * @pre integral.length == lp.getObjectiveTerm().length
+     */
+    GomoryCutGenerator(SimplexSolver solver, LinearProgram lp, boolean[] integral) {
+        assert solver != null;
+        assert lp != null;
+        assert integral.length == lp.getObjectiveTerm().length;
+        assert solver.getLayout() == TableauLayout.FULL;
+
+        this.solver = solver;
+        this.integral = integral.clone();
+
+        for (LinearProgram.Restriction restriction : lp.getRestrictions()) {
+            slacks.add(new Slack(restriction, hasIntegralSlack(restriction)));
+        }
+    }
+
+    /**
+     * Löst die Relaxation und fügt anschließend bis zu rounds Runden von Schnitten hinzu. Jede
+     * Runde erzeugt aus allen geeigneten Zeilen des aktuellen Tableaus je einen Schnitt und
+     * optimiert danach einmal nach. Es wird vorzeitig beendet, wenn keine Zeile mehr einen
+     * Schnitt liefert.
+     *
+     * @param rounds Höchstzahl an Runden
+     * @return Lösung der Relaxation mit allen Schnitten oder null, wenn unlösbar
+     * @pre rounds >= 0
+     */
+    public Fraction[] solve(int rounds) {
+        return addCuts(solver.solve(), rounds);
+    }
+
+    /**
+     * Fügt dem bereits gelösten Automaten bis zu rounds Runden von Schnitten hinzu, siehe
+     * {@link #solve(int)}.
+     *
+     * @param result aktuelle Lösung des Automaten oder null, wenn unlösbar
+     * @param rounds Höchstzahl an Runden
+     * @return Lösung der Relaxation mit allen Schnitten oder null, wenn unlösbar
+     * @pre rounds >= 0
+     */
+    Fraction[] addCuts(Fraction[] result, int rounds) {
+        assert rounds >= 0;
+
+        Fraction[] current = result;
+
+        for (int round = 0; round < rounds && current != null; round++) {
+            List<LinearProgram.Restriction> roundCuts = generate();
+            if (roundCuts.isEmpty()) {
+                break;
+            }
+
+            for (LinearProgram.Restriction cut : roundCuts) {
+                solver.addRestriction(cut);
+                slacks.add(new Slack(cut, true));
+                cuts.add(cut);
+            }
+            current = solver.solveDual();
+        }
+
+        return current;
+    }
+
+    /**
+     * @return die bisher hinzugefügten Schnitte in der Reihenfolge ihres Hinzufügens
+     */
+    public List<LinearProgram.Restriction> getCuts() {
+        return Collections.unmodifiableList(cuts);
+    }
+
+    /**
+     * Erzeugt aus jeder geeigneten Zeile des aktuellen Tableaus einen Schnitt. Liefern zwei
+     * Zeilen denselben Schnitt, wird er nur einmal übernommen.
+     *
+     * @return Schnitte über die Variablen des Problems
+     */
+    private List<LinearProgram.Restriction> generate() {
+        Fraction[][] table = solver.getTable();
+        int[] baseVars = solver.getBaseVars();
+        List<LinearProgram.Restriction> generated = new ArrayList<>();
+
+        for (int i = 0; i < baseVars.length; i++) {
+            Fraction value = table[i][table[i].length - 1];
+
+            if (isIntegralColumn(baseVars[i]) && !isInteger(value) && allowsCut(table[i])) {
+                LinearProgram.Restriction cut = cut(table[i]);
+                if (!containsCut(generated, cut)) {
+                    generated.add(cut);
+                }
+            }
+        }
+
+        return generated;
+    }
+
+    /**
+     * Gibt zurück, ob eine Liste bereits einen gleichen Schnitt enthält.
+     *
+     * @param candidates bisherige Schnitte
+     * @param cut gesuchter Schnitt
+     * @return true, wenn ein Schnitt mit gleichem Term, Typ und rechter Seite enthalten ist
+     */
+    private static boolean containsCut(List<LinearProgram.Restriction> candidates,
+            LinearProgram.Restriction cut) {
+        for (LinearProgram.Restriction other : candidates) {
+            if (other.getType() == cut.getType() && other.getRightSide().equals(cut.getRightSide())
+                    && Arrays.equals(other.getTerm(), cut.getTerm())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gibt zurück, ob eine Zeile einen gültigen Schnitt liefert, d.h. ob alle Variablen und
+     * Schlupfvariablen mit einem Eintrag ungleich 0 ganzzahlig sind. Künstliche Variablen sind in
+     * jeder zulässigen Lösung 0 und werden übergangen.
+     *
+     * @param row Zeile des Tableaus
+     * @return true, wenn die Zeile einen Schnitt liefert
+     */
+    private boolean allowsCut(Fraction[] row) {
+        for (int j = 0; j < integral.length + slacks.size(); j++) {
+            if (row[j].signum() != 0 && !isIntegralColumn(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bildet den Schnitt einer Zeile und ersetzt darin die Schlupfvariablen durch die Variablen.
+     *
+     * @param row Zeile des Tableaus mit gebrochener rechter Seite
+     * @return Schnitt als GE-Restriktion, bei negativer rechter Seite mit -1 multipliziert als
+     *         LE-Restriktion
+     */
+    private LinearProgram.Restriction cut(Fraction[] row) {
+        Fraction[] term = new Fraction[integral.length];
+        for (int j = 0; j < term.length; j++) {
+            term[j] = fractionalPart(row[j]);
+        }
+        Fraction rightSide = fractionalPart(row[row.length - 1]);
+
+        for (int k = 0; k < slacks.size(); k++) {
+            Fraction part = fractionalPart(row[integral.length + k]);
+
+            if (part.signum() != 0) {
+                Slack slack = slacks.get(k);
+                Fraction factor = (slack.sign < 0) ? part.multiplyBy(Fraction.MINUS_ONE) : part;
+
+                for (int j = 0; j < term.length; j++) {
+                    term[j] = term[j].subtract(factor.multiplyBy(slack.term[j]));
+                }
+                rightSide = rightSide.subtract(factor.multiplyBy(slack.rightSide));
+            }
+        }
+
+        if (rightSide.signum() >= 0) {
+            return new LinearProgram.Restriction(term, Type.GE, rightSide);
+        }
+
+        for (int j = 0; j < term.length; j++) {
+            term[j] = term[j].multiplyBy(Fraction.MINUS_ONE);
+        }
+        return new LinearProgram.Restriction(term, Type.LE,
+                rightSide.multiplyBy(Fraction.MINUS_ONE));
+    }
+
+    /**
+     * Gibt zurück, ob die Variable einer Spalte in jeder ganzzahligen Lösung ganzzahlig ist.
+     *
+     * @param col Spalte einer Variable, Schlupfvariable oder künstlichen Variable
+     * @return true bei ganzzahligen Variablen und Schlupfvariablen, false sonst
+     */
+    private boolean isIntegralColumn(int col) {
+        if (col < integral.length) {
+            return integral[col];
+        }
+        return col < integral.length + slacks.size() && slacks.get(col - integral.length).integral;
+    }
+
+    /**
+     * Gibt zurück, ob die Schlupfvariable einer Restriktion ganzzahlig ist.
+     *
+     * @param restriction Restriktion
+     * @return true, wenn nur ganzzahlige Variablen mit ganzzahligen Koeffizienten vorkommen und
+     *         die rechte Seite ganzzahlig ist
+     */
+    private boolean hasIntegralSlack(LinearProgram.Restriction restriction) {
+        Fraction[] term = restriction.getTerm();
+
+        for (int j = 0; j < term.length; j++) {
+            if (term[j].signum() != 0 && (!integral[j] || !isInteger(term[j]))) {
+                return false;
+            }
+        }
+        return isInteger(restriction.getRightSide());
+    }
+
+    /**
+     * @param value Bruch
+     * @return true, wenn der Bruch eine ganze Zahl ist
+     */
+    private static boolean isInteger(Fraction value) {
+        return value.getBigDenominator().equals(BigInteger.ONE);
+    }
+
+    /**
+     * Gibt den gebrochenen Anteil {@code value - floor(value)} zurück, der immer in [0, 1) liegt.
+     *
+     * @param value Bruch
+     * @return gebrochener Anteil
+     */
+    private static Fraction fractionalPart(Fraction value) {
+        BigInteger[] division = value.getBigNumerator().divideAndRemainder(
+                value.getBigDenominator());
+        BigInteger remainder = division[1];
+
+        // Der Rest hat das Vorzeichen des Zaehlers, negative Reste werden in [0, 1) verschoben
+        if (remainder.signum() < 0) {
+            remainder = remainder.add(value.getBigDenominator());
+        }
+        return new Fraction(remainder, value.getBigDenominator());
+    }
+
+}
@@ -0,0 +1,324 @@
+package simplex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Veränderbares lineares Optimierungsproblem mit zugehörigem {@link SimplexSolver}. Nach dem
+ * ersten Lösen werden Änderungen an rechten Seiten, Zielfunktion, Restriktionen und Variablen
+ * direkt im optimalen Tableau nachgezogen, und es wird von der letzten Basis aus weitergerechnet,
+ * statt das Tableau neu aufzubauen. War das letzte Ergebnis unlösbar, wird nach der Änderung neu
+ * aufgebaut.
+ *
+ * @author Alexander Loeffler
+ */
+public class LinearModel {
+
+    /** Restriktionen in der Reihenfolge ihres Hinzufügens */
+    private final List<SparseLinearProgram.Restriction> restrictions = new ArrayList<>();
+
+    /** Anzahl der Tableauzeilen je Restriktion (2 für nachträglich hinzugefügte EQ) */
+    private final List<Integer> rowCounts = new ArrayList<>();
+
+    /** Koeffizienten der Zielfunktion */
+    private final List<Fraction> objectiveTerm = new ArrayList<>();
+
+    /** Optimierungsrichtung */
+    private final SolveType solveType;
+
+    /** Speicherform des Tableaus */
+    private final TableauType type;
+
+    /** Solver mit dem Tableau der letzten Lösung oder null, wenn neu aufgebaut werden muss */
+    private SimplexSolver solver;
+
+    /** Ergebnis der letzten Lösung */
+    private Fraction[] result;
+
+    /**
+     * Konstruktor. Es wird noch nicht gelöst.
+     *
+     * @param lp Ausgangsproblem
+     * @pre lp != null
+     */
+    public LinearModel(LinearProgram lp) {
+        this(SparseLinearProgram.of(lp), TableauType.FRACTION);
+    }
+
+    /**
+     * Konstruktor. Es wird noch nicht gelöst.
+     *
+     * @param lp Ausgangsproblem
+     * @param type Speicherform des Tableaus
+     * @pre lp != null
+     * @pre type != null
+     */
+    public LinearModel(SparseLinearProgram lp, TableauType type) {
+        assert lp != null;
+        assert type != null;
+
+        for (SparseLinearProgram.Restriction restriction : lp.getRestrictions()) {
+            restrictions.add(restriction);
+            rowCounts.add(1);
+        }
+        for (Fraction coefficient : lp.getObjectiveTerm()) {
+            objectiveTerm.add(coefficient);
+        }
+        this.solveType = lp.getSolveType();
+        this.type = type;
+    }
+
+    /**
+     * Gibt die Lösung des aktuellen Problems zurück und löst es dazu beim ersten Aufruf.
+     *
+     * @return optimale Koeffizienten und Wert der Zielfunktion (in gegebener Reihenfolge, also x1,
+     *         x2, ..., xn, z) oder null, wenn unlösbar
+     */
+    public Fraction[] solve() {
+        if (solver == null) {
+            rebuild();
+        }
+        return result;
+    }
+
+    /**
+     * Ändert die rechte Seite einer Restriktion und löst erneut.
+     *
+     * @param restriction Index der Restriktion
+     * @param value neuer Wert der rechten Seite
+     * @return neue Lösung oder null, wenn unlösbar
+     * @pre restriction ist ein Index kleiner als getNumberOfRestrictions()
+     * @pre value != null
+     * @pre value ist nicht negativ
+     */
+    public Fraction[] setRightSide(int restriction, Fraction value) {
+        assert value != null;
+        assert value.signum() >= 0;
+
+        SparseLinearProgram.Restriction old = restrictions.get(restriction);
+        restrictions.set(restriction, new SparseLinearProgram.Restriction(old.getIndices(),
+                old.getCoefficients(), old.getType(), value));
+
+        if (isIncremental()) {
+            Fraction delta = value.subtract(old.getRightSide());
+            int first = firstRow(restriction);
+
+            for (int k = 0; k < rowCounts.get(restriction); k++) {
+                solver.changeRightSide(first + k, delta);
+            }
+            result = solver.reoptimize();
+        }
+
+        return solve();
+    }
+
+    /**
+     * Ändert einen Koeffizienten der Zielfunktion und löst erneut.
+     *
+     * @param variable Index der Variable
+     * @param value neuer Koeffizient
+     * @return neue Lösung oder null, wenn unlösbar
+     * @pre variable ist ein Index kleiner als getNumberOfVariables()
+     * @pre value != null
+     */
+    public Fraction[] setObjectiveCoefficient(int variable, Fraction value) {
+        assert value != null;
+
+        Fraction old = objectiveTerm.set(variable, value);
+
+        if (isIncremental()) {
+            solver.changeObjectiveCoefficient(variable, value.subtract(old));
+            result = solver.reoptimize();
+        }
+
+        return solve();
+    }
+
+    /**
+     * Fügt eine Restriktion hinzu und löst erneut.
+     *
+     * @param restriction neue Restriktion über die Variablen des Problems
+     * @return neue Lösung oder null, wenn unlösbar
+     * @pre restriction != null
+     * @pre alle Indices der Restriktion sind kleiner als getNumberOfVariables()
+     */
+    public Fraction[] addRestriction(SparseLinearProgram.Restriction restriction) {
+        assert restriction != null;
+
+        restrictions.add(restriction);
+        rowCounts.add((restriction.getType() == Type.EQ) ? 2 : 1);
+
+        if (isIncremental()) {
+            solver.addRestriction(restriction);
+            result = solver.reoptimize();
+        }
+
+        return solve();
+    }
+
+    /**
+     * Entfernt eine Restriktion und löst erneut.
+     *
+     * @param restriction Index der Restriktion
+     * @return neue Lösung oder null, wenn unlösbar
+     * @pre restriction ist ein Index kleiner als getNumberOfRestrictions()
+     * @pre getNumberOfRestrictions() >= 2
+     */
+    public Fraction[] removeRestriction(int restriction) {
+        assert restrictions.size() >= 2;
+
+        int first = firstRow(restriction);
+        int count = rowCounts.get(restriction);
+        restrictions.remove(restriction);
+        rowCounts.remove(restriction);
+
+        if (isIncremental()) {
+            for (int k = 0; k < count; k++) {
+                solver.removeConstraint(first);
+            }
+            result = solver.reoptimize();
+        }
+
+        return solve();
+    }
+
+    /**
+     * Fügt eine Variable am Ende der Variablen hinzu und löst erneut.
+     *
+     * @param objectiveCoefficient Koeffizient der Variable in der Zielfunktion
+     * @param column Koeffizient der Variable je Restriktion
+     * @return neue Lösung oder null, wenn unlösbar
+     * @pre objectiveCoefficient != null
+     * @pre column.length == getNumberOfRestrictions()
+     */
+    public Fraction[] addVariable(Fraction objectiveCoefficient, Fraction... column) {
+        assert objectiveCoefficient != null;
+        assert column.length == restrictions.size();
+
+        int variable = objectiveTerm.size();
+        objectiveTerm.add(objectiveCoefficient);
+
+        for (int k = 0; k < column.length; k++) {
+            if (column[k].signum() != 0) {
+                restrictions.set(k, withCoefficient(restrictions.get(k), variable, column[k]));
+            }
+        }
+
+        if (isIncremental()) {
+
+            // Nachtraeglich als LE und GE angehaengte EQ-Restriktionen erhalten den Wert doppelt
+            Fraction[] rows = new Fraction[firstRow(restrictions.size())];
+            int row = 0;
+            for (int k = 0; k < column.length; k++) {
+                for (int t = 0; t < rowCounts.get(k); t++) {
+                    rows[row++] = column[k];
+                }
+            }
+
+            solver.addVariable(objectiveCoefficient, rows);
+            result = solver.reoptimize();
+        }
+
+        return solve();
+    }
+
+    /**
+     * @return Anzahl der Variablen
+     */
+    public int getNumberOfVariables() {
+        return objectiveTerm.size();
+    }
+
+    /**
+     * @return Anzahl der Restriktionen
+     */
+    public int getNumberOfRestrictions() {
+        return restrictions.size();
+    }
+
+    /**
+     * Gibt den Solver mit dem Tableau der letzten Lösung zurück, z.B. um dessen Schritte zu
+     * zählen.
+     *
+     * @return aktueller Solver oder null, wenn noch nicht gelöst wurde
+     */
+    public SimplexSolver getSolver() {
+        return solver;
+    }
+
+    /**
+     * @return das aktuelle Problem
+     */
+    public SparseLinearProgram toLinearProgram() {
+        return new SparseLinearProgram(
+                restrictions.toArray(new SparseLinearProgram.Restriction[restrictions.size()]),
+                solveType, objectiveTerm.toArray(new Fraction[objectiveTerm.size()]));
+    }
+
+    /**
+     * Gibt zurück, ob eine Änderung im vorhandenen Tableau nachgezogen werden kann. Das ist nur
+     * der Fall, wenn das Tableau zuletzt optimal war.
+     *
+     * @return true, wenn inkrementell weitergerechnet wird
+     */
+    private boolean isIncremental() {
+        if (solver != null && result == null) {
+            solver = null;
+        }
+        return solver != null;
+    }
+
+    /**
+     * Baut den Solver für das aktuelle Problem neu auf und löst.
+     */
+    private void rebuild() {
+        solver = new SimplexSolver(toLinearProgram(), type);
+        result = solver.solve();
+
+        for (int k = 0; k < rowCounts.size(); k++) {
+            rowCounts.set(k, 1);
+        }
+    }
+
+    /**
+     * Gibt die erste Tableauzeile einer Restriktion zurück.
+     *
+     * @param restriction Index der Restriktion
+     * @return Summe der Zeilen aller vorherigen Restriktionen
+     */
+    private int firstRow(int restriction) {
+        int row = 0;
+        for (int k = 0; k < restriction; k++) {
+            row += rowCounts.get(k);
+        }
+        return row;
+    }
+
+    /**
+     * Gibt eine Restriktion zurück, die zusätzlich einen Koeffizienten für eine neue letzte
+     * Variable hat.
+     *
+     * @param restriction bisherige Restriktion
+     * @param variable Index der neuen Variable, größer als alle bisherigen Indices
+     * @param coefficient Koeffizient der neuen Variable
+     * @return erweiterte Restriktion
+     */
+    private static SparseLinearProgram.Restriction withCoefficient(
+            SparseLinearProgram.Restriction restriction, int variable, Fraction coefficient) {
+        int length = restriction.getIndices().length;
+        int[] indices = new int[length + 1];
+        Fraction[] coefficients = new Fraction[length + 1];
+
+        System.arraycopy(restriction.getIndices(), 0, indices, 0, length);
+        System.arraycopy(restriction.getCoefficients(), 0, coefficients, 0, length);
+        indices[length] = variable;
+        coefficients[length] = coefficient;
+
+        return new SparseLinearProgram.Restriction(indices, coefficients, restriction.getType(),
+                restriction.getRightSide());
+    }
+
+}
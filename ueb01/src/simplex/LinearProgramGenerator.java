@@ -0,0 +1,364 @@
+package simplex;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Erzeugt reproduzierbare lineare Probleme beliebiger Größe für Last- und Skalierungstests.
+ * Gleicher Startwert und gleiche Einstellungen ergeben dieselbe Folge von Problemen.
+ *
+ * Zufällige Probleme ({@link #random(int, int)}) haben positive ganzzahlige Koeffizienten und sind
+ * immer lösbar: Zu jedem Problem wird ein ganzzahliger Punkt gewählt, der alle Restriktionen
+ * erfüllt, und bei Maximierung beschränkt die erste Restriktion alle Variablen nach oben. Dazu gibt
+ * es Familien mit bekanntem Verhalten: Klee-Minty-Würfel, stark entartete, unzulässige und
+ * unbeschränkte Probleme.
+ *
+ * Die Probleme werden dünn besetzt erzeugt, damit auch sehr große Probleme wenig Speicher
+ * brauchen. {@link SparseLinearProgram#toLinearProgram()} liefert bei mindestens so vielen
+ * Restriktionen wie Variablen ein {@link LinearProgram}.
+ *
+ * @author Alexander Loeffler
+ */
+public final class LinearProgramGenerator {
+
+    /** Größter Betrag eines Koeffizienten */
+    private static final int MAX_COEFFICIENT = 9;
+
+    /** Größter Wert einer Koordinate des zulässigen Punkts */
+    private static final int MAX_VALUE = 9;
+
+    /** Größter Abstand der rechten Seite einer Ungleichung vom zulässigen Punkt */
+    private static final int MAX_SLACK = 9;
+
+    /** Basis der rechten Seiten des Klee-Minty-Würfels */
+    private static final int KLEE_MINTY_BASE = 5;
+
+    /** Zufallsgenerator */
+    private final Random random;
+
+    /** Anteil der Koeffizienten ungleich 0 */
+    private double density = 1;
+
+    /** Gewichte der Restriktionstypen, in der Reihenfolge von {@link Type#values()} */
+    private int[] typeWeights = {1, 0, 0};
+
+    /** Optimierungsrichtung zufälliger Probleme */
+    private SolveType solveType = SolveType.MAX;
+
+    /**
+     * Konstruktor. Ohne weitere Einstellungen sind zufällige Probleme voll besetzt, zu maximieren
+     * und haben nur LE-Restriktionen.
+     *
+     * @param seed Startwert des Zufallsgenerators
+     */
+    public LinearProgramGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Setzt den Anteil der Koeffizienten ungleich 0. Jede Restriktion enthält unabhängig davon
+     * mindestens eine Variable.
+     *
+     * @param density Anteil der Koeffizienten ungleich 0
+     * @pre 0 {@code <} density {@code <= 1}
+     */
+    public void setDensity(double density) {
+        assert density > 0 && density <= 1;
+
+        this.density = density;
+    }
+
+    /**
+     * Setzt die Gewichte, mit denen die Typen der Restriktionen zufälliger Probleme gewählt
+     * werden. Mit (2, 0, 1) sind z.B. ungefähr zwei Drittel LE- und ein Drittel GE-Restriktionen.
+     *
+     * @param le Gewicht von LE-Restriktionen
+     * @param eq Gewicht von EQ-Restriktionen
+     * @param ge Gewicht von GE-Restriktionen
+     * @pre le, eq und ge sind nicht negativ
+     * @pre le + eq + ge {@code > 0}
+     */
+    public void setTypeWeights(int le, int eq, int ge) {
+        assert le >= 0 && eq >= 0 && ge >= 0;
+        assert le + eq + ge > 0;
+
+        this.typeWeights = new int[] {le, eq, ge};
+    }
+
+    /**
+     * Setzt die Optimierungsrichtung zufälliger Probleme.
+     *
+     * @param solveType Optimierungsrichtung
+     * @pre solveType != null
+     */
+    public void setSolveType(SolveType solveType) {
+        assert solveType != null;
+
+        this.solveType = solveType;
+    }
+
+    /**
+     * Erzeugt ein zufälliges lösbares Problem mit der eingestellten Dichte, den eingestellten
+     * Typen und der eingestellten Optimierungsrichtung. Bei Maximierung ist die erste
+     * Restriktion eine voll besetzte LE-Restriktion, die alle Variablen beschränkt.
+     *
+     * @param rows Anzahl der Restriktionen
+     * @param vars Anzahl der Variablen
+     * @return lösbares Problem
+     * @pre rows {@code >= 1}
+     * @pre vars {@code >= 1}
+     */
+    public SparseLinearProgram random(int rows, int vars) {
+        assert rows >= 1;
+        assert vars >= 1;
+
+        return generate(rows, vars, solveType, false);
+    }
+
+    /**
+     * Erzeugt ein lösbares, stark entartetes Maximierungsproblem. Die erste Restriktion
+     * beschränkt die Summe aller Variablen, alle übrigen sind LE-Restriktionen mit rechter Seite
+     * 0 und Koeffizienten beider Vorzeichen. Im Nullpunkt sind damit alle Restriktionen bis auf
+     * die erste bindend, und viele Simplexschritte ändern den Zielfunktionswert nicht.
+     *
+     * @param rows Anzahl der Restriktionen
+     * @param vars Anzahl der Variablen
+     * @return entartetes Problem
+     * @pre rows {@code >= 1}
+     * @pre vars {@code >= 1}
+     */
+    public SparseLinearProgram degenerate(int rows, int vars) {
+        assert rows >= 1;
+        assert vars >= 1;
+
+        SparseLinearProgram.Restriction[] restrictions = new SparseLinearProgram.Restriction[rows];
+        restrictions[0] = sum(vars, Type.LE, new Fraction(vars));
+
+        for (int i = 1; i < rows; i++) {
+            int[] indices = new int[vars];
+            Fraction[] coefficients = new Fraction[vars];
+            int count = 0;
+
+            for (int j = 0; j < vars; j++) {
+                if (j == i % vars || random.nextDouble() < density) {
+                    int magnitude = 1 + random.nextInt(MAX_COEFFICIENT);
+                    indices[count] = j;
+                    coefficients[count] = new Fraction(random.nextBoolean() ? magnitude
+                            : -magnitude);
+                    count++;
+                }
+            }
+
+            restrictions[i] = new SparseLinearProgram.Restriction(Arrays.copyOf(indices, count),
+                    Arrays.copyOf(coefficients, count), Type.LE, Fraction.ZERO);
+        }
+
+        return new SparseLinearProgram(restrictions, SolveType.MAX, objective(vars));
+    }
+
+    /**
+     * Erzeugt ein unzulässiges Problem: ein zufälliges Problem wie bei {@link #random(int, int)},
+     * dem die sich widersprechenden Restriktionen {@code sum(x) <= vars} und
+     * {@code sum(x) >= vars + 1} angehängt werden.
+     *
+     * @param rows Anzahl der Restriktionen einschließlich der beiden widersprüchlichen
+     * @param vars Anzahl der Variablen
+     * @return Problem ohne zulässige Lösung
+     * @pre rows {@code >= 3}
+     * @pre vars {@code >= 1}
+     */
+    public SparseLinearProgram infeasible(int rows, int vars) {
+        assert rows > 2;
+        assert vars >= 1;
+
+        SparseLinearProgram base = generate(rows - 2, vars, solveType, false);
+        SparseLinearProgram.Restriction[] restrictions = Arrays.copyOf(base.getRestrictions(),
+                rows);
+        restrictions[rows - 2] = sum(vars, Type.LE, new Fraction(vars));
+        restrictions[rows - 1] = sum(vars, Type.GE, new Fraction(vars + 1));
+
+        return new SparseLinearProgram(restrictions, base.getSolveType(),
+                base.getObjectiveTerm());
+    }
+
+    /**
+     * Erzeugt ein zulässiges, aber unbeschränktes Maximierungsproblem mit der eingestellten
+     * Dichte und den eingestellten Typen. Die erste Variable kommt in LE-Restriktionen nur mit
+     * negativen, in GE-Restriktionen nur mit positiven Koeffizienten und in EQ-Restriktionen gar
+     * nicht vor, sie kann daher beliebig erhöht werden.
+     *
+     * @param rows Anzahl der Restriktionen
+     * @param vars Anzahl der Variablen
+     * @return unbeschränktes Problem
+     * @pre rows {@code >= 1}
+     * @pre vars {@code >= 1}
+     */
+    public SparseLinearProgram unbounded(int rows, int vars) {
+        assert rows >= 1;
+        assert vars >= 1;
+
+        return generate(rows, vars, SolveType.MAX, true);
+    }
+
+    /**
+     * Erzeugt den Klee-Minty-Würfel der Dimension n in der Form von Chvátal:
+     * {@code max sum(2^(n-j) * x_j)} mit {@code sum(2^(i-j+1) * x_j, j < i) + x_i <= 5^i} für
+     * i = 1, ..., n. Die Regel von Dantzig besucht alle 2^n Ecken und braucht 2^n - 1
+     * Simplexschritte, die optimale Lösung ist {@code x_n = 5^n} mit dem Wert 5^n.
+     *
+     * @param n Dimension
+     * @return Klee-Minty-Würfel
+     * @pre n {@code >= 1}
+     */
+    public static SparseLinearProgram kleeMinty(int n) {
+        assert n >= 1;
+
+        BigInteger two = BigInteger.valueOf(2);
+        SparseLinearProgram.Restriction[] restrictions = new SparseLinearProgram.Restriction[n];
+
+        for (int i = 0; i < n; i++) {
+            int[] indices = new int[i + 1];
+            Fraction[] coefficients = new Fraction[i + 1];
+            for (int j = 0; j < i; j++) {
+                indices[j] = j;
+                coefficients[j] = new Fraction(two.pow(i - j + 1), BigInteger.ONE);
+            }
+            indices[i] = i;
+            coefficients[i] = Fraction.ONE;
+
+            restrictions[i] = new SparseLinearProgram.Restriction(indices, coefficients, Type.LE,
+                    new Fraction(BigInteger.valueOf(KLEE_MINTY_BASE).pow(i + 1), BigInteger.ONE));
+        }
+
+        Fraction[] objective = new Fraction[n];
+        for (int j = 0; j < n; j++) {
+            objective[j] = new Fraction(two.pow(n - 1 - j), BigInteger.ONE);
+        }
+
+        return new SparseLinearProgram(restrictions, SolveType.MAX, objective);
+    }
+
+    /**
+     * Erzeugt ein zulässiges Problem um einen zufälligen ganzzahligen Punkt. Bei Maximierung ist
+     * die erste Restriktion voll besetzt vom Typ LE, damit alle Variablen beschränkt sind.
+     *
+     * @param rows Anzahl der Restriktionen
+     * @param vars Anzahl der Variablen
+     * @param direction Optimierungsrichtung
+     * @param free true, wenn die erste Variable unbeschränkt wachsen können soll
+     * @return zulässiges Problem
+     */
+    private SparseLinearProgram generate(int rows, int vars, SolveType direction, boolean free) {
+        long[] point = new long[vars];
+        for (int j = free ? 1 : 0; j < vars; j++) {
+            point[j] = random.nextInt(MAX_VALUE + 1);
+        }
+
+        SparseLinearProgram.Restriction[] restrictions = new SparseLinearProgram.Restriction[rows];
+        for (int i = 0; i < rows; i++) {
+            boolean bounding = i == 0 && direction == SolveType.MAX;
+            Type type = bounding ? Type.LE : nextType();
+            restrictions[i] = restriction(i % vars, vars, type, bounding, point, free);
+        }
+
+        return new SparseLinearProgram(restrictions, direction, objective(vars));
+    }
+
+    /**
+     * Erzeugt eine Restriktion mit positiven Koeffizienten, die der übergebene Punkt erfüllt.
+     *
+     * @param forced Variable, die immer einen Koeffizienten erhält
+     * @param vars Anzahl der Variablen
+     * @param type Typ der Restriktion
+     * @param dense true, wenn alle Variablen einen Koeffizienten erhalten
+     * @param point zulässiger Punkt
+     * @param free true, wenn die erste Variable die Restriktion nie verletzen darf
+     * @return Restriktion
+     */
+    private SparseLinearProgram.Restriction restriction(int forced, int vars, Type type,
+            boolean dense, long[] point, boolean free) {
+        int[] indices = new int[vars];
+        Fraction[] coefficients = new Fraction[vars];
+        int count = 0;
+        long activity = 0;
+
+        for (int j = 0; j < vars; j++) {
+            if (free && j == 0) {
+                // Die freie Variable darf die linke Seite nur vom Rand weg bewegen
+                if (type != Type.EQ) {
+                    int magnitude = 1 + random.nextInt(MAX_COEFFICIENT);
+                    indices[count] = j;
+                    coefficients[count] = new Fraction(type == Type.LE ? -magnitude : magnitude);
+                    count++;
+                }
+            } else if (dense || j == forced || random.nextDouble() < density) {
+                long coefficient = 1 + random.nextInt(MAX_COEFFICIENT);
+                indices[count] = j;
+                coefficients[count] = new Fraction(coefficient);
+                count++;
+                activity += coefficient * point[j];
+            }
+        }
+
+        long rightSide = activity;
+        if (type == Type.LE) {
+            rightSide += random.nextInt(MAX_SLACK + 1);
+        } else if (type == Type.GE) {
+            rightSide = Math.max(0, activity - random.nextInt(MAX_SLACK + 1));
+        }
+
+        return new SparseLinearProgram.Restriction(Arrays.copyOf(indices, count),
+                Arrays.copyOf(coefficients, count), type, new Fraction(rightSide));
+    }
+
+    /**
+     * @param vars Anzahl der Variablen
+     * @param type Typ der Restriktion
+     * @param rightSide rechte Seite
+     * @return Restriktion {@code sum(x) type rightSide}
+     */
+    private static SparseLinearProgram.Restriction sum(int vars, Type type, Fraction rightSide) {
+        int[] indices = new int[vars];
+        Fraction[] coefficients = new Fraction[vars];
+        for (int j = 0; j < vars; j++) {
+            indices[j] = j;
+            coefficients[j] = Fraction.ONE;
+        }
+        return new SparseLinearProgram.Restriction(indices, coefficients, type, rightSide);
+    }
+
+    /**
+     * @param vars Anzahl der Variablen
+     * @return Zielfunktion mit positiven ganzzahligen Koeffizienten
+     */
+    private Fraction[] objective(int vars) {
+        Fraction[] objective = new Fraction[vars];
+        for (int j = 0; j < vars; j++) {
+            objective[j] = new Fraction(1 + random.nextInt(MAX_COEFFICIENT));
+        }
+        return objective;
+    }
+
+    /**
+     * @return zufälliger Restriktionstyp nach den eingestellten Gewichten
+     */
+    private Type nextType() {
+        int total = 0;
+        for (int weight : typeWeights) {
+            total += weight;
+        }
+
+        int pick = random.nextInt(total);
+        int t = 0;
+        while (pick >= typeWeights[t]) {
+            pick -= typeWeights[t];
+            t++;
+        }
+        return Type.values()[t];
+    }
+
+}
@@ -0,0 +1,344 @@
+package simplex;
+
+import java.util.Arrays;
+
+/**
+ * Tableau, das Zähler und Nenner aller Zellen zeilenweise in zwei flachen long-Arrays ablegt.
+ * Die Rechenoperationen überschreiben die Zellen direkt, so dass beim Pivotisieren keine
+ * Fraction-Instanzen angelegt werden. Jede Zelle ist wie eine {@link Fraction} vollständig
+ * gekürzt und hat einen positiven Nenner.
+ * 
+ * Alle Operationen prüfen exakt auf Überlauf. Läuft eine Zelle über, wird nur diese Zelle als
+ * {@link Fraction} mit BigInteger-Darstellung in einem Zusatz-Array abgelegt und fortan dort
+ * verrechnet. Im long-Array steht für solche Zellen nur das Vorzeichen, so dass
+ * {@link #signum(int, int)} und das Überspringen von Nullen ohne Sonderfall auskommen.
+ * 
+ * Verschiedene Zeilen dürfen gleichzeitig aus mehreren Threads reduziert werden, das Zusatz-Array
+ * wird dafür synchronisiert angelegt.
+ *
+ * @author Alexander Loeffler
+ */
+class LongTableau implements Tableau {
+
+    /** Anzahl der Zeilen */
+    private final int rows;
+
+    /** Anzahl der Spalten */
+    private final int cols;
+
+    /** Zähler der Zellen, Zelle (i, j) liegt an Position i * cols + j */
+    private final long[] numerators;
+
+    /** Nenner der Zellen, Zelle (i, j) liegt an Position i * cols + j */
+    private final long[] denominators;
+
+    /** Übergelaufene Zellen an derselben Position, null solange keine Zelle übergelaufen ist */
+    private volatile Fraction[] promoted;
+
+    /**
+     * Legt ein Tableau an, dessen Zellen alle 0 sind.
+     *
+     * @param rows Anzahl der Zeilen
+     * @param cols Anzahl der Spalten
+     * @pre rows > 0
+     * @pre cols > 0
+     */
+    LongTableau(int rows, int cols) {
+        assert rows > 0;
+        assert cols > 0;
+
+        this.rows = rows;
+        this.cols = cols;
+        this.numerators = new long[rows * cols];
+        this.denominators = new long[rows * cols];
+
+        Arrays.fill(denominators, 1);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return cols;
+    }
+
+    @Override
+    public Fraction get(int row, int col) {
+        return cell(row * cols + col);
+    }
+
+    @Override
+    public void set(int row, int col, Fraction value) {
+        assert value != null;
+
+        store(row * cols + col, value);
+    }
+
+    @Override
+    public int signum(int row, int col) {
+        return Long.signum(numerators[row * cols + col]);
+    }
+
+    @Override
+    public int compare(int rowA, int colA, int rowB, int colB) {
+        int a = rowA * cols + colA;
+        int b = rowB * cols + colB;
+
+        if (!isPromoted(a) && !isPromoted(b)) {
+            try {
+                // Nenner sind positiv, daher genuegt der Vergleich der ueberkreuz erweiterten
+                // Zaehler
+                return Long.compare(Math.multiplyExact(numerators[a], denominators[b]),
+                        Math.multiplyExact(numerators[b], denominators[a]));
+            } catch (ArithmeticException e) {
+                // Vergleich unten ueber die BigInteger-Darstellung
+            }
+        }
+
+        return cell(a).compareTo(cell(b));
+    }
+
+    @Override
+    public void divideRow(int row, int col) {
+        assert signum(row, col) != 0;
+
+        int start = row * cols;
+        Fraction reciprocal = Fraction.ONE.divideBy(cell(start + col));
+
+        if (isPromoted(start + col)) {
+            for (int index = start; index < start + cols; index++) {
+                store(index, cell(index).multiplyBy(reciprocal));
+            }
+            return;
+        }
+
+        long baseNum = numerators[start + col];
+        long baseDen = denominators[start + col];
+
+        // Mit dem Kehrwert multiplizieren, das Vorzeichen wandert dabei in den Zaehler
+        long factorNum = (baseNum < 0) ? -baseDen : baseDen;
+        long factorDen = Math.abs(baseNum);
+
+        for (int index = start; index < start + cols; index++) {
+            if (isPromoted(index) || !multiplyCell(index, factorNum, factorDen)) {
+                store(index, cell(index).multiplyBy(reciprocal));
+            }
+        }
+    }
+
+    @Override
+    public void eliminate(int pivotRow, int pivotCol, int row) {
+        assert row != pivotRow;
+
+        int start = row * cols;
+        int pivotStart = pivotRow * cols;
+        long factorNum = numerators[start + pivotCol];
+        long factorDen = denominators[start + pivotCol];
+
+        if (factorNum == 0) {
+            return;
+        }
+
+        // Der Faktor wird vorab gesichert, da die Zelle in der Pivotspalte mitreduziert wird
+        Fraction factor = isPromoted(start + pivotCol) ? promoted[start + pivotCol] : null;
+
+        for (int j = 0; j < cols; j++) {
+            int pivotIndex = pivotStart + j;
+            int index = start + j;
+            long pivotNum = numerators[pivotIndex];
+
+            if (pivotNum != 0) {
+                if (factor != null || isPromoted(pivotIndex) || isPromoted(index)
+                        || !subtractProduct(index, pivotNum, denominators[pivotIndex], factorNum,
+                                factorDen)) {
+                    Fraction exactFactor =
+                            (factor != null) ? factor : new Fraction(factorNum, factorDen);
+                    store(index, cell(index).subtractProduct(cell(pivotIndex), exactFactor));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void addRowTo(int row, Fraction[] sums) {
+        assert sums.length <= getColumnCount();
+
+        for (int j = 0; j < sums.length; j++) {
+            sums[j] = sums[j].add(get(row, j));
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(numerators, 0);
+        Arrays.fill(denominators, 1);
+        promoted = null;
+    }
+
+    @Override
+    public Fraction[][] toFractions() {
+        Fraction[][] result = new Fraction[rows][cols];
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                result[i][j] = get(i, j);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gibt zurück, ob eine Zelle übergelaufen ist und im Zusatz-Array liegt.
+     *
+     * @param index Position der Zelle
+     * @return true, wenn die Zelle mit BigInteger gespeichert ist
+     */
+    private boolean isPromoted(int index) {
+        Fraction[] cells = promoted;
+        return cells != null && cells[index] != null;
+    }
+
+    /**
+     * Gibt den Wert einer Zelle als Bruch zurück.
+     *
+     * @param index Position der Zelle
+     * @return Wert der Zelle
+     */
+    private Fraction cell(int index) {
+        return isPromoted(index) ? promoted[index]
+                : new Fraction(numerators[index], denominators[index]);
+    }
+
+    /**
+     * Speichert einen Bruch in einer Zelle. Passt er nicht in long, wird er im Zusatz-Array
+     * abgelegt und im long-Array nur sein Vorzeichen vermerkt.
+     *
+     * @param index Position der Zelle
+     * @param value zu speichernder Wert
+     */
+    private void store(int index, Fraction value) {
+        if (value.isBig()) {
+            promotedCells()[index] = value;
+            numerators[index] = value.signum();
+            denominators[index] = 1;
+        } else {
+            Fraction[] cells = promoted;
+            if (cells != null) {
+                cells[index] = null;
+            }
+            numerators[index] = value.getNumerator();
+            denominators[index] = value.getDenominator();
+        }
+    }
+
+    /**
+     * Gibt das Zusatz-Array für übergelaufene Zellen zurück und legt es beim ersten Überlauf an.
+     * Das Anlegen ist synchronisiert, da Zeilen parallel reduziert werden können.
+     *
+     * @return Zusatz-Array mit einer Position pro Zelle
+     */
+    private Fraction[] promotedCells() {
+        Fraction[] cells = promoted;
+
+        if (cells == null) {
+            synchronized (this) {
+                cells = promoted;
+                if (cells == null) {
+                    cells = new Fraction[numerators.length];
+                    promoted = cells;
+                }
+            }
+        }
+
+        return cells;
+    }
+
+    /**
+     * Multipliziert eine Zelle mit dem Bruch factorNum / factorDen. Vor der Multiplikation wird
+     * überkreuz gekürzt, das Ergebnis ist damit ohne weiteren ggT bereits vollständig gekürzt.
+     *
+     * @param index Position der Zelle
+     * @param factorNum gekürzter Zähler des Faktors
+     * @param factorDen gekürzter, positiver Nenner des Faktors
+     * @return false, wenn das Ergebnis nicht in long passt (die Zelle bleibt dann unverändert)
+     */
+    private boolean multiplyCell(int index, long factorNum, long factorDen) {
+        long num = numerators[index];
+
+        if (num == 0) {
+            return true;
+        }
+
+        long den = denominators[index];
+        long ggtA = Fraction.ggt(Math.abs(num), factorDen);
+        long ggtB = Fraction.ggt(Math.abs(factorNum), den);
+
+        try {
+            long resultNum = Math.multiplyExact(num / ggtA, factorNum / ggtB);
+            long resultDen = Math.multiplyExact(den / ggtB, factorDen / ggtA);
+
+            // Long.MIN_VALUE laesst sich nicht negieren und zaehlt daher als Ueberlauf
+            if (resultNum == Long.MIN_VALUE) {
+                return false;
+            }
+
+            numerators[index] = resultNum;
+            denominators[index] = resultDen;
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Zieht von einer Zelle das Produkt (aNum / aDen) * (bNum / bDen) ab und kürzt das
+     * Ergebnis.
+     *
+     * @param index Position der Zelle
+     * @param aNum Zähler des ersten Faktors
+     * @param aDen positiver Nenner des ersten Faktors
+     * @param bNum Zähler des zweiten Faktors
+     * @param bDen positiver Nenner des zweiten Faktors
+     * @return false, wenn ein Zwischenergebnis nicht in long passt (die Zelle bleibt dann
+     *         unverändert)
+     */
+    private boolean subtractProduct(int index, long aNum, long aDen, long bNum, long bDen) {
+        try {
+            // Produkt ueberkreuz gekuerzt bilden, es ist damit bereits vollstaendig gekuerzt
+            long ggtA = (bDen == 1) ? 1 : Fraction.ggt(Math.abs(aNum), bDen);
+            long ggtB = (aDen == 1) ? 1 : Fraction.ggt(Math.abs(bNum), aDen);
+            long prodNum = Math.multiplyExact(aNum / ggtA, bNum / ggtB);
+            long prodDen = Math.multiplyExact(aDen / ggtB, bDen / ggtA);
+
+            long num = numerators[index];
+            long den = denominators[index];
+
+            // Auf den Hauptnenner bringen und subtrahieren
+            long ggt = (den == 1 || prodDen == 1) ? 1 : Fraction.ggt(den, prodDen);
+            long resultNum = Math.subtractExact(Math.multiplyExact(num, prodDen / ggt),
+                    Math.multiplyExact(prodNum, den / ggt));
+            long resultDen = Math.multiplyExact(den, prodDen / ggt);
+
+            if (resultNum == Long.MIN_VALUE) {
+                return false;
+            } else if (resultNum == 0) {
+                numerators[index] = 0;
+                denominators[index] = 1;
+            } else {
+                // Beide Operanden sind gekuerzt, ein gemeinsamer Teiler von Zaehler und
+                // Hauptnenner teilt daher auch den ggT der Nenner
+                long reduce = (ggt == 1) ? 1 : Fraction.ggt(Math.abs(resultNum), ggt);
+                numerators[index] = resultNum / reduce;
+                denominators[index] = resultDen / reduce;
+            }
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,753 @@
+package simplex;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Liest ein lineares Problem im MPS-Format (fest oder frei) und baut daraus ein
+ * {@link SparseLinearProgram}. Die Datei wird zeilenweise gelesen, jede Restriktion sammelt nur
+ * ihre Koeffizienten ungleich 0, so dass der Speicherbedarf mit der Anzahl der Koeffizienten und
+ * nicht mit Restriktionen mal Variablen wächst. Dezimalzahlen wie {@code 0.1} oder
+ * {@code 1.5E-3} werden exakt in Brüche umgewandelt.
+ *
+ * Unterstützt werden die Abschnitte NAME, OBJSENSE, ROWS, COLUMNS (mit MARKER-Zeilen für
+ * ganzzahlige Variablen), RHS, RANGES, BOUNDS und ENDATA. Ohne OBJSENSE wird wie im MPS-Format
+ * üblich minimiert, die erste N-Zeile ist die Zielfunktion, weitere N-Zeilen werden übergangen.
+ *
+ * Da der Automat nur Variablen {@code >= 0} kennt, werden Schranken als zusätzliche Restriktionen
+ * angehängt, und Variablen mit negativer oder fehlender unterer Schranke werden als Differenz
+ * zweier nicht-negativer Variablen dargestellt. Die zweite Variable steht hinter allen Spalten der
+ * Datei. {@link #postsolve(Fraction[])} rechnet eine Lösung des Problems auf die Spalten der Datei
+ * zurück.
+ *
+ * @author Alexander Loeffler
+ */
+public final class MpsReader {
+
+    /** Zeilenformat der Datei */
+    public enum Format {
+        /** Felder durch Leerzeichen getrennt, Namen ohne Leerzeichen */
+        FREE,
+
+        /** Felder an festen Spalten, Namen dürfen Leerzeichen enthalten */
+        FIXED
+    }
+
+    /** Anfang (einschließlich) und Ende (ausschließlich) der Felder im festen Format */
+    private static final int[][] FIXED_FIELDS = {{1, 3}, {4, 12}, {14, 22}, {24, 36}, {39, 47},
+        {49, Integer.MAX_VALUE}};
+
+    /** Anfangsgröße der Koeffizientenlisten einer Restriktion */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /** Höchstzahl an Paaren aus Name und Wert in einer Zeile */
+    private static final int MAX_PAIRS = 2;
+
+    /** Markierung einer MARKER-Zeile */
+    private static final String MARKER = "'MARKER'";
+
+    /** Eine Restriktion der Datei mit ihren bisher gelesenen Koeffizienten */
+    private static final class Row {
+
+        /** Typ der Restriktion */
+        private final Type type;
+
+        /** Spalten mit Koeffizienten ungleich 0, aufsteigend */
+        private int[] indices = new int[INITIAL_CAPACITY];
+
+        /** Koeffizienten zu den Spalten */
+        private Fraction[] coefficients = new Fraction[INITIAL_CAPACITY];
+
+        /** Anzahl der Koeffizienten */
+        private int size;
+
+        /** Rechte Seite */
+        private Fraction rightSide = Fraction.ZERO;
+
+        /** Wert aus RANGES oder null */
+        private Fraction range;
+
+        /**
+         * Konstruktor.
+         *
+         * @param type Typ der Restriktion
+         */
+        private Row(Type type) {
+            this.type = type;
+        }
+
+        /**
+         * Hängt einen Koeffizienten an.
+         *
+         * @param col Spalte, größer als alle bisherigen Spalten
+         * @param value Koeffizient
+         */
+        private void add(int col, Fraction value) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, 2 * size);
+                coefficients = Arrays.copyOf(coefficients, 2 * size);
+            }
+            indices[size] = col;
+            coefficients[size] = value;
+            size++;
+        }
+    }
+
+    /** Eine Spalte der Datei */
+    private static final class Column {
+
+        /** Koeffizient der Zielfunktion */
+        private Fraction objective = Fraction.ZERO;
+
+        /** Untere Schranke oder null, wenn unbeschränkt */
+        private Fraction lower = Fraction.ZERO;
+
+        /** Obere Schranke oder null, wenn unbeschränkt */
+        private Fraction upper;
+
+        /** true, wenn die Variable ganzzahlig sein muss */
+        private boolean integral;
+    }
+
+    /** Zeilenformat */
+    private final Format format;
+
+    /** Name aus dem Abschnitt NAME oder null */
+    private String name;
+
+    /** Optimierungsrichtung */
+    private SolveType solveType = SolveType.MIN;
+
+    /** Name der Zielfunktionszeile oder null, solange keine N-Zeile gelesen wurde */
+    private String objectiveRow;
+
+    /** Konstante der Zielfunktion, das Negative der rechten Seite der Zielfunktionszeile */
+    private Fraction objectiveOffset = Fraction.ZERO;
+
+    /** Weitere N-Zeilen, deren Einträge übergangen werden */
+    private final Set<String> freeRows = new HashSet<>();
+
+    /** Restriktionen in der Reihenfolge der Datei */
+    private final List<Row> rows = new ArrayList<>();
+
+    /** Index der Restriktionen nach Namen */
+    private final Map<String, Row> rowsByName = new HashMap<>();
+
+    /** Spalten in der Reihenfolge der Datei */
+    private final List<Column> columns = new ArrayList<>();
+
+    /** Namen der Spalten in der Reihenfolge der Datei */
+    private final List<String> columnNames = new ArrayList<>();
+
+    /** Index der Spalten nach Namen */
+    private final Map<String, Integer> columnsByName = new HashMap<>();
+
+    /** Nummer der aktuellen Zeile, beginnend bei 1 */
+    private int lineNumber;
+
+    /** true zwischen den Markierungen INTORG und INTEND */
+    private boolean integerBlock;
+
+    /** Zweite Variable je Spalte der Datei oder -1, wenn die Spalte nicht aufgeteilt ist */
+    private int[] split;
+
+    /** Erzeugtes Problem */
+    private SparseLinearProgram program;
+
+    /** true je Variable des Problems, die ganzzahlig sein muss */
+    private boolean[] integral;
+
+    /**
+     * Liest ein Problem aus einer Datei im Zeichensatz ISO-8859-1.
+     *
+     * @param file zu lesende Datei
+     * @param format Zeilenformat
+     * @throws IOException wenn die Datei nicht gelesen werden kann
+     * @throws ParseException wenn die Datei kein gültiges MPS ist, mit der Zeilennummer als
+     *             {@link ParseException#getErrorOffset()}
+     * @pre file != null
+     * @pre format != null
+     */
+    public MpsReader(Path file, Format format) throws IOException, ParseException {
+        this(Files.newBufferedReader(file, StandardCharsets.ISO_8859_1), format);
+    }
+
+    /**
+     * Liest ein Problem und schließt danach die Eingabe.
+     *
+     * @param in zu lesende Eingabe
+     * @param format Zeilenformat
+     * @throws IOException wenn die Eingabe nicht gelesen werden kann
+     * @throws ParseException wenn die Eingabe kein gültiges MPS ist, mit der Zeilennummer als
+     *             {@link ParseException#getErrorOffset()}
+     * @pre in != null
+     * @pre format != null
+     */
+    public MpsReader(Reader in, Format format) throws IOException, ParseException {
+        assert in != null;
+        assert format != null;
+
+        this.format = format;
+
+        try (BufferedReader reader = (in instanceof BufferedReader) ? (BufferedReader) in
+                : new BufferedReader(in)) {
+            read(reader);
+        }
+        build();
+    }
+
+    /**
+     * @return Name aus dem Abschnitt NAME oder null, wenn die Datei keinen Namen hat
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return das gelesene Problem, dessen erste Variablen die Spalten der Datei sind
+     */
+    public SparseLinearProgram getProgram() {
+        return program;
+    }
+
+    /**
+     * @return true je Variable des Problems, die ganzzahlig sein muss, z.B. für den
+     *         {@link BranchAndBoundSolver}
+     */
+    public boolean[] getIntegral() {
+        return integral.clone();
+    }
+
+    /**
+     * @return Namen der Spalten der Datei in der Reihenfolge der Variablen
+     */
+    public String[] getColumnNames() {
+        return columnNames.toArray(new String[columnNames.size()]);
+    }
+
+    /**
+     * Rechnet eine Lösung des gelesenen Problems auf die Spalten der Datei zurück: aufgeteilte
+     * Variablen werden wieder zusammengefasst und die Konstante der Zielfunktion wird addiert.
+     *
+     * @param result Lösung von {@link #getProgram()} (x1, ..., xn, z) oder null
+     * @return Werte der Spalten der Datei und Wert der Zielfunktion oder null, wenn result null
+     *         ist
+     * @pre result ist null oder hat einen Eintrag je Variable des Problems und den Wert z
+     */
+    public Fraction[] postsolve(Fraction[] result) {
+        if (result == null) {
+            return null;
+        }
+        assert result.length == integral.length + 1;
+
+        Fraction[] original = new Fraction[columns.size() + 1];
+        for (int j = 0; j < columns.size(); j++) {
+            original[j] = (split[j] == -1) ? result[j] : result[j].subtract(result[split[j]]);
+        }
+        original[columns.size()] = result[result.length - 1].add(objectiveOffset);
+
+        return original;
+    }
+
+    /**
+     * Liest alle Zeilen bis ENDATA.
+     *
+     * @param reader Eingabe
+     * @throws IOException wenn die Eingabe nicht gelesen werden kann
+     * @throws ParseException wenn eine Zeile ungültig ist oder ENDATA fehlt
+     */
+    private void read(BufferedReader reader) throws IOException, ParseException {
+        String section = null;
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            if (line.trim().isEmpty() || line.charAt(0) == '*') {
+                continue;
+            }
+
+            if (!Character.isWhitespace(line.charAt(0))) {
+                List<String> header = split(line);
+                section = header.get(0);
+
+                if ("ENDATA".equals(section)) {
+                    return;
+                } else if ("NAME".equals(section)) {
+                    name = (header.size() > 1) ? line.substring(section.length()).trim() : null;
+                } else if ("OBJSENSE".equals(section) && header.size() > 1) {
+                    objectiveSense(header.get(1));
+                } else if (!Arrays.asList("OBJSENSE", "ROWS", "COLUMNS", "RHS", "RANGES",
+                        "BOUNDS").contains(section)) {
+                    throw error("unbekannter Abschnitt " + section);
+                }
+                continue;
+            }
+
+            List<String> fields = (format == Format.FIXED) ? fixedFields(line) : split(line);
+            if (fields.isEmpty()) {
+                continue;
+            }
+
+            if ("OBJSENSE".equals(section)) {
+                objectiveSense(fields.get(0));
+            } else if ("ROWS".equals(section)) {
+                row(fields);
+            } else if ("COLUMNS".equals(section)) {
+                column(fields);
+            } else if ("RHS".equals(section) || "RANGES".equals(section)) {
+                rightSide(fields, "RANGES".equals(section));
+            } else if ("BOUNDS".equals(section)) {
+                bound(fields);
+            } else {
+                throw error("Datenzeile außerhalb eines Abschnitts");
+            }
+        }
+
+        throw error("ENDATA fehlt");
+    }
+
+    /**
+     * Liest die Optimierungsrichtung.
+     *
+     * @param sense MAX, MAXIMIZE, MIN oder MINIMIZE
+     * @throws ParseException bei einer unbekannten Richtung
+     */
+    private void objectiveSense(String sense) throws ParseException {
+        if ("MAX".equals(sense) || "MAXIMIZE".equals(sense)) {
+            solveType = SolveType.MAX;
+        } else if ("MIN".equals(sense) || "MINIMIZE".equals(sense)) {
+            solveType = SolveType.MIN;
+        } else {
+            throw error("unbekannte Optimierungsrichtung " + sense);
+        }
+    }
+
+    /**
+     * Liest eine Zeile des Abschnitts ROWS: Typ und Name.
+     *
+     * @param fields Felder der Zeile
+     * @throws ParseException bei unbekanntem Typ oder doppeltem Namen
+     */
+    private void row(List<String> fields) throws ParseException {
+        if (fields.size() != 2) {
+            throw error("ROWS erwartet Typ und Name");
+        }
+
+        String type = fields.get(0);
+        String rowName = fields.get(1);
+        if (rowsByName.containsKey(rowName) || rowName.equals(objectiveRow)
+                || freeRows.contains(rowName)) {
+            throw error("Restriktion " + rowName + " ist doppelt");
+        }
+
+        if ("N".equals(type)) {
+            if (objectiveRow == null) {
+                objectiveRow = rowName;
+            } else {
+                freeRows.add(rowName);
+            }
+            return;
+        }
+
+        Row row;
+        if ("L".equals(type)) {
+            row = new Row(Type.LE);
+        } else if ("G".equals(type)) {
+            row = new Row(Type.GE);
+        } else if ("E".equals(type)) {
+            row = new Row(Type.EQ);
+        } else {
+            throw error("unbekannter Restriktionstyp " + type);
+        }
+        rows.add(row);
+        rowsByName.put(rowName, row);
+    }
+
+    /**
+     * Liest eine Zeile des Abschnitts COLUMNS: Spalte und ein oder zwei Paare aus Restriktion
+     * und Koeffizient, oder eine MARKER-Zeile.
+     *
+     * @param fields Felder der Zeile
+     * @throws ParseException bei unbekannten Namen, ungültigen Zahlen oder einer Spalte, die nicht
+     *             zusammenhängend angegeben ist
+     */
+    private void column(List<String> fields) throws ParseException {
+        if (fields.contains(MARKER)) {
+            if (fields.contains("'INTORG'")) {
+                integerBlock = true;
+            } else if (fields.contains("'INTEND'")) {
+                integerBlock = false;
+            } else {
+                throw error("unbekannte Markierung");
+            }
+            return;
+        }
+
+        if (fields.size() % 2 == 0 || fields.size() / 2 > MAX_PAIRS) {
+            throw error("COLUMNS erwartet Spalte und ein oder zwei Paare aus Name und Wert");
+        }
+
+        String columnName = fields.get(0);
+        int col = columns.size() - 1;
+        if (col == -1 || !columnName.equals(columnNames.get(col))) {
+            if (columnsByName.containsKey(columnName)) {
+                throw error("Spalte " + columnName + " ist nicht zusammenhängend");
+            }
+            Column column = new Column();
+            column.integral = integerBlock;
+            col = columns.size();
+            columns.add(column);
+            columnNames.add(columnName);
+            columnsByName.put(columnName, col);
+        }
+
+        Column column = columns.get(col);
+        for (int k = 1; k < fields.size(); k += 2) {
+            String rowName = fields.get(k);
+            Fraction value = number(fields.get(k + 1));
+
+            if (rowName.equals(objectiveRow)) {
+                column.objective = value;
+            } else if (!freeRows.contains(rowName) && value.signum() != 0) {
+                Row row = rowsByName.get(rowName);
+                if (row == null) {
+                    throw error("unbekannte Restriktion " + rowName);
+                }
+                if (row.size > 0 && row.indices[row.size - 1] == col) {
+                    throw error("doppelter Eintrag für " + columnName + " in " + rowName);
+                }
+                row.add(col, value);
+            }
+        }
+    }
+
+    /**
+     * Liest eine Zeile des Abschnitts RHS oder RANGES: optional ein Name, dann ein oder zwei
+     * Paare aus Restriktion und Wert.
+     *
+     * @param fields Felder der Zeile
+     * @param range true im Abschnitt RANGES
+     * @throws ParseException bei unbekannten Namen oder ungültigen Zahlen
+     */
+    private void rightSide(List<String> fields, boolean range) throws ParseException {
+        // Bei ungerader Anzahl steht vorne der Name des Vektors, er wird übergangen
+        int first = fields.size() % 2;
+        int pairs = fields.size() / 2;
+        if (pairs == 0 || pairs > MAX_PAIRS) {
+            throw error("erwartet ein oder zwei Paare aus Name und Wert");
+        }
+
+        for (int k = first; k < fields.size(); k += 2) {
+            String rowName = fields.get(k);
+            Fraction value = number(fields.get(k + 1));
+
+            if (rowName.equals(objectiveRow)) {
+                if (range) {
+                    throw error("RANGES für die Zielfunktion");
+                }
+                objectiveOffset = value.multiplyBy(Fraction.MINUS_ONE);
+            } else if (!freeRows.contains(rowName)) {
+                Row row = rowsByName.get(rowName);
+                if (row == null) {
+                    throw error("unbekannte Restriktion " + rowName);
+                }
+                if (range) {
+                    row.range = value;
+                } else {
+                    row.rightSide = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Liest eine Zeile des Abschnitts BOUNDS: Typ, optional ein Name, Spalte und je nach Typ ein
+     * Wert.
+     *
+     * @param fields Felder der Zeile
+     * @throws ParseException bei unbekanntem Typ, unbekannter Spalte oder fehlendem Wert
+     */
+    private void bound(List<String> fields) throws ParseException {
+        // Ohne Namen des Vektors steht die Spalte im zweiten Feld
+        int at = (fields.size() > 2 && columnsByName.containsKey(fields.get(2))) ? 2 : 1;
+        if (fields.size() <= at || !columnsByName.containsKey(fields.get(at))) {
+            throw error("BOUNDS erwartet eine bekannte Spalte");
+        }
+
+        String type = fields.get(0);
+        Column column = columns.get(columnsByName.get(fields.get(at)));
+        boolean hasValue = fields.size() > at + 1;
+        Fraction value = hasValue ? number(fields.get(at + 1)) : null;
+
+        if ("FR".equals(type)) {
+            column.lower = null;
+            column.upper = null;
+        } else if ("MI".equals(type)) {
+            column.lower = null;
+        } else if ("PL".equals(type)) {
+            column.upper = null;
+        } else if ("BV".equals(type)) {
+            column.lower = Fraction.ZERO;
+            column.upper = Fraction.ONE;
+            column.integral = true;
+        } else if (!hasValue) {
+            throw error("Schranke " + type + " ohne Wert");
+        } else if ("UP".equals(type) || "UI".equals(type)) {
+            // Negative obere Schranke ohne untere Schranke: Variable nach unten unbeschränkt
+            if (value.signum() < 0 && column.lower != null && column.lower.signum() == 0) {
+                column.lower = null;
+            }
+            column.upper = value;
+            column.integral |= "UI".equals(type);
+        } else if ("LO".equals(type) || "LI".equals(type)) {
+            column.lower = value;
+            column.integral |= "LI".equals(type);
+        } else if ("FX".equals(type)) {
+            column.lower = value;
+            column.upper = value;
+        } else {
+            throw error("unbekannter Schrankentyp " + type);
+        }
+    }
+
+    /**
+     * Baut das Problem aus den gelesenen Restriktionen, Spalten und Schranken.
+     *
+     * @throws ParseException wenn die Datei keine Spalte oder keine Restriktion enthält
+     */
+    private void build() throws ParseException {
+        if (columns.isEmpty()) {
+            throw error("keine Spalten");
+        }
+
+        int n = columns.size();
+        split = new int[n];
+        int vars = n;
+        for (int j = 0; j < n; j++) {
+            Fraction lower = columns.get(j).lower;
+            split[j] = (lower == null || lower.signum() < 0) ? vars++ : -1;
+        }
+
+        Fraction[] objective = new Fraction[vars];
+        integral = new boolean[vars];
+        for (int j = 0; j < n; j++) {
+            Column column = columns.get(j);
+            objective[j] = column.objective;
+            integral[j] = column.integral;
+            if (split[j] != -1) {
+                objective[split[j]] = column.objective.multiplyBy(Fraction.MINUS_ONE);
+                integral[split[j]] = column.integral;
+            }
+        }
+
+        List<SparseLinearProgram.Restriction> restrictions = new ArrayList<>();
+        for (Row row : rows) {
+            int count = row.size;
+            for (int k = 0; k < row.size; k++) {
+                count += (split[row.indices[k]] == -1) ? 0 : 1;
+            }
+
+            int[] indices = Arrays.copyOf(row.indices, count);
+            Fraction[] coefficients = Arrays.copyOf(row.coefficients, count);
+
+            // Die zweiten Variablen stehen hinter allen Spalten, ihre Indices bleiben aufsteigend
+            count = row.size;
+            for (int k = 0; k < row.size; k++) {
+                int second = split[row.indices[k]];
+                if (second != -1) {
+                    indices[count] = second;
+                    coefficients[count] = row.coefficients[k].multiplyBy(Fraction.MINUS_ONE);
+                    count++;
+                }
+            }
+
+            addRange(restrictions, indices, coefficients, row);
+        }
+
+        for (int j = 0; j < n; j++) {
+            Column column = columns.get(j);
+            int[] indices = (split[j] == -1) ? new int[] {j} : new int[] {j, split[j]};
+            Fraction[] coefficients = (split[j] == -1) ? new Fraction[] {Fraction.ONE}
+                    : new Fraction[] {Fraction.ONE, Fraction.MINUS_ONE};
+
+            // Die untere Schranke 0 einer nicht aufgeteilten Spalte gilt ohnehin
+            Fraction lower = (split[j] == -1 && column.lower.signum() == 0) ? null
+                    : column.lower;
+            addBounds(restrictions, indices, coefficients, lower, column.upper);
+        }
+
+        if (restrictions.isEmpty()) {
+            throw error("keine Restriktionen");
+        }
+
+        program = new SparseLinearProgram(
+                restrictions.toArray(new SparseLinearProgram.Restriction[restrictions.size()]),
+                solveType, objective);
+    }
+
+    /**
+     * Hängt die Restriktion einer Zeile an. Mit RANGES wird aus der Zeile ein Intervall
+     * {@code [lower, upper]} wie im MPS-Format festgelegt.
+     *
+     * @param restrictions Liste der Restriktionen
+     * @param indices Variablen der Zeile
+     * @param coefficients Koeffizienten der Zeile
+     * @param row Zeile
+     */
+    private static void addRange(List<SparseLinearProgram.Restriction> restrictions,
+            int[] indices, Fraction[] coefficients, Row row) {
+        if (row.range == null) {
+            restrictions.add(restriction(indices, coefficients, row.type, row.rightSide));
+            return;
+        }
+
+        Fraction width = (row.range.signum() < 0) ? row.range.multiplyBy(Fraction.MINUS_ONE)
+                : row.range;
+        boolean below = row.type == Type.LE || (row.type == Type.EQ && row.range.signum() < 0);
+        Fraction lower = below ? row.rightSide.subtract(width) : row.rightSide;
+        Fraction upper = below ? row.rightSide : row.rightSide.add(width);
+
+        addBounds(restrictions, indices, coefficients, lower, upper);
+    }
+
+    /**
+     * Hängt die Restriktionen {@code term >= lower} und {@code term <= upper} an, bei gleichen
+     * Werten als eine EQ-Restriktion.
+     *
+     * @param restrictions Liste der Restriktionen
+     * @param indices Variablen des Terms
+     * @param coefficients Koeffizienten des Terms
+     * @param lower untere Schranke oder null
+     * @param upper obere Schranke oder null
+     */
+    private static void addBounds(List<SparseLinearProgram.Restriction> restrictions,
+            int[] indices, Fraction[] coefficients, Fraction lower, Fraction upper) {
+        if (lower != null && lower.equals(upper)) {
+            restrictions.add(restriction(indices, coefficients, Type.EQ, lower));
+            return;
+        }
+        if (lower != null) {
+            restrictions.add(restriction(indices, coefficients, Type.GE, lower));
+        }
+        if (upper != null) {
+            restrictions.add(restriction(indices, coefficients, Type.LE, upper));
+        }
+    }
+
+    /**
+     * Erzeugt eine Restriktion mit nicht-negativer rechter Seite. Bei negativer rechter Seite
+     * wird die Restriktion mit -1 multipliziert.
+     *
+     * @param indices Variablen
+     * @param coefficients Koeffizienten
+     * @param type Typ
+     * @param rightSide rechte Seite
+     * @return Restriktion
+     */
+    private static SparseLinearProgram.Restriction restriction(int[] indices,
+            Fraction[] coefficients, Type type, Fraction rightSide) {
+        if (rightSide.signum() >= 0) {
+            return new SparseLinearProgram.Restriction(indices, coefficients, type, rightSide);
+        }
+
+        Fraction[] negated = new Fraction[coefficients.length];
+        for (int k = 0; k < coefficients.length; k++) {
+            negated[k] = coefficients[k].multiplyBy(Fraction.MINUS_ONE);
+        }
+        Type flipped = (type == Type.LE) ? Type.GE : (type == Type.GE) ? Type.LE : Type.EQ;
+
+        return new SparseLinearProgram.Restriction(indices, negated, flipped,
+                rightSide.multiplyBy(Fraction.MINUS_ONE));
+    }
+
+    /**
+     * Wandelt eine Dezimalzahl exakt in einen Bruch um.
+     *
+     * @param token Zahl, z.B. {@code -3}, {@code 0.25} oder {@code 1.5E-3}
+     * @return Bruch mit demselben Wert
+     * @throws ParseException wenn token keine Zahl ist
+     */
+    private Fraction number(String token) throws ParseException {
+        BigDecimal value;
+        try {
+            value = new BigDecimal(token);
+        } catch (NumberFormatException e) {
+            throw error("keine Zahl: " + token);
+        }
+
+        if (value.scale() <= 0) {
+            return new Fraction(value.toBigIntegerExact(), BigInteger.ONE);
+        }
+        return new Fraction(value.unscaledValue(), BigInteger.TEN.pow(value.scale()));
+    }
+
+    /**
+     * Zerlegt eine Zeile an Leerzeichen.
+     *
+     * @param line Zeile
+     * @return Felder ohne Leerzeichen
+     */
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        int start = -1;
+
+        for (int i = 0; i <= line.length(); i++) {
+            boolean space = i == line.length() || Character.isWhitespace(line.charAt(i));
+            if (space && start != -1) {
+                fields.add(line.substring(start, i));
+                start = -1;
+            } else if (!space && start == -1) {
+                start = i;
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Zerlegt eine Zeile im festen Format an den festen Spalten. Leere Felder werden übergangen,
+     * damit die Felder wie im freien Format aufeinander folgen.
+     *
+     * @param line Zeile
+     * @return nicht leere Felder ohne umgebende Leerzeichen
+     */
+    private static List<String> fixedFields(String line) {
+        List<String> fields = new ArrayList<>();
+
+        for (int[] field : FIXED_FIELDS) {
+            if (field[0] < line.length()) {
+                String value = line.substring(field[0], Math.min(field[1], line.length())).trim();
+                if (!value.isEmpty()) {
+                    fields.add(value);
+                }
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * @param message Beschreibung des Fehlers
+     * @return Fehler mit der aktuellen Zeilennummer
+     */
+    private ParseException error(String message) {
+        return new ParseException("Zeile " + lineNumber + ": " + message, lineNumber);
+    }
+
+}
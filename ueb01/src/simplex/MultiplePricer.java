@@ -0,0 +1,93 @@
+package simplex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Spaltenwahl nach {@link PricingStrategy#MULTIPLE}. Eine vollständige Suche über alle Spalten
+ * merkt sich die Spalten mit den größten positiven Werten, höchstens etwa die Wurzel ihrer
+ * Anzahl. In den folgenden Simplexschritten (Nebeniterationen) werden nur diese Kandidaten neu
+ * bewertet und der größte noch positive Wert gewählt. Erst wenn keiner der Kandidaten mehr
+ * positiv ist, wird wieder über alle Spalten gesucht. Ergibt auch diese Suche keinen Kandidaten,
+ * ist die Wahl -1 und das Tableau damit optimal.
+ *
+ * @author Alexander Loeffler
+ */
+class MultiplePricer implements Pricer {
+
+    /** Kandidatenspalten der letzten vollständigen Suche */
+    private final List<Integer> candidates = new ArrayList<>();
+
+    /** Anzahl der Spalten bei der letzten vollständigen Suche */
+    private int columns = -1;
+
+    @Override
+    public int chooseColumn(Tableau table, CostRow costs) {
+        if (costs.size() == columns) {
+            int col = best(costs, candidates);
+            if (col != -1) {
+                return col;
+            }
+        }
+
+        rescan(costs);
+        return candidates.isEmpty() ? -1 : best(costs, candidates);
+    }
+
+    @Override
+    public void pivoted(Tableau table, int row, int col, int leaving, int candidateCount) {
+        // Die Pivotspalte ist jetzt Basisvariable und wird bei der naechsten Wahl mit Wert 0
+        // uebergangen
+    }
+
+    /**
+     * Durchsucht alle Spalten und merkt sich die mit den größten positiven Werten.
+     *
+     * @param costs Werte der Kandidatenspalten
+     */
+    private void rescan(CostRow costs) {
+        int limit = (int) Math.ceil(Math.sqrt(costs.size()));
+
+        // Kleinster gemerkter Wert vorn, damit er durch einen groesseren ersetzt werden kann
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.max(limit, 1),
+                (a, b) -> costs.compare(a, b));
+
+        for (int j = 0; j < costs.size(); j++) {
+            if (costs.signum(j) > 0) {
+                if (best.size() < limit) {
+                    best.add(j);
+                } else if (costs.compare(j, best.peek()) > 0) {
+                    best.poll();
+                    best.add(j);
+                }
+            }
+        }
+
+        candidates.clear();
+        candidates.addAll(best);
+        candidates.sort(null);
+        columns = costs.size();
+    }
+
+    /**
+     * Wählt unter den übergebenen Spalten die mit dem größten positiven Wert, bei Gleichheit die
+     * erste.
+     *
+     * @param costs Werte der Kandidatenspalten
+     * @param cols aufsteigend sortierte Spalten
+     * @return Spalte oder -1, wenn keiner der Werte positiv ist
+     */
+    private static int best(CostRow costs, List<Integer> cols) {
+        int col = -1;
+
+        for (int j : cols) {
+            if (costs.signum(j) > 0 && (col == -1 || costs.compare(j, col) > 0)) {
+                col = j;
+            }
+        }
+
+        return col;
+    }
+
+}
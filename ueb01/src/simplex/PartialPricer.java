@@ -0,0 +1,52 @@
+package simplex;
+
+/**
+ * Spaltenwahl nach {@link PricingStrategy#PARTIAL}. Die Kandidatenspalten sind in Abschnitte von
+ * etwa der Wurzel ihrer Anzahl eingeteilt. Durchsucht wird ab dem Abschnitt hinter dem zuletzt
+ * gewählten, gewählt wird der größte Wert im ersten Abschnitt mit einem positiven Wert. Bei
+ * vielen Spalten müssen so nur wenige Werte verglichen werden, und die Wahl verteilt sich über
+ * alle Spalten.
+ *
+ * @author Alexander Loeffler
+ */
+class PartialPricer implements Pricer {
+
+    /** Erste Spalte des nächsten zu durchsuchenden Abschnitts */
+    private int offset;
+
+    @Override
+    public int chooseColumn(Tableau table, CostRow costs) {
+        int count = costs.size();
+        int segment = (int) Math.ceil(Math.sqrt(count));
+
+        if (offset >= count) {
+            offset = 0;
+        }
+
+        // Alle Abschnitte reihum, zuletzt wieder der Anfang des ersten durchsuchten Abschnitts
+        for (int start = offset; start < offset + count; start += segment) {
+            int col = -1;
+
+            for (int k = start; k < Math.min(start + segment, offset + count); k++) {
+                int j = k % count;
+
+                if (costs.signum(j) > 0 && (col == -1 || costs.compare(j, col) > 0)) {
+                    col = j;
+                }
+            }
+
+            if (col != -1) {
+                offset = (start + segment) % count;
+                return col;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public void pivoted(Tableau table, int row, int col, int leaving, int candidates) {
+        // Abschnitte haengen nur von der Anzahl der Spalten ab
+    }
+
+}
@@ -0,0 +1,112 @@
+package simplex;
+
+/**
+ * Löst das Problem eines {@link SimplexSolver} mit gestörten rechten Seiten, siehe
+ * {@link SimplexSolver#setPerturbation(boolean)}. Die rechte Seite der k-ten Restriktion (ab 1
+ * gezählt) wird vor dem Lösen um 1/(1000 k) erhöht. Nach dem Lösen wird die Störung entfernt und
+ * die Zulässigkeit bei Bedarf mit dualen Simplexschritten wiederhergestellt.
+ *
+ * @author Alexander Loeffler
+ */
+final class Perturbation {
+
+    /** Störung der rechten Seite der ersten Restriktion, die k-te erhält diesen Wert / k */
+    private static final Fraction FIRST = new Fraction(1, 1000);
+
+    /** Automat, dessen Problem gestört gelöst wird */
+    private final SimplexSolver solver;
+
+    /**
+     * Konstruktor.
+     *
+     * @param solver Automat, dessen Problem gestört gelöst wird
+     * @pre solver != null
+     */
+    Perturbation(SimplexSolver solver) {
+        assert solver != null;
+
+        this.solver = solver;
+    }
+
+    /**
+     * Löst das Problem mit gestörten rechten Seiten. Scheitert das gestörte Problem, wird das
+     * ungestörte Problem vom Ausgangstableau aus gelöst. Bricht eine Grenze von
+     * {@link SimplexSolver#solve(SolveConfig)} das Lösen ab, wird nur die Störung entfernt, der
+     * Automat bleibt in der erreichten Basis.
+     *
+     * @return optimale Koeffizienten und Wert der Zielfunktion oder null, wenn unlösbar oder
+     *         abgebrochen
+     */
+    Fraction[] solve() {
+        SimplexSolver.Snapshot initial = solver.takeSnapshot();
+
+        Fraction[] deltas = perturbRightSides();
+        Fraction[] result = solver.iterate();
+
+        if (result != null || solver.isLimitReached()) {
+            removePerturbation(deltas);
+        }
+
+        if (result != null) {
+
+            // Die Basis ist fuer das gestoerte Problem optimal und bleibt daher dual zulaessig
+            if (!solver.isValidSolution()) {
+                result = null;
+            } else {
+                result = (DualSimplex.choosePivotRow(solver.getTableau()) != -1)
+                        ? solver.solveDual() : solver.iterate();
+            }
+        }
+
+        if (result == null && !solver.isLimitReached()) {
+
+            // Gestoertes Problem nicht loesbar, z.B. wegen redundanter Restriktionen
+            solver.restore(initial);
+            result = solver.iterate();
+        }
+
+        return result;
+    }
+
+    /**
+     * Entfernt die Störung wieder, die Basis bleibt unverändert.
+     *
+     * @param deltas Änderung der rechten Seite je Restriktion aus {@link #perturbRightSides()}
+     */
+    private void removePerturbation(Fraction[] deltas) {
+        for (int k = 0; k < deltas.length; k++) {
+            if (deltas[k].signum() != 0) {
+                solver.changeRightSide(k, deltas[k].multiplyBy(Fraction.MINUS_ONE));
+            }
+        }
+        solver.getListener().tableauChanged(solver);
+    }
+
+    /**
+     * Erhöht die rechten Seiten der Restriktionen um ihre Störung. In der abgelegten Zeile wird
+     * die rechte Seite dabei immer erhöht, auch bei Zeilen, die mit -1 multipliziert abgelegt
+     * sind. Restriktionen ohne Schlupfvariable (EQ bei {@link TableauLayout#COMPACT}) bleiben
+     * ungestört, da ihre Einheitsspalte nach Phase I entfällt und die Störung dann nicht mehr
+     * entfernt werden könnte.
+     *
+     * @return Änderung der rechten Seite je Restriktion, zum Entfernen der Störung
+     */
+    private Fraction[] perturbRightSides() {
+        Fraction[] deltas = new Fraction[solver.getRestrictionCount()];
+
+        for (int k = 0; k < deltas.length; k++) {
+            deltas[k] = Fraction.ZERO;
+
+            if (solver.getSlackColumn(k) != -1) {
+                Fraction delta = FIRST.divideBy(new Fraction(k + 1));
+                deltas[k] = (solver.getIdentitySign(k) < 0) ? delta.multiplyBy(Fraction.MINUS_ONE)
+                        : delta;
+                solver.changeRightSide(k, deltas[k]);
+            }
+        }
+        solver.getListener().tableauChanged(solver);
+
+        return deltas;
+    }
+
+}
@@ -0,0 +1,577 @@
+package simplex;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Verkleinert ein lineares Problem vor dem Aufbau des Tableaus. Die Reduktionen werden so lange
+ * wiederholt, bis keine mehr greift:
+ * <ul>
+ * <li>leere Restriktionen entfallen (oder zeigen Unlösbarkeit an)</li>
+ * <li>Restriktionen mit nur einer Variable fixieren diese (EQ), verschieben ihre untere Schranke
+ * (GE) oder entfallen als stets erfüllt, nur obere Schranken (LE) bleiben als Zeile erhalten</li>
+ * <li>stets erfüllte Restriktionen entfallen, Restriktionen mit rechter Seite 0, die alle ihre
+ * Variablen auf 0 zwingen, fixieren diese</li>
+ * <li>Restriktionen mit parallelen Termen werden zur schärfsten Schranke bzw. zu einer
+ * EQ-Restriktion zusammengefasst</li>
+ * <li>Variablen ohne Restriktion werden auf 0 fixiert (oder zeigen Unbeschränktheit an)</li>
+ * </ul>
+ * Da alle Variablen nicht-negativ sind, ändern die Reduktionen die Menge der optimalen Lösungen
+ * nicht. Fixierte Werte und Verschiebungen werden gemerkt, so dass {@link #postsolve(Fraction[])}
+ * eine Lösung des verkleinerten Problems in die Reihenfolge der ursprünglichen Variablen
+ * zurückübersetzt.
+ *
+ * @author Alexander Loeffler
+ */
+public final class Presolver {
+
+    /**
+     * Veränderbare Restriktion während der Reduktion. Die rechte Seite ist nach jeder Änderung
+     * wieder nicht-negativ.
+     */
+    private static final class Row {
+
+        /** Koeffizienten ungleich 0 nach Index der ursprünglichen Variable */
+        private final TreeMap<Integer, Fraction> terms;
+
+        /** Restriktionstyp */
+        private Type type;
+
+        /** Wert der rechten Seite */
+        private Fraction rightSide;
+
+        /**
+         * Konstruktor.
+         *
+         * @param terms Koeffizienten ungleich 0 nach Index der Variable
+         * @param type Restriktionstyp
+         * @param rightSide Wert der rechten Seite
+         */
+        private Row(TreeMap<Integer, Fraction> terms, Type type, Fraction rightSide) {
+            this.terms = terms;
+            this.type = type;
+            this.rightSide = rightSide;
+        }
+
+        /**
+         * Ersetzt eine Variable durch einen festen Wert plus einen Rest und zieht den festen
+         * Anteil von der rechten Seite ab.
+         *
+         * @param variable Index der Variable
+         * @param value fester Anteil
+         * @param keep true, wenn die Variable (als Rest) in der Zeile bleibt
+         */
+        private void substitute(int variable, Fraction value, boolean keep) {
+            Fraction coefficient = keep ? terms.get(variable) : terms.remove(variable);
+
+            if (coefficient != null) {
+                rightSide = rightSide.subtract(coefficient.multiplyBy(value));
+                if (rightSide.signum() < 0) {
+                    scale(Fraction.MINUS_ONE);
+                }
+            }
+        }
+
+        /**
+         * Multipliziert die Zeile mit einem Faktor, bei negativem Faktor dreht sich LE zu GE und
+         * umgekehrt.
+         *
+         * @param factor Faktor ungleich 0
+         */
+        private void scale(Fraction factor) {
+            for (Map.Entry<Integer, Fraction> term : terms.entrySet()) {
+                term.setValue(term.getValue().multiplyBy(factor));
+            }
+            rightSide = rightSide.multiplyBy(factor);
+
+            if (factor.signum() < 0 && type != Type.EQ) {
+                type = (type == Type.LE) ? Type.GE : Type.LE;
+            }
+        }
+
+        /**
+         * @param sign 1 oder -1
+         * @return true, wenn kein Koeffizient das Vorzeichen -sign hat
+         */
+        private boolean hasOnlySign(int sign) {
+            for (Fraction coefficient : terms.values()) {
+                if (coefficient.signum() == -sign) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Koeffizienten der ursprünglichen Zielfunktion */
+    private final Fraction[] objectiveTerm;
+
+    /** Optimierungsrichtung */
+    private final SolveType solveType;
+
+    /** Anzahl der ursprünglichen Restriktionen */
+    private final int originalRestrictions;
+
+    /** Verbleibende Restriktionen */
+    private final List<Row> rows = new ArrayList<>();
+
+    /** Je Variable der fixierte Wert bzw. die Verschiebung einer verbleibenden Variable */
+    private final Fraction[] values;
+
+    /** Je Variable true, wenn sie fixiert und entfernt wurde */
+    private final boolean[] removed;
+
+    /** Index jeder Variable im verkleinerten Problem oder -1 */
+    private final int[] reducedIndex;
+
+    /** true, wenn das Problem unzulässig oder unbeschränkt ist */
+    private boolean unsolvable;
+
+    /** Verkleinertes Problem oder null, wenn keine Restriktion verbleibt */
+    private SparseLinearProgram reduced;
+
+    /**
+     * Verkleinert das übergebene Problem.
+     *
+     * @param lp zu verkleinerndes Problem
+     * @pre lp != null
+     */
+    public Presolver(LinearProgram lp) {
+        this(SparseLinearProgram.of(lp));
+    }
+
+    /**
+     * Verkleinert das übergebene dünn besetzte Problem.
+     *
+     * @param lp zu verkleinerndes Problem
+     * @pre lp != null
+     */
+    public Presolver(SparseLinearProgram lp) {
+        assert lp != null;
+
+        this.objectiveTerm = lp.getObjectiveTerm();
+        this.solveType = lp.getSolveType();
+        this.originalRestrictions = lp.getRestrictions().length;
+        this.values = new Fraction[lp.getNumberOfVariables()];
+        this.removed = new boolean[values.length];
+        this.reducedIndex = new int[values.length];
+
+        for (int j = 0; j < values.length; j++) {
+            values[j] = Fraction.ZERO;
+        }
+
+        for (SparseLinearProgram.Restriction restriction : lp.getRestrictions()) {
+            TreeMap<Integer, Fraction> terms = new TreeMap<>();
+            for (int k = 0; k < restriction.getIndices().length; k++) {
+                if (restriction.getCoefficients()[k].signum() != 0) {
+                    terms.put(restriction.getIndices()[k], restriction.getCoefficients()[k]);
+                }
+            }
+            rows.add(new Row(terms, restriction.getType(), restriction.getRightSide()));
+        }
+
+        boolean reducing = true;
+        while (reducing) {
+            reducing = !unsolvable && reduceOnce();
+        }
+
+        if (!unsolvable) {
+            buildReducedProgram();
+        }
+    }
+
+    /**
+     * Gibt das verkleinerte Problem zurück. Seine Variablen sind die nicht entfernten Variablen
+     * in ursprünglicher Reihenfolge.
+     *
+     * @return verkleinertes Problem oder null, wenn die Reduktion das Problem bereits vollständig
+     *         gelöst hat oder es unlösbar ist
+     */
+    public SparseLinearProgram getReducedProgram() {
+        return reduced;
+    }
+
+    /**
+     * @return true, wenn bereits die Reduktion gezeigt hat, dass das Problem unzulässig oder
+     *         unbeschränkt ist
+     */
+    public boolean isUnsolvable() {
+        return unsolvable;
+    }
+
+    /**
+     * @return Anzahl der entfernten Restriktionen
+     */
+    public int getRemovedRestrictions() {
+        return originalRestrictions - rows.size();
+    }
+
+    /**
+     * @return Anzahl der entfernten Variablen
+     */
+    public int getRemovedVariables() {
+        int count = 0;
+        for (boolean isRemoved : removed) {
+            if (isRemoved) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Übersetzt eine Lösung des verkleinerten Problems in die Reihenfolge der ursprünglichen
+     * Variablen und berechnet den Wert der ursprünglichen Zielfunktion.
+     *
+     * @param reducedResult Lösung des verkleinerten Problems (x1, ..., xk, z) oder null, wenn es
+     *            kein verkleinertes Problem gibt
+     * @return Lösung des ursprünglichen Problems (x1, x2, ..., xn, z)
+     * @pre !isUnsolvable()
+     * @pre reducedResult != null genau dann, wenn getReducedProgram() != null
+     */
+    public Fraction[] postsolve(Fraction[] reducedResult) {
+        assert !unsolvable;
+        assert (reducedResult != null) == (reduced != null);
+
+        Fraction[] result = new Fraction[values.length + 1];
+        Fraction objectiveValue = Fraction.ZERO;
+
+        for (int j = 0; j < values.length; j++) {
+            result[j] = removed[j] ? values[j] : values[j].add(reducedResult[reducedIndex[j]]);
+            objectiveValue = objectiveValue.add(objectiveTerm[j].multiplyBy(result[j]));
+        }
+        result[values.length] = objectiveValue;
+
+        return result;
+    }
+
+    /**
+     * Löst das verkleinerte Problem mit einem {@link SimplexSolver} und übersetzt die Lösung
+     * zurück.
+     *
+     * @param type Speicherform des Tableaus
+     * @return optimale Koeffizienten und Wert der Zielfunktion des ursprünglichen Problems (x1,
+     *         x2, ..., xn, z) oder null, wenn unlösbar
+     * @pre type != null
+     */
+    public Fraction[] solve(TableauType type) {
+        assert type != null;
+
+        if (unsolvable) {
+            return null;
+        }
+        if (reduced == null) {
+            return postsolve(null);
+        }
+
+        Fraction[] result = new SimplexSolver(reduced, type).solve();
+        return (result == null) ? null : postsolve(result);
+    }
+
+    /**
+     * Wendet die erste greifende Reduktion an.
+     *
+     * @return true, wenn eine Restriktion oder Variable entfernt wurde
+     */
+    private boolean reduceOnce() {
+        return removeEmptyRows() || applySingletonRows() || removeDominatedRows()
+                || mergeParallelRows() || removeEmptyColumns();
+    }
+
+    /**
+     * Entfernt Restriktionen ohne Koeffizienten. GE- und EQ-Restriktionen mit rechter Seite
+     * ungleich 0 sind dabei unerfüllbar.
+     *
+     * @return true, wenn eine Restriktion entfernt wurde
+     */
+    private boolean removeEmptyRows() {
+        boolean changed = false;
+
+        for (Iterator<Row> it = rows.iterator(); it.hasNext();) {
+            Row row = it.next();
+
+            if (row.terms.isEmpty()) {
+                if (row.type != Type.LE && row.rightSide.signum() != 0) {
+                    unsolvable = true;
+                }
+                it.remove();
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Wendet die erste Restriktion mit nur einer Variable an, die keine obere Schranke ist.
+     *
+     * @return true, wenn eine Restriktion entfernt wurde
+     */
+    private boolean applySingletonRows() {
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = rows.get(r);
+            if (row.terms.size() != 1) {
+                continue;
+            }
+
+            int variable = row.terms.firstKey();
+            Fraction coefficient = row.terms.firstEntry().getValue();
+            Fraction bound = row.rightSide.divideBy(coefficient);
+
+            // Obere Schranken bleiben als Zeile, parallele Schranken fasst mergeParallelRows
+            // zusammen
+            if (row.type == Type.LE && coefficient.signum() > 0) {
+                continue;
+            }
+
+            rows.remove(r);
+            if (row.type == Type.EQ) {
+                fix(variable, bound);
+            } else if (row.type == Type.GE && coefficient.signum() > 0) {
+                shift(variable, bound);
+            } else if (row.type == Type.GE) {
+
+                // x <= bound <= 0, zulaessig nur mit x = 0
+                if (bound.signum() != 0) {
+                    unsolvable = true;
+                } else {
+                    fix(variable, Fraction.ZERO);
+                }
+            }
+
+            // LE mit negativem Koeffizient: x >= bound mit bound <= 0 ist immer erfuellt
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Entfernt die erste Restriktion, deren Erfüllung allein aus den Vorzeichen der Koeffizienten
+     * und der Nicht-Negativität der Variablen folgt. Erzwingt eine Restriktion mit rechter Seite 0
+     * den Wert 0 für alle ihre Variablen, werden diese fixiert.
+     *
+     * @return true, wenn eine Restriktion entfernt wurde
+     */
+    private boolean removeDominatedRows() {
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = rows.get(r);
+            boolean nonNegative = row.hasOnlySign(1);
+            boolean nonPositive = row.hasOnlySign(-1);
+            boolean zero = row.rightSide.signum() == 0;
+
+            boolean redundant = (row.type == Type.LE && nonPositive)
+                    || (row.type == Type.GE && nonNegative && zero);
+            boolean forcing = zero && ((row.type == Type.LE && nonNegative)
+                    || (row.type == Type.GE && nonPositive) || (row.type == Type.EQ));
+            boolean infeasible = !zero && row.type != Type.LE && nonPositive;
+
+            if (forcing && row.type == Type.EQ) {
+                forcing = nonNegative || nonPositive;
+            }
+
+            if (redundant || forcing || infeasible) {
+                rows.remove(r);
+                unsolvable |= infeasible;
+
+                if (forcing && !redundant) {
+                    for (int variable : row.terms.keySet()) {
+                        fix(variable, Fraction.ZERO);
+                    }
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Fasst Restriktionen zusammen, deren Terme bis auf einen positiven Faktor gleich sind. Von
+     * mehreren LE-Restriktionen bleibt die kleinste, von mehreren GE-Restriktionen die größte
+     * rechte Seite. Fallen untere und obere Schranke zusammen oder gibt es eine EQ-Restriktion,
+     * bleibt eine EQ-Restriktion.
+     *
+     * @return true, wenn eine Restriktion entfernt wurde
+     */
+    private boolean mergeParallelRows() {
+        Map<Map<Integer, Fraction>, List<Row>> groups = new LinkedHashMap<>();
+
+        for (Row row : rows) {
+            row.scale(Fraction.ONE.divideBy(absolute(row.terms.firstEntry().getValue())));
+            groups.computeIfAbsent(row.terms, key -> new ArrayList<>()).add(row);
+        }
+
+        int before = rows.size();
+        if (groups.size() == before) {
+            return false;
+        }
+
+        rows.clear();
+        for (List<Row> group : groups.values()) {
+            if (group.size() == 1) {
+                rows.addAll(group);
+            } else {
+                mergeGroup(group);
+            }
+        }
+
+        // Verschiedene untere und obere Schranken bleiben als zwei Zeilen erhalten
+        return rows.size() < before;
+    }
+
+    /**
+     * Fasst eine Gruppe paralleler, gleich skalierter Restriktionen zusammen und hängt das
+     * Ergebnis an die Restriktionen an.
+     *
+     * @param group mindestens zwei Restriktionen mit gleichen Termen
+     */
+    private void mergeGroup(List<Row> group) {
+        Fraction upper = null;
+        Fraction lower = null;
+        Fraction equal = null;
+
+        for (Row row : group) {
+            if (row.type == Type.LE) {
+                upper = (upper == null || row.rightSide.compareTo(upper) < 0) ? row.rightSide
+                        : upper;
+            } else if (row.type == Type.GE) {
+                lower = (lower == null || row.rightSide.compareTo(lower) > 0) ? row.rightSide
+                        : lower;
+            } else {
+                unsolvable |= equal != null && !equal.equals(row.rightSide);
+                equal = row.rightSide;
+            }
+        }
+
+        // Eine Gleichung gilt nur, wenn sie innerhalb der Schranken liegt
+        if (equal == null && upper != null && lower != null && lower.compareTo(upper) >= 0) {
+            equal = lower;
+        }
+        if (equal != null) {
+            unsolvable |= (upper != null && equal.compareTo(upper) > 0)
+                    || (lower != null && equal.compareTo(lower) < 0);
+            rows.add(new Row(group.get(0).terms, Type.EQ, equal));
+            return;
+        }
+
+        if (upper != null) {
+            rows.add(new Row(group.get(0).terms, Type.LE, upper));
+        }
+        if (lower != null) {
+            rows.add(new Row(new TreeMap<>(group.get(0).terms), Type.GE, lower));
+        }
+    }
+
+    /**
+     * Fixiert Variablen, die in keiner Restriktion vorkommen, auf 0. Würde eine solche Variable
+     * die Zielfunktion verbessern, ist das Problem unbeschränkt (sofern es zulässig ist).
+     *
+     * @return true, wenn eine Variable entfernt wurde
+     */
+    private boolean removeEmptyColumns() {
+        boolean[] used = new boolean[values.length];
+        for (Row row : rows) {
+            for (int variable : row.terms.keySet()) {
+                used[variable] = true;
+            }
+        }
+
+        boolean changed = false;
+        for (int j = 0; j < values.length; j++) {
+            if (!removed[j] && !used[j]) {
+                int improving = (solveType == SolveType.MAX) ? 1 : -1;
+
+                unsolvable |= objectiveTerm[j].signum() == improving;
+                fix(j, Fraction.ZERO);
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Fixiert eine Variable auf einen Wert und entfernt sie aus allen Restriktionen.
+     *
+     * @param variable Index der Variable
+     * @param value Wert der Variable relativ zu ihrer bisherigen Verschiebung
+     */
+    private void fix(int variable, Fraction value) {
+        if (value.signum() < 0) {
+            unsolvable = true;
+        }
+
+        for (Row row : rows) {
+            row.substitute(variable, value, false);
+        }
+        values[variable] = values[variable].add(value);
+        removed[variable] = true;
+    }
+
+    /**
+     * Verschiebt eine Variable um ihre untere Schranke, d.h. ersetzt x durch x' + bound.
+     *
+     * @param variable Index der Variable
+     * @param bound untere Schranke
+     */
+    private void shift(int variable, Fraction bound) {
+        for (Row row : rows) {
+            row.substitute(variable, bound, true);
+        }
+        values[variable] = values[variable].add(bound);
+    }
+
+    /**
+     * Baut das verkleinerte Problem aus den verbleibenden Restriktionen und Variablen auf.
+     */
+    private void buildReducedProgram() {
+        List<Fraction> reducedObjective = new ArrayList<>();
+        for (int j = 0; j < values.length; j++) {
+            reducedIndex[j] = removed[j] ? -1 : reducedObjective.size();
+            if (!removed[j]) {
+                reducedObjective.add(objectiveTerm[j]);
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        SparseLinearProgram.Restriction[] restrictions =
+                new SparseLinearProgram.Restriction[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            int[] indices = new int[row.terms.size()];
+            Fraction[] coefficients = new Fraction[indices.length];
+            int k = 0;
+
+            for (Map.Entry<Integer, Fraction> term : row.terms.entrySet()) {
+                indices[k] = reducedIndex[term.getKey()];
+                coefficients[k] = term.getValue();
+                k++;
+            }
+            restrictions[i] = new SparseLinearProgram.Restriction(indices, coefficients,
+                    row.type, row.rightSide);
+        }
+
+        reduced = new SparseLinearProgram(restrictions, solveType,
+                reducedObjective.toArray(new Fraction[reducedObjective.size()]));
+    }
+
+    /**
+     * @param value ein Bruch
+     * @return Betrag des Bruchs
+     */
+    private static Fraction absolute(Fraction value) {
+        return (value.signum() < 0) ? value.multiplyBy(Fraction.MINUS_ONE) : value;
+    }
+
+}
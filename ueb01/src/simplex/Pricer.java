@@ -0,0 +1,32 @@
+package simplex;
+
+/**
+ * Spaltenwahl eines {@link SimplexSolver} nach einer {@link PricingStrategy}. Eine Instanz gehört
+ * zu genau einem Automaten und darf sich Zustand über die Simplexschritte hinweg merken.
+ *
+ * @author Alexander Loeffler
+ */
+interface Pricer {
+
+    /**
+     * Wählt unter den Spalten mit positivem Wert die Pivotspalte.
+     *
+     * @param table aktuelles Tableau, die letzte Zeile ist die Zielfunktionszeile
+     * @param costs Werte der Kandidatenspalten, Index j gehört zur Spalte j des Tableaus
+     * @return Index der Pivotspalte oder -1, wenn kein Wert positiv ist
+     * @pre costs.size() kleiner oder gleich table.getColumnCount()
+     */
+    int chooseColumn(Tableau table, CostRow costs);
+
+    /**
+     * Wird nach jedem Simplexschritt aufgerufen, z.B. um Gewichte fortzuschreiben.
+     *
+     * @param table Tableau nach dem Simplexschritt
+     * @param row Pivotzeile
+     * @param col Pivotspalte
+     * @param leaving Spalte der Variable, die die Basis verlassen hat
+     * @param candidates Anzahl der Kandidatenspalten
+     */
+    void pivoted(Tableau table, int row, int col, int leaving, int candidates);
+
+}
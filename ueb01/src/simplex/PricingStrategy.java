@@ -0,0 +1,54 @@
+package simplex;
+
+/**
+ * Regel, nach der ein {@link SimplexSolver} die Pivotspalte wählt. Kandidaten sind in Phase II
+ * die Spalten mit positivem Wert in der Zielfunktionszeile, in Phase I die Spalten mit positiver
+ * Summe über die Zeilen mit künstlicher Basisvariable.
+ *
+ * @author Alexander Loeffler
+ */
+public enum PricingStrategy {
+
+    /** Größter Wert (Regel von Dantzig), entspricht der ursprünglichen Spaltenwahl */
+    DANTZIG,
+
+    /** Größter Wert im Verhältnis zur euklidischen Länge der Spalte im aktuellen Tableau */
+    STEEPEST_EDGE,
+
+    /** Größter Wert im Verhältnis zu fortgeschriebenen Näherungen der Spaltenlängen (Devex) */
+    DEVEX,
+
+    /**
+     * Größter Wert im ersten Abschnitt von Spalten mit einem Kandidaten. Die Abschnitte werden
+     * reihum durchsucht, beginnend hinter dem zuletzt gewählten Abschnitt.
+     */
+    PARTIAL,
+
+    /**
+     * Größter Wert unter den Kandidaten der letzten vollständigen Suche (multiple pricing). Erst
+     * wenn keiner dieser Kandidaten mehr positiv ist, wird wieder über alle Spalten gesucht.
+     */
+    MULTIPLE;
+
+    /**
+     * Legt die Spaltenwahl dieser Regel für einen Automaten an.
+     *
+     * @return neue Spaltenwahl ohne Zustand aus vorherigen Simplexschritten
+     */
+    Pricer create() {
+        switch (this) {
+            case STEEPEST_EDGE:
+                return new SteepestEdgePricer();
+            case DEVEX:
+                return new DevexPricer();
+            case PARTIAL:
+                return new PartialPricer();
+            case MULTIPLE:
+                return new MultiplePricer();
+            case DANTZIG:
+            default:
+                return new DantzigPricer();
+        }
+    }
+
+}
@@ -0,0 +1,566 @@
+package simplex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import simplex.LinearProgram.Restriction;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Revidiertes Simplexverfahren. Statt das vollständige Tableau bei jedem Schritt zu
+ * aktualisieren, wird nur die Inverse der Basismatrix in Produktform (als Folge von
+ * Eta-Matrizen) gehalten. Pro Simplexschritt werden damit nur der Vektor der Schattenpreise
+ * (BTRAN), die reduzierten Kosten der Nichtbasisspalten und die Spalte der aufzunehmenden
+ * Variablen (FTRAN) berechnet. Nach einer festen Anzahl an Basiswechseln wird die Produktform
+ * neu aufgebaut, damit die Eta-Folge nicht beliebig lang wird.
+ *
+ * Die Spalten sind wie im {@link SimplexSolver} angeordnet (Variablen, Schlupfvariablen,
+ * künstliche Variablen), die Indices der Basisvariablen sind daher vergleichbar. Schlupf- und
+ * künstliche Variablen existieren aber nur für die Restriktionstypen, die sie benötigen.
+ *
+ * @author Alexander Loeffler
+ */
+public class RevisedSimplexSolver {
+
+    /** Anzahl der Basiswechsel, nach der die Produktform standardmäßig neu aufgebaut wird */
+    public static final int DEFAULT_REFACTORIZATION_INTERVAL = 50;
+
+    /**
+     * Eine Eta-Matrix, d.h. eine Einheitsmatrix, deren Spalte row durch einen dünn besetzten
+     * Vektor ersetzt ist.
+     */
+    private static final class Eta {
+
+        /** Zeile (und Spalte) des Pivotelements */
+        private final int row;
+
+        /** Zeilenindices der Einträge ungleich 0 */
+        private final int[] indices;
+
+        /** Einträge ungleich 0 */
+        private final Fraction[] values;
+
+        /**
+         * Erzeugt die Eta-Matrix, die die übergebene (bereits transformierte) Spalte in den
+         * Einheitsvektor der Pivotzeile überführt.
+         *
+         * @param row Pivotzeile
+         * @param column transformierte Spalte der aufzunehmenden Variablen
+         * @pre column[row] != 0
+         */
+        private Eta(int row, Fraction[] column) {
+            assert column[row].signum() != 0;
+
+            Fraction pivot = column[row];
+            int count = 0;
+            for (Fraction value : column) {
+                if (value.signum() != 0) {
+                    count++;
+                }
+            }
+
+            this.row = row;
+            this.indices = new int[count];
+            this.values = new Fraction[count];
+
+            int index = 0;
+            for (int i = 0; i < column.length; i++) {
+                if (column[i].signum() != 0) {
+                    indices[index] = i;
+                    values[index] = (i == row) ? Fraction.ONE.divideBy(pivot)
+                            : column[i].divideBy(pivot).multiplyBy(Fraction.MINUS_ONE);
+                    index++;
+                }
+            }
+        }
+    }
+
+    /** Optimierungsrichtung */
+    private final SolveType solveType;
+
+    /** Koeffizienten der Zielfunktion aus dem linearen Problem */
+    private final Fraction[] objectiveTerm;
+
+    /** Anzahl der Restriktionen */
+    private final int numberRows;
+
+    /** Anzahl der Variablen des linearen Problems */
+    private final int numberVars;
+
+    /** Anzahl aller Spalten (Variablen, Schlupf- und künstliche Variablen) */
+    private final int numberCols;
+
+    /** Zeilenindices der Einträge ungleich 0 pro Spalte, null für nicht benötigte Spalten */
+    private final int[][] columnRows;
+
+    /** Einträge ungleich 0 pro Spalte, null für nicht benötigte Spalten */
+    private final Fraction[][] columnValues;
+
+    /** Rechte Seite der Restriktionen */
+    private final Fraction[] rightSide;
+
+    /** Basisvariable, mit der jede Zeile startet (Einheitsspalte dieser Zeile) */
+    private final int[] initialBaseVars;
+
+    /** Anzahl der Basiswechsel, nach der die Produktform neu aufgebaut wird */
+    private final int refactorizationInterval;
+
+    /** Eta-Matrizen der Produktform in der Reihenfolge ihrer Entstehung */
+    private final List<Eta> etaFile = new ArrayList<Eta>();
+
+    /** Indices der Basisvariablen pro Zeile */
+    private int[] baseVars;
+
+    /** Zeile jeder Spalte in der Basis oder -1, wenn die Spalte keine Basisvariable ist */
+    private int[] basisRow;
+
+    /** Werte der Basisvariablen pro Zeile */
+    private Fraction[] basicValues;
+
+    /** Anzahl der Basiswechsel seit dem letzten Neuaufbau der Produktform */
+    private int updatesSinceRefactorization;
+
+    /** Anzahl der durchgeführten Simplexschritte */
+    private int iterations;
+
+    /**
+     * Erstellt einen Automaten aus dem übergebenen linearen Optimierungsproblem, der die
+     * Produktform nach {@link #DEFAULT_REFACTORIZATION_INTERVAL} Basiswechseln neu aufbaut.
+     *
+     * @param lp lineares Problem, das optimiert werden soll
+     * @pre lp != null
+     */
+    public RevisedSimplexSolver(LinearProgram lp) {
+        this(lp, DEFAULT_REFACTORIZATION_INTERVAL);
+    }
+
+    /**
+     * Erstellt einen Automaten aus dem übergebenen linearen Optimierungsproblem.
+     *
+     * @param lp lineares Problem, das optimiert werden soll
+     * @param refactorizationInterval Anzahl der Basiswechsel, nach der die Produktform neu
+     *            aufgebaut wird
+     * @pre lp != null
+     * @pre refactorizationInterval > 0
+     */
+    public RevisedSimplexSolver(LinearProgram lp, int refactorizationInterval) {
+        assert lp != null;
+        assert refactorizationInterval > 0;
+
+        Restriction[] restrictions = lp.getRestrictions();
+
+        this.solveType = lp.getSolveType();
+        this.objectiveTerm = lp.getObjectiveTerm();
+        this.numberRows = restrictions.length;
+        this.numberVars = objectiveTerm.length;
+        this.numberCols = numberVars + 2 * numberRows;
+        this.refactorizationInterval = refactorizationInterval;
+
+        this.columnRows = new int[numberCols][];
+        this.columnValues = new Fraction[numberCols][];
+        this.rightSide = new Fraction[numberRows];
+        this.initialBaseVars = new int[numberRows];
+
+        // Spalten der Variablen duenn besetzt uebernehmen
+        for (int j = 0; j < numberVars; j++) {
+            int count = 0;
+            for (Restriction restriction : restrictions) {
+                if (restriction.getTerm()[j].signum() != 0) {
+                    count++;
+                }
+            }
+
+            columnRows[j] = new int[count];
+            columnValues[j] = new Fraction[count];
+
+            int index = 0;
+            for (int i = 0; i < numberRows; i++) {
+                Fraction value = restrictions[i].getTerm()[j];
+                if (value.signum() != 0) {
+                    columnRows[j][index] = i;
+                    columnValues[j][index] = value;
+                    index++;
+                }
+            }
+        }
+
+        // Schlupf- und kuenstliche Variablen nur fuer die Typen, die sie benoetigen
+        for (int i = 0; i < numberRows; i++) {
+            Type type = restrictions[i].getType();
+            int slackCol = numberVars + i;
+            int aiCol = numberVars + numberRows + i;
+
+            if (type != Type.EQ) {
+                columnRows[slackCol] = new int[] {i};
+                columnValues[slackCol] =
+                        new Fraction[] {(type == Type.LE) ? Fraction.ONE : Fraction.MINUS_ONE};
+            }
+            if (type != Type.LE) {
+                columnRows[aiCol] = new int[] {i};
+                columnValues[aiCol] = new Fraction[] {Fraction.ONE};
+            }
+
+            rightSide[i] = restrictions[i].getRightSide();
+            initialBaseVars[i] = (type == Type.LE) ? slackCol : aiCol;
+        }
+
+        this.baseVars = initialBaseVars.clone();
+        this.basisRow = new int[numberCols];
+        updateBasisRows();
+        this.basicValues = rightSide.clone();
+    }
+
+    /**
+     * Gibt die Indices der Basisvariablen zurück. Die Indices entsprechen denen von
+     * {@link SimplexSolver#getBaseVars()}, die Reihenfolge der Zeilen kann nach einem Neuaufbau
+     * der Produktform aber abweichen.
+     *
+     * @return Kopie der Indices der Basisvariablen
+     */
+    public int[] getBaseVars() {
+        return baseVars.clone();
+    }
+
+    /**
+     * @return Anzahl der bisher durchgeführten Simplexschritte (Basiswechsel)
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Löst das lineare Optimierungsproblem mit dem Zwei-Phasen-Verfahren. Das Ergebnis hat
+     * dieselbe Bedeutung wie bei {@link SimplexSolver#solve()}.
+     *
+     * @return optimale Koeffizienten und Wert der Zielfunktion (in gegebener Reihenfolge, also x1,
+     *         x2, ..., xn, z) oder null, wenn unlösbar
+     */
+    public Fraction[] solve() {
+
+        // Phase I: Summe der kuenstlichen Variablen minimieren
+        if (hasAiVarInBase()) {
+            Fraction[] phaseOneCosts = new Fraction[numberCols];
+            for (int j = 0; j < numberCols; j++) {
+                phaseOneCosts[j] = isAiVar(j) ? Fraction.MINUS_ONE : Fraction.ZERO;
+            }
+
+            if (!optimize(phaseOneCosts)) {
+                return null;
+            }
+
+            for (int i = 0; i < numberRows; i++) {
+                if (isAiVar(baseVars[i]) && basicValues[i].signum() != 0) {
+                    return null;
+                }
+            }
+
+            driveOutAiVars();
+        }
+
+        // Phase II: eigentliche Zielfunktion (Minimierung als Maximierung der negierten)
+        Fraction[] costs = new Fraction[numberCols];
+        for (int j = 0; j < numberCols; j++) {
+            if (j < numberVars) {
+                costs[j] = (solveType == SolveType.MIN)
+                        ? objectiveTerm[j].multiplyBy(Fraction.MINUS_ONE)
+                        : objectiveTerm[j];
+            } else {
+                costs[j] = Fraction.ZERO;
+            }
+        }
+
+        if (!optimize(costs)) {
+            return null;
+        }
+
+        Fraction[] result = new Fraction[numberVars + 1];
+        Fraction z = Fraction.ZERO;
+        for (int j = 0; j < numberVars; j++) {
+            result[j] = (basisRow[j] == -1) ? Fraction.ZERO : basicValues[basisRow[j]];
+            z = z.add(objectiveTerm[j].multiplyBy(result[j]));
+        }
+        result[numberVars] = z;
+
+        return result;
+    }
+
+    /**
+     * Führt Simplexschritte für die übergebene (zu maximierende) Zielfunktion aus, bis keine
+     * Nichtbasisspalte mehr positive reduzierte Kosten hat. Künstliche Variablen werden nie in
+     * die Basis aufgenommen.
+     *
+     * @param costs Kosten aller Spalten
+     * @return true, wenn das Optimum erreicht wurde, false wenn das Problem unbeschränkt ist
+     */
+    private boolean optimize(Fraction[] costs) {
+        while (true) {
+            Fraction[] prices = pricingVector(costs);
+
+            // Dantzig: groesste positive reduzierte Kosten, bei Gleichstand kleinster Index
+            int pivotCol = -1;
+            Fraction biggestValue = Fraction.ZERO;
+            for (int j = 0; j < numberCols; j++) {
+                if (columnRows[j] != null && basisRow[j] == -1 && !isAiVar(j)) {
+                    Fraction reducedCost = costs[j].subtract(dot(prices, j));
+
+                    if (reducedCost.compareTo(biggestValue) > 0) {
+                        biggestValue = reducedCost;
+                        pivotCol = j;
+                    }
+                }
+            }
+
+            if (pivotCol == -1) {
+                return true;
+            }
+
+            Fraction[] column = ftran(pivotCol);
+            int pivotRow = choosePivotRow(column);
+            if (pivotRow == -1) {
+                return false;
+            }
+
+            pivot(pivotRow, pivotCol, column);
+        }
+    }
+
+    /**
+     * Quotiententest über die transformierte Spalte. Bei gleichen Quotienten wird die Zeile mit
+     * dem kleinsten Index der Basisvariablen gewählt.
+     *
+     * @param column transformierte Spalte der aufzunehmenden Variablen
+     * @return Pivotzeile oder -1, wenn die Spalte keinen positiven Eintrag hat
+     */
+    private int choosePivotRow(Fraction[] column) {
+        int pivotRow = -1;
+        Fraction smallestRatio = null;
+
+        for (int i = 0; i < numberRows; i++) {
+            if (column[i].signum() > 0) {
+                Fraction ratio = basicValues[i].divideBy(column[i]);
+                int compare = (smallestRatio == null) ? -1 : ratio.compareTo(smallestRatio);
+
+                if (compare < 0 || (compare == 0 && baseVars[i] < baseVars[pivotRow])) {
+                    smallestRatio = ratio;
+                    pivotRow = i;
+                }
+            }
+        }
+
+        return pivotRow;
+    }
+
+    /**
+     * Nimmt die Variable der Pivotspalte in der Pivotzeile in die Basis auf, aktualisiert die
+     * Werte der Basisvariablen und erweitert die Produktform um eine Eta-Matrix.
+     *
+     * @param pivotRow Pivotzeile
+     * @param pivotCol Pivotspalte
+     * @param column transformierte Pivotspalte
+     */
+    private void pivot(int pivotRow, int pivotCol, Fraction[] column) {
+        Fraction theta = basicValues[pivotRow].divideBy(column[pivotRow]);
+
+        for (int i = 0; i < numberRows; i++) {
+            if (i != pivotRow && column[i].signum() != 0) {
+                basicValues[i] = basicValues[i].subtractProduct(theta, column[i]);
+            }
+        }
+        basicValues[pivotRow] = theta;
+
+        basisRow[baseVars[pivotRow]] = -1;
+        baseVars[pivotRow] = pivotCol;
+        basisRow[pivotCol] = pivotRow;
+        etaFile.add(new Eta(pivotRow, column));
+
+        iterations++;
+        updatesSinceRefactorization++;
+        if (updatesSinceRefactorization >= refactorizationInterval) {
+            refactorize();
+        }
+    }
+
+    /**
+     * Entfernt künstliche Variablen, die nach Phase I mit dem Wert 0 in der Basis verblieben
+     * sind, durch degenerierte Basiswechsel. Gibt es in einer solchen Zeile keine geeignete
+     * Spalte, ist die Restriktion redundant und die künstliche Variable bleibt mit dem Wert 0 in
+     * der Basis.
+     */
+    private void driveOutAiVars() {
+        for (int i = 0; i < numberRows; i++) {
+            if (isAiVar(baseVars[i])) {
+                for (int j = 0; j < numberCols; j++) {
+                    if (columnRows[j] != null && basisRow[j] == -1 && !isAiVar(j)) {
+                        Fraction[] column = ftran(j);
+
+                        if (column[i].signum() != 0) {
+                            pivot(i, j, column);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Baut die Produktform ausgehend von der Einheitsmatrix der Startbasis neu auf und berechnet
+     * die Werte der Basisvariablen neu. Die Zuordnung der Basisvariablen zu den Zeilen kann sich
+     * dabei ändern.
+     */
+    private void refactorize() {
+        int[] targetBasis = baseVars;
+        boolean[] inTarget = new boolean[numberCols];
+        for (int col : targetBasis) {
+            inTarget[col] = true;
+        }
+
+        etaFile.clear();
+        baseVars = initialBaseVars.clone();
+        updateBasisRows();
+
+        for (int col : targetBasis) {
+            if (basisRow[col] == -1) {
+                Fraction[] column = ftran(col);
+                int row = -1;
+
+                for (int i = 0; i < numberRows && row == -1; i++) {
+                    if (!inTarget[baseVars[i]] && column[i].signum() != 0) {
+                        row = i;
+                    }
+                }
+
+                assert row != -1 : "Basis ist singulär";
+
+                etaFile.add(new Eta(row, column));
+                basisRow[baseVars[row]] = -1;
+                baseVars[row] = col;
+                basisRow[col] = row;
+            }
+        }
+
+        basicValues = ftran(rightSide);
+        updatesSinceRefactorization = 0;
+    }
+
+    /**
+     * Berechnet den Vektor der Schattenpreise y = c_B * B^-1 (BTRAN), indem die Eta-Matrizen in
+     * umgekehrter Reihenfolge von rechts auf den Kostenvektor der Basis angewendet werden.
+     *
+     * @param costs Kosten aller Spalten
+     * @return Schattenpreise pro Zeile
+     */
+    private Fraction[] pricingVector(Fraction[] costs) {
+        Fraction[] prices = new Fraction[numberRows];
+        for (int i = 0; i < numberRows; i++) {
+            prices[i] = costs[baseVars[i]];
+        }
+
+        for (int k = etaFile.size() - 1; k >= 0; k--) {
+            Eta eta = etaFile.get(k);
+            FractionAccumulator sum = new FractionAccumulator();
+
+            for (int index = 0; index < eta.indices.length; index++) {
+                sum.addProduct(prices[eta.indices[index]], eta.values[index]);
+            }
+            prices[eta.row] = sum.toFraction();
+        }
+
+        return prices;
+    }
+
+    /**
+     * Berechnet B^-1 * a für die Spalte a der übergebenen Variablen (FTRAN).
+     *
+     * @param col Index der Spalte
+     * @return transformierte Spalte
+     */
+    private Fraction[] ftran(int col) {
+        Fraction[] column = new Fraction[numberRows];
+        for (int i = 0; i < numberRows; i++) {
+            column[i] = Fraction.ZERO;
+        }
+        for (int index = 0; index < columnRows[col].length; index++) {
+            column[columnRows[col][index]] = columnValues[col][index];
+        }
+
+        return ftran(column);
+    }
+
+    /**
+     * Wendet die Eta-Matrizen in der Reihenfolge ihrer Entstehung auf einen Vektor an.
+     *
+     * @param vector Vektor mit einem Eintrag pro Zeile (wird nicht verändert)
+     * @return B^-1 * vector
+     */
+    private Fraction[] ftran(Fraction[] vector) {
+        Fraction[] result = vector.clone();
+
+        for (Eta eta : etaFile) {
+            Fraction value = result[eta.row];
+
+            if (value.signum() != 0) {
+                for (int index = 0; index < eta.indices.length; index++) {
+                    int i = eta.indices[index];
+                    result[i] = (i == eta.row) ? value.multiplyBy(eta.values[index])
+                            : result[i].add(value.multiplyBy(eta.values[index]));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Bildet das Skalarprodukt der Schattenpreise mit einer Spalte.
+     *
+     * @param prices Schattenpreise pro Zeile
+     * @param col Index der Spalte
+     * @return y * a
+     */
+    private Fraction dot(Fraction[] prices, int col) {
+        FractionAccumulator sum = new FractionAccumulator();
+
+        for (int index = 0; index < columnRows[col].length; index++) {
+            sum.addProduct(prices[columnRows[col][index]], columnValues[col][index]);
+        }
+
+        return sum.toFraction();
+    }
+
+    /**
+     * Setzt die Zeilen aller Spalten in der Basis anhand von baseVars neu.
+     */
+    private void updateBasisRows() {
+        for (int j = 0; j < numberCols; j++) {
+            basisRow[j] = -1;
+        }
+        for (int i = 0; i < numberRows; i++) {
+            basisRow[baseVars[i]] = i;
+        }
+    }
+
+    /**
+     * @return true, wenn mindestens eine künstliche Variable in der Basis ist
+     */
+    private boolean hasAiVarInBase() {
+        for (int baseVar : baseVars) {
+            if (isAiVar(baseVar)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gibt zurück, ob die Variable an der übergebenen Position eine künstliche Variable ist.
+     *
+     * @param column Die Spalte der Variable
+     * @return true, wenn die Variable eine künstliche Variable ist
+     */
+    private boolean isAiVar(int column) {
+        return column >= numberVars + numberRows;
+    }
+
+}
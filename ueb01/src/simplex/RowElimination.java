@@ -0,0 +1,73 @@
+package simplex;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reduziert einen Bereich von Zeilen eines Tableaus mit der (bereits normierten) Pivotzeile. Die
+ * Zeilen sind voneinander unabhängig, der Bereich wird daher so lange halbiert, bis ein Teil
+ * höchstens die übergebene Anzahl an Zellen enthält, und die Teile werden parallel bearbeitet.
+ *
+ * @author Alexander Loeffler
+ */
+final class RowElimination extends RecursiveAction {
+
+    /** Zu reduzierendes Tableau */
+    private final Tableau table;
+
+    /** Normierte Pivotzeile, wird selbst nicht reduziert */
+    private final int pivotRow;
+
+    /** Pivotspalte */
+    private final int pivotCol;
+
+    /** Erste Zeile des Bereichs */
+    private final int from;
+
+    /** Erste Zeile hinter dem Bereich */
+    private final int to;
+
+    /** Höchstzahl an Zellen, die ein Teil sequentiell bearbeitet */
+    private final int threshold;
+
+    /**
+     * Konstruktor.
+     *
+     * @param table zu reduzierendes Tableau
+     * @param pivotRow normierte Pivotzeile
+     * @param pivotCol Pivotspalte
+     * @param from erste Zeile des Bereichs
+     * @param to erste Zeile hinter dem Bereich
+     * @param threshold Höchstzahl an Zellen, die ein Teil sequentiell bearbeitet
+     * @pre table != null
+     * @pre 0 <= from <= to <= table.getRowCount()
+     * @pre threshold > 0
+     */
+    RowElimination(Tableau table, int pivotRow, int pivotCol, int from, int to, int threshold) {
+        assert table != null;
+        assert 0 <= from && from <= to && to <= table.getRowCount();
+        assert threshold > 0;
+
+        this.table = table;
+        this.pivotRow = pivotRow;
+        this.pivotCol = pivotCol;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from < 2 || (long) (to - from) * table.getColumnCount() <= threshold) {
+            for (int i = from; i < to; i++) {
+                if (i != pivotRow) {
+                    table.eliminate(pivotRow, pivotCol, i);
+                }
+            }
+        } else {
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowElimination(table, pivotRow, pivotCol, from, middle, threshold),
+                    new RowElimination(table, pivotRow, pivotCol, middle, to, threshold));
+        }
+    }
+
+}
@@ -0,0 +1,307 @@
+package simplex;
+
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Sensitivitätsanalyse aus dem optimalen Tableau eines {@link SimplexSolver}: Schattenpreise der
+ * Restriktionen, reduzierte Kosten der Variablen und die Bereiche, in denen sich rechte Seiten und
+ * Zielfunktionskoeffizienten einzeln ändern dürfen, ohne dass die optimale Basis wechselt.
+ * Innerhalb dieser Bereiche ändert sich der Zielfunktionswert um Schattenpreis mal Änderung der
+ * rechten Seite bzw. bleibt die Lösung bei geänderter Zielfunktion optimal, ohne dass neu gelöst
+ * werden muss.
+ *
+ * Alle Werte werden bei der Erstellung aus dem Tableau gelesen und ändern sich danach nicht mehr.
+ * Restriktionen werden wie bei {@link SimplexSolver#getBaseVars()} in der Reihenfolge ihres
+ * Hinzufügens gezählt. Bei einer entarteten optimalen Lösung gelten die Werte für die Basis des
+ * Tableaus, die Bereiche sind dann eventuell kleiner als für eine andere optimale Basis.
+ *
+ * @author Alexander Loeffler
+ */
+public final class SensitivityAnalysis {
+
+    /**
+     * Bereich zulässiger Änderungen eines Werts, in dem die optimale Basis erhalten bleibt. Der
+     * Bereich enthält immer die Änderung 0.
+     */
+    public static final class Range {
+
+        /** Kleinste zulässige Änderung (höchstens 0) oder null, wenn unbeschränkt */
+        private final Fraction minChange;
+
+        /** Größte zulässige Änderung (mindestens 0) oder null, wenn unbeschränkt */
+        private final Fraction maxChange;
+
+        /**
+         * Konstruktor.
+         *
+         * @param minChange kleinste zulässige Änderung oder null
+         * @param maxChange größte zulässige Änderung oder null
+         */
+        private Range(Fraction minChange, Fraction maxChange) {
+            this.minChange = minChange;
+            this.maxChange = maxChange;
+        }
+
+        /**
+         * @return kleinste zulässige Änderung (höchstens 0) oder null, wenn der Wert beliebig
+         *         verringert werden kann
+         */
+        public Fraction getMinChange() {
+            return minChange;
+        }
+
+        /**
+         * @return größte zulässige Änderung (mindestens 0) oder null, wenn der Wert beliebig
+         *         erhöht werden kann
+         */
+        public Fraction getMaxChange() {
+            return maxChange;
+        }
+
+        /**
+         * @param change Änderung des Werts
+         * @return true, wenn die optimale Basis bei dieser Änderung erhalten bleibt
+         * @pre change != null
+         */
+        public boolean contains(Fraction change) {
+            assert change != null;
+
+            return (minChange == null || change.compareTo(minChange) >= 0)
+                    && (maxChange == null || change.compareTo(maxChange) <= 0);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + (minChange == null ? "-inf" : minChange) + ", "
+                    + (maxChange == null ? "inf" : maxChange) + "]";
+        }
+    }
+
+    /** Schattenpreis je Restriktion oder null, wenn nicht bestimmbar */
+    private final Fraction[] dualValues;
+
+    /** Bereich der Änderungen der rechten Seite je Restriktion oder null */
+    private final Range[] rightSideRanges;
+
+    /** Reduzierte Kosten je Variable */
+    private final Fraction[] reducedCosts;
+
+    /** Bereich der Änderungen des Zielfunktionskoeffizienten je Variable */
+    private final Range[] objectiveRanges;
+
+    /** Tableau des Automaten */
+    private final Tableau table;
+
+    /** Indices der Basisvariablen */
+    private final int[] baseVars;
+
+    /** Anzahl der Spalten von Variablen und Schlupfvariablen */
+    private final int regularColumns;
+
+    /** Index der Zielfunktionszeile */
+    private final int objectiveRow;
+
+    /** Index der Spalte der rechten Seite */
+    private final int rightSide;
+
+    /** Vorzeichen, das die Zielfunktionszeile in die Optimierungsrichtung des Problems umrechnet */
+    private final Fraction direction;
+
+    /**
+     * Liest die Analyse aus dem Tableau des übergebenen Automaten.
+     *
+     * @param solver Automat
+     * @pre solver != null
+     * @pre das Tableau von solver ist optimal, z.B. nach einem erfolgreichen
+     *      {@link SimplexSolver#solve()}
+     */
+    public SensitivityAnalysis(SimplexSolver solver) {
+        assert solver != null;
+
+        this.table = solver.getTableau();
+        this.baseVars = solver.getBaseVars().clone();
+        this.regularColumns = solver.getRegularColumnCount();
+        this.objectiveRow = table.getRowCount() - 1;
+        this.rightSide = table.getColumnCount() - 1;
+        this.direction = (solver.getSolveType() == SolveType.MAX) ? Fraction.ONE
+                : Fraction.MINUS_ONE;
+
+        int restrictions = solver.getRestrictionCount();
+        dualValues = new Fraction[restrictions];
+        rightSideRanges = new Range[restrictions];
+        for (int k = 0; k < restrictions; k++) {
+            int col = solver.getIdentityColumn(k);
+
+            if (col != -1) {
+                Fraction sign = new Fraction(solver.getIdentitySign(k));
+                dualValues[k] = table.get(objectiveRow, col).multiplyBy(sign)
+                        .multiplyBy(direction).multiplyBy(Fraction.MINUS_ONE);
+                rightSideRanges[k] = rightSideRange(col, sign);
+            }
+        }
+
+        int variables = solver.getNumberOfVariables();
+        reducedCosts = new Fraction[variables];
+        objectiveRanges = new Range[variables];
+        for (int j = 0; j < variables; j++) {
+            reducedCosts[j] = table.get(objectiveRow, j).multiplyBy(direction);
+            objectiveRanges[j] = objectiveRange(j);
+        }
+    }
+
+    /**
+     * Gibt den Schattenpreis einer Restriktion zurück, d.h. die Änderung des
+     * Zielfunktionswerts je Einheit, um die die rechte Seite erhöht wird.
+     *
+     * @param restriction Index der Restriktion
+     * @return Schattenpreis oder null, wenn die Restriktion keine Einheitsspalte mehr hat (EQ bei
+     *         {@link TableauLayout#COMPACT})
+     * @pre restriction ist ein Index kleiner als die Anzahl der Restriktionen
+     */
+    public Fraction getDualValue(int restriction) {
+        return dualValues[restriction];
+    }
+
+    /**
+     * @return Schattenpreise aller Restriktionen, siehe {@link #getDualValue(int)}
+     */
+    public Fraction[] getDualValues() {
+        return dualValues.clone();
+    }
+
+    /**
+     * Gibt den Bereich zurück, in dem sich die rechte Seite einer Restriktion ändern darf, ohne
+     * dass die optimale Basis unzulässig wird. Innerhalb des Bereichs ändert sich der
+     * Zielfunktionswert um Schattenpreis mal Änderung.
+     *
+     * @param restriction Index der Restriktion
+     * @return Bereich der Änderungen oder null, wenn die Restriktion keine Einheitsspalte mehr hat
+     * @pre restriction ist ein Index kleiner als die Anzahl der Restriktionen
+     */
+    public Range getRightSideRange(int restriction) {
+        return rightSideRanges[restriction];
+    }
+
+    /**
+     * Gibt die reduzierten Kosten einer Variable zurück, d.h. um wie viel sich der
+     * Zielfunktionswert je Einheit ändert, wenn die Variable erzwungen erhöht wird. Für
+     * Basisvariablen ist der Wert 0, bei Maximierung sind die Werte höchstens 0, bei Minimierung
+     * mindestens 0.
+     *
+     * @param variable Index der Variable
+     * @return reduzierte Kosten
+     * @pre variable ist ein Index kleiner als die Anzahl der Variablen
+     */
+    public Fraction getReducedCost(int variable) {
+        return reducedCosts[variable];
+    }
+
+    /**
+     * @return reduzierte Kosten aller Variablen, siehe {@link #getReducedCost(int)}
+     */
+    public Fraction[] getReducedCosts() {
+        return reducedCosts.clone();
+    }
+
+    /**
+     * Gibt den Bereich zurück, in dem sich der Zielfunktionskoeffizient einer Variable ändern
+     * darf, ohne dass die Lösung ihre Optimalität verliert.
+     *
+     * @param variable Index der Variable
+     * @return Bereich der Änderungen
+     * @pre variable ist ein Index kleiner als die Anzahl der Variablen
+     */
+    public Range getObjectiveRange(int variable) {
+        return objectiveRanges[variable];
+    }
+
+    /**
+     * Bestimmt den Bereich der rechten Seite. Die rechte Seite jeder Zeile ändert sich um
+     * {@code sign * delta} mal den Eintrag der Einheitsspalte und muss nicht-negativ bleiben. In
+     * Zeilen mit künstlicher Basisvariable (redundante Restriktionen) muss sie 0 bleiben.
+     *
+     * @param col Einheitsspalte der Restriktion
+     * @param sign Vorzeichen der Einheitsspalte
+     * @return Bereich der Änderungen
+     */
+    private Range rightSideRange(int col, Fraction sign) {
+        Fraction lower = null;
+        Fraction upper = null;
+
+        for (int i = 0; i < baseVars.length; i++) {
+            Fraction entry = table.get(i, col).multiplyBy(sign);
+            if (entry.signum() == 0) {
+                continue;
+            }
+
+            if (baseVars[i] >= regularColumns) {
+                return new Range(Fraction.ZERO, Fraction.ZERO);
+            }
+
+            // rechte Seite + delta * entry >= 0
+            Fraction limit = table.get(i, rightSide).divideBy(entry).multiplyBy(Fraction.MINUS_ONE);
+            if (entry.signum() > 0) {
+                lower = (lower == null || limit.compareTo(lower) > 0) ? limit : lower;
+            } else {
+                upper = (upper == null || limit.compareTo(upper) < 0) ? limit : upper;
+            }
+        }
+
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Bestimmt den Bereich eines Zielfunktionskoeffizienten. Im Tableau bleibt die Basis optimal,
+     * solange kein Eintrag der Zielfunktionszeile positiv wird. Bei einer Nichtbasisvariable
+     * ändert sich nur ihr eigener Eintrag, bei einer Basisvariable in Zeile r ändert sich der
+     * Eintrag jeder Nichtbasisspalte k um {@code -delta * table[r][k]}.
+     *
+     * @param variable Index der Variable
+     * @return Bereich der Änderungen in der Optimierungsrichtung des Problems
+     */
+    private Range objectiveRange(int variable) {
+        int row = -1;
+        for (int i = 0; i < baseVars.length; i++) {
+            if (baseVars[i] == variable) {
+                row = i;
+            }
+        }
+
+        Fraction lower = null;
+        Fraction upper = null;
+
+        if (row == -1) {
+            upper = table.get(objectiveRow, variable).multiplyBy(Fraction.MINUS_ONE);
+        } else {
+            for (int k = 0; k < regularColumns; k++) {
+                Fraction entry = table.get(row, k);
+                if (k == variable || entry.signum() == 0) {
+                    continue;
+                }
+
+                // Eintrag der Zielfunktionszeile - delta * entry <= 0
+                Fraction limit = table.get(objectiveRow, k).divideBy(entry);
+                if (entry.signum() > 0) {
+                    lower = (lower == null || limit.compareTo(lower) > 0) ? limit : lower;
+                } else {
+                    upper = (upper == null || limit.compareTo(upper) < 0) ? limit : upper;
+                }
+            }
+        }
+
+        // Bei Minimierung steht die negierte Zielfunktion im Tableau
+        if (direction.signum() < 0) {
+            return new Range(negate(upper), negate(lower));
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * @param value Bruch oder null
+     * @return negierter Bruch oder null
+     */
+    private static Fraction negate(Fraction value) {
+        return (value == null) ? null : value.multiplyBy(Fraction.MINUS_ONE);
+    }
+
+}
@@ -1,6 +1,10 @@
 package simplex;
 
-import simplex.LinearProgram.Restriction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
 import simplex.LinearProgram.Restriction.Type;
 import simplex.LinearProgram.SolveType;
 
@@ -11,8 +15,110 @@ import simplex.LinearProgram.SolveType;
  * 
  */
 public class SimplexSolver {
+
+    /** Anzahl der Werte je Restriktion in {@link #getConstraintColumns()} */
+    static final int CONSTRAINT_FIELDS = 4;
+
+    /**
+     * Spalten, die zu einer Restriktion gehören. Die Einheitsspalte ist die Spalte, die im
+     * Ausgangstableau nur in der Zeile der Restriktion eine 1 hat (Schlupfvariable bei LE,
+     * künstliche Variable bei GE und EQ). Im aktuellen Tableau steht in ihr daher, wie sich eine
+     * Änderung der rechten Seite der Restriktion auf die Zeilen auswirkt. Werden die künstlichen
+     * Variablen entfernt (siehe {@link TableauLayout#COMPACT}), übernimmt bei GE die
+     * Schlupfvariable mit umgekehrtem Vorzeichen diese Rolle.
+     */
+    private static final class Constraint {
+
+        /** Spalte der Schlupfvariable oder -1, wenn die Restriktion keine hat */
+        private int slackCol;
+
+        /** Spalte der künstlichen Variable oder -1, wenn die Restriktion keine hat */
+        private int aiCol;
+
+        /** Einheitsspalte der Restriktion oder -1, wenn sie keine mehr hat */
+        private int identityCol;
+
+        /** -1, wenn die Einheitsspalte in der abgelegten Zeile -1 statt 1 enthält, sonst 1 */
+        private int sign;
+
+        /**
+         * Konstruktor.
+         * 
+         * @param slackCol Spalte der Schlupfvariable oder -1
+         * @param aiCol Spalte der künstlichen Variable oder -1
+         * @param identityCol Einheitsspalte
+         * @param sign Vorzeichen, mit dem die Zeile abgelegt ist
+         */
+        private Constraint(int slackCol, int aiCol, int identityCol, int sign) {
+            this.slackCol = slackCol;
+            this.aiCol = aiCol;
+            this.identityCol = identityCol;
+            this.sign = sign;
+        }
+
+        /**
+         * Überträgt die Spalten auf neue Indices.
+         * 
+         * @param colMap neuer Index je bisherigem Index
+         */
+        private void remap(int[] colMap) {
+            slackCol = (slackCol == -1) ? -1 : colMap[slackCol];
+            aiCol = (aiCol == -1) ? -1 : colMap[aiCol];
+            identityCol = (identityCol == -1) ? -1 : colMap[identityCol];
+        }
+
+        /**
+         * @return unabhängige Kopie der Spalten
+         */
+        private Constraint copy() {
+            return new Constraint(slackCol, aiCol, identityCol, sign);
+        }
+    }
+
+    /**
+     * Kopie des Tableaus samt Basis und Spaltenaufteilung, um nach einem verworfenen
+     * Lösungsversuch neu zu beginnen.
+     */
+    static final class Snapshot {
+
+        /** Zellen des Tableaus */
+        private final Fraction[][] cells;
+
+        /** Indices der Basisvariablen */
+        private final int[] baseVars;
+
+        /** Anzahl der Schlupfvariablen */
+        private final int numberSVars;
+
+        /** Anzahl der künstlichen Variablen */
+        private final int numberAiVars;
+
+        /** Kopien der Spalten der Restriktionen */
+        private final List<Constraint> constraints = new ArrayList<>();
+
+        /**
+         * Konstruktor.
+         * 
+         * @param cells Zellen des Tableaus
+         * @param baseVars Indices der Basisvariablen (wird kopiert)
+         * @param numberSVars Anzahl der Schlupfvariablen
+         * @param numberAiVars Anzahl der künstlichen Variablen
+         * @param constraints Spalten der Restriktionen (werden kopiert)
+         */
+        private Snapshot(Fraction[][] cells, int[] baseVars, int numberSVars, int numberAiVars,
+                List<Constraint> constraints) {
+            this.cells = cells;
+            this.baseVars = baseVars.clone();
+            this.numberSVars = numberSVars;
+            this.numberAiVars = numberAiVars;
+            for (Constraint constraint : constraints) {
+                this.constraints.add(constraint.copy());
+            }
+        }
+    }
+
     /** Simplex-Tableau mit den Zeilen in der ersten und den Spalten in der zweiten Dimension */
-    private Fraction[][] table;
+    private Tableau table;
 
     /** Indices der Basisvariablen */
     private int[] baseVars;
@@ -25,315 +131,1631 @@ public class SimplexSolver {
     private int numberOfCols = -1;
     private SolveType solveType;
 
+    /** Speicherform des Tableaus, wird beim Hinzufügen von Restriktionen wiederverwendet */
+    private TableauType tableauType;
+
+    /** Aufteilung der Spalten auf Schlupfvariablen und künstliche Variablen */
+    private final TableauLayout layout;
+
+    /** Beobachter der Simplexschritte */
+    private SolverListener listener;
+
+    /** Regel für die Wahl der Pivotspalte */
+    private PricingStrategy pricingStrategy = PricingStrategy.DANTZIG;
+
+    /** Spaltenwahl nach {@link #pricingStrategy} */
+    private Pricer pricer = pricingStrategy.create();
+
+    /** Regel, auf die nach einem erkannten Zyklus umgeschaltet wird */
+    private AntiCyclingRule antiCyclingRule = AntiCyclingRule.BLAND;
+
+    /** true, wenn {@link #solve()} die rechten Seiten vor dem Lösen stört */
+    private boolean perturbation;
+
+    /** Anzahl der bisher erkannten Zyklen */
+    private int cyclesDetected;
+
+    /** Pool für die parallele Reduktion der Zeilen oder null für sequentielle Reduktion */
+    private ForkJoinPool eliminationPool;
+
+    /** Mindestanzahl an Zellen, ab der die Zeilen parallel reduziert werden */
+    private int parallelThreshold;
+
+    /** Anzahl der bisher ausgeführten Simplexschritte */
+    private int iterations;
+
+    /** Beim letzten Warmstart direkt in die Basis pivotisierte neue Spalten */
+    private int installedBasisColumns;
+
+    /** Anzahl der ineinander laufenden Lösungsvorgänge, nur der äußerste wird gemeldet */
+    private int solveDepth;
+
+    /** Grenzen des laufenden Lösungsvorgangs mit {@link SolveConfig} oder null */
+    private SolveLimits limits;
+
+    /** Spalten der Restriktionen in der Reihenfolge ihres Hinzufügens */
+    private final List<Constraint> constraints = new ArrayList<>();
+
+    /**
+     * Erstellt einen Automaten aus dem übergebenen linearen Optimierungsproblem. Der Automat
+     * verbleibt im Ausgangstableau, d.h. es werden noch keine Optimierungsschritte durchgeführt.
+     * 
+     * @param lp lineares Problem, das optimiert werden soll
+     * @pre lp != null
+     */
+    public SimplexSolver(LinearProgram lp) {
+        this(lp, TableauType.FRACTION);
+    }
+
+    /**
+     * Erstellt einen Automaten aus dem übergebenen linearen Optimierungsproblem, dessen Tableau in
+     * der übergebenen Speicherform abgelegt wird. Der Automat verbleibt im Ausgangstableau.
+     * 
+     * @param lp lineares Problem, das optimiert werden soll
+     * @param type Speicherform des Tableaus
+     * @pre lp != null
+     * @pre type != null
+     */
+    public SimplexSolver(LinearProgram lp, TableauType type) {
+        this(SparseLinearProgram.of(lp), type);
+    }
+
+    /**
+     * Erstellt einen Automaten aus dem übergebenen linearen Optimierungsproblem, dessen Schritte
+     * an den übergebenen Beobachter gemeldet werden. Der Automat verbleibt im Ausgangstableau.
+     * 
+     * @param lp lineares Problem, das optimiert werden soll
+     * @param type Speicherform des Tableaus
+     * @param listener Beobachter der Simplexschritte
+     * @pre lp != null
+     * @pre type != null
+     * @pre listener != null
+     */
+    public SimplexSolver(LinearProgram lp, TableauType type, SolverListener listener) {
+        this(SparseLinearProgram.of(lp), type, listener);
+    }
+
+    /**
+     * Erstellt einen Automaten aus dem übergebenen dünn besetzten linearen Optimierungsproblem,
+     * dessen Tableau in der übergebenen Speicherform abgelegt wird. Es werden nur die Zellen
+     * ungleich 0 gesetzt, mit {@link TableauType#SPARSE} wächst der Speicherbedarf daher nur mit
+     * der Anzahl der Koeffizienten. Der Automat verbleibt im Ausgangstableau.
+     * 
+     * @param lp dünn besetztes lineares Problem, das optimiert werden soll
+     * @param type Speicherform des Tableaus
+     * @pre lp != null
+     * @pre type != null
+     */
+    public SimplexSolver(SparseLinearProgram lp, TableauType type) {
+        this(lp, type, SolverListener.NOOP);
+    }
+
+    /**
+     * Erstellt einen Automaten aus dem übergebenen dünn besetzten linearen Optimierungsproblem,
+     * dessen Schritte an den übergebenen Beobachter gemeldet werden. Der Beobachter erhält bereits
+     * das Ereignis {@link SolverListener#tableauCreated(SimplexSolver)}. Der Automat verbleibt im
+     * Ausgangstableau.
+     * 
+     * @param lp dünn besetztes lineares Problem, das optimiert werden soll
+     * @param type Speicherform des Tableaus
+     * @param listener Beobachter der Simplexschritte
+     * @pre lp != null
+     * @pre type != null
+     * @pre listener != null
+     */
+    public SimplexSolver(SparseLinearProgram lp, TableauType type, SolverListener listener) {
+        this(lp, type, TableauLayout.FULL, listener);
+    }
+
+    /**
+     * Erstellt einen Automaten wie
+     * {@link #SimplexSolver(SparseLinearProgram, TableauType, SolverListener)}, dessen Tableau
+     * die Spalten nach dem übergebenen Layout aufteilt. Mit {@link TableauLayout#COMPACT} ist das
+     * Tableau bei vielen LE-Restriktionen deutlich schmaler, die Indices von
+     * {@link #getBaseVars()} und die Spalten von {@link #getTable()} beziehen sich dann auf
+     * dieses schmalere Tableau.
+     * 
+     * @param lp dünn besetztes lineares Problem, das optimiert werden soll
+     * @param type Speicherform des Tableaus
+     * @param layout Aufteilung der Spalten
+     * @param listener Beobachter der Simplexschritte
+     * @pre lp != null
+     * @pre type != null
+     * @pre layout != null
+     * @pre listener != null
+     */
+    public SimplexSolver(SparseLinearProgram lp, TableauType type, TableauLayout layout,
+            SolverListener listener) {
+        this(lp, type, layout, listener, null);
+    }
+
+    /**
+     * Erstellt einen Automaten wie
+     * {@link #SimplexSolver(SparseLinearProgram, TableauType, TableauLayout, SolverListener)},
+     * der ein bereits vorhandenes Tableau wiederverwendet, sofern dessen Größe passt. Das Tableau
+     * wird dabei geleert und darf von keinem anderen Automaten mehr benutzt werden.
+     * 
+     * @param lp dünn besetztes lineares Problem, das optimiert werden soll
+     * @param type Speicherform des Tableaus
+     * @param layout Aufteilung der Spalten
+     * @param listener Beobachter der Simplexschritte
+     * @param scratch wiederzuverwendendes Tableau der Speicherform type oder null
+     * @pre lp != null
+     * @pre type != null
+     * @pre layout != null
+     * @pre listener != null
+     */
+    SimplexSolver(SparseLinearProgram lp, TableauType type, TableauLayout layout,
+            SolverListener listener, Tableau scratch) {
+        assert lp != null;
+        assert type != null;
+        assert layout != null;
+        assert listener != null;
+
+        this.listener = listener;
+        this.tableauType = type;
+        this.layout = layout;
+
+        // Klassenvariablen initialisieren
+        SparseLinearProgram.Restriction[] restrictions = lp.getRestrictions();
+        Fraction[] objectiveTerm = lp.getObjectiveTerm();
+
+        solveType = lp.getSolveType();
+
+        numberAiVars = restrictions.length;
+        numberSVars = numberAiVars;
+        numberVars = lp.getNumberOfVariables();
+        if (layout == TableauLayout.COMPACT) {
+            numberSVars = restrictions.length - countRestrictions(restrictions, Type.EQ);
+            numberAiVars = restrictions.length - countRestrictions(restrictions, Type.LE);
+        }
+
+        // Table und Base initialisieren
+        numberOfRows = restrictions.length + 1;
+        numberOfCols = numberVars + numberSVars + numberAiVars + 1;
+        if (scratch != null && scratch.getRowCount() == numberOfRows
+                && scratch.getColumnCount() == numberOfCols) {
+            scratch.clear();
+            table = scratch;
+        } else {
+            table = type.create(numberOfRows, numberOfCols);
+        }
+        baseVars = new int[restrictions.length];
+        int nextSlackCol = numberVars;
+        int nextAiCol = numberVars + numberSVars;
+        boolean compact = layout == TableauLayout.COMPACT;
+
+        // Die Zellen sind mit 0 vorbelegt, es werden nur die Werte ungleich 0 eingetragen
+        for (int i = 0; i < restrictions.length; i++) {
+            int[] indices = restrictions[i].getIndices();
+            Fraction[] coefficients = restrictions[i].getCoefficients();
+            Type currentType = restrictions[i].getType();
+            int slackCol = (compact && currentType == Type.EQ) ? -1 : nextSlackCol++;
+            int aiCol = (compact && currentType == Type.LE) ? -1 : nextAiCol++;
+
+            for (int k = 0; k < indices.length; k++) {
+                table.set(i, indices[k], coefficients[k]);
+            }
+
+            // Schlupfvariable abhaengig vom Typ, bei LE ist sie Basisvariable
+            if (currentType == Type.LE) {
+                table.set(i, slackCol, Fraction.ONE);
+                baseVars[i] = slackCol;
+            } else if (currentType == Type.GE) {
+                table.set(i, slackCol, Fraction.MINUS_ONE);
+            }
+
+            // Kuenstliche Variable fuer GE und EQ, sie ist dann Basisvariable
+            if (currentType == Type.GE || currentType == Type.EQ) {
+                table.set(i, aiCol, Fraction.ONE);
+                baseVars[i] = aiCol;
+            }
+
+            table.set(i, numberOfCols - 1, restrictions[i].getRightSide());
+            constraints.add(new Constraint(slackCol, aiCol,
+                    (currentType == Type.LE) ? slackCol : aiCol, 1));
+        }
+
+        // Wenn wir ein Minimirungproblem haben Zielfunktion umkehren
+        for (int j = 0; j < numberVars; j++) {
+            table.set(numberOfRows - 1, j, (solveType == SolveType.MIN)
+                    ? objectiveTerm[j].multiplyBy(Fraction.MINUS_ONE) : objectiveTerm[j]);
+        }
+
+        listener.tableauCreated(this);
+    }
+
+    /**
+     * Erstellt eine unabhängige Kopie eines Automaten im aktuellen Tableau. Einstellungen,
+     * Beobachter und die Grenzen eines laufenden Lösungsvorgangs mit {@link SolveConfig} werden
+     * übernommen, Gewichte der Spaltenwahl und Zähler beginnen neu. Die Grenzen gelten für die
+     * Kopie, bis sie selbst mit einer {@link SolveConfig} gelöst wird.
+     * 
+     * @param other zu kopierender Automat
+     */
+    private SimplexSolver(SimplexSolver other) {
+        this.listener = other.listener;
+        this.tableauType = other.tableauType;
+        this.layout = other.layout;
+        this.solveType = other.solveType;
+        this.numberVars = other.numberVars;
+        this.numberSVars = other.numberSVars;
+        this.numberAiVars = other.numberAiVars;
+        this.numberOfRows = other.numberOfRows;
+        this.numberOfCols = other.numberOfCols;
+        this.table = tableauType.create(numberOfRows, numberOfCols);
+        this.baseVars = other.baseVars.clone();
+        this.antiCyclingRule = other.antiCyclingRule;
+        this.perturbation = other.perturbation;
+        this.eliminationPool = other.eliminationPool;
+        this.parallelThreshold = other.parallelThreshold;
+        this.limits = (other.limits == null) ? null : other.limits.copy(other.iterations,
+                iterations);
+        setPricingStrategy(other.pricingStrategy);
+
+        for (int i = 0; i < numberOfRows; i++) {
+            for (int j = 0; j < numberOfCols; j++) {
+                if (other.table.signum(i, j) != 0) {
+                    table.set(i, j, other.table.get(i, j));
+                }
+            }
+        }
+
+        for (Constraint constraint : other.constraints) {
+            constraints.add(constraint.copy());
+        }
+    }
+
+    /**
+     * Setzt einen gespeicherten Automaten fort, siehe {@link TableauCheckpoint}. Die Anzahl der
+     * künstlichen Variablen ergibt sich aus der Breite des Tableaus.
+     * 
+     * @param type Speicherform des Tableaus
+     * @param layout Aufteilung der Spalten
+     * @param solveType Optimierungsrichtung
+     * @param numberVars Anzahl der Variablen
+     * @param numberSVars Anzahl der Schlupfvariablen
+     * @param table Tableau in der Speicherform type
+     * @param baseVars Indices der Basisvariablen
+     * @param columns Spalten der Restriktionen wie in {@link #getConstraintColumns()}
+     * @param iterations bisher ausgeführte Simplexschritte
+     * @pre baseVars.length == table.getRowCount() - 1
+     */
+    SimplexSolver(TableauType type, TableauLayout layout, SolveType solveType, int numberVars,
+            int numberSVars, Tableau table, int[] baseVars, int[] columns, int iterations) {
+        assert baseVars.length == table.getRowCount() - 1;
+
+        this.listener = SolverListener.NOOP;
+        this.tableauType = type;
+        this.layout = layout;
+        this.solveType = solveType;
+        this.numberVars = numberVars;
+        this.numberSVars = numberSVars;
+        this.numberOfRows = table.getRowCount();
+        this.numberOfCols = table.getColumnCount();
+        this.numberAiVars = numberOfCols - 1 - numberVars - numberSVars;
+        this.table = table;
+        this.baseVars = baseVars;
+        this.iterations = iterations;
+
+        for (int k = 0; k < columns.length; k += CONSTRAINT_FIELDS) {
+            constraints.add(new Constraint(columns[k], columns[k + 1], columns[k + 2],
+                    columns[k + CONSTRAINT_FIELDS - 1]));
+        }
+    }
+
+    /**
+     * Zählt die Restriktionen eines Typs.
+     * 
+     * @param restrictions Restriktionen
+     * @param type gesuchter Typ
+     * @return Anzahl der Restriktionen vom Typ type
+     */
+    private static int countRestrictions(SparseLinearProgram.Restriction[] restrictions,
+            Type type) {
+        int count = 0;
+        for (SparseLinearProgram.Restriction restriction : restrictions) {
+            if (restriction.getType() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gibt das Simplex-Tableau zurück. Bei der Speicherform {@link TableauType#FRACTION} ist das
+     * eine Referenz auf das Tableau, bei {@link TableauType#PRIMITIVE} und
+     * {@link TableauType#SPARSE} wird bei jedem Aufruf eine neue Matrix erzeugt.
+     * 
+     * @return Simplex-Tableau
+     */
+    public Fraction[][] getTable() {
+        return this.table.toFractions();
+    }
+
+    /**
+     * @return Aufteilung der Spalten des Tableaus
+     */
+    public TableauLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return das Tableau selbst, z.B. um es für einen weiteren Automaten wiederzuverwenden
+     */
+    Tableau getTableau() {
+        return table;
+    }
+
+    /**
+     * @return Speicherform des Tableaus
+     */
+    TableauType getTableauType() {
+        return tableauType;
+    }
+
+    /**
+     * Gibt eine unabhängige Kopie des Automaten im aktuellen Tableau zurück, z.B. um einen
+     * gelösten Automaten mit unterschiedlichen zusätzlichen Restriktionen fortzusetzen.
+     * 
+     * @return Kopie mit eigenem Tableau
+     */
+    SimplexSolver copy() {
+        return new SimplexSolver(this);
+    }
+
+    /**
+     * @return Optimierungsrichtung des Problems
+     */
+    SolveType getSolveType() {
+        return solveType;
+    }
+
+    /**
+     * @return Anzahl der Variablen
+     */
+    int getNumberOfVariables() {
+        return numberVars;
+    }
+
+    /**
+     * @return Anzahl der Spalten von Variablen und Schlupfvariablen, die künstlichen Variablen
+     *         folgen dahinter
+     */
+    int getRegularColumnCount() {
+        return numberVars + numberSVars;
+    }
+
+    /**
+     * @return Anzahl der Spalten künstlicher Variablen
+     */
+    int getArtificialColumnCount() {
+        return numberAiVars;
+    }
+
+    /**
+     * @return Anzahl der Restriktionen (eine EQ-Restriktion aus
+     *         {@link #addRestriction(SparseLinearProgram.Restriction)} zählt doppelt)
+     */
+    int getRestrictionCount() {
+        return constraints.size();
+    }
+
+    /**
+     * Gibt die Einheitsspalte einer Restriktion zurück. Eine Änderung der rechten Seite der
+     * Restriktion um delta ändert die rechte Seite jeder Zeile um
+     * {@code getIdentitySign(restriction) * delta} mal den Eintrag dieser Spalte.
+     * 
+     * @param restriction Index der Restriktion in der Reihenfolge ihres Hinzufügens
+     * @return Index der Spalte oder -1, wenn die Restriktion keine mehr hat (siehe
+     *         {@link TableauLayout#COMPACT})
+     * @pre 0 <= restriction < getRestrictionCount()
+     */
+    int getIdentityColumn(int restriction) {
+        return constraints.get(restriction).identityCol;
+    }
+
+    /**
+     * @param restriction Index der Restriktion in der Reihenfolge ihres Hinzufügens
+     * @return Vorzeichen der Einheitsspalte, siehe {@link #getIdentityColumn(int)}
+     * @pre 0 <= restriction < getRestrictionCount()
+     */
+    int getIdentitySign(int restriction) {
+        return constraints.get(restriction).sign;
+    }
+
+    /**
+     * @param restriction Index der Restriktion in der Reihenfolge ihres Hinzufügens
+     * @return Spalte der Schlupfvariable der Restriktion oder -1, wenn sie keine hat
+     * @pre 0 <= restriction < getRestrictionCount()
+     */
+    int getSlackColumn(int restriction) {
+        return constraints.get(restriction).slackCol;
+    }
+
+    /**
+     * @return je Restriktion Schlupfspalte, künstliche Spalte, Einheitsspalte und Vorzeichen,
+     *         jeweils {@link #CONSTRAINT_FIELDS} Werte hintereinander
+     */
+    int[] getConstraintColumns() {
+        int[] columns = new int[constraints.size() * CONSTRAINT_FIELDS];
+        int k = 0;
+        for (Constraint constraint : constraints) {
+            columns[k++] = constraint.slackCol;
+            columns[k++] = constraint.aiCol;
+            columns[k++] = constraint.identityCol;
+            columns[k++] = constraint.sign;
+        }
+        return columns;
+    }
+
+    /**
+     * Gibt eine Referenz auf die Indices der Basisvariablen zurück.
+     * 
+     * @return Referenz auf die Indices der Basisvariablen
+     */
+    public int[] getBaseVars() {
+        return this.baseVars;
+    }
+
+    /**
+     * Setzt den Beobachter, an den die folgenden Simplexschritte gemeldet werden.
+     * 
+     * @param listener neuer Beobachter, {@link SolverListener#NOOP} für keine Meldungen
+     * @pre listener != null
+     */
+    public void setListener(SolverListener listener) {
+        assert listener != null;
+
+        this.listener = listener;
+    }
+
+    /**
+     * Ergänzt einen Beobachter, der nach den bisherigen Beobachtern benachrichtigt wird.
+     * 
+     * @param added zusätzlicher Beobachter
+     * @pre added != null
+     */
+    public void addListener(SolverListener added) {
+        assert added != null;
+
+        this.listener = (listener == SolverListener.NOOP) ? added : SolverListener.of(listener,
+                added);
+    }
+
+    /**
+     * @return Beobachter der Simplexschritte
+     */
+    SolverListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Setzt die Regel, nach der {@link #solve()} die Pivotspalte wählt. Gewichte einer vorherigen
+     * Regel werden verworfen.
+     * 
+     * @param strategy neue Regel, {@link PricingStrategy#DANTZIG} entspricht der ursprünglichen
+     *            Spaltenwahl
+     * @pre strategy != null
+     */
+    public void setPricingStrategy(PricingStrategy strategy) {
+        assert strategy != null;
+
+        this.pricingStrategy = strategy;
+        this.pricer = strategy.create();
+    }
+
+    /**
+     * @return Regel, nach der die Pivotspalte gewählt wird
+     */
+    public PricingStrategy getPricingStrategy() {
+        return pricingStrategy;
+    }
+
+    /**
+     * Setzt die Regel, auf die {@link #solve()} und {@link #solveDual()} umschalten, wenn sie
+     * während entarteter Simplexschritte eine bereits besuchte Basis erreichen.
+     * 
+     * @param rule neue Regel, Voreinstellung ist {@link AntiCyclingRule#BLAND}
+     * @pre rule != null
+     */
+    public void setAntiCyclingRule(AntiCyclingRule rule) {
+        assert rule != null;
+
+        this.antiCyclingRule = rule;
+    }
+
+    /**
+     * @return Regel, auf die nach einem erkannten Zyklus umgeschaltet wird
+     */
+    public AntiCyclingRule getAntiCyclingRule() {
+        return antiCyclingRule;
+    }
+
+    /**
+     * Schaltet die Störung der rechten Seiten ein oder aus. Ist sie eingeschaltet, erhöht
+     * {@link #solve()} die rechte Seite der k-ten Restriktion (ab 1 gezählt) vor dem Lösen um
+     * 1/(1000 k), so dass entartete Ecken und damit Zyklen kaum noch auftreten. Nach dem Lösen wird
+     * die Störung entfernt und die Zulässigkeit bei Bedarf mit {@link #solveDual()}
+     * wiederhergestellt. Scheitert das gestörte Problem, wird das ungestörte Problem vom
+     * Ausgangstableau aus gelöst. Das Ergebnis ist in jedem Fall exakt.
+     * 
+     * @param enabled true, um die rechten Seiten zu stören
+     */
+    public void setPerturbation(boolean enabled) {
+        this.perturbation = enabled;
+    }
+
+    /**
+     * @return true, wenn die rechten Seiten vor dem Lösen gestört werden
+     */
+    public boolean isPerturbation() {
+        return perturbation;
+    }
+
+    /**
+     * Gibt die Anzahl der Zyklen zurück, die beim bisherigen Lösen erkannt und durch
+     * Umschalten auf die {@link AntiCyclingRule} aufgelöst wurden. Wiederholt sich trotz der
+     * Regel eine Basis und wird deshalb auf {@link AntiCyclingRule#BLAND} umgeschaltet, zählt
+     * das als weiterer Zyklus.
+     * 
+     * @return Anzahl erkannter Zyklen
+     */
+    public int getCyclesDetected() {
+        return cyclesDetected;
+    }
+
+    /**
+     * Zählt einen erkannten und aufgelösten Zyklus.
+     */
+    void countCycle() {
+        cyclesDetected++;
+    }
+
+    /**
+     * Schaltet die parallele Reduktion der Zeilen ein. Bei jedem Pivotschritt werden die Zeilen
+     * außerhalb der Pivotzeile dann auf Aufgaben im übergebenen Pool verteilt, sofern das
+     * Tableau mindestens threshold Zellen hat. Jede Aufgabe bearbeitet höchstens threshold Zellen.
+     * Kleinere Tableaus werden weiterhin sequentiell reduziert, da sich dort der Aufwand für das
+     * Verteilen nicht lohnt.
+     * 
+     * @param pool Pool für die Aufgaben, z.B. {@link ForkJoinPool#commonPool()}, oder null für
+     *            sequentielle Reduktion
+     * @param threshold Mindestanzahl an Zellen für die parallele Reduktion
+     * @pre threshold > 0
+     */
+    public void setParallelElimination(ForkJoinPool pool, int threshold) {
+        assert threshold > 0;
+
+        this.eliminationPool = pool;
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * Gibt zurück, ob das aktuelle Simplex-Tableau eine gültige Lösung repräsentiert. Künstliche
+     * Basisvariablen in Zeilen, die bei Variablen, Schlupfvariablen und rechter Seite nur Nullen
+     * enthalten (redundante Restriktionen), stehen dem nicht entgegen, da sie stets 0 bleiben.
+     * 
+     * @return true, wenn die aktuelle Lösung gültig ist, ansonsten false
+     */
+    public boolean isValidSolution() {
+
+        for (int i = 0; i < baseVars.length; i++) {
+
+            if (hasAiVarInBase(i) && !isRedundant(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Versucht, das lineare Optimierungsproblem zu lösen. Führt dazu - wenn nötig - wiederholt
+     * einen Simplexschritt aus, bis das Tableau eine optimale Lösung anzeigt oder es sich als
+     * unlösbar erweist. Bei einer optimalen Lösung werden die Koeffizienten und der Wert der
+     * Zielfunktion zurückgegeben, andernfalls die null-Referenz.
+     * 
+     * Erreicht der Automat während entarteter Simplexschritte eine bereits besuchte Basis, schaltet
+     * er bis zum nächsten nicht entarteten Schritt auf die {@link AntiCyclingRule} um, so dass
+     * das Lösen immer endet.
+     * 
+     * @return optimale Koeffizienten und Wert der Zielfunktion (in gegebener Reihenfolge, also x1,
+     *         x2, ..., xn, z) oder null, wenn unlösbar
+     */
+    public Fraction[] solve() {
+        return report(() -> perturbation ? new Perturbation(this).solve() : iterate());
+    }
+
+    /**
+     * Löst das Problem wie {@link #solve()}, prüft aber vor jedem primalen und dualen
+     * Simplexschritt die Grenzen der Konfiguration und ob der Thread unterbrochen wurde. Wird
+     * abgebrochen, bleibt der Automat im zuletzt erreichten Tableau (bei
+     * {@link #setPerturbation(boolean)} nach Entfernen der Störung, die Basis ist dann eventuell
+     * unzulässig und das Ergebnis enthält keine Lösung).
+     * 
+     * @param config Grenzen des Lösungsvorgangs
+     * @return Status, Lösung und zuletzt erreichte Basis
+     * @pre config != null
+     */
+    public SolveResult solve(SolveConfig config) {
+        assert config != null;
+
+        return solveWithin(config, this::solve);
+    }
+
+    /**
+     * Führt einen Lösungsvorgang innerhalb der Grenzen einer Konfiguration aus.
+     * 
+     * @param config Grenzen des Lösungsvorgangs
+     * @param run Lösungsvorgang, gibt die optimale Lösung oder null zurück
+     * @return Status, Lösung und zuletzt erreichte Basis
+     */
+    private SolveResult solveWithin(SolveConfig config, Supplier<Fraction[]> run) {
+        limits = new SolveLimits(config, iterations);
+        try {
+            Fraction[] result = run.get();
+            SolveResult.Status status = limits.getReached();
+            if (status == null) {
+
+                // Ohne Pivotzeile endet nur Phase 2, ohne Pivotspalte nur Phase 1 und der duale
+                // Simplex, der dabei eine negative rechte Seite hinterlaesst
+                status = (result != null) ? SolveResult.Status.OPTIMAL
+                        : (isValidSolution() && DualSimplex.choosePivotRow(table) == -1)
+                                ? SolveResult.Status.UNBOUNDED
+                                : SolveResult.Status.INFEASIBLE;
+            } else if (isFeasible()) {
+                result = collectResult();
+            }
+            return new SolveResult(status, result, baseVars, iterations);
+        } finally {
+            limits = null;
+        }
+    }
+
+    /**
+     * Prüft vor einem Simplexschritt die Grenzen des laufenden Lösungsvorgangs.
+     * 
+     * @return true, wenn eine Grenze erreicht ist und abgebrochen werden muss, false auch dann,
+     *         wenn ohne {@link SolveConfig} gelöst wird
+     */
+    boolean checkLimits() {
+        return limits != null && limits.isReached(iterations);
+    }
+
+    /**
+     * @return true, wenn der laufende Lösungsvorgang an einer Grenze abgebrochen wurde
+     */
+    boolean isLimitReached() {
+        return limits != null && limits.getReached() != null;
+    }
+
+    /**
+     * Führt Simplexschritte aus, bis das Tableau optimal ist oder sich als unlösbar erweist.
+     * 
+     * @return optimale Koeffizienten und Wert der Zielfunktion oder null, wenn unlösbar
+     */
+    Fraction[] iterate() {
+        CycleDetector detector = new CycleDetector();
+        int index = 1;
+        int phase = reportPhase(0);
+        dropArtificialColumns();
+
+        // Wenn die Loesung nicht gueltig ist oder die letze Zeile positive Werte hat wiederhole
+        // Simplex Schritte
+        while (!isValidSolution() || lastTableRowHasPositiveFraction()) {
+            if (checkLimits()) {
+                return null;
+            }
+
+            listener.iterationStarted(this, index);
+
+            // Waehle Pivotspalte und -zeile aus. Hat Phase I keinen Kandidaten mehr, wird eine
+            // kuenstliche Variable auf Hoehe 0 entartet aus der Basis gedraengt
+            AntiCyclingRule rule = detector.isEscalated() ? AntiCyclingRule.BLAND
+                    : antiCyclingRule;
+            pivotCol = choosePivotColumn(detector.isActive() && rule == AntiCyclingRule.BLAND);
+            if (pivotCol == -1) {
+                pivotRow = chooseArtificialRow();
+                pivotCol = (pivotRow == -1) ? -1 : firstNonZeroColumn(pivotRow);
+            } else {
+                pivotRow = detector.isActive() ? chooseAntiCyclingPivotRow(rule)
+                        : choosePivotRow();
+            }
+
+            listener.pivotColumnSelected(this, pivotCol);
+            if (pivotCol == -1) {
+                return null;
+            }
+
+            listener.pivotRowSelected(this, pivotRow);
+            if (pivotRow == -1) {
+                return null;
+            }
+
+            boolean degenerate = table.signum(pivotRow, numberOfCols - 1) == 0;
+            exchange(pivotRow, pivotCol);
+            if (detector.pivoted(baseVars, degenerate)) {
+                countCycle();
+            }
+
+            phase = reportPhase(phase);
+            if (dropArtificialColumns()) {
+
+                // Die Spaltenindices der bisher besuchten Basen haben sich verschoben
+                detector = new CycleDetector();
+            }
+            index++;
+        }
+
+        return collectResult();
+    }
+
+    /**
+     * Führt einen Lösungsvorgang aus und meldet ihn den Beobachtern. Nur der äußerste Vorgang wird
+     * mit {@link SolverListener#solveStarted(SimplexSolver)} und
+     * {@link SolverListener#solved(SimplexSolver, Fraction[])} gemeldet, Lösungsvorgänge innerhalb
+     * eines anderen (z.B. nach dem Entfernen der Störung oder nach einer verworfenen Startbasis)
+     * gehören zu diesem. Endet der Vorgang mit einer Ausnahme, wird kein Ende gemeldet.
+     * 
+     * @param run Lösungsvorgang, gibt die optimale Lösung oder null zurück
+     * @return Ergebnis des Lösungsvorgangs
+     */
+    private Fraction[] report(Supplier<Fraction[]> run) {
+        boolean outermost = solveDepth++ == 0;
+        if (outermost) {
+            listener.solveStarted(this);
+        }
+
+        Fraction[] result;
+        try {
+            result = run.get();
+        } finally {
+            solveDepth--;
+        }
+
+        if (outermost) {
+            listener.solved(this, result);
+        }
+        return result;
+    }
+
+    /**
+     * Fügt dem gelösten Problem eine Restriktion hinzu, z.B. einen Schnitt oder eine verschärfte
+     * Schranke. Die Restriktion wird als neue Zeile vor der Zielfunktionszeile angehängt und
+     * erhält eine eigene Schlupfvariable am Ende der Schlupfvariablen, die Basisvariable der neuen
+     * Zeile wird. Die Spalten der künstlichen Variablen und die rechte Seite verschieben sich
+     * dabei um eins nach rechts. Eine GE-Restriktion wird mit -1 multipliziert als LE-Restriktion
+     * angehängt, eine EQ-Restriktion als je eine LE- und GE-Restriktion. Ist die neue Zeile
+     * verletzt, steht danach ein negativer Wert auf der rechten Seite, der mit
+     * {@link #solveDual()} behoben wird.
+     * 
+     * @param restriction hinzuzufügende Restriktion über die Variablen des Problems
+     * @pre restriction != null
+     * @pre alle Indices der Restriktion sind kleiner als die Anzahl der Variablen
+     * @pre isValidSolution()
+     */
+    public void addRestriction(SparseLinearProgram.Restriction restriction) {
+        assert restriction != null;
+        assert isValidSolution();
+
+        if (restriction.getType() == Type.EQ) {
+            appendRow(restriction, Type.LE);
+            appendRow(restriction, Type.GE);
+        } else {
+            appendRow(restriction, restriction.getType());
+        }
+    }
+
+    /**
+     * Fügt dem gelösten Problem eine Restriktion hinzu, siehe
+     * {@link #addRestriction(SparseLinearProgram.Restriction)}.
+     * 
+     * @param restriction hinzuzufügende Restriktion mit einem Koeffizienten pro Variable
+     * @pre restriction != null
+     * @pre restriction.getTerm().length ist die Anzahl der Variablen
+     * @pre isValidSolution()
+     */
+    public void addRestriction(LinearProgram.Restriction restriction) {
+        assert restriction != null;
+        assert restriction.getTerm().length == numberVars;
+
+        addRestriction(SparseLinearProgram.Restriction.of(restriction));
+    }
+
+    /**
+     * Stellt nach {@link #addRestriction(SparseLinearProgram.Restriction)} mit dualen
+     * Simplexschritten die Zulässigkeit wieder her. Das Tableau muss dazu dual zulässig sein, d.h.
+     * optimal für das Problem vor dem Hinzufügen. In jedem Schritt verlässt die Basisvariable mit
+     * dem kleinsten negativen Wert die Basis, aufgenommen wird die Variable mit dem kleinsten
+     * Quotienten aus Zielfunktionszeile und negativem Eintrag der Zeile, so dass die
+     * Zielfunktionszeile keine positiven Werte erhält. Sind alle Werte der rechten Seite
+     * nicht-negativ, ist das Tableau wieder optimal.
+     * 
+     * @return optimale Koeffizienten und Wert der Zielfunktion (in gegebener Reihenfolge, also x1,
+     *         x2, ..., xn, z) oder null, wenn das Problem mit den neuen Restriktionen unlösbar ist
+     * @pre isValidSolution()
+     * @pre die Zielfunktionszeile enthält bei Variablen und Schlupfvariablen keine positiven Werte
+     */
+    public Fraction[] solveDual() {
+        assert isValidSolution();
+        assert !lastTableRowHasPositiveFraction();
+
+        return report(() -> new DualSimplex(this).solve());
+    }
+
+    /**
+     * Stellt die Zulässigkeit wie {@link #solveDual()} wieder her, prüft aber vor jedem Schritt
+     * die Grenzen der Konfiguration, siehe {@link #solve(SolveConfig)}. Bei einer erreichten
+     * Grenze ist die erreichte Basis in der Regel noch unzulässig und das Ergebnis enthält dann
+     * keine Lösung.
+     * 
+     * @param config Grenzen des Lösungsvorgangs
+     * @return Status, Lösung und zuletzt erreichte Basis
+     * @pre config != null
+     * @pre isValidSolution()
+     * @pre die Zielfunktionszeile enthält bei Variablen und Schlupfvariablen keine positiven Werte
+     */
+    public SolveResult solveDual(SolveConfig config) {
+        assert config != null;
+
+        return solveWithin(config, this::solveDual);
+    }
+
+    /**
+     * Hängt eine Restriktion vom Typ LE oder GE als neue Zeile mit eigener Schlupfvariable an und
+     * drückt sie in den Nichtbasisvariablen des aktuellen Tableaus aus.
+     * 
+     * @param restriction anzuhängende Restriktion
+     * @param type Typ, mit dem die Restriktion angehängt wird (LE oder GE)
+     */
+    private void appendRow(SparseLinearProgram.Restriction restriction, Type type) {
+        int slackCol = numberVars + numberSVars;
+        int newRow = numberOfRows - 1;
+
+        // Zielfunktionszeile und Spalten ab slackCol verschieben
+        int[] rowMap = shiftIndices(numberOfRows, newRow, 1);
+        remap(rowMap, shiftIndices(numberOfCols, slackCol, 1), numberOfRows + 1,
+                numberOfCols + 1);
+        numberSVars++;
+
+        // GE wird mit -1 multipliziert, damit die neue Schlupfvariable Basisvariable sein kann
+        Fraction sign = (type == Type.GE) ? Fraction.MINUS_ONE : Fraction.ONE;
+        int[] indices = restriction.getIndices();
+        Fraction[] coefficients = restriction.getCoefficients();
+
+        for (int k = 0; k < indices.length; k++) {
+            assert indices[k] < numberVars;
+            table.set(newRow, indices[k], coefficients[k].multiplyBy(sign));
+        }
+        table.set(newRow, slackCol, Fraction.ONE);
+        table.set(newRow, numberOfCols - 1, restriction.getRightSide().multiplyBy(sign));
+        baseVars[newRow] = slackCol;
+        constraints.add(new Constraint(slackCol, -1, slackCol, sign.signum()));
+
+        // Basisvariablen der uebrigen Zeilen aus der neuen Zeile eliminieren
+        for (int i = 0; i < newRow; i++) {
+            if (table.signum(newRow, baseVars[i]) != 0) {
+                table.eliminate(i, baseVars[i], newRow);
+            }
+        }
+    }
+
+    /**
+     * Ändert die rechte Seite einer Restriktion im aktuellen Tableau. Die Änderung wird mit der
+     * Einheitsspalte der Restriktion auf die rechte Seite aller Zeilen inklusive
+     * Zielfunktionszeile übertragen, die Basis bleibt unverändert. Anschließend kann die rechte
+     * Seite negativ sein, siehe {@link #reoptimize()}.
+     * 
+     * @param restriction Index der Restriktion in der Reihenfolge ihres Hinzufügens (eine
+     *            EQ-Restriktion aus {@link #addRestriction(SparseLinearProgram.Restriction)}
+     *            zählt doppelt)
+     * @param delta Änderung der rechten Seite
+     * @pre 0 <= restriction < Anzahl der Restriktionen
+     * @pre delta != null
+     * @pre die Restriktion hat eine Einheitsspalte, siehe {@link TableauLayout#COMPACT}
+     */
+    void changeRightSide(int restriction, Fraction delta) {
+        assert delta != null;
+
+        Constraint constraint = constraints.get(restriction);
+        assert constraint.identityCol != -1;
+        Fraction change = (constraint.sign < 0) ? delta.multiplyBy(Fraction.MINUS_ONE) : delta;
+        int rightSide = numberOfCols - 1;
+
+        for (int i = 0; i < numberOfRows; i++) {
+            if (table.signum(i, constraint.identityCol) != 0) {
+                table.set(i, rightSide, table.get(i, rightSide)
+                        .add(change.multiplyBy(table.get(i, constraint.identityCol))));
+            }
+        }
+    }
+
+    /**
+     * Ändert einen Koeffizienten der Zielfunktion im aktuellen Tableau. Ist die Variable
+     * Basisvariable, wird ihre Spalte in der Zielfunktionszeile anschließend wieder eliminiert.
+     * Die Basis bleibt zulässig, ist aber eventuell nicht mehr optimal, siehe
+     * {@link #reoptimize()}.
+     * 
+     * @param variable Index der Variable
+     * @param delta Änderung des Koeffizienten
+     * @pre 0 <= variable < Anzahl der Variablen
+     * @pre delta != null
+     */
+    void changeObjectiveCoefficient(int variable, Fraction delta) {
+        assert variable >= 0 && variable < numberVars;
+        assert delta != null;
+
+        int objectiveRow = numberOfRows - 1;
+        Fraction change = (solveType == SolveType.MIN) ? delta.multiplyBy(Fraction.MINUS_ONE)
+                : delta;
+        table.set(objectiveRow, variable, table.get(objectiveRow, variable).add(change));
+
+        for (int i = 0; i < baseVars.length; i++) {
+            if (baseVars[i] == variable) {
+                table.eliminate(i, variable, objectiveRow);
+            }
+        }
+    }
+
     /**
-     * Erstellt einen Automaten aus dem übergebenen linearen Optimierungsproblem. Der Automat
-     * verbleibt im Ausgangstableau, d.h. es werden noch keine Optimierungsschritte durchgeführt.
+     * Entfernt eine Restriktion aus dem aktuellen Tableau. Dazu wird ihre Einheitsspalte in die
+     * Basis aufgenommen, und zwar in der Zeile mit dem betragskleinsten Quotienten aus rechter
+     * Seite und Eintrag, so dass die übrigen Zeilen zulässig bleiben. Danach wird diese Zeile
+     * zusammen mit den Spalten der Restriktion gelöscht. Die Basis ist anschließend zulässig, aber
+     * eventuell nicht mehr optimal, siehe {@link #reoptimize()}.
      * 
-     * @param lp lineares Problem, das optimiert werden soll
-     * @pre lp != null
+     * @param restriction Index der Restriktion in der Reihenfolge ihres Hinzufügens
+     * @pre 0 <= restriction < Anzahl der Restriktionen
+     * @pre es gibt mindestens zwei Restriktionen
+     * @pre das Tableau ist zulässig
+     * @pre die Restriktion hat eine Einheitsspalte, siehe {@link TableauLayout#COMPACT}
      */
-    public SimplexSolver(LinearProgram lp) {
-        assert lp != null;
+    void removeConstraint(int restriction) {
+        assert constraints.size() >= 2;
+
+        Constraint constraint = constraints.get(restriction);
+        int col = constraint.identityCol;
+        assert col != -1;
+        int row = -1;
+        Fraction smallestRatio = null;
+
+        for (int i = 0; i < baseVars.length; i++) {
+            if (table.signum(i, col) != 0) {
+                Fraction ratio = table.get(i, numberOfCols - 1).divideBy(table.get(i, col));
+                if (ratio.signum() < 0) {
+                    ratio = ratio.multiplyBy(Fraction.MINUS_ONE);
+                }
 
-        // Klassenvariablen initialisieren
-        Restriction[] restrictions = lp.getRestrictions();
-        Fraction[] objectiveTerm = lp.getObjectiveTerm();
+                if (smallestRatio == null || ratio.compareTo(smallestRatio) < 0) {
+                    smallestRatio = ratio;
+                    row = i;
+                }
+            }
+        }
 
-        solveType = lp.getSolveType();
+        if (baseVars[row] != col) {
+            pivot(row, col);
+        }
 
-        numberAiVars = restrictions.length;
-        numberSVars = numberAiVars;
-        numberVars = restrictions[0].getTerm().length;
+        int[] rowMap = shiftIndices(numberOfRows, row + 1, -1);
+        rowMap[row] = -1;
+        int[] colMap = new int[numberOfCols];
+        if (constraint.slackCol != -1) {
+            colMap[constraint.slackCol] = -1;
+        }
+        if (constraint.aiCol != -1) {
+            colMap[constraint.aiCol] = -1;
+        }
+        int next = 0;
+        for (int j = 0; j < numberOfCols; j++) {
+            colMap[j] = (colMap[j] == -1) ? -1 : next++;
+        }
 
-        // Table und Base initialisieren
-        numberOfRows = restrictions.length + 1;
-        numberOfCols = numberVars + numberSVars + numberAiVars + 1;
-        table = new Fraction[numberOfRows][numberOfCols];
-        baseVars = new int[restrictions.length];
+        constraints.remove(restriction);
+        remap(rowMap, colMap, numberOfRows - 1, next);
+        if (constraint.slackCol != -1) {
+            numberSVars--;
+        }
+        if (constraint.aiCol != -1) {
+            numberAiVars--;
+        }
+    }
 
-        System.out.println(" ");
-        System.out.println("Simplex Solver gestartet!");
-        System.out.println("Generiere Table");
-        System.out.println(" ");
-
-        // Iterieren ueber den Table und auffuellen der Werte
-        for (int i = 0; i < table.length; i++) {
-            for (int j = 0; j < table[i].length; j++) {
-
-                Fraction[] currentTerm =
-                        (i != table.length - 1) ? restrictions[i].getTerm() : objectiveTerm;
-                Fraction rightSide =
-                        (i != table.length - 1) ? restrictions[i].getRightSide() : Fraction.ZERO;
-                Type currentType = (i != table.length - 1) ? restrictions[i].getType() : Type.EQ;
-
-                // Wenn wir beim koeffizienten einer normalen Var sind
-                if (j < numberVars) {
-
-                    // Wenn wir nicht in der Zielfunktion sind
-                    if (i != table.length - 1) {
-                        table[i][j] = currentTerm[j];
-                    } else {
-
-                        // Wenn wir ein Minimirungproblem haben Zielfunktion umkehren
-                        table[i][j] = (lp.getSolveType() == SolveType.MIN)
-                                ? objectiveTerm[j].multiplyBy(Fraction.MINUS_ONE)
-                                : objectiveTerm[j];
+    /**
+     * Fügt dem aktuellen Tableau eine Variable am Ende der Variablen hinzu. Ihre Spalte wird aus
+     * den Einheitsspalten der Restriktionen berechnet, sie ist keine Basisvariable. Die Basis
+     * bleibt zulässig, ist aber eventuell nicht mehr optimal, siehe {@link #reoptimize()}.
+     * 
+     * @param objectiveCoefficient Koeffizient der Variable in der Zielfunktion
+     * @param column Koeffizient der Variable je Restriktion (in der Reihenfolge ihres
+     *            Hinzufügens)
+     * @pre objectiveCoefficient != null
+     * @pre column.length == Anzahl der Restriktionen
+     * @pre Restriktionen ohne Einheitsspalte (siehe {@link TableauLayout#COMPACT}) haben in
+     *      column den Koeffizienten 0
+     */
+    void addVariable(Fraction objectiveCoefficient, Fraction[] column) {
+        assert objectiveCoefficient != null;
+        assert column.length == constraints.size();
+
+        int newCol = numberVars;
+        remap(shiftIndices(numberOfRows, numberOfRows, 0), shiftIndices(numberOfCols, newCol, 1),
+                numberOfRows, numberOfCols + 1);
+        numberVars++;
+
+        Fraction[] values = new Fraction[numberOfRows];
+        for (int i = 0; i < numberOfRows - 1; i++) {
+            values[i] = Fraction.ZERO;
+        }
+        values[numberOfRows - 1] = (solveType == SolveType.MIN)
+                ? objectiveCoefficient.multiplyBy(Fraction.MINUS_ONE) : objectiveCoefficient;
+
+        // Neue Spalte als Summe der Einheitsspalten, gewichtet mit den Koeffizienten
+        for (int k = 0; k < column.length; k++) {
+            Constraint constraint = constraints.get(k);
+
+            if (column[k].signum() != 0) {
+                assert constraint.identityCol != -1;
+                Fraction factor = (constraint.sign < 0)
+                        ? column[k].multiplyBy(Fraction.MINUS_ONE) : column[k];
+
+                for (int i = 0; i < numberOfRows; i++) {
+                    if (table.signum(i, constraint.identityCol) != 0) {
+                        values[i] = values[i]
+                                .add(factor.multiplyBy(table.get(i, constraint.identityCol)));
                     }
+                }
+            }
+        }
 
-                    // Wenn wir beim koeffizienten einer schlupf Var sind
-                } else if (j < numberVars + numberSVars) {
-
-                    // Wenn wir bei der richtigen Schlumpf Var Koeff angekommen sind
-                    if (j == numberVars + i) {
-
-                        // Uebtraegt den Wert abhaehngig von dem Typ der aktuellen Restriktion
-                        if (currentType == Type.LE) {
-                            table[i][j] = (i != table.length - 1) ? Fraction.ONE : Fraction.ZERO;
-                        } else if (currentType == Type.GE) {
-                            table[i][j] =
-                                    (i != table.length - 1) ? Fraction.MINUS_ONE : Fraction.ZERO;
-                        } else {
-                            table[i][j] = Fraction.ZERO;
-                        }
-
-                        if (table[i][j] == Fraction.ONE) {
-                            baseVars[i] = j;
-                        }
-                    } else {
-                        table[i][j] = Fraction.ZERO;
-                    }
+        for (int i = 0; i < numberOfRows; i++) {
+            table.set(i, newCol, values[i]);
+        }
+    }
+
+    /**
+     * Rechnet nach einer Änderung des Tableaus von der aktuellen Basis aus weiter. Ist eine rechte
+     * Seite negativ, wird mit {@link #solveDual()} die Zulässigkeit wiederhergestellt, sonst mit
+     * {@link #solve()} die Optimalität.
+     * 
+     * @return optimale Koeffizienten und Wert der Zielfunktion oder null, wenn unlösbar
+     * @pre vor der Änderung war das Tableau optimal, und seitdem wurde entweder nur die rechte
+     *      Seite geändert oder eine Änderung gemacht, die die Zulässigkeit erhält
+     */
+    Fraction[] reoptimize() {
+        return (DualSimplex.choosePivotRow(table) != -1) ? solveDual() : solve();
+    }
+
+    /**
+     * Entfernt bei {@link TableauLayout#COMPACT} nach Phase I die Spalten der künstlichen
+     * Variablen und die redundanten Zeilen, in denen noch eine künstliche Variable Basisvariable
+     * ist. Die Spalte der Schlupfvariable einer GE-Restriktion ist im Ausgangstableau das
+     * Negative der Spalte ihrer künstlichen Variable und bleibt es bei jedem Simplexschritt, sie
+     * wird daher mit umgekehrtem Vorzeichen zur Einheitsspalte.
+     * 
+     * @return true, wenn Spalten entfernt wurden
+     */
+    private boolean dropArtificialColumns() {
+        if (layout != TableauLayout.COMPACT || numberAiVars == 0 || !isValidSolution()) {
+            return false;
+        }
 
-                    // Wenn wir beim koeffizienten einer kuenstichen Var sind
-                } else if (j < numberVars + numberSVars + numberAiVars) {
+        int[] rowMap = new int[numberOfRows];
+        int rows = 0;
+        for (int i = 0; i < numberOfRows; i++) {
+            rowMap[i] = (i < baseVars.length && hasAiVarInBase(i)) ? -1 : rows++;
+        }
+
+        int[] colMap = new int[numberOfCols];
+        int cols = 0;
+        for (int j = 0; j < numberOfCols; j++) {
+            colMap[j] = isAiVar(j) ? -1 : cols++;
+        }
 
-                    // Wenn wir bei der richtigen Kuenstlich Var Koeff angekommen sind
-                    if (j == numberVars + numberSVars + i) {
+        for (Constraint constraint : constraints) {
+            if (constraint.identityCol == constraint.aiCol && constraint.slackCol != -1) {
+                constraint.identityCol = constraint.slackCol;
+                constraint.sign = -constraint.sign;
+            }
+        }
 
-                        // Uebtraegt den Wert abhaehngig von dem Typ der aktuellen Restriktion
-                        if (currentType == Type.GE || currentType == Type.EQ) {
-                            table[i][j] = (i != table.length - 1) ? Fraction.ONE : Fraction.ZERO;
-                        } else {
-                            table[i][j] = Fraction.ZERO;
-                        }
+        remap(rowMap, colMap, rows, cols);
+        numberAiVars = 0;
+        return true;
+    }
 
-                        if (table[i][j] == Fraction.ONE) {
-                            baseVars[i] = j;
-                        }
-                    } else {
-                        table[i][j] = Fraction.ZERO;
+    /**
+     * Überträgt das Tableau in ein neues Tableau anderer Größe. Zeilen und Spalten mit dem
+     * Zielindex -1 entfallen, die Basisvariablen und die Spalten der Restriktionen werden
+     * entsprechend umnummeriert.
+     * 
+     * @param rowMap neuer Index je bisheriger Zeile oder -1
+     * @param colMap neuer Index je bisheriger Spalte oder -1
+     * @param rows neue Anzahl an Zeilen
+     * @param cols neue Anzahl an Spalten
+     * @pre Basisvariablen entfallender Spalten stehen in entfallenden Zeilen
+     */
+    private void remap(int[] rowMap, int[] colMap, int rows, int cols) {
+        Tableau remapped = tableauType.create(rows, cols);
+        int[] remappedBaseVars = new int[rows - 1];
+
+        for (int i = 0; i < numberOfRows; i++) {
+            if (rowMap[i] != -1) {
+                for (int j = 0; j < numberOfCols; j++) {
+                    if (colMap[j] != -1 && table.signum(i, j) != 0) {
+                        remapped.set(rowMap[i], colMap[j], table.get(i, j));
                     }
-                } else {
-                    // Wenn wir bei dem Funtionwert (ganz rechts) sind
-                    table[i][j] = (i != table.length - 1) ? rightSide : Fraction.ZERO;
+                }
+
+                if (i < baseVars.length) {
+                    assert colMap[baseVars[i]] != -1;
+                    remappedBaseVars[rowMap[i]] = colMap[baseVars[i]];
                 }
             }
         }
 
-        printTable();
-        printBase();
+        for (Constraint constraint : constraints) {
+            constraint.remap(colMap);
+        }
+
+        table = remapped;
+        baseVars = remappedBaseVars;
+        numberOfRows = rows;
+        numberOfCols = cols;
     }
 
     /**
-     * Gibt eine Referenz auf das Simplex-Tableau zurück.
+     * Erzeugt eine Abbildung von Indices, die ab einem Index um einen festen Wert verschiebt.
      * 
-     * @return Referenz auf das Simplex-Tableau
+     * @param length Anzahl der Indices
+     * @param from erster verschobener Index
+     * @param by Verschiebung
+     * @return neuer Index je bisherigem Index
      */
-    public Fraction[][] getTable() {
-        return this.table;
+    private static int[] shiftIndices(int length, int from, int by) {
+        int[] map = new int[length];
+
+        for (int j = 0; j < length; j++) {
+            map[j] = (j < from) ? j : j + by;
+        }
+
+        return map;
     }
 
     /**
-     * Gibt eine Referenz auf die Indices der Basisvariablen zurück.
+     * Führt einen Simplexschritt mit dem übergebenen Pivotelement aus und meldet ihn dem
+     * Beobachter: Basistausch, Normieren der Pivotzeile und Reduzieren der übrigen Zeilen.
      * 
-     * @return Referenz auf die Indices der Basisvariablen
+     * @param row Pivotzeile
+     * @param col Pivotspalte
      */
-    public int[] getBaseVars() {
-        return this.baseVars;
+    void exchange(int row, int col) {
+
+        iterations++;
+
+        // Tausche Variablen
+        int leavingVar = baseVars[row];
+        baseVars[row] = col;
+        listener.basisChanged(this, row, leavingVar, col);
+
+        // Normiere Werte in Pivotzeile
+        table.divideRow(row, col);
+        listener.pivotRowNormalized(this, row);
+
+        // Reduziere Zeilen
+        reduceRows(row, col);
+        pricer.pivoted(table, row, col, leavingVar, numberVars + numberSVars);
+        listener.rowsReduced(this);
     }
 
     /**
-     * Gibt zurück, ob das aktuelle Simplex-Tableau eine gültige Lösung repräsentiert.
+     * Meldet dem Beobachter einen Phasenwechsel, wenn sich die Phase seit dem letzten Aufruf
+     * geändert hat.
      * 
-     * @return true, wenn die aktuelle Lösung gültig ist, ansonsten false
+     * @param previousPhase bisherige Phase oder 0 vor dem ersten Simplexschritt
+     * @return aktuelle Phase (1 mit künstlichen Variablen in der Basis, sonst 2)
      */
-    public boolean isValidSolution() {
+    private int reportPhase(int previousPhase) {
+        int phase = isValidSolution() ? 2 : 1;
 
-        for (int baseVar : baseVars) {
+        if (phase != previousPhase) {
+            listener.phaseChanged(this, phase);
+        }
 
-            if (isAiVar(baseVar)) {
+        return phase;
+    }
 
-                System.out.println("Es liegt nocht KEINE Valide Loesung vor!");
-                return false;
-            }
-        }
+    /**
+     * Löst das lineare Optimierungsproblem zunächst in Gleitkommaarithmetik. Die dabei gefundene
+     * Basis wird anschließend einmalig exakt in das Tableau pivotisiert und geprüft. Ist sie
+     * zulässig und optimal, wird die exakte Lösung zurückgegeben. Ist sie zulässig, aber nicht
+     * optimal, wird von dort aus mit {@link #solve()} exakt weitergerechnet. Andernfalls wird das
+     * Tableau zurückgesetzt und vollständig exakt gelöst. Das Ergebnis hat daher dieselbe
+     * Bedeutung wie bei {@link #solve()}.
+     * 
+     * @param pivotTolerance kleinster Betrag, den ein Pivotelement in Gleitkomma haben muss
+     * @param feasibilityTolerance Werte mit kleinerem Betrag gelten in Gleitkomma als 0
+     * @return optimale Koeffizienten und Wert der Zielfunktion (in gegebener Reihenfolge, also x1,
+     *         x2, ..., xn, z) oder null, wenn unlösbar
+     * @pre pivotTolerance > 0
+     * @pre feasibilityTolerance > 0
+     */
+    public Fraction[] solveFloatingPoint(double pivotTolerance, double feasibilityTolerance) {
+        assert pivotTolerance > 0;
+        assert feasibilityTolerance > 0;
 
-        System.out.println("Es liegt eine Valide Loesung vor!");
-        return true;
+        return report(() -> new WarmStart(this)
+                .solveFloatingPoint(pivotTolerance, feasibilityTolerance));
     }
 
     /**
-     * Versucht, das lineare Optimierungsproblem zu lösen. Führt dazu - wenn nötig - wiederholt
-     * einen Simplexschritt aus, bis das Tableau eine optimale Lösung anzeigt oder es sich als
-     * unlösbar erweist. Bei einer optimalen Lösung werden die Koeffizienten und der Wert der
-     * Zielfunktion zurückgegeben, andernfalls die null-Referenz.
+     * Löst das lineare Optimierungsproblem ausgehend von einer vorgegebenen Basis, z.B. der
+     * optimalen Basis eines vorherigen, leicht veränderten Problems mit demselben Aufbau. Die Basis
+     * wird direkt in das Tableau pivotisiert. Ist sie zulässig, entfällt Phase I und es wird mit
+     * {@link #solve()} von dort aus weitergerechnet. Ist sie frei von künstlichen Variablen und
+     * optimal, aber wegen geänderter rechter Seiten unzulässig, wird mit {@link #solveDual()}
+     * weitergerechnet. Andernfalls (auch bei singulärer Basis) wird das Tableau zurückgesetzt und
+     * wie mit {@link #solve()} vollständig gelöst.
      * 
+     * @param basis Indices der Basisvariablen im Indexraum von {@link #getBaseVars()}
      * @return optimale Koeffizienten und Wert der Zielfunktion (in gegebener Reihenfolge, also x1,
      *         x2, ..., xn, z) oder null, wenn unlösbar
+     * @pre basis != null
+     * @pre basis.length == getBaseVars().length
+     * @pre die Indices der Basis sind paarweise verschieden und kleiner als die Anzahl der
+     *      Spalten ohne rechte Seite
      */
-    public Fraction[] solve() {
+    public Fraction[] solveFrom(int[] basis) {
+        assert basis != null;
+        assert basis.length == baseVars.length;
 
-        System.out.println(" ");
-        System.out.println("Das Loesen des Tables hat begonnen");
-        printValidSolution();
-        int index = 1;
+        WarmStart start = new WarmStart(this);
+        Fraction[] result = report(() -> start.solveFrom(basis));
+        installedBasisColumns = start.getInstalledColumns();
 
-        // Wenn die Loesung nicht gueltig ist oder die letze Zeile positive Werte hat wiederhole
-        // Simplex Schritte
-        while (!isValidSolution() || lastTableRowHasPositiveFraction()) {
+        return result;
+    }
 
-            System.out.println("----------------------------------");
-            System.out.println("Simplexschritte werden ausgefuehrt");
-            System.out.println("Durchlauf: " + index);
+    /**
+     * Löst das Problem wie {@link #solveFrom(int[])} ausgehend von einer vorgegebenen Basis,
+     * prüft aber vor jedem primalen und dualen Simplexschritt die Grenzen der Konfiguration, siehe
+     * {@link #solve(SolveConfig)}.
+     * 
+     * @param basis Indices der Basisvariablen im Indexraum von {@link #getBaseVars()}
+     * @param config Grenzen des Lösungsvorgangs
+     * @return Status, Lösung und zuletzt erreichte Basis
+     * @pre basis != null
+     * @pre config != null
+     * @pre basis erfüllt die Vorbedingungen von {@link #solveFrom(int[])}
+     */
+    public SolveResult solveFrom(int[] basis, SolveConfig config) {
+        assert basis != null;
+        assert config != null;
 
-            // Waehle Pivotspalte aus
-            pivotCol = choosePivotColumn();
-            if (pivotCol == -1) {
-                System.out.println("Pivotspalte nicht gueltig! Abbruch!");
-                return null;
-            }
+        return solveWithin(config, () -> solveFrom(basis));
+    }
 
-            // Waehle Pivotzeile aus
-            pivotRow = choosePivotRow();
-            if (pivotRow == -1) {
-                System.out.println("Pivotzeile nicht gueltig! Abbruch!");
-                return null;
+    /**
+     * Gibt die Anzahl der Spalten zurück, die beim letzten {@link #solveFrom(int[])} neu in die
+     * Basis pivotisiert wurden, also der Spalten der vorgegebenen Basis, die im Ausgangstableau
+     * noch keine Basisvariablen waren. Das ist kein Maß für eingesparte Simplexschritte: Ein
+     * Kaltstart kann mehr oder weniger Schritte benötigen, weil er über andere Ecken läuft. Wurde
+     * die Basis verworfen oder kein Warmstart durchgeführt, ist der Wert 0.
+     * 
+     * @return Anzahl der direkt eingesetzten Basisspalten
+     */
+    public int getInstalledBasisColumns() {
+        return installedBasisColumns;
+    }
+
+    /**
+     * Gibt die Anzahl der Simplexschritte zurück, die {@link #solve()} und {@link #solveDual()}
+     * bisher ausgeführt haben. Pivotschritte zum Einsetzen einer vorgegebenen Basis zählen nicht
+     * dazu.
+     * 
+     * @return Anzahl der Simplexschritte
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Kopiert alle Zellen des Tableaus.
+     * 
+     * @return Kopie mit den Zeilen in der ersten und den Spalten in der zweiten Dimension
+     */
+    private Fraction[][] copyCells() {
+        Fraction[][] cells = new Fraction[numberOfRows][numberOfCols];
+
+        for (int i = 0; i < numberOfRows; i++) {
+            for (int j = 0; j < numberOfCols; j++) {
+                cells[i][j] = table.get(i, j);
             }
+        }
 
-            // Tausche Variablen
-            System.out.println(" ");
-            System.out.println("Tausche Base in Zeile " + pivotRow + " und Index "
-                    + baseVars[pivotRow] + " mit Index " + pivotCol);
-            baseVars[pivotRow] = pivotCol;
-            Fraction baseValue = table[pivotRow][pivotCol];
+        return cells;
+    }
 
-            System.out.println("Neue Basis: ");
-            printBase();
+    /**
+     * @return Kopie des aktuellen Tableaus samt Basis und Spaltenaufteilung
+     */
+    Snapshot takeSnapshot() {
+        return new Snapshot(copyCells(), baseVars, numberSVars, numberAiVars, constraints);
+    }
 
-            // Normiere Werte in Pivotzeile
-            for (int i = 0; i < table[pivotRow].length; i++) {
+    /**
+     * Stellt den Zustand einer mit {@link #takeSnapshot()} erstellten Kopie wieder her. Wurden
+     * seitdem Spalten entfernt, wird ein neues Tableau in der ursprünglichen Größe angelegt.
+     * 
+     * @param snapshot wiederherzustellende Kopie
+     */
+    void restore(Snapshot snapshot) {
+        int rows = snapshot.cells.length;
+        int cols = snapshot.cells[0].length;
+
+        if (rows != numberOfRows || cols != numberOfCols) {
+            table = tableauType.create(rows, cols);
+            numberOfRows = rows;
+            numberOfCols = cols;
+        }
 
-                if (table[pivotRow][i] != null) {
-                    table[pivotRow][i] = table[pivotRow][i].divideBy(baseValue);
-                }
+        for (int i = 0; i < numberOfRows; i++) {
+            for (int j = 0; j < numberOfCols; j++) {
+                table.set(i, j, snapshot.cells[i][j]);
             }
+        }
 
-            System.out.println("Normiere Pivotzeile: ");
-            printTable();
-
-            // Reduziere Zeilen
-            System.out.println("Reduziere alle Zeilen: ");
-            for (int i = 0; i < table.length; i++) {
+        baseVars = snapshot.baseVars.clone();
+        numberSVars = snapshot.numberSVars;
+        numberAiVars = snapshot.numberAiVars;
+        constraints.clear();
+        for (Constraint constraint : snapshot.constraints) {
+            constraints.add(constraint.copy());
+        }
+        listener.tableauChanged(this);
+    }
 
-                if (i != pivotRow) {
+    /**
+     * Nimmt die Variable der übergebenen Spalte in der übergebenen Zeile in die Basis auf und
+     * pivotisiert das Tableau entsprechend.
+     * 
+     * @param row Pivotzeile
+     * @param col Pivotspalte
+     * @pre table.signum(row, col) != 0
+     */
+    void pivot(int row, int col) {
+        assert table.signum(row, col) != 0;
+
+        int leavingVar = baseVars[row];
+        baseVars[row] = col;
+        listener.basisChanged(this, row, leavingVar, col);
+        table.divideRow(row, col);
+        reduceRows(row, col);
+    }
 
-                    Fraction valueAtPivot = table[i][pivotCol];
+    /**
+     * Reduziert alle Zeilen außer der (bereits normierten) Pivotzeile, so dass die Pivotspalte
+     * außerhalb der Pivotzeile nur noch 0 enthält. Ist die parallele Reduktion eingeschaltet und
+     * das Tableau groß genug, werden die Zeilen im Pool reduziert.
+     * 
+     * @param row Pivotzeile
+     * @param col Pivotspalte
+     */
+    private void reduceRows(int row, int col) {
+        if (eliminationPool != null
+                && (long) numberOfRows * numberOfCols >= parallelThreshold) {
+            eliminationPool.invoke(
+                    new RowElimination(table, row, col, 0, numberOfRows, parallelThreshold));
+            return;
+        }
 
-                    for (int j = 0; j < table[i].length; j++) {
+        for (int i = 0; i < numberOfRows; i++) {
 
-                        if (table[i][j] != null && table[pivotRow][j] != null) {
-                            table[i][j] = table[i][j]
-                                    .subtract(table[pivotRow][j].multiplyBy(valueAtPivot));
-                        }
-                    }
-                }
+            if (i != row) {
+                table.eliminate(row, col, i);
             }
+        }
+    }
 
-            printTable();
-            System.out.println("----------------------------------");
-
-            index++;
+    /**
+     * Gibt zurück, ob die aktuelle Basis zulässig ist, d.h. keine künstliche Variable enthält und
+     * alle Werte der rechten Seite nicht-negativ sind.
+     * 
+     * @return true, wenn die Basis zulässig ist
+     */
+    boolean isFeasible() {
+        for (int i = 0; i < baseVars.length; i++) {
+            if ((hasAiVarInBase(i) && !isRedundant(i)) || table.signum(i, numberOfCols - 1) < 0) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    /**
+     * Liest die Werte der Variablen und der Zielfunktion aus dem Tableau.
+     * 
+     * @return Koeffizienten und Wert der Zielfunktion (x1, x2, ..., xn, z)
+     */
+    Fraction[] collectResult() {
 
         // Gebe die konkreten Loesungwerte der Variablen und Z aus
         Fraction[] resultFractions = new Fraction[numberVars + 1];
 
-        for (int i = 0; i < numberVars + 1; i++) {
-            for (int j = 0; j < baseVars.length; j++) {
-
-                // Waehle die Ergebniswerte fuer die Variablen aus wenn sie Teil der Base sind
-                if (i == baseVars[j]) {
-                    resultFractions[i] = table[j][numberOfCols - 1];
-                } else if (i == numberVars) {
-
-                    if (solveType == SolveType.MAX) {
-
-                        System.out.println(" Maximierungsproblem: Z Wert wird umgekehrt");
-                        if (table[numberOfRows - 1][numberOfCols - 1] != null) {
-                            resultFractions[i] = table[numberOfRows - 1][numberOfCols - 1]
-                                    .multiplyBy(Fraction.MINUS_ONE);
-                        }
-                    } else {
-                        resultFractions[i] = table[numberOfRows - 1][numberOfCols - 1];
-                    }
-                }
+        // Waehle die Ergebniswerte fuer die Variablen aus wenn sie Teil der Base sind. Die
+        // erste Schlupfvariable hat den Index numberVars und darf Z nicht ueberschreiben
+        for (int j = 0; j < baseVars.length; j++) {
+            if (baseVars[j] < numberVars) {
+                resultFractions[baseVars[j]] = table.get(j, numberOfCols - 1);
             }
+        }
+
+        for (int i = 0; i < numberVars; i++) {
             if (resultFractions[i] == null) {
                 resultFractions[i] = Fraction.ZERO;
             }
         }
 
-        System.out.println("Loesung fertig! Ergebnis: ");
+        if (solveType == SolveType.MAX) {
 
-        for (Fraction fraction : resultFractions) {
-            System.out.println(fraction.toString());
+            // Maximierungsproblem: Z Wert wird umgekehrt
+            resultFractions[numberVars] = table.get(numberOfRows - 1, numberOfCols - 1)
+                    .multiplyBy(Fraction.MINUS_ONE);
+        } else {
+            resultFractions[numberVars] = table.get(numberOfRows - 1, numberOfCols - 1);
         }
 
-        System.out.println("----------------------------------");
-        System.out.println("----------------------------------");
-
         return resultFractions;
     }
 
     /**
-     * Gibt den Index der zu waehlenden Pivotspalte zurueck
+     * Gibt den Index der zu waehlenden Pivotspalte zurueck. Die Wahl unter den Kandidaten trifft
+     * die eingestellte {@link PricingStrategy}.
      * 
+     * @param bland true, um stattdessen nach der Regel von Bland die erste Spalte mit positivem
+     *            Wert zu waehlen
      * @return Gibt den Index zurueck, der die zu waehlende Pivotspalte repraesentiert
      */
-    private int choosePivotColumn() {
+    private int choosePivotColumn(boolean bland) {
+
+        // Wenn wir eine Valide Loesung haben entscheidet die Zielfunktionszeile, sonst die
+        // Summen der Zeilen mit kuenstlicher Variable in der Basis
+        CostRow costs = isValidSolution()
+                ? CostRow.of(table, numberOfRows - 1, numberVars + numberSVars)
+                : CostRow.of(sumsInColumnsWithAiVar());
+
+        if (bland) {
+            for (int j = 0; j < costs.size(); j++) {
+                if (costs.signum(j) > 0) {
+                    return j;
+                }
+            }
+            return -1;
+        }
+
+        return pricer.chooseColumn(table, costs);
+    }
 
-        System.out.println(" ");
-        System.out.println("Pivotspalte wird ausgewaehlt.");
+    /**
+     * Quotiententest gegen Zyklen: wie {@link #choosePivotRow()}, gleiche Quotienten werden aber
+     * nach der {@link AntiCyclingRule} aufgelöst statt zugunsten der ersten Zeile.
+     * 
+     * @param rule anzuwendende Regel
+     * @return Index der Pivotzeile oder -1, wenn die Pivotspalte keinen positiven Eintrag hat
+     */
+    private int chooseAntiCyclingPivotRow(AntiCyclingRule rule) {
+        int row = -1;
+
+        for (int i = 0; i < baseVars.length; i++) {
+            if (table.signum(i, pivotCol) > 0) {
+                int order = (row == -1) ? -1 : compareRatios(i, row, numberOfCols - 1);
+                if (order == 0) {
+                    order = breakTie(i, row, rule);
+                }
 
-        int pivotColum = -1;
-        Fraction biggestValue = Fraction.ZERO;
-        int currentIndex = 0;
+                if (order < 0) {
+                    row = i;
+                }
+            }
+        }
 
-        // Wenn wir eine Valide Loesung haben die Groesste Fraction in der Ziele auswaehlen
-        if (isValidSolution()) {
-            pivotColum = columnWithBiggestPositiveNumer(table[table.length - 1]);
-        } else {
+        return row;
+    }
 
-            // Wenn keine loesung bilde die Summe fuer jede Spalte und waehlen die groesste Summe
-            // bzw den
-            Fraction[] columnSums = new Fraction[numberVars + numberSVars];
+    /**
+     * Vergleicht die Quotienten zweier Zeilen aus einer Spalte und der Pivotspalte.
+     * 
+     * @param rowA erste Zeile
+     * @param rowB zweite Zeile
+     * @param col Spalte des Zählers
+     * @return Vergleichsergebnis (kleiner, gleich, oder größer 0)
+     * @pre beide Zeilen haben einen Eintrag ungleich 0 in der Pivotspalte
+     */
+    private int compareRatios(int rowA, int rowB, int col) {
+        return table.get(rowA, col).divideBy(table.get(rowA, pivotCol))
+                .compareTo(table.get(rowB, col).divideBy(table.get(rowB, pivotCol)));
+    }
 
-            for (int i = 0; i < numberVars + numberSVars; i++) {
+    /**
+     * Löst gleiche Quotienten zweier Zeilen nach der {@link AntiCyclingRule} auf. Bei
+     * {@link AntiCyclingRule#LEXICOGRAPHIC} werden die Quotienten der Einheitsspalten der
+     * Restriktionen der Reihe nach verglichen. Restriktionen ohne Einheitsspalte (siehe
+     * {@link TableauLayout#COMPACT}) werden übersprungen. Sind alle Quotienten gleich, verlässt
+     * wie bei {@link AntiCyclingRule#BLAND} die Basisvariable mit dem kleinsten Index die Basis.
+     * 
+     * @param rowA erste Zeile
+     * @param rowB zweite Zeile
+     * @param rule anzuwendende Regel
+     * @return negativ, wenn rowA vorzuziehen ist, sonst positiv
+     */
+    private int breakTie(int rowA, int rowB, AntiCyclingRule rule) {
+        if (rule == AntiCyclingRule.LEXICOGRAPHIC) {
+            for (Constraint constraint : constraints) {
+                if (constraint.identityCol == -1) {
+                    continue;
+                }
+                int order = compareRatios(rowA, rowB, constraint.identityCol) * constraint.sign;
+                if (order != 0) {
+                    return order;
+                }
+            }
+        }
 
-                Fraction currentFraction = sumInColumnWithAiVar(i);
+        return Integer.compare(baseVars[rowA], baseVars[rowB]);
+    }
 
-                if (currentFraction.compareTo(biggestValue) == 1) {
+    /**
+     * Gibt eine Zeile mit künstlicher Basisvariable zurück, die entartet aus der Basis gedrängt
+     * werden kann. Das ist nur möglich, wenn alle künstlichen Basisvariablen den Wert 0 haben,
+     * also wenn Phase I eine zulässige Lösung gefunden hat.
+     * 
+     * @return Zeile mit künstlicher Basisvariable auf Höhe 0 in einer nicht redundanten Zeile oder
+     *         -1, wenn eine künstliche Basisvariable positiv und das Problem damit unlösbar ist
+     */
+    private int chooseArtificialRow() {
+        int row = -1;
 
-                    biggestValue = currentFraction;
-                    pivotColum = currentIndex;
+        for (int i = 0; i < baseVars.length; i++) {
+            if (hasAiVarInBase(i) && !isRedundant(i)) {
+                if (table.signum(i, numberOfCols - 1) != 0) {
+                    return -1;
+                }
+                if (row == -1) {
+                    row = i;
                 }
+            }
+        }
 
-                currentIndex++;
+        return row;
+    }
+
+    /**
+     * Gibt die erste Spalte einer Variable oder Schlupfvariable zurück, die in der übergebenen
+     * Zeile einen Eintrag ungleich 0 hat.
+     * 
+     * @param row zu durchsuchende Zeile
+     * @return Index der Spalte oder -1, wenn die Zeile dort nur Nullen enthält
+     */
+    private int firstNonZeroColumn(int row) {
+        for (int j = 0; j < numberVars + numberSVars; j++) {
+            if (table.signum(row, j) != 0) {
+                return j;
             }
         }
 
-        System.out.println("Pivotspalte gefunden: " + pivotColum);
-        System.out.println(" ");
-        return pivotColum;
+        return -1;
+    }
+
+    /**
+     * Gibt zurück, ob eine Zeile bei Variablen, Schlupfvariablen und rechter Seite nur Nullen
+     * enthält. Eine künstliche Basisvariable dieser Zeile bleibt bei jedem Simplexschritt 0.
+     * 
+     * @param row zu prüfende Zeile
+     * @return true, wenn die Zeile redundant ist
+     */
+    private boolean isRedundant(int row) {
+        return table.signum(row, numberOfCols - 1) == 0 && firstNonZeroColumn(row) == -1;
     }
 
     /**
@@ -343,19 +1765,16 @@ public class SimplexSolver {
      */
     private int choosePivotRow() {
 
-        System.out.println(" ");
-        System.out.println("Pivotzeile wird ausgewaehlt.");
-
         int pivotRow = -1;
         Fraction smallestPositiveFraction = Fraction.ZERO;
         int index = 0;
         // Fraction[] qFractions = new Fraction[numberAiVars];
 
         // Quotienten fuer fuer jede Zeile bilden
-        for (int i = 0; i < numberAiVars; i++) {
+        for (int i = 0; i < baseVars.length; i++) {
 
-            Fraction rightSideVal = table[i][numberOfCols - 1];
-            Fraction pivotColVal = table[i][pivotCol];
+            Fraction rightSideVal = table.get(i, numberOfCols - 1);
+            Fraction pivotColVal = table.get(i, pivotCol);
             Fraction currentFraction;
 
             if (pivotColVal.equals(Fraction.ZERO) || pivotColVal.compareTo(Fraction.ZERO) == -1) {
@@ -364,9 +1783,11 @@ public class SimplexSolver {
                 currentFraction = rightSideVal.divideBy(pivotColVal);
             }
 
-            if (currentFraction != null && (currentFraction.compareTo(Fraction.ZERO) == 1)) {
+            // Quotienten von 0 (entartete Zeilen) zaehlen mit, sonst wird deren rechte Seite
+            // nach dem Pivotschritt negativ
+            if (currentFraction != null && (currentFraction.signum() >= 0)) {
 
-                if (smallestPositiveFraction.equals(Fraction.ZERO)) {
+                if (pivotRow == -1) {
 
                     smallestPositiveFraction = currentFraction;
                     pivotRow = index;
@@ -380,37 +1801,9 @@ public class SimplexSolver {
             index++;
         }
 
-        System.out.println("Pivotzeile gefunden: " + pivotRow);
-
         return pivotRow;
     }
 
-    /**
-     * Gibt zurueck in welcher Spalte die Groesste Fraction einer Zeile ist
-     * 
-     * @param row die Zeile die ueberprueft werden soll
-     * @return Der Index der Spalte indem sich die groesste Fraction fuer eine Zeile befindet
-     */
-    private int columnWithBiggestPositiveNumer(Fraction[] row) {
-
-        int indexForBiggestNumber = -1;
-        int currentIndex = 0;
-        Fraction biggestValue = Fraction.ZERO;
-
-        for (Fraction fraction : row) {
-
-            if (fraction.compareTo(biggestValue) == 1) {
-
-                biggestValue = fraction;
-                indexForBiggestNumber = currentIndex;
-            }
-
-            currentIndex++;
-        }
-
-        return indexForBiggestNumber;
-    }
-
     /**
      * Gibt zurück, ob die Variable an der uebergebenen Position eine kuenstliche Variable ist
      * 
@@ -424,31 +1817,27 @@ public class SimplexSolver {
     }
 
     /**
-     * Bildet die Fraction Summe in der uebergebenen Spalte fuer jeden Zeile die eine KV in der
-     * Basis hat
+     * Bildet die Fraction Summen in den Spalten der Variablen und Schlupfvariablen ueber alle
+     * Zeilen die eine KV in der Basis haben. Die Zeilen werden dabei als Ganzes aufaddiert, so
+     * dass ein duenn besetztes Tableau nur die Zellen ungleich 0 anfasst.
      * 
-     * @param column die Spalte in der die Summe gebildet werden soll
-     * @pre column >= 0
-     * @pre column < table[0].length
-     * @return Liefert die Summe in Fraction der Spalte zurueck
+     * @return Liefert die Summe in Fraction je Spalte zurueck
      */
-    private Fraction sumInColumnWithAiVar(int column) {
-        assert column >= 0;
-        assert column < table[0].length;
+    private Fraction[] sumsInColumnsWithAiVar() {
 
-        Fraction columnSum = Fraction.ZERO;
-        int index = 0;
+        Fraction[] columnSums = new Fraction[numberVars + numberSVars];
+        for (int j = 0; j < columnSums.length; j++) {
+            columnSums[j] = Fraction.ZERO;
+        }
 
-        for (Fraction[] row : table) {
+        for (int i = 0; i < numberOfRows - 1; i++) {
 
-            if (index < table.length - 1 && hasAiVarInBase(index)) {
-                columnSum = columnSum.add(row[column]);
+            if (hasAiVarInBase(i)) {
+                table.addRowTo(i, columnSums);
             }
-
-            index++;
         }
 
-        return columnSum;
+        return columnSums;
     }
 
     /**
@@ -472,72 +1861,17 @@ public class SimplexSolver {
      * 
      * @return true wenn die Zeile mindestens einen positiven Fraction Wert hat
      */
-    private boolean lastTableRowHasPositiveFraction() {
+    boolean lastTableRowHasPositiveFraction() {
 
         for (int i = 0; i < numberVars + numberSVars; i++) {
 
-            Fraction currentFraction = table[table.length - 1][i];
-
-            if (currentFraction.compareTo(Fraction.ZERO) > 0) {
-
-                System.out.println("Loesung noch nicht optimal!");
+            if (table.signum(numberOfRows - 1, i) > 0) {
 
                 return true;
             }
         }
 
-        System.out.println("Loesung ist optimal! Juhu");
-
         return false;
     }
 
-    /**
-     * Gibt den aktuellen Table aus
-     */
-    private void printTable() {
-
-        System.out.println(" ");
-        System.out.println("Aktueller Table: ");
-
-        for (Fraction[] row : table) {
-
-            String rowString = "";
-
-            for (Fraction column : row) {
-
-                if (column.getAsFPN() < 0) {
-                    rowString = rowString + column.toString() + " ";
-                } else {
-                    rowString = rowString + column.toString() + "  ";
-                }
-            }
-            System.out.println(rowString);
-        }
-        System.out.println(" ");
-    }
-
-    /**
-     * Gibt die aktuelle Basis aus
-     */
-    private void printBase() {
-
-        System.out.println(" ");
-        System.out.println("Aktuelle Basis: ");
-
-        for (int baseVar : baseVars) {
-            System.out.println(baseVar);
-        }
-        System.out.println(" ");
-    }
-
-    /**
-     * Gibt aus, ob es eine gueltige Loesung sit
-     */
-    private void printValidSolution() {
-
-        System.out.println(" ");
-        System.out.println("Liegt eine gueltige Loesung vor: " + isValidSolution());
-        System.out.println(" ");
-    }
-
 }
@@ -0,0 +1,82 @@
+package simplex;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grenzen für einen Lösungsvorgang mit {@link SimplexSolver#solve(SolveConfig)}. Ohne weitere
+ * Einstellungen ist nichts begrenzt, abgebrochen wird dann nur bei einer Unterbrechung des
+ * lösenden Threads. Die Grenzen werden vor jedem Simplexschritt geprüft, ein Schritt selbst wird
+ * nicht unterbrochen.
+ *
+ * @author Alexander Loeffler
+ */
+public final class SolveConfig {
+
+    /** Höchste Dauer in Nanosekunden */
+    private long timeLimitNanos = Long.MAX_VALUE;
+
+    /** Höchste Anzahl an Simplexschritten */
+    private int iterationLimit = Integer.MAX_VALUE;
+
+    /** Signal zum Abbrechen oder null */
+    private CancellationToken cancellationToken;
+
+    /**
+     * Begrenzt die Dauer eines Lösungsvorgangs (Wanduhrzeit).
+     *
+     * @param duration höchste Dauer
+     * @param unit Einheit der Dauer
+     * @pre duration >= 0
+     * @pre unit != null
+     */
+    public void setTimeLimit(long duration, TimeUnit unit) {
+        assert duration >= 0;
+        assert unit != null;
+
+        this.timeLimitNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * @return höchste Dauer in Nanosekunden, {@link Long#MAX_VALUE} für unbegrenzt
+     */
+    public long getTimeLimitNanos() {
+        return timeLimitNanos;
+    }
+
+    /**
+     * Begrenzt die Anzahl der Simplexschritte eines Lösungsvorgangs. Schritte aus früheren
+     * Lösungsvorgängen desselben Automaten zählen nicht mit.
+     *
+     * @param iterationLimit höchste Anzahl an Simplexschritten
+     * @pre iterationLimit >= 0
+     */
+    public void setIterationLimit(int iterationLimit) {
+        assert iterationLimit >= 0;
+
+        this.iterationLimit = iterationLimit;
+    }
+
+    /**
+     * @return höchste Anzahl an Simplexschritten, {@link Integer#MAX_VALUE} für unbegrenzt
+     */
+    public int getIterationLimit() {
+        return iterationLimit;
+    }
+
+    /**
+     * Setzt das Signal, mit dem der Lösungsvorgang von außen abgebrochen werden kann.
+     *
+     * @param cancellationToken Signal oder null für keines
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * @return Signal zum Abbrechen oder null
+     */
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+}
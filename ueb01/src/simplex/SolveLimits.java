@@ -0,0 +1,91 @@
+package simplex;
+
+import simplex.SolveResult.Status;
+
+/**
+ * Prüft die Grenzen einer {@link SolveConfig} während eines Lösungsvorgangs.
+ *
+ * @author Alexander Loeffler
+ */
+final class SolveLimits {
+
+    /** Geprüfte Grenzen */
+    private final SolveConfig config;
+
+    /** Beginn des Lösungsvorgangs */
+    private final long startNanos;
+
+    /** Anzahl der Simplexschritte des Automaten zu Beginn des Lösungsvorgangs */
+    private final int startIterations;
+
+    /** Erreichte Grenze oder null */
+    private Status reached;
+
+    /**
+     * Konstruktor. Die Zeit wird ab hier gemessen.
+     *
+     * @param config zu prüfende Grenzen
+     * @param startIterations Anzahl der Simplexschritte des Automaten vor dem Lösungsvorgang
+     */
+    SolveLimits(SolveConfig config, int startIterations) {
+        this(config, System.nanoTime(), startIterations, null);
+    }
+
+    /**
+     * Konstruktor.
+     *
+     * @param config zu prüfende Grenzen
+     * @param startNanos Beginn des Lösungsvorgangs
+     * @param startIterations Anzahl der Simplexschritte des Automaten vor dem Lösungsvorgang
+     * @param reached bereits erreichte Grenze oder null
+     */
+    private SolveLimits(SolveConfig config, long startNanos, int startIterations,
+            Status reached) {
+        this.config = config;
+        this.startNanos = startNanos;
+        this.startIterations = startIterations;
+        this.reached = reached;
+    }
+
+    /**
+     * Gibt die Grenzen für eine Kopie des Automaten zurück. Konfiguration, Beginn und eine
+     * bereits erreichte Grenze werden übernommen, die bisher ausgeführten Simplexschritte zählen
+     * für die Kopie mit.
+     *
+     * @param iterations bisherige Anzahl der Simplexschritte des kopierten Automaten
+     * @param copyIterations Anzahl der Simplexschritte der Kopie
+     * @return Grenzen für die Kopie
+     */
+    SolveLimits copy(int iterations, int copyIterations) {
+        return new SolveLimits(config, startNanos,
+                startIterations - iterations + copyIterations, reached);
+    }
+
+    /**
+     * Prüft vor einem Simplexschritt, ob eine Grenze erreicht ist.
+     *
+     * @param iterations bisherige Anzahl der Simplexschritte des Automaten
+     * @return true, wenn der Lösungsvorgang abgebrochen werden muss
+     */
+    boolean isReached(int iterations) {
+        CancellationToken token = config.getCancellationToken();
+
+        if (Thread.currentThread().isInterrupted() || (token != null && token.isCancelled())) {
+            reached = Status.CANCELLED;
+        } else if (iterations - startIterations >= config.getIterationLimit()) {
+            reached = Status.ITERATION_LIMIT;
+        } else if (System.nanoTime() - startNanos >= config.getTimeLimitNanos()) {
+            reached = Status.TIME_LIMIT;
+        }
+
+        return reached != null;
+    }
+
+    /**
+     * @return zuletzt erreichte Grenze oder null, wenn keine erreicht wurde
+     */
+    Status getReached() {
+        return reached;
+    }
+
+}
@@ -0,0 +1,107 @@
+package simplex;
+
+/**
+ * Ergebnis von {@link SimplexSolver#solve(SolveConfig)} und den anderen Lösungsvorgängen mit
+ * {@link SolveConfig}: wie der Lösungsvorgang geendet hat, die Lösung und die zuletzt erreichte
+ * Basis.
+ *
+ * @author Alexander Loeffler
+ */
+public final class SolveResult {
+
+    /**
+     * Art, wie ein Lösungsvorgang geendet hat.
+     */
+    public enum Status {
+
+        /** Die Lösung ist optimal */
+        OPTIMAL,
+
+        /** Das Problem hat keine zulässige Lösung */
+        INFEASIBLE,
+
+        /** Die Zielfunktion ist auf den zulässigen Lösungen unbeschränkt */
+        UNBOUNDED,
+
+        /** Die höchste Anzahl an Simplexschritten wurde erreicht */
+        ITERATION_LIMIT,
+
+        /** Die höchste Dauer wurde erreicht */
+        TIME_LIMIT,
+
+        /** Der lösende Thread wurde unterbrochen oder das Abbruchsignal gesetzt */
+        CANCELLED;
+
+        /**
+         * @return true, wenn der Lösungsvorgang vor dem Ende abgebrochen wurde
+         */
+        public boolean isLimit() {
+            return this == ITERATION_LIMIT || this == TIME_LIMIT || this == CANCELLED;
+        }
+    }
+
+    /** Art, wie der Lösungsvorgang geendet hat */
+    private final Status status;
+
+    /** Werte der Variablen und der Zielfunktion oder null */
+    private final Fraction[] values;
+
+    /** Indices der Basisvariablen */
+    private final int[] basis;
+
+    /** Anzahl der Simplexschritte des Automaten */
+    private final int iterations;
+
+    /**
+     * Konstruktor.
+     *
+     * @param status Art, wie der Lösungsvorgang geendet hat
+     * @param values Werte der Variablen und der Zielfunktion oder null
+     * @param basis Indices der Basisvariablen (wird kopiert)
+     * @param iterations Anzahl der Simplexschritte des Automaten
+     */
+    SolveResult(Status status, Fraction[] values, int[] basis, int iterations) {
+        this.status = status;
+        this.values = values;
+        this.basis = basis.clone();
+        this.iterations = iterations;
+    }
+
+    /**
+     * @return Art, wie der Lösungsvorgang geendet hat
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gibt die Lösung zurück. Bei {@link Status#OPTIMAL} ist sie optimal, bei einer erreichten
+     * Grenze die beste bisher gefundene zulässige Lösung, sofern Phase 1 schon abgeschlossen war.
+     *
+     * @return Koeffizienten und Wert der Zielfunktion (x1, x2, ..., xn, z) oder null, wenn keine
+     *         zulässige Lösung vorliegt
+     */
+    public Fraction[] getValues() {
+        return values;
+    }
+
+    /**
+     * Gibt die Basis bei Ende des Lösungsvorgangs zurück. In Phase 2 ist das die beste bisher
+     * gefundene Basis, da der Wert der Zielfunktion mit jedem Simplexschritt nur besser wird. Der
+     * Automat bleibt in dieser Basis, ein weiterer Aufruf von solve setzt dort fort. Ein anderer
+     * Automat desselben Problems kann mit {@link SimplexSolver#solveFrom(int[])} dort beginnen.
+     *
+     * @return Indices der Basisvariablen je Zeile
+     */
+    public int[] getBasis() {
+        return basis.clone();
+    }
+
+    /**
+     * @return Anzahl der Simplexschritte des Automaten bei Ende des Lösungsvorgangs
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+}
@@ -0,0 +1,132 @@
+package simplex;
+
+/**
+ * Beobachter für die Schritte eines {@link SimplexSolver}. Alle Methoden sind leer vorbelegt, eine
+ * Implementierung überschreibt nur die Ereignisse, die sie interessieren. Der Solver übergibt sich
+ * selbst, so dass Tableau und Basis nur dann gelesen werden, wenn ein Beobachter sie braucht.
+ *
+ * @author Alexander Loeffler
+ */
+public interface SolverListener {
+
+    /** Beobachter ohne Wirkung, Standard für jeden SimplexSolver */
+    SolverListener NOOP = new SolverListener() {
+    };
+
+    /**
+     * Fasst mehrere Beobachter zusammen. Jedes Ereignis wird an alle Beobachter in der
+     * übergebenen Reihenfolge gemeldet.
+     *
+     * @param listeners Beobachter
+     * @return Beobachter, der alle übergebenen Beobachter benachrichtigt
+     * @pre listeners != null
+     * @pre listeners enthält kein null
+     */
+    static SolverListener of(SolverListener... listeners) {
+        return new CompositeSolverListener(listeners);
+    }
+
+    /**
+     * Das Ausgangstableau wurde aufgebaut.
+     *
+     * @param solver beobachteter Solver
+     */
+    default void tableauCreated(SimplexSolver solver) {
+    }
+
+    /**
+     * Das Lösen wurde begonnen. Gemeldet wird jeder Aufruf einer öffentlichen Lösungsmethode
+     * genau einmal, auch wenn sie intern mehrere Lösungsvorgänge ausführt, z.B. nach einer
+     * verworfenen Startbasis erneut vom Ausgangstableau aus.
+     *
+     * @param solver beobachteter Solver
+     */
+    default void solveStarted(SimplexSolver solver) {
+    }
+
+    /**
+     * Die Phase hat gewechselt. In Phase 1 sind noch künstliche Variablen in der Basis, in Phase 2
+     * wird die Zielfunktion optimiert.
+     *
+     * @param solver beobachteter Solver
+     * @param phase neue Phase (1 oder 2)
+     */
+    default void phaseChanged(SimplexSolver solver, int phase) {
+    }
+
+    /**
+     * Ein Simplexschritt beginnt.
+     *
+     * @param solver beobachteter Solver
+     * @param iteration Nummer des Schritts, beginnend bei 1
+     */
+    default void iterationStarted(SimplexSolver solver, int iteration) {
+    }
+
+    /**
+     * Die Pivotspalte wurde gewählt.
+     *
+     * @param solver beobachteter Solver
+     * @param pivotCol gewählte Spalte oder -1, wenn es keine gültige Spalte gibt
+     */
+    default void pivotColumnSelected(SimplexSolver solver, int pivotCol) {
+    }
+
+    /**
+     * Die Pivotzeile wurde gewählt.
+     *
+     * @param solver beobachteter Solver
+     * @param pivotRow gewählte Zeile oder -1, wenn es keine gültige Zeile gibt
+     */
+    default void pivotRowSelected(SimplexSolver solver, int pivotRow) {
+    }
+
+    /**
+     * Eine Basisvariable wurde ausgetauscht.
+     *
+     * @param solver beobachteter Solver
+     * @param row Zeile der ausgetauschten Basisvariable
+     * @param leavingVar Index der Variable, die die Basis verlässt
+     * @param enteringVar Index der Variable, die in die Basis aufgenommen wird
+     */
+    default void basisChanged(SimplexSolver solver, int row, int leavingVar, int enteringVar) {
+    }
+
+    /**
+     * Die Pivotzeile wurde normiert.
+     *
+     * @param solver beobachteter Solver
+     * @param pivotRow normierte Zeile
+     */
+    default void pivotRowNormalized(SimplexSolver solver, int pivotRow) {
+    }
+
+    /**
+     * Alle übrigen Zeilen wurden reduziert, der Simplexschritt ist abgeschlossen.
+     *
+     * @param solver beobachteter Solver
+     */
+    default void rowsReduced(SimplexSolver solver) {
+    }
+
+    /**
+     * Das Tableau wurde außerhalb eines Simplexschritts verändert, z.B. beim Zurücksetzen auf das
+     * Ausgangstableau, beim Einsetzen einer Startbasis oder beim Stören der rechten Seiten. Ein
+     * Beobachter, der nur die in Schritten geänderten Zeilen verfolgt, muss das Tableau danach
+     * vollständig neu lesen.
+     *
+     * @param solver beobachteter Solver
+     */
+    default void tableauChanged(SimplexSolver solver) {
+    }
+
+    /**
+     * Das Lösen ist beendet, gemeldet einmal je {@link #solveStarted(SimplexSolver)}.
+     *
+     * @param solver beobachteter Solver
+     * @param result optimale Koeffizienten und Wert der Zielfunktion oder null, wenn unlösbar
+     */
+    default void solved(SimplexSolver solver, Fraction[] result) {
+    }
+
+}
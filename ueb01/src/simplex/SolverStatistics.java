@@ -0,0 +1,385 @@
+package simplex;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Beobachter, der je Lösungsvorgang eines {@link SimplexSolver} Kennzahlen sammelt: Anzahl der
+ * Simplexschritte je Phase, Zeit für Pricing, Quotiententest und Reduktion, geschätzte Anzahl
+ * der Bruchoperationen, Bitlänge der größten Zähler und Nenner sowie angelegte Bytes und Zeit
+ * der Garbage Collection. Jedes gemeldete Lösen beginnt die Zählung neu.
+ * <p>
+ * Die Zeiten werden zwischen den Meldungen des Solvers gemessen. Die Bruchoperationen werden
+ * nicht gezählt, sondern aus den Werten ungleich 0 von Pivotzeile und Pivotspalte geschätzt.
+ * Für die größten Zähler und Nenner werden das Ausgangstableau und nach jedem Schritt alle
+ * Zeilen gelesen, die der Schritt verändert hat, also die Pivotzeile und jede reduzierte Zeile.
+ * Das kostet je Schritt etwa so viel wie das Reduzieren selbst. Die Werte können über
+ * {@link #register(String)} auch per JMX gelesen werden.
+ *
+ * @author Alexander Loeffler
+ */
+public final class SolverStatistics implements SolverListener, SolverStatisticsMBean {
+
+    /** Threads der JVM, misst die angelegten Bytes */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /** true, solange ein Lösungsvorgang läuft */
+    private volatile boolean solving;
+
+    /** Simplexschritte in Phase 1 */
+    private volatile int phaseOneIterations;
+
+    /** Simplexschritte in Phase 2 */
+    private volatile int phaseTwoIterations;
+
+    /** Beginn des Lösungsvorgangs */
+    private volatile long startNanos;
+
+    /** Dauer des beendeten Lösungsvorgangs */
+    private volatile long solveNanos;
+
+    /** Zeit für Optimalitätstest und Pricing */
+    private volatile long pricingNanos;
+
+    /** Zeit für den Quotiententest */
+    private volatile long ratioTestNanos;
+
+    /** Zeit für Normieren und Reduzieren */
+    private volatile long eliminationNanos;
+
+    /** Geschätzte Anzahl der Bruchoperationen */
+    private volatile long estimatedFractionOperations;
+
+    /** Bitlänge des größten Zählers */
+    private volatile int largestNumeratorBits;
+
+    /** Bitlänge des größten Nenners */
+    private volatile int largestDenominatorBits;
+
+    /** Angelegte Bytes des beendeten Lösungsvorgangs */
+    private volatile long allocatedBytes = -1;
+
+    /** Zeit der Garbage Collection des beendeten Lösungsvorgangs */
+    private volatile long gcMillis = -1;
+
+    /** Zeitpunkt der letzten Meldung, ab der der laufende Abschnitt gemessen wird */
+    private long mark;
+
+    /** Anzahl der seit dem letzten Schritt gewählten Pivotelemente (Spalte und Zeile) */
+    private int selections;
+
+    /** Aktuelle Phase */
+    private int phase;
+
+    /** Pivotzeile des laufenden Schritts */
+    private int pivotRow;
+
+    /** Zeilen, die der laufende Schritt reduziert, je Zeile des Tableaus */
+    private boolean[] reducedRows = new boolean[0];
+
+    /** Angelegte Bytes des Threads zu Beginn des Lösungsvorgangs */
+    private long startAllocated;
+
+    /** Zeit der Garbage Collection zu Beginn des Lösungsvorgangs */
+    private long startGc;
+
+    /**
+     * @return bisher vom aktuellen Thread angelegte Bytes oder -1, wenn die JVM das nicht misst
+     */
+    private static long threadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported()
+                    && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Summe der Zeiten aller Garbage Collectoren in Millisekunden
+     */
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * @param value ganze Zahl
+     * @return Anzahl der Bits des Betrags
+     */
+    private static int bits(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.abs(value));
+    }
+
+    /**
+     * Meldet die Statistik beim JMX-Server der Plattform an, unter dem Namen
+     * {@code simplex:type=SolverStatistics,name=<name>}. Abgemeldet wird sie über
+     * {@code ManagementFactory.getPlatformMBeanServer().unregisterMBean(...)}.
+     *
+     * @param name Name, der die Statistik von anderen unterscheidet
+     * @return Name, unter dem die Statistik angemeldet ist
+     * @throws JMException wenn der Name ungültig oder bereits vergeben ist
+     * @pre name != null
+     */
+    public ObjectName register(String name) throws JMException {
+        assert name != null;
+
+        ObjectName objectName = new ObjectName(
+                "simplex:type=SolverStatistics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public boolean isSolving() {
+        return solving;
+    }
+
+    @Override
+    public int getIterations() {
+        return phaseOneIterations + phaseTwoIterations;
+    }
+
+    @Override
+    public int getPhaseOneIterations() {
+        return phaseOneIterations;
+    }
+
+    @Override
+    public int getPhaseTwoIterations() {
+        return phaseTwoIterations;
+    }
+
+    @Override
+    public long getSolveNanos() {
+        return solving ? System.nanoTime() - startNanos : solveNanos;
+    }
+
+    @Override
+    public long getPricingNanos() {
+        return pricingNanos;
+    }
+
+    @Override
+    public long getRatioTestNanos() {
+        return ratioTestNanos;
+    }
+
+    @Override
+    public long getEliminationNanos() {
+        return eliminationNanos;
+    }
+
+    @Override
+    public long getEstimatedFractionOperations() {
+        return estimatedFractionOperations;
+    }
+
+    @Override
+    public int getLargestNumeratorBits() {
+        return largestNumeratorBits;
+    }
+
+    @Override
+    public int getLargestDenominatorBits() {
+        return largestDenominatorBits;
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    @Override
+    public void solveStarted(SimplexSolver solver) {
+        phaseOneIterations = 0;
+        phaseTwoIterations = 0;
+        pricingNanos = 0;
+        ratioTestNanos = 0;
+        eliminationNanos = 0;
+        estimatedFractionOperations = 0;
+        largestNumeratorBits = 0;
+        largestDenominatorBits = 0;
+        allocatedBytes = -1;
+        gcMillis = -1;
+
+        // Der duale Simplex meldet keine Phase
+        phase = 2;
+        selections = 0;
+        startAllocated = threadAllocatedBytes();
+        startGc = gcTime();
+
+        observeTable(solver.getTableau());
+
+        startNanos = System.nanoTime();
+        mark = startNanos;
+        solving = true;
+    }
+
+    @Override
+    public void phaseChanged(SimplexSolver solver, int newPhase) {
+        phase = newPhase;
+    }
+
+    @Override
+    public void pivotColumnSelected(SimplexSolver solver, int pivotCol) {
+        selected();
+    }
+
+    @Override
+    public void pivotRowSelected(SimplexSolver solver, int row) {
+        selected();
+    }
+
+    @Override
+    public void basisChanged(SimplexSolver solver, int row, int leavingVar, int enteringVar) {
+        Tableau table = solver.getTableau();
+        long rowValues = 0;
+        for (int j = 0; j < table.getColumnCount(); j++) {
+            if (table.signum(row, j) != 0) {
+                rowValues++;
+            }
+        }
+
+        if (reducedRows.length != table.getRowCount()) {
+            reducedRows = new boolean[table.getRowCount()];
+        }
+
+        long reduced = 0;
+        for (int i = 0; i < table.getRowCount(); i++) {
+            reducedRows[i] = i != row && table.signum(i, enteringVar) != 0;
+            if (reducedRows[i]) {
+                reduced++;
+            }
+        }
+
+        // Normieren dividiert jeden Wert der Pivotzeile, Reduzieren multipliziert und
+        // subtrahiert ihn je reduzierter Zeile
+        estimatedFractionOperations += rowValues + 2 * reduced * rowValues;
+        pivotRow = row;
+        mark = System.nanoTime();
+    }
+
+    @Override
+    public void rowsReduced(SimplexSolver solver) {
+        eliminationNanos += System.nanoTime() - mark;
+        if (phase == 1) {
+            phaseOneIterations++;
+        } else {
+            phaseTwoIterations++;
+        }
+
+        Tableau table = solver.getTableau();
+        observeRow(table, pivotRow);
+        for (int i = 0; i < Math.min(reducedRows.length, table.getRowCount()); i++) {
+            if (reducedRows[i]) {
+                observeRow(table, i);
+            }
+        }
+
+        selections = 0;
+        mark = System.nanoTime();
+    }
+
+    @Override
+    public void tableauChanged(SimplexSolver solver) {
+        observeTable(solver.getTableau());
+    }
+
+    @Override
+    public void solved(SimplexSolver solver, Fraction[] result) {
+        selected();
+
+        long allocated = threadAllocatedBytes();
+        allocatedBytes = (allocated == -1 || startAllocated == -1) ? -1
+                : allocated - startAllocated;
+        gcMillis = gcTime() - startGc;
+        solveNanos = System.nanoTime() - startNanos;
+        solving = false;
+    }
+
+    /**
+     * Berücksichtigt alle Werte des Tableaus bei den größten Zählern und Nennern.
+     *
+     * @param table Tableau
+     */
+    private void observeTable(Tableau table) {
+        for (int i = 0; i < table.getRowCount(); i++) {
+            observeRow(table, i);
+        }
+    }
+
+    /**
+     * Schließt den laufenden Abschnitt eines Schritts ab. Vor der ersten Wahl eines
+     * Pivotelements wird das Pricing gemessen (beim dualen Simplex die Wahl der Zeile), vor der
+     * zweiten der Quotiententest.
+     */
+    private void selected() {
+        long now = System.nanoTime();
+        if (selections == 0) {
+            pricingNanos += now - mark;
+        } else if (selections == 1) {
+            ratioTestNanos += now - mark;
+        }
+        selections++;
+        mark = now;
+    }
+
+    /**
+     * Übernimmt Zähler und Nenner aller Zellen einer Zeile in die größten bisher gesehenen Werte.
+     *
+     * @param table Tableau
+     * @param row Zeile
+     */
+    private void observeRow(Tableau table, int row) {
+        for (int j = 0; j < table.getColumnCount(); j++) {
+            if (table.signum(row, j) != 0) {
+                observe(table, row, j);
+            }
+        }
+    }
+
+    /**
+     * Übernimmt Zähler und Nenner einer Zelle in die größten bisher gesehenen Werte.
+     *
+     * @param table Tableau
+     * @param row Zeile der Zelle
+     * @param col Spalte der Zelle
+     * @pre table.signum(row, col) != 0
+     */
+    private void observe(Tableau table, int row, int col) {
+
+        Fraction value = table.get(row, col);
+        int numeratorBits;
+        int denominatorBits;
+        if (value.isBig()) {
+            numeratorBits = value.getBigNumerator().abs().bitLength();
+            denominatorBits = value.getBigDenominator().bitLength();
+        } else {
+            numeratorBits = bits(value.getNumerator());
+            denominatorBits = bits(value.getDenominator());
+        }
+
+        if (numeratorBits > largestNumeratorBits) {
+            largestNumeratorBits = numeratorBits;
+        }
+        if (denominatorBits > largestDenominatorBits) {
+            largestDenominatorBits = denominatorBits;
+        }
+    }
+
+}
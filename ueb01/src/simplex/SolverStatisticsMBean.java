@@ -0,0 +1,83 @@
+package simplex;
+
+/**
+ * Schnittstelle, über die eine {@link SolverStatistics} per JMX gelesen wird. Alle Werte beziehen
+ * sich auf den laufenden oder zuletzt beendeten Lösungsvorgang.
+ *
+ * @author Alexander Loeffler
+ */
+public interface SolverStatisticsMBean {
+
+    /**
+     * @return true, solange ein Lösungsvorgang läuft
+     */
+    boolean isSolving();
+
+    /**
+     * @return Anzahl der Simplexschritte in beiden Phasen
+     */
+    int getIterations();
+
+    /**
+     * @return Anzahl der Simplexschritte, bei deren Beginn noch künstliche Variablen in der Basis
+     *         waren
+     */
+    int getPhaseOneIterations();
+
+    /**
+     * @return Anzahl der Simplexschritte in Phase 2 (und der Schritte des dualen Simplex)
+     */
+    int getPhaseTwoIterations();
+
+    /**
+     * @return Dauer des Lösungsvorgangs in Nanosekunden, bei einem laufenden bis jetzt
+     */
+    long getSolveNanos();
+
+    /**
+     * @return Zeit für Optimalitätstest und Wahl der eintretenden Variable in Nanosekunden
+     */
+    long getPricingNanos();
+
+    /**
+     * @return Zeit für den Quotiententest in Nanosekunden
+     */
+    long getRatioTestNanos();
+
+    /**
+     * @return Zeit für das Normieren der Pivotzeile und das Reduzieren der übrigen Zeilen in
+     *         Nanosekunden
+     */
+    long getEliminationNanos();
+
+    /**
+     * @return aus den besetzten Werten von Pivotzeile und Pivotspalte geschätzte Anzahl der
+     *         Divisionen, Multiplikationen und Subtraktionen von Brüchen beim Normieren und
+     *         Reduzieren
+     */
+    long getEstimatedFractionOperations();
+
+    /**
+     * @return Bitlänge des betragsmäßig größten Zählers, der während des Lösens im Tableau
+     *         aufgetreten ist
+     */
+    int getLargestNumeratorBits();
+
+    /**
+     * @return Bitlänge des größten Nenners, der während des Lösens im Tableau aufgetreten ist
+     */
+    int getLargestDenominatorBits();
+
+    /**
+     * @return vom lösenden Thread angelegte Bytes oder -1, wenn die JVM das nicht misst oder der
+     *         Lösungsvorgang noch läuft
+     */
+    long getAllocatedBytes();
+
+    /**
+     * @return Zeit aller Garbage Collections der JVM während des Lösungsvorgangs in Millisekunden
+     *         oder -1, solange er noch läuft
+     */
+    long getGcMillis();
+
+}
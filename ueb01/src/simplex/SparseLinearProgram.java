@@ -0,0 +1,290 @@
+package simplex;
+
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Ein lineares Optimierungsproblem, dessen Restriktionen dünn besetzt als Paare aus Index und
+ * Koeffizient gespeichert sind. Der Speicherbedarf wächst damit mit der Anzahl der Koeffizienten
+ * ungleich 0 statt mit Restriktionen mal Variablen.
+ *
+ * @author Alexander Loeffler
+ */
+public class SparseLinearProgram {
+
+    /**
+     * Eine dünn besetzte Restriktion. Nicht aufgeführte Variablen haben den Koeffizienten 0.
+     */
+    public static class Restriction {
+
+        /** Aufsteigend sortierte Indices der Variablen mit Koeffizienten ungleich 0 */
+        private final int[] indices;
+
+        /** Koeffizienten zu den Indices */
+        private final Fraction[] coefficients;
+
+        /** Typ der Restriktion (&le;, = oder &ge;) */
+        private final Type type;
+
+        /** Wert der rechten Seite */
+        private final Fraction rightSide;
+
+        /**
+         * Konstruktor.
+         *
+         * @param indices aufsteigend sortierte Indices der Variablen
+         * @param coefficients Koeffizienten zu den Indices
+         * @param type zu nutzender Restriktionstyp
+         * @param rightSide zu nutzender Wert der rechten Seite der Restriktion
+         * @pre indices != null
+         * @pre coefficients != null
+         * @pre indices.length == coefficients.length
+         * @pre indices ist streng aufsteigend sortiert und nicht negativ
+         * @pre type != null
+         * @pre rightSide != null
+         * @pre rightSide ist nicht negativ
+         */
+        public Restriction(int[] indices, Fraction[] coefficients, Type type,
+                Fraction rightSide) {
+            assert indices != null;
+            assert coefficients != null;
+            assert indices.length == coefficients.length;
+            assert isSorted(indices);
+            assert type != null;
+            assert rightSide != null;
+            assert rightSide.signum() >= 0;
+
+            this.indices = indices;
+            this.coefficients = coefficients;
+            this.type = type;
+            this.rightSide = rightSide;
+        }
+
+        /**
+         * @return aufsteigend sortierte Indices der Variablen mit Koeffizienten
+         */
+        public int[] getIndices() {
+            return indices;
+        }
+
+        /**
+         * @return Koeffizienten zu den Indices
+         */
+        public Fraction[] getCoefficients() {
+            return coefficients;
+        }
+
+        /**
+         * @return Restriktionstyp
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return Wert der rechten Seite
+         */
+        public Fraction getRightSide() {
+            return rightSide;
+        }
+
+        /**
+         * Gibt die Restriktion mit dicht besetztem Term zurück.
+         *
+         * @param numberOfVariables Anzahl der Variablen des Problems
+         * @return Restriktion im Format von {@link LinearProgram}
+         * @pre alle Indices sind kleiner als numberOfVariables
+         */
+        public LinearProgram.Restriction toDense(int numberOfVariables) {
+            Fraction[] term = new Fraction[numberOfVariables];
+            for (int j = 0; j < numberOfVariables; j++) {
+                term[j] = Fraction.ZERO;
+            }
+            for (int k = 0; k < indices.length; k++) {
+                term[indices[k]] = coefficients[k];
+            }
+            return new LinearProgram.Restriction(term, type, rightSide);
+        }
+
+        /**
+         * Erzeugt eine dünn besetzte Restriktion aus einer Restriktion von
+         * {@link LinearProgram}. Koeffizienten mit dem Wert 0 werden nicht übernommen.
+         *
+         * @param restriction dicht besetzte Restriktion
+         * @return dünn besetzte Restriktion
+         * @pre restriction != null
+         */
+        public static Restriction of(LinearProgram.Restriction restriction) {
+            assert restriction != null;
+
+            Fraction[] term = restriction.getTerm();
+            int count = 0;
+            for (Fraction value : term) {
+                if (value.signum() != 0) {
+                    count++;
+                }
+            }
+
+            int[] indices = new int[count];
+            Fraction[] coefficients = new Fraction[count];
+            int k = 0;
+            for (int j = 0; j < term.length; j++) {
+                if (term[j].signum() != 0) {
+                    indices[k] = j;
+                    coefficients[k] = term[j];
+                    k++;
+                }
+            }
+
+            return new Restriction(indices, coefficients, restriction.getType(),
+                    restriction.getRightSide());
+        }
+
+        /**
+         * Gibt zurück, ob die Indices streng aufsteigend sortiert und nicht negativ sind.
+         *
+         * @param indices zu prüfende Indices
+         * @return true, wenn die Indices gültig sind
+         */
+        private static boolean isSorted(int[] indices) {
+            for (int k = 0; k < indices.length; k++) {
+                if (indices[k] < 0 || (k > 0 && indices[k] <= indices[k - 1])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Anzahl der Variablen */
+    private final int numberOfVariables;
+
+    /** Restriktionen des linearen Optimierungproblems */
+    private final Restriction[] restrictions;
+
+    /** Koeffizienten der Zielfunktion */
+    private final Fraction[] objectiveTerm;
+
+    /** Optimierungsrichtung */
+    private final SolveType solveType;
+
+    /**
+     * Konstruktor.
+     *
+     * @param restrictions zu nutzende Restriktionen
+     * @param solveType zu nutzende Optimierungsrichtung
+     * @param objectiveTerm zu nutzende Koeffizienten der Zielfunktion (dicht besetzt, legt die
+     *            Anzahl der Variablen fest)
+     * @pre restrictions != null
+     * @pre restrictions hat mindestens eine Restriktion
+     * @pre solveType != null
+     * @pre objectiveTerm != null
+     * @pre objectiveTerm hat mindestens einen Koeffizienten
+     * @pre alle Indices der restrictions sind kleiner als objectiveTerm.length
+     */
+    public SparseLinearProgram(Restriction[] restrictions, SolveType solveType,
+            Fraction... objectiveTerm) {
+        assert restrictions != null;
+        assert restrictions.length >= 1;
+        assert solveType != null;
+        assert objectiveTerm != null;
+        assert objectiveTerm.length >= 1;
+        assert indicesInRange(objectiveTerm.length, restrictions);
+
+        this.numberOfVariables = objectiveTerm.length;
+        this.restrictions = restrictions;
+        this.solveType = solveType;
+        this.objectiveTerm = objectiveTerm;
+    }
+
+    /**
+     * Erzeugt ein dünn besetztes Problem aus einem linearen Problem.
+     *
+     * @param lp dicht besetztes lineares Problem
+     * @return dünn besetztes Problem mit denselben Restriktionen und derselben Zielfunktion
+     * @pre lp != null
+     */
+    public static SparseLinearProgram of(LinearProgram lp) {
+        assert lp != null;
+
+        LinearProgram.Restriction[] dense = lp.getRestrictions();
+        Restriction[] sparse = new Restriction[dense.length];
+        for (int i = 0; i < dense.length; i++) {
+            sparse[i] = Restriction.of(dense[i]);
+        }
+
+        return new SparseLinearProgram(sparse, lp.getSolveType(), lp.getObjectiveTerm());
+    }
+
+    /**
+     * Gibt das Problem als {@link LinearProgram} mit dicht besetzten Termen zurück.
+     *
+     * @return dicht besetztes lineares Problem
+     * @pre es gibt mindestens so viele Restriktionen wie Variablen (Vorbedingung von
+     *      LinearProgram)
+     */
+    public LinearProgram toLinearProgram() {
+        LinearProgram.Restriction[] dense = new LinearProgram.Restriction[restrictions.length];
+        for (int i = 0; i < restrictions.length; i++) {
+            dense[i] = restrictions[i].toDense(numberOfVariables);
+        }
+
+        return new LinearProgram(dense, solveType, objectiveTerm);
+    }
+
+    /**
+     * @return Anzahl der Variablen
+     */
+    public int getNumberOfVariables() {
+        return numberOfVariables;
+    }
+
+    /**
+     * @return die Restriktionen
+     */
+    public Restriction[] getRestrictions() {
+        return restrictions;
+    }
+
+    /**
+     * @return die Optimierungsrichtung
+     */
+    public SolveType getSolveType() {
+        return solveType;
+    }
+
+    /**
+     * @return die Koeffizienten der Zielfunktion
+     */
+    public Fraction[] getObjectiveTerm() {
+        return objectiveTerm;
+    }
+
+    /**
+     * @return Anzahl der gespeicherten Koeffizienten aller Restriktionen
+     */
+    public int getNonZeroCount() {
+        int count = 0;
+        for (Restriction restriction : restrictions) {
+            count += restriction.indices.length;
+        }
+        return count;
+    }
+
+    /**
+     * Gibt zurück, ob alle Indices der Restriktionen kleiner als die Anzahl der Variablen sind.
+     *
+     * @param length Anzahl der Variablen
+     * @param restrictions zu prüfende Restriktionen
+     * @return true, wenn alle Indices gültig sind
+     */
+    private static boolean indicesInRange(int length, Restriction[] restrictions) {
+        for (Restriction r : restrictions) {
+            if (r.indices.length > 0 && r.indices[r.indices.length - 1] >= length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,257 @@
+package simplex;
+
+import java.util.Arrays;
+
+/**
+ * Zeilenweise dünn besetztes Tableau. Jede Zeile speichert nur die Zellen ungleich 0 als
+ * aufsteigend sortierte Spaltenindices mit zugehörigen Werten. Normieren und Reduzieren von
+ * Zeilen laufen nur über diese Zellen, Zeilen mit einer 0 in der Pivotspalte bleiben unberührt.
+ *
+ * @author Alexander Loeffler
+ */
+class SparseTableau implements Tableau {
+
+    /** Anfangskapazität einer Zeile */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /** Anzahl der Spalten */
+    private final int columnCount;
+
+    /** Aufsteigend sortierte Spaltenindices der Zellen ungleich 0 je Zeile */
+    private final int[][] indices;
+
+    /** Werte der Zellen ungleich 0 je Zeile */
+    private final Fraction[][] values;
+
+    /** Anzahl der belegten Einträge je Zeile */
+    private final int[] sizes;
+
+    /**
+     * Legt ein Tableau an, dessen Zellen alle 0 sind.
+     *
+     * @param rows Anzahl der Zeilen
+     * @param cols Anzahl der Spalten
+     * @pre rows > 0
+     * @pre cols > 0
+     */
+    SparseTableau(int rows, int cols) {
+        assert rows > 0;
+        assert cols > 0;
+
+        this.columnCount = cols;
+        this.indices = new int[rows][INITIAL_CAPACITY];
+        this.values = new Fraction[rows][INITIAL_CAPACITY];
+        this.sizes = new int[rows];
+    }
+
+    @Override
+    public int getRowCount() {
+        return sizes.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public Fraction get(int row, int col) {
+        int position = find(row, col);
+        return position >= 0 ? values[row][position] : Fraction.ZERO;
+    }
+
+    @Override
+    public void set(int row, int col, Fraction value) {
+        assert value != null;
+        assert col >= 0 && col < columnCount;
+
+        int position = find(row, col);
+
+        if (position >= 0) {
+            if (value.signum() != 0) {
+                values[row][position] = value;
+            } else {
+                remove(row, position);
+            }
+        } else if (value.signum() != 0) {
+            insert(row, -position - 1, col, value);
+        }
+    }
+
+    @Override
+    public int signum(int row, int col) {
+        return get(row, col).signum();
+    }
+
+    @Override
+    public int compare(int rowA, int colA, int rowB, int colB) {
+        return get(rowA, colA).compareTo(get(rowB, colB));
+    }
+
+    @Override
+    public void divideRow(int row, int col) {
+        assert signum(row, col) != 0;
+
+        Fraction[] rowValues = values[row];
+        Fraction baseValue = get(row, col);
+
+        for (int k = 0; k < sizes[row]; k++) {
+            rowValues[k] = rowValues[k].divideBy(baseValue);
+        }
+    }
+
+    @Override
+    public void eliminate(int pivotRow, int pivotCol, int row) {
+        assert row != pivotRow;
+
+        Fraction factor = get(row, pivotCol);
+        if (factor.signum() == 0) {
+            return;
+        }
+
+        int[] rowIndices = indices[row];
+        Fraction[] rowValues = values[row];
+        int rowSize = sizes[row];
+        int[] pivotIndices = indices[pivotRow];
+        Fraction[] pivotValues = values[pivotRow];
+        int pivotSize = sizes[pivotRow];
+
+        int[] mergedIndices = new int[rowSize + pivotSize];
+        Fraction[] mergedValues = new Fraction[rowSize + pivotSize];
+        int size = 0;
+        int a = 0;
+        int b = 0;
+
+        // Vereinigung der besetzten Spalten beider Zeilen, Ergebnisse 0 werden nicht uebernommen
+        while (a < rowSize || b < pivotSize) {
+            int colA = a < rowSize ? rowIndices[a] : Integer.MAX_VALUE;
+            int colB = b < pivotSize ? pivotIndices[b] : Integer.MAX_VALUE;
+            int col = Math.min(colA, colB);
+            Fraction value;
+
+            if (colA == colB) {
+                value = rowValues[a++].subtractProduct(pivotValues[b++], factor);
+            } else if (colA < colB) {
+                value = rowValues[a++];
+            } else {
+                value = Fraction.ZERO.subtractProduct(pivotValues[b++], factor);
+            }
+
+            if (value.signum() != 0) {
+                mergedIndices[size] = col;
+                mergedValues[size] = value;
+                size++;
+            }
+        }
+
+        indices[row] = mergedIndices;
+        values[row] = mergedValues;
+        sizes[row] = size;
+    }
+
+    @Override
+    public void addRowTo(int row, Fraction[] sums) {
+        assert sums.length <= columnCount;
+
+        for (int k = 0; k < sizes[row] && indices[row][k] < sums.length; k++) {
+            int col = indices[row][k];
+            sums[col] = sums[col].add(values[row][k]);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < sizes.length; i++) {
+            Arrays.fill(values[i], null);
+            sizes[i] = 0;
+        }
+    }
+
+    @Override
+    public Fraction[][] toFractions() {
+        Fraction[][] result = new Fraction[sizes.length][columnCount];
+
+        for (int i = 0; i < sizes.length; i++) {
+            for (int j = 0; j < columnCount; j++) {
+                result[i][j] = Fraction.ZERO;
+            }
+            for (int k = 0; k < sizes[i]; k++) {
+                result[i][indices[i][k]] = values[i][k];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Sucht eine Spalte in den besetzten Zellen einer Zeile.
+     *
+     * @param row Zeile
+     * @param col gesuchte Spalte
+     * @return Position des Eintrags oder (-(Einfügeposition) - 1), wenn die Zelle 0 ist
+     */
+    private int find(int row, int col) {
+        int[] rowIndices = indices[row];
+        int low = 0;
+        int high = sizes[row] - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (rowIndices[middle] < col) {
+                low = middle + 1;
+            } else if (rowIndices[middle] > col) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Fügt einen Eintrag an der übergebenen Position einer Zeile ein und vergrößert die Arrays
+     * der Zeile bei Bedarf.
+     *
+     * @param row Zeile
+     * @param position Einfügeposition
+     * @param col Spalte des Eintrags
+     * @param value Wert des Eintrags
+     */
+    private void insert(int row, int position, int col, Fraction value) {
+        int size = sizes[row];
+
+        if (size == indices[row].length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            int[] grownIndices = new int[capacity];
+            Fraction[] grownValues = new Fraction[capacity];
+            System.arraycopy(indices[row], 0, grownIndices, 0, size);
+            System.arraycopy(values[row], 0, grownValues, 0, size);
+            indices[row] = grownIndices;
+            values[row] = grownValues;
+        }
+
+        System.arraycopy(indices[row], position, indices[row], position + 1, size - position);
+        System.arraycopy(values[row], position, values[row], position + 1, size - position);
+        indices[row][position] = col;
+        values[row][position] = value;
+        sizes[row] = size + 1;
+    }
+
+    /**
+     * Entfernt den Eintrag an der übergebenen Position einer Zeile.
+     *
+     * @param row Zeile
+     * @param position Position des Eintrags
+     */
+    private void remove(int row, int position) {
+        int size = sizes[row];
+
+        System.arraycopy(indices[row], position + 1, indices[row], position, size - position - 1);
+        System.arraycopy(values[row], position + 1, values[row], position, size - position - 1);
+        values[row][size - 1] = null;
+        sizes[row] = size - 1;
+    }
+
+}
@@ -0,0 +1,47 @@
+package simplex;
+
+/**
+ * Spaltenwahl nach {@link PricingStrategy#STEEPEST_EDGE}. Bewertet wird das Quadrat des Werts
+ * geteilt durch 1 plus die Quadratsumme der Spalte über alle Restriktionszeilen, also die
+ * Verbesserung je Längeneinheit der Kante. Da das Tableau vollständig vorliegt, werden die
+ * Spaltenlängen exakt aus den aktuellen Zellen berechnet. Die Bewertung erfolgt in Gleitkomma,
+ * sie beeinflusst nur die Reihenfolge der Kandidaten und nicht die exakte Rechnung.
+ *
+ * @author Alexander Loeffler
+ */
+class SteepestEdgePricer implements Pricer {
+
+    @Override
+    public int chooseColumn(Tableau table, CostRow costs) {
+        int col = -1;
+        double best = 0;
+
+        for (int j = 0; j < costs.size(); j++) {
+            if (costs.signum(j) > 0) {
+                double cost = costs.get(j).getAsFPN();
+                double norm = 1;
+
+                for (int i = 0; i < table.getRowCount() - 1; i++) {
+                    if (table.signum(i, j) != 0) {
+                        double value = table.get(i, j).getAsFPN();
+                        norm += value * value;
+                    }
+                }
+
+                double score = cost * cost / norm;
+                if (col == -1 || score > best) {
+                    col = j;
+                    best = score;
+                }
+            }
+        }
+
+        return col;
+    }
+
+    @Override
+    public void pivoted(Tableau table, int row, int col, int leaving, int candidates) {
+        // Spaltenlaengen werden bei jeder Wahl neu berechnet
+    }
+
+}
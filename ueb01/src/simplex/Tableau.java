@@ -0,0 +1,111 @@
+package simplex;
+
+/**
+ * Speicher für ein Simplex-Tableau. Die Zeilen und Spalten werden wie im {@link SimplexSolver}
+ * adressiert, die letzte Zeile ist also die Zielfunktionszeile und die letzte Spalte die rechte
+ * Seite. Die Implementierungen unterscheiden sich nur in der Art, wie die Brüche abgelegt und
+ * verrechnet werden.
+ *
+ * @author Alexander Loeffler
+ */
+interface Tableau {
+
+    /**
+     * @return Anzahl der Zeilen (inklusive Zielfunktionszeile)
+     */
+    int getRowCount();
+
+    /**
+     * @return Anzahl der Spalten (inklusive rechter Seite)
+     */
+    int getColumnCount();
+
+    /**
+     * Gibt den Wert einer Zelle als Bruch zurück.
+     *
+     * @param row Zeile der Zelle
+     * @param col Spalte der Zelle
+     * @return Wert der Zelle
+     * @pre 0 <= row < getRowCount()
+     * @pre 0 <= col < getColumnCount()
+     */
+    Fraction get(int row, int col);
+
+    /**
+     * Setzt den Wert einer Zelle.
+     *
+     * @param row Zeile der Zelle
+     * @param col Spalte der Zelle
+     * @param value neuer Wert der Zelle
+     * @pre 0 <= row < getRowCount()
+     * @pre 0 <= col < getColumnCount()
+     * @pre value != null
+     */
+    void set(int row, int col, Fraction value);
+
+    /**
+     * Gibt das Vorzeichen einer Zelle zurück, ohne einen Bruch zu erzeugen.
+     *
+     * @param row Zeile der Zelle
+     * @param col Spalte der Zelle
+     * @return -1, 0 oder 1
+     * @pre 0 <= row < getRowCount()
+     * @pre 0 <= col < getColumnCount()
+     */
+    int signum(int row, int col);
+
+    /**
+     * Vergleicht die Werte zweier Zellen (wie {@link Fraction#compareTo(Fraction)}).
+     *
+     * @param rowA Zeile der ersten Zelle
+     * @param colA Spalte der ersten Zelle
+     * @param rowB Zeile der zweiten Zelle
+     * @param colB Spalte der zweiten Zelle
+     * @return Vergleichsergebnis (kleiner, gleich, oder größer 0)
+     */
+    int compare(int rowA, int colA, int rowB, int colB);
+
+    /**
+     * Teilt alle Zellen einer Zeile durch den Wert in der übergebenen Spalte, so dass dort
+     * anschließend eine 1 steht (Normieren der Pivotzeile).
+     *
+     * @param row zu normierende Zeile
+     * @param col Spalte des Pivotelements
+     * @pre signum(row, col) != 0
+     */
+    void divideRow(int row, int col);
+
+    /**
+     * Zieht das Vielfache der (bereits normierten) Pivotzeile von einer anderen Zeile ab, so dass
+     * diese in der Pivotspalte anschließend 0 enthält.
+     *
+     * @param pivotRow normierte Pivotzeile
+     * @param pivotCol Pivotspalte
+     * @param row zu reduzierende Zeile
+     * @pre row != pivotRow
+     */
+    void eliminate(int pivotRow, int pivotCol, int row);
+
+    /**
+     * Addiert die ersten sums.length Zellen einer Zeile spaltenweise auf die übergebenen Summen.
+     *
+     * @param row zu addierende Zeile
+     * @param sums Summen je Spalte, werden überschrieben
+     * @pre sums.length <= getColumnCount()
+     */
+    void addRowTo(int row, Fraction[] sums);
+
+    /**
+     * Setzt alle Zellen auf 0, damit das Tableau für ein weiteres Problem gleicher Größe
+     * wiederverwendet werden kann.
+     */
+    void clear();
+
+    /**
+     * Gibt das Tableau als Fraction-Matrix zurück.
+     *
+     * @return Zeilen in der ersten, Spalten in der zweiten Dimension
+     */
+    Fraction[][] toFractions();
+
+}
@@ -0,0 +1,649 @@
+package simplex;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Sichert den Zustand eines {@link SimplexSolver} während des Lösens in eine Datei, aus der ein
+ * abgebrochener Lösungsvorgang mit {@link #resume()} fortgesetzt werden kann. Der Checkpoint wird
+ * als Beobachter beim Solver angemeldet und sichert nach jedem interval-ten Simplexschritt.
+ * <p>
+ * Die Datei ist ein Protokoll aus Einträgen, die über {@link FileChannel#map} direkt in die
+ * Datei geschrieben werden. Ein vollständiger Eintrag enthält Tableau, Basis, Spaltenaufteilung
+ * und die Anzahl der Simplexschritte, die folgenden Einträge nur die Zeilen, die sich seitdem
+ * geändert haben. Das sind bei einem Simplexschritt genau die Zeilen mit einem Wert ungleich 0 in
+ * der Pivotspalte. Sind die Änderungen zusammen größer als der vollständige Eintrag, wird wieder
+ * ein vollständiger Eintrag geschrieben, nach Möglichkeit an den Anfang der Datei. Jeder Eintrag
+ * trägt eine Prüfsumme, ein beim Abbruch nur teilweise geschriebener Eintrag wird beim
+ * Fortsetzen übergangen.
+ * <p>
+ * Die Phase ergibt sich beim Fortsetzen aus der Basis. Gesichert wird nur, solange alle rechten
+ * Seiten nicht-negativ sind und die rechten Seiten nicht gestört werden (siehe
+ * {@link SimplexSolver#setPerturbation(boolean)}), so dass der fortgesetzte Automat mit
+ * {@link SimplexSolver#solve()} weiterrechnen kann. Einstellungen wie die Pivotregel werden
+ * nicht gesichert und müssen nach dem Fortsetzen erneut gesetzt werden.
+ *
+ * @author Alexander Loeffler
+ */
+public final class TableauCheckpoint implements SolverListener, Closeable {
+
+    /** Kennung am Anfang der Datei */
+    private static final int MAGIC = 0x53504c58;
+
+    /** Version des Dateiformats */
+    private static final int VERSION = 1;
+
+    /** Position des Verweises auf den letzten vollständigen Eintrag im Dateikopf */
+    private static final int START_OFFSET = 2 * Integer.BYTES;
+
+    /** Länge des Dateikopfs aus Kennung, Version und Verweis */
+    private static final int HEADER_SIZE = START_OFFSET + Long.BYTES;
+
+    /** Länge des Kopfs eines Eintrags aus Länge der Nutzdaten, Generation und Folgenummer */
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+
+    /** Länge der Prüfsumme am Ende eines Eintrags */
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    /**
+     * Länge der festen Felder eines vollständigen Eintrags: Speicherform, Aufteilung und
+     * Optimierungsrichtung sowie Anzahl der Variablen, Schlupfvariablen, Zeilen, Spalten,
+     * Simplexschritte und Restriktionen
+     */
+    private static final int FULL_FIELDS_SIZE = 3 * Byte.BYTES + 6 * Integer.BYTES;
+
+    /** Markierung eines Bruchs, dessen Zähler und Nenner in ein long passen */
+    private static final byte SMALL = 0;
+
+    /** Markierung eines Bruchs, dessen Zähler und Nenner als BigInteger gespeichert sind */
+    private static final byte BIG = 1;
+
+    /**
+     * Zeile des Tableaus als Paare aus Spalte und Wert ungleich 0, wie sie in die Datei
+     * geschrieben wird.
+     */
+    private static final class RowImage {
+
+        /** Index der Zeile */
+        private final int row;
+
+        /** Spalten der Werte ungleich 0 */
+        private final int[] columns;
+
+        /** Werte ungleich 0 */
+        private final Fraction[] values;
+
+        /** Länge in der Datei */
+        private final int size;
+
+        /**
+         * Liest eine Zeile aus dem Tableau.
+         *
+         * @param table Tableau
+         * @param row Index der Zeile
+         */
+        private RowImage(Tableau table, int row) {
+            int count = 0;
+            for (int j = 0; j < table.getColumnCount(); j++) {
+                if (table.signum(row, j) != 0) {
+                    count++;
+                }
+            }
+
+            this.row = row;
+            this.columns = new int[count];
+            this.values = new Fraction[count];
+
+            int length = Integer.BYTES;
+            int k = 0;
+            for (int j = 0; j < table.getColumnCount(); j++) {
+                if (table.signum(row, j) != 0) {
+                    columns[k] = j;
+                    values[k] = table.get(row, j);
+                    length += Integer.BYTES + sizeOf(values[k]);
+                    k++;
+                }
+            }
+            this.size = length;
+        }
+
+        /**
+         * Schreibt die Zeile.
+         *
+         * @param buffer Ziel
+         */
+        private void put(ByteBuffer buffer) {
+            buffer.putInt(columns.length);
+            for (int k = 0; k < columns.length; k++) {
+                buffer.putInt(columns[k]);
+                TableauCheckpoint.put(buffer, values[k]);
+            }
+        }
+    }
+
+    /** Geöffnete Datei */
+    private final FileChannel channel;
+
+    /** Anzahl der Simplexschritte zwischen zwei Sicherungen */
+    private final int interval;
+
+    /** Zeilen, die sich seit dem letzten Eintrag geändert haben */
+    private final BitSet changedRows = new BitSet();
+
+    /** Position des letzten vollständigen Eintrags oder 0, wenn es noch keinen gibt */
+    private long start;
+
+    /** Position hinter dem letzten Eintrag */
+    private long end = HEADER_SIZE;
+
+    /** Generation des letzten vollständigen Eintrags, die folgenden Einträge tragen dieselbe */
+    private long generation;
+
+    /** Folgenummer des letzten Eintrags, 0 für den vollständigen */
+    private int sequence;
+
+    /** Länge des letzten vollständigen Eintrags */
+    private long fullSize;
+
+    /** Summe der Längen der Einträge seit dem letzten vollständigen */
+    private long deltaSize;
+
+    /** Länge des zuletzt geschriebenen Eintrags */
+    private long lastWriteSize;
+
+    /** true, wenn der nächste Eintrag vollständig sein muss */
+    private boolean fullPending = true;
+
+    /** Beobachteter Solver */
+    private SimplexSolver solver;
+
+    /** Tableau des letzten vollständigen Eintrags, ein neues Tableau erzwingt einen weiteren */
+    private Tableau tableau;
+
+    /**
+     * Öffnet eine Checkpoint-Datei. Eine neue oder leere Datei wird angelegt, aus einer
+     * vorhandenen kann mit {@link #resume()} fortgesetzt werden.
+     *
+     * @param file Pfad der Datei
+     * @param interval Anzahl der Simplexschritte zwischen zwei Sicherungen
+     * @throws IOException wenn die Datei nicht geöffnet werden kann oder keine Checkpoint-Datei
+     *         ist
+     * @pre file != null
+     * @pre interval > 0
+     */
+    public TableauCheckpoint(Path file, int interval) throws IOException {
+        assert file != null;
+        assert interval > 0;
+
+        this.interval = interval;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() == 0) {
+                MappedByteBuffer header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putLong(0);
+                header.force();
+            } else {
+                recover();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gibt die Länge eines Bruchs in der Datei zurück.
+     *
+     * @param value Bruch
+     * @return Anzahl der Bytes
+     */
+    private static int sizeOf(Fraction value) {
+        if (!value.isBig()) {
+            return Byte.BYTES + 2 * Long.BYTES;
+        }
+        return Byte.BYTES + 2 * Integer.BYTES + sizeOf(value.getBigNumerator())
+                + sizeOf(value.getBigDenominator());
+    }
+
+    /**
+     * @param value ganze Zahl
+     * @return Länge von {@link BigInteger#toByteArray()}
+     */
+    private static int sizeOf(BigInteger value) {
+        return value.bitLength() / Byte.SIZE + 1;
+    }
+
+    /**
+     * Schreibt einen Bruch.
+     *
+     * @param buffer Ziel
+     * @param value Bruch
+     */
+    private static void put(ByteBuffer buffer, Fraction value) {
+        if (value.isBig()) {
+            byte[] numerator = value.getBigNumerator().toByteArray();
+            byte[] denominator = value.getBigDenominator().toByteArray();
+            buffer.put(BIG).putInt(numerator.length).put(numerator);
+            buffer.putInt(denominator.length).put(denominator);
+        } else {
+            buffer.put(SMALL).putLong(value.getNumerator()).putLong(value.getDenominator());
+        }
+    }
+
+    /**
+     * Liest einen mit {@link #put(ByteBuffer, Fraction)} geschriebenen Bruch.
+     *
+     * @param buffer Quelle
+     * @return Bruch
+     */
+    private static Fraction getFraction(ByteBuffer buffer) {
+        if (buffer.get() == SMALL) {
+            long numerator = buffer.getLong();
+            return new Fraction(numerator, buffer.getLong());
+        }
+
+        BigInteger numerator = getBigInteger(buffer);
+        return new Fraction(numerator, getBigInteger(buffer));
+    }
+
+    /**
+     * @param buffer Quelle
+     * @return ganze Zahl aus Länge und {@link BigInteger#toByteArray()}
+     */
+    private static BigInteger getBigInteger(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * Liest eine Zeile des Tableaus. Alle nicht gelesenen Zellen der Zeile werden 0.
+     *
+     * @param buffer Quelle
+     * @param table Tableau
+     * @param row Zeile
+     */
+    private static void readRow(ByteBuffer buffer, Tableau table, int row) {
+        for (int j = 0; j < table.getColumnCount(); j++) {
+            if (table.signum(row, j) != 0) {
+                table.set(row, j, Fraction.ZERO);
+            }
+        }
+
+        int count = buffer.getInt();
+        for (int k = 0; k < count; k++) {
+            int col = buffer.getInt();
+            table.set(row, col, getFraction(buffer));
+        }
+    }
+
+    /**
+     * @return true, wenn die Datei einen Zustand enthält, aus dem fortgesetzt werden kann
+     */
+    public boolean hasCheckpoint() {
+        return start != 0;
+    }
+
+    /**
+     * @return Länge des zuletzt geschriebenen Eintrags in Bytes oder 0, wenn dieser Checkpoint
+     *         noch nichts geschrieben hat
+     */
+    public long getLastWriteSize() {
+        return lastWriteSize;
+    }
+
+    /**
+     * Stellt den Automaten im zuletzt gesicherten Zustand wieder her. Der Automat meldet seine
+     * Schritte an diesen Checkpoint, so dass ein fortgesetztes {@link SimplexSolver#solve()}
+     * weiter sichert. Weitere Beobachter werden mit {@link SimplexSolver#addListener} ergänzt.
+     *
+     * @return Automat mit gesichertem Tableau, gesicherter Basis und Anzahl der Simplexschritte
+     * @throws IOException wenn die Datei nicht gelesen werden kann
+     * @pre hasCheckpoint()
+     */
+    public SimplexSolver resume() throws IOException {
+        assert hasCheckpoint();
+
+        ByteBuffer full = readRecord(start);
+        full.position(RECORD_HEADER_SIZE);
+        TableauType type = TableauType.values()[full.get()];
+        TableauLayout layout = TableauLayout.values()[full.get()];
+        SolveType solveType = SolveType.values()[full.get()];
+        int numberVars = full.getInt();
+        int numberSVars = full.getInt();
+        int rows = full.getInt();
+        int cols = full.getInt();
+        int iterations = full.getInt();
+
+        int[] columns = new int[full.getInt() * SimplexSolver.CONSTRAINT_FIELDS];
+        for (int k = 0; k < columns.length; k++) {
+            columns[k] = full.getInt();
+        }
+
+        int[] baseVars = new int[rows - 1];
+        for (int i = 0; i < baseVars.length; i++) {
+            baseVars[i] = full.getInt();
+        }
+
+        Tableau table = type.create(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            readRow(full, table, i);
+        }
+
+        // Die Änderungen überschreiben die Zeilen in der Reihenfolge, in der sie gesichert wurden
+        long position = start + fullSize;
+        while (position < end) {
+            ByteBuffer delta = readRecord(position);
+            position += delta.limit() + CHECKSUM_SIZE;
+            delta.position(RECORD_HEADER_SIZE);
+
+            iterations = delta.getInt();
+            int count = delta.getInt();
+            for (int k = 0; k < count; k++) {
+                int row = delta.getInt();
+                int baseVar = delta.getInt();
+                if (row < baseVars.length) {
+                    baseVars[row] = baseVar;
+                }
+                readRow(delta, table, row);
+            }
+        }
+
+        SimplexSolver resumed = new SimplexSolver(type, layout, solveType, numberVars,
+                numberSVars, table, baseVars, columns, iterations);
+        resumed.addListener(this);
+        return resumed;
+    }
+
+    /**
+     * Schließt die Datei.
+     *
+     * @throws IOException wenn die Datei nicht geschlossen werden kann
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public void solveStarted(SimplexSolver observed) {
+        solver = observed;
+        fullPending = true;
+    }
+
+    @Override
+    public void tableauChanged(SimplexSolver observed) {
+        solver = observed;
+        fullPending = true;
+    }
+
+    @Override
+    public void pivotColumnSelected(SimplexSolver observed, int pivotCol) {
+        Tableau table = observed.getTableau();
+        if (observed != solver || table != tableau) {
+            solver = observed;
+            fullPending = true;
+        }
+        if (fullPending || pivotCol == -1) {
+            return;
+        }
+
+        // Der folgende Simplexschritt ändert genau die Zeilen mit einem Wert in der Pivotspalte
+        for (int i = 0; i < table.getRowCount(); i++) {
+            if (table.signum(i, pivotCol) != 0) {
+                changedRows.set(i);
+            }
+        }
+    }
+
+    @Override
+    public void rowsReduced(SimplexSolver observed) {
+        if (observed.getIterations() % interval != 0 || observed.isPerturbation()
+                || !isPrimalFeasible(observed.getTableau())) {
+            return;
+        }
+
+        try {
+            if (fullPending || observed != solver || observed.getTableau() != tableau
+                    || deltaSize > fullSize) {
+                writeFull(observed);
+            } else {
+                writeDelta(observed);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param table Tableau
+     * @return true, wenn keine Zeile eine negative rechte Seite hat
+     */
+    private static boolean isPrimalFeasible(Tableau table) {
+        int rhs = table.getColumnCount() - 1;
+        for (int i = 0; i < table.getRowCount() - 1; i++) {
+            if (table.signum(i, rhs) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Liest die Positionen der gültigen Einträge einer vorhandenen Datei. Nach dem letzten
+     * vollständigen Eintrag zählen nur die Einträge derselben Generation mit fortlaufender
+     * Folgenummer, dahinter liegende Reste älterer Einträge werden überschrieben.
+     *
+     * @throws IOException wenn die Datei keine Checkpoint-Datei ist oder nicht gelesen werden
+     *         kann
+     */
+    private void recover() throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("Keine Checkpoint-Datei");
+        }
+
+        ByteBuffer header = channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Keine Checkpoint-Datei");
+        }
+
+        start = header.getLong();
+        if (start == 0) {
+            return;
+        }
+
+        ByteBuffer full = readRecord(start);
+        if (full == null) {
+            throw new IOException("Vollständiger Eintrag bei " + start + " ist beschädigt");
+        }
+        generation = full.getLong(Integer.BYTES);
+        fullSize = full.limit() + CHECKSUM_SIZE;
+        end = start + fullSize;
+
+        for (ByteBuffer delta = readRecord(end); delta != null; delta = readRecord(end)) {
+            if (delta.getLong(Integer.BYTES) != generation
+                    || delta.getInt(Integer.BYTES + Long.BYTES) != sequence + 1) {
+                break;
+            }
+            sequence++;
+            deltaSize += delta.limit() + CHECKSUM_SIZE;
+            end += delta.limit() + CHECKSUM_SIZE;
+        }
+    }
+
+    /**
+     * Liest einen Eintrag und prüft seine Prüfsumme.
+     *
+     * @param position Position des Eintrags
+     * @return Eintrag ohne Prüfsumme, die Grenze liegt am Ende der Nutzdaten, oder null, wenn an
+     *         der Position kein vollständiger Eintrag steht
+     * @throws IOException wenn die Datei nicht gelesen werden kann
+     */
+    private ByteBuffer readRecord(long position) throws IOException {
+        long size = channel.size();
+        if (position + RECORD_HEADER_SIZE + CHECKSUM_SIZE > size) {
+            return null;
+        }
+
+        int length = channel.map(MapMode.READ_ONLY, position, Integer.BYTES).getInt();
+        if (length < 0 || position + RECORD_HEADER_SIZE + length + CHECKSUM_SIZE > size) {
+            return null;
+        }
+
+        ByteBuffer record = channel.map(MapMode.READ_ONLY, position,
+                RECORD_HEADER_SIZE + length + CHECKSUM_SIZE);
+        int checksum = record.getInt(RECORD_HEADER_SIZE + length);
+        record.limit(RECORD_HEADER_SIZE + length);
+        CRC32 crc = new CRC32();
+        crc.update(record.duplicate());
+
+        return ((int) crc.getValue() == checksum) ? record : null;
+    }
+
+    /**
+     * Legt einen Eintrag an und schreibt seinen Kopf.
+     *
+     * @param position Position des Eintrags
+     * @param length Länge der Nutzdaten
+     * @param sequenceNumber Folgenummer, 0 für einen vollständigen Eintrag
+     * @return in die Datei abgebildeter Puffer, dessen Position am Anfang der Nutzdaten steht
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     */
+    private MappedByteBuffer beginRecord(long position, int length, int sequenceNumber)
+            throws IOException {
+        MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, position,
+                RECORD_HEADER_SIZE + length + CHECKSUM_SIZE);
+        buffer.putInt(length).putLong(generation).putInt(sequenceNumber);
+        return buffer;
+    }
+
+    /**
+     * Schließt einen Eintrag mit der Prüfsumme ab und schreibt ihn auf den Datenträger.
+     *
+     * @param buffer mit {@link #beginRecord(long, int, int)} angelegter und gefüllter Puffer
+     * @return Länge des Eintrags
+     * @pre buffer.remaining() == Länge der Prüfsumme
+     */
+    private long commitRecord(MappedByteBuffer buffer) {
+        assert buffer.remaining() == CHECKSUM_SIZE;
+
+        ByteBuffer content = buffer.duplicate();
+        content.flip();
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        buffer.putInt((int) crc.getValue());
+        buffer.force();
+
+        lastWriteSize = buffer.capacity();
+        return lastWriteSize;
+    }
+
+    /**
+     * Schreibt einen vollständigen Eintrag. Passt er vor den bisherigen vollständigen Eintrag,
+     * wird er an den Anfang der Datei geschrieben, sonst ans Ende. Erst danach wird der Verweis
+     * im Dateikopf umgesetzt, so dass bei einem Abbruch der bisherige Eintrag gültig bleibt.
+     *
+     * @param observed beobachteter Solver
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     */
+    private void writeFull(SimplexSolver observed) throws IOException {
+        Tableau table = observed.getTableau();
+        int[] columns = observed.getConstraintColumns();
+        int[] baseVars = observed.getBaseVars();
+        RowImage[] images = new RowImage[table.getRowCount()];
+
+        int length = FULL_FIELDS_SIZE + (columns.length + baseVars.length) * Integer.BYTES;
+        for (int i = 0; i < images.length; i++) {
+            images[i] = new RowImage(table, i);
+            length += images[i].size;
+        }
+
+        long position = end;
+        if (HEADER_SIZE + RECORD_HEADER_SIZE + length + CHECKSUM_SIZE <= start) {
+            position = HEADER_SIZE;
+        }
+
+        generation++;
+        MappedByteBuffer buffer = beginRecord(position, length, 0);
+        buffer.put((byte) observed.getTableauType().ordinal());
+        buffer.put((byte) observed.getLayout().ordinal());
+        buffer.put((byte) observed.getSolveType().ordinal());
+        buffer.putInt(observed.getNumberOfVariables());
+        buffer.putInt(observed.getRegularColumnCount() - observed.getNumberOfVariables());
+        buffer.putInt(table.getRowCount()).putInt(table.getColumnCount());
+        buffer.putInt(observed.getIterations());
+        buffer.putInt(columns.length / SimplexSolver.CONSTRAINT_FIELDS);
+        for (int column : columns) {
+            buffer.putInt(column);
+        }
+        for (int baseVar : baseVars) {
+            buffer.putInt(baseVar);
+        }
+        for (RowImage image : images) {
+            image.put(buffer);
+        }
+        fullSize = commitRecord(buffer);
+
+        MappedByteBuffer header = channel.map(MapMode.READ_WRITE, START_OFFSET, Long.BYTES);
+        header.putLong(position);
+        header.force();
+
+        start = position;
+        end = position + fullSize;
+        sequence = 0;
+        deltaSize = 0;
+        solver = observed;
+        tableau = table;
+        fullPending = false;
+        changedRows.clear();
+    }
+
+    /**
+     * Hängt einen Eintrag mit den seit dem letzten Eintrag geänderten Zeilen an.
+     *
+     * @param observed beobachteter Solver
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     */
+    private void writeDelta(SimplexSolver observed) throws IOException {
+        Tableau table = observed.getTableau();
+        int[] baseVars = observed.getBaseVars();
+        RowImage[] images = new RowImage[changedRows.cardinality()];
+
+        int length = 2 * Integer.BYTES;
+        int k = 0;
+        for (int i = changedRows.nextSetBit(0); i >= 0; i = changedRows.nextSetBit(i + 1)) {
+            images[k] = new RowImage(table, i);
+            length += 2 * Integer.BYTES + images[k].size;
+            k++;
+        }
+
+        MappedByteBuffer buffer = beginRecord(end, length, sequence + 1);
+        buffer.putInt(observed.getIterations()).putInt(images.length);
+        for (RowImage image : images) {
+            buffer.putInt(image.row);
+            buffer.putInt((image.row < baseVars.length) ? baseVars[image.row] : -1);
+            image.put(buffer);
+        }
+        long written = commitRecord(buffer);
+
+        sequence++;
+        end += written;
+        deltaSize += written;
+        changedRows.clear();
+    }
+
+}
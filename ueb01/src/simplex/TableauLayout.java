@@ -0,0 +1,22 @@
+package simplex;
+
+/**
+ * Aufteilung der Spalten eines {@link SimplexSolver}-Tableaus auf Schlupfvariablen und künstliche
+ * Variablen.
+ *
+ * @author Alexander Loeffler
+ */
+public enum TableauLayout {
+
+    /** Je Restriktion eine Schlupfvariable und eine künstliche Variable, auch wenn sie 0 bleiben */
+    FULL,
+
+    /**
+     * Schlupfvariablen nur für LE und GE, künstliche Variablen nur für GE und EQ. Die Spalten der
+     * künstlichen Variablen werden am Ende von Phase I entfernt, ebenso redundante Zeilen, in
+     * denen noch eine künstliche Variable Basisvariable ist. EQ-Restriktionen haben danach keine
+     * Einheitsspalte mehr, ihre rechte Seite lässt sich im gelösten Tableau nicht mehr ändern.
+     */
+    COMPACT
+
+}
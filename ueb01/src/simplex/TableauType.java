@@ -0,0 +1,43 @@
+package simplex;
+
+/**
+ * Speicherform des Simplex-Tableaus eines {@link SimplexSolver}.
+ *
+ * @author Alexander Loeffler
+ */
+public enum TableauType {
+
+    /** Eine Fraction-Instanz pro Zelle, jede Rechenoperation erzeugt eine neue Instanz */
+    FRACTION,
+
+    /** Zähler und Nenner zeilenweise in flachen long-Arrays, Zellen werden direkt überschrieben */
+    PRIMITIVE,
+
+    /** Je Zeile nur die Zellen ungleich 0 als sortierte Paare aus Spaltenindex und Bruch */
+    SPARSE;
+
+    /**
+     * Legt ein leeres Tableau dieser Speicherform an.
+     *
+     * @param rows Anzahl der Zeilen
+     * @param cols Anzahl der Spalten
+     * @return neues Tableau, dessen Zellen noch gesetzt werden müssen
+     * @pre rows > 0
+     * @pre cols > 0
+     */
+    Tableau create(int rows, int cols) {
+        assert rows > 0;
+        assert cols > 0;
+
+        switch (this) {
+            case PRIMITIVE:
+                return new LongTableau(rows, cols);
+            case SPARSE:
+                return new SparseTableau(rows, cols);
+            case FRACTION:
+            default:
+                return new FractionTableau(rows, cols);
+        }
+    }
+
+}
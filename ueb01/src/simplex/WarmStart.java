@@ -0,0 +1,167 @@
+package simplex;
+
+/**
+ * Startet einen {@link SimplexSolver} von einer vorgegebenen Basis aus, statt im Ausgangstableau
+ * zu beginnen, siehe {@link SimplexSolver#solveFrom(int[])} und
+ * {@link SimplexSolver#solveFloatingPoint(double, double)}. Die Basis wird direkt in das Tableau
+ * pivotisiert. Ist sie nicht verwendbar, wird das Tableau zurückgesetzt und vollständig gelöst.
+ *
+ * @author Alexander Loeffler
+ */
+final class WarmStart {
+
+    /** Automat, der von der Basis aus gelöst wird */
+    private final SimplexSolver solver;
+
+    /** Direkt in die Basis pivotisierte neue Spalten */
+    private int installedColumns;
+
+    /**
+     * Konstruktor.
+     *
+     * @param solver Automat im Ausgangstableau
+     * @pre solver != null
+     */
+    WarmStart(SimplexSolver solver) {
+        assert solver != null;
+
+        this.solver = solver;
+    }
+
+    /**
+     * Löst das Problem zunächst in Gleitkommaarithmetik und setzt die gefundene Basis exakt ein.
+     *
+     * @param pivotTolerance kleinster Betrag, den ein Pivotelement in Gleitkomma haben muss
+     * @param feasibilityTolerance Werte mit kleinerem Betrag gelten in Gleitkomma als 0
+     * @return optimale Koeffizienten und Wert der Zielfunktion oder null, wenn unlösbar
+     */
+    Fraction[] solveFloatingPoint(double pivotTolerance, double feasibilityTolerance) {
+        int[] basis = new DoubleSimplex(solver.getTableau(), solver.getBaseVars(),
+                solver.getRegularColumnCount(), solver.getArtificialColumnCount(),
+                pivotTolerance, feasibilityTolerance).solve();
+
+        if (basis != null) {
+            SimplexSolver.Snapshot initial = solver.takeSnapshot();
+
+            if (installBasis(basis) && solver.isFeasible()) {
+
+                // Ist die Basis bereits optimal, fuehrt solve() keinen Schritt mehr aus
+                return solver.solve();
+            }
+
+            // Gleitkomma-Basis nicht zulaessig, exakter Neustart
+            solver.restore(initial);
+        }
+
+        return solver.solve();
+    }
+
+    /**
+     * Löst das Problem ausgehend von der übergebenen Basis. Ist sie zulässig, wird primal
+     * weitergerechnet, ist sie frei von künstlichen Variablen und dual zulässig, dual.
+     *
+     * @param basis Indices der Basisvariablen im Indexraum von
+     *            {@link SimplexSolver#getBaseVars()}
+     * @return optimale Koeffizienten und Wert der Zielfunktion oder null, wenn unlösbar
+     */
+    Fraction[] solveFrom(int[] basis) {
+        SimplexSolver.Snapshot initial = solver.takeSnapshot();
+        int installed = countNewColumns(basis);
+
+        if (installBasis(basis)) {
+            if (solver.isFeasible()) {
+                installedColumns = installed;
+                return solver.solve();
+            }
+
+            if (solver.isValidSolution() && !solver.lastTableRowHasPositiveFraction()) {
+                installedColumns = installed;
+                return solver.solveDual();
+            }
+        }
+
+        // Basis nicht verwendbar, Neustart im Ausgangstableau
+        solver.restore(initial);
+        installedColumns = 0;
+
+        return solver.solve();
+    }
+
+    /**
+     * @return beim letzten {@link #solveFrom(int[])} direkt in die Basis pivotisierte neue
+     *         Spalten, 0 wenn die Basis verworfen wurde
+     */
+    int getInstalledColumns() {
+        return installedColumns;
+    }
+
+    /**
+     * Zählt die Spalten der übergebenen Basis, die noch nicht Basisvariable sind.
+     *
+     * @param basis Indices der Basisvariablen
+     * @return Anzahl der Spalten, die noch in die Basis aufgenommen werden müssen
+     */
+    private int countNewColumns(int[] basis) {
+        int cols = solver.getTableau().getColumnCount();
+        boolean[] inBase = new boolean[cols];
+        for (int baseVar : solver.getBaseVars()) {
+            inBase[baseVar] = true;
+        }
+
+        int count = 0;
+        for (int col : basis) {
+            assert col >= 0 && col < cols - 1;
+
+            if (!inBase[col]) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Pivotisiert die übergebene Basis in das Tableau. Jede Spalte der Basis, die noch nicht
+     * Basisvariable ist, wird in einer Zeile aufgenommen, deren Basisvariable nicht zur neuen
+     * Basis gehört. Die Vorzeichen der rechten Seite werden dabei nicht beachtet.
+     *
+     * @param basis Indices der neuen Basisvariablen (in beliebiger Reihenfolge)
+     * @return true, wenn alle Spalten aufgenommen werden konnten, false wenn die Basis singulär
+     *         ist
+     * @pre basis.length == solver.getBaseVars().length
+     */
+    private boolean installBasis(int[] basis) {
+        int[] baseVars = solver.getBaseVars();
+        assert basis.length == baseVars.length;
+
+        Tableau table = solver.getTableau();
+        boolean[] inBasis = new boolean[table.getColumnCount()];
+        for (int col : basis) {
+            inBasis[col] = true;
+        }
+
+        for (int col : basis) {
+            int row = -1;
+
+            for (int i = 0; i < baseVars.length && row == -1; i++) {
+                if (baseVars[i] == col) {
+                    row = i;
+                } else if (!inBasis[baseVars[i]] && table.signum(i, col) != 0) {
+                    row = i;
+                }
+            }
+
+            if (row == -1) {
+                return false;
+            }
+
+            if (baseVars[row] != col) {
+                solver.pivot(row, col);
+            }
+        }
+        solver.getListener().tableauChanged(solver);
+
+        return true;
+    }
+
+}
@@ -0,0 +1,119 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.packing;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import simplex.BatchSolver;
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für das gleichzeitige Lösen vieler Probleme
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class BatchTests {
+
+    /** Gemischte Probleme, darunter viele gleicher Größe */
+    private static List<LinearProgram> programs() {
+        List<LinearProgram> programs = new ArrayList<>();
+        for (int seed = 0; seed < 40; seed++) {
+            programs.add(packing(seed, 6, 4));
+        }
+        programs.add(example());
+        programs.add(fractional());
+        programs.add(maximize());
+        return programs;
+    }
+
+    @Test
+    public void batch_inputOrder() {
+        List<LinearProgram> programs = programs();
+
+        for (TableauType type : TableauType.values()) {
+            try (BatchSolver batch = new BatchSolver(4, type)) {
+                List<Fraction[]> results = batch.solveAll(programs);
+
+                assertEquals(programs.size(), results.size());
+                for (int i = 0; i < programs.size(); i++) {
+                    assertArrayEquals(type.name(),
+                            new SimplexSolver(programs.get(i), type).solve(), results.get(i));
+                }
+                assertEquals(programs.size(), batch.getSolvedCount());
+                assertTrue(batch.getReusedTableauCount() > 0);
+                assertTrue(batch.getThroughput() > 0);
+            }
+        }
+    }
+
+    @Test
+    public void batch_asCompleted() {
+        List<LinearProgram> programs = programs();
+        Fraction[][] results = new Fraction[programs.size()][];
+
+        try (BatchSolver batch = new BatchSolver(3)) {
+            batch.solveEach(programs, (index, result) -> results[index] = result);
+        }
+
+        for (int i = 0; i < programs.size(); i++) {
+            assertArrayEquals(new SimplexSolver(programs.get(i)).solve(), results[i]);
+        }
+    }
+
+    @Test
+    public void batch_streamWithInfeasible() {
+        LinearProgram infeasible = new LinearProgram(rs(r(fs(f(1)), Type.LE, f(1)),
+                r(fs(f(1)), Type.GE, f(2))), SolveType.MAX, f(1));
+
+        try (BatchSolver batch = new BatchSolver(2)) {
+            List<Fraction[]> results = batch.solveAll(Stream.of(example(), infeasible));
+
+            assertArrayEquals(fs(f(50), f(40), f(420)), results.get(0));
+            assertNull(results.get(1));
+        }
+    }
+
+    @Test
+    public void batch_streamBoundedInFlight() {
+        AtomicLong generated = new AtomicLong();
+        AtomicLong maxAhead = new AtomicLong();
+
+        try (BatchSolver batch = new BatchSolver(2)) {
+            Stream<LinearProgram> programs = Stream.iterate(0L, seed -> seed + 1).limit(60)
+                    .map(seed -> {
+                        long ahead = generated.incrementAndGet() - batch.getSolvedCount();
+                        maxAhead.accumulateAndGet(ahead, Math::max);
+                        return packing(seed, 6, 4);
+                    });
+
+            List<Fraction[]> results = batch.solveAll(programs);
+
+            assertEquals(60, results.size());
+            assertArrayEquals(new SimplexSolver(packing(59, 6, 4)).solve(), results.get(59));
+
+            // Das gerade geholte Problem wartet noch auf einen freien Platz
+            assertTrue(maxAhead.get() <= batch.getMaxInFlight() + 1);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.knapsack;
+import static simplex.TestPrograms.packing;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import simplex.BranchAndBoundSolver;
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.TableauType;
+
+/**
+ * Tests für gemischt-ganzzahlige Probleme mit Branch-and-Bound
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class BranchAndBoundTests {
+
+    /** Pool mit mehreren Threads, unabhängig von der Anzahl der Kerne des Testrechners */
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    /** Pool mit einem Thread, bearbeitet die Knoten streng nach der besten Schranke */
+    private static final ForkJoinPool SEQUENTIAL = new ForkJoinPool(1);
+
+    @AfterClass
+    public static void shutdown() {
+        POOL.shutdown();
+        SEQUENTIAL.shutdown();
+    }
+
+    /** Markiert alle Variablen als ganzzahlig */
+    private static boolean[] allIntegral(int count) {
+        boolean[] integral = new boolean[count];
+        Arrays.fill(integral, true);
+        return integral;
+    }
+
+    @Test
+    public void branchAndBound_integral() {
+        for (TableauType type : TableauType.values()) {
+            BranchAndBoundSolver solver =
+                    new BranchAndBoundSolver(knapsack(), allIntegral(2), type);
+
+            assertArrayEquals(type.name(), fs(f(4), f(0), f(20)), solver.solve(POOL));
+            assertTrue(type.name(), solver.getNodeCount() > 1);
+        }
+    }
+
+    @Test
+    public void branchAndBound_mixed() {
+        BranchAndBoundSolver solver =
+                new BranchAndBoundSolver(knapsack(), new boolean[] {true, false});
+
+        // Die Relaxation ist in x bereits ganzzahlig
+        assertArrayEquals(
+                fs(f(3), f(3, 2), f(21)),
+                solver.solve());
+        assertEquals(1, solver.getNodeCount());
+    }
+
+    @Test
+    public void branchAndBound_noIntegralSolution() {
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(2)), Type.EQ, f(1))), SolveType.MAX, f(1));
+
+        assertNull(new BranchAndBoundSolver(lp, allIntegral(1)).solve(POOL));
+    }
+
+    @Test
+    public void branchAndBound_parallelSameOptimum() {
+        for (long seed = 1; seed <= 3; seed++) {
+            LinearProgram lp = packing(seed, 6, 5);
+            Fraction[] sequential =
+                    new BranchAndBoundSolver(lp, allIntegral(5)).solve(SEQUENTIAL);
+            Fraction[] parallel = new BranchAndBoundSolver(lp, allIntegral(5)).solve(POOL);
+
+            assertEquals(sequential[5], parallel[5]);
+            for (int j = 0; j < 5; j++) {
+                assertEquals(BigInteger.ONE, parallel[j].getBigDenominator());
+            }
+        }
+    }
+
+}
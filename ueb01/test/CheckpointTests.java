@@ -0,0 +1,221 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static simplex.TestPrograms.f;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import simplex.Fraction;
+import simplex.LinearProgram.SolveType;
+import simplex.LinearProgramGenerator;
+import simplex.SimplexSolver;
+import simplex.SolverListener;
+import simplex.SolverStatistics;
+import simplex.SparseLinearProgram;
+import simplex.TableauCheckpoint;
+import simplex.TableauType;
+
+/**
+ * Tests für das Sichern und Fortsetzen eines Lösungsvorgangs
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class CheckpointTests {
+
+    /** Verzeichnis für Testdateien */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Beobachter, der die Meldungen an einen Checkpoint weitergibt und den Lösungsvorgang nach
+     * einer festen Anzahl von Simplexschritten abbricht.
+     */
+    private static final class Crash implements SolverListener {
+
+        /** Checkpoint, der die Meldungen erhält */
+        private final TableauCheckpoint checkpoint;
+
+        /** Anzahl der Simplexschritte, nach der abgebrochen wird */
+        private final int stop;
+
+        /** Länge des zuletzt geschriebenen Eintrags nach jedem Simplexschritt */
+        private final List<Long> sizes = new ArrayList<>();
+
+        /**
+         * Konstruktor.
+         *
+         * @param checkpoint Checkpoint, der die Meldungen erhält
+         * @param stop Anzahl der Simplexschritte, nach der abgebrochen wird
+         */
+        private Crash(TableauCheckpoint checkpoint, int stop) {
+            this.checkpoint = checkpoint;
+            this.stop = stop;
+        }
+
+        @Override
+        public void solveStarted(SimplexSolver solver) {
+            checkpoint.solveStarted(solver);
+        }
+
+        @Override
+        public void pivotColumnSelected(SimplexSolver solver, int pivotCol) {
+            checkpoint.pivotColumnSelected(solver, pivotCol);
+        }
+
+        @Override
+        public void rowsReduced(SimplexSolver solver) {
+            checkpoint.rowsReduced(solver);
+            sizes.add(checkpoint.getLastWriteSize());
+            if (solver.getIterations() == stop) {
+                throw new IllegalStateException("Abbruch nach " + stop + " Schritten");
+            }
+        }
+    }
+
+    /**
+     * Löst das Problem, bis es nach stop Simplexschritten abgebrochen wird, und gibt die Länge
+     * des zuletzt geschriebenen Eintrags nach jedem Schritt zurück.
+     */
+    private static List<Long> solveUntil(SimplexSolver solver, TableauCheckpoint checkpoint,
+            int stop) {
+        Crash crash = new Crash(checkpoint, stop);
+        solver.setListener(crash);
+        try {
+            solver.solve();
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().startsWith("Abbruch"));
+        }
+        return crash.sizes;
+    }
+
+    /** Problem mit gemischten Restriktionstypen, das beide Phasen durchläuft */
+    private static SparseLinearProgram mixed(long seed) {
+        LinearProgramGenerator generator = new LinearProgramGenerator(seed);
+        generator.setSolveType(SolveType.MIN);
+        generator.setTypeWeights(2, 1, 1);
+        generator.setDensity(0.5);
+        return generator.random(15, 10);
+    }
+
+    @Test
+    public void checkpoint_resumeKleeMinty() throws IOException {
+        Path file = folder.newFile("klee-minty.chk").toPath();
+        Files.delete(file);
+
+        try (TableauCheckpoint checkpoint = new TableauCheckpoint(file, 3)) {
+            assertFalse(checkpoint.hasCheckpoint());
+            solveUntil(new SimplexSolver(LinearProgramGenerator.kleeMinty(5),
+                    TableauType.PRIMITIVE), checkpoint, 17);
+        }
+
+        // Gesichert wurde zuletzt nach 15 Schritten, Dantzig braucht insgesamt 31
+        try (TableauCheckpoint checkpoint = new TableauCheckpoint(file, 3)) {
+            SimplexSolver solver = checkpoint.resume();
+            SolverStatistics statistics = new SolverStatistics();
+            solver.addListener(statistics);
+            assertEquals(15, solver.getIterations());
+
+            Fraction[] result = solver.solve();
+            assertEquals(31, solver.getIterations());
+            assertEquals(f(3125), result[5]);
+            assertEquals(16, statistics.getIterations());
+            assertTrue(checkpoint.getLastWriteSize() > 0);
+        }
+    }
+
+    @Test
+    public void checkpoint_resumeMatchesSolve() throws IOException {
+        for (TableauType type : TableauType.values()) {
+            for (long seed = 1; seed <= 5; seed++) {
+                SimplexSolver uninterrupted = new SimplexSolver(mixed(seed), type);
+                Fraction[] expected = uninterrupted.solve();
+                int stop = uninterrupted.getIterations() / 2;
+
+                Path file = folder.newFile().toPath();
+                try (TableauCheckpoint checkpoint = new TableauCheckpoint(file, 1)) {
+                    solveUntil(new SimplexSolver(mixed(seed), type), checkpoint, stop);
+                }
+
+                try (TableauCheckpoint checkpoint = new TableauCheckpoint(file, 1)) {
+                    SimplexSolver solver = checkpoint.resume();
+                    assertEquals(stop, solver.getIterations());
+                    assertArrayEquals(expected, solver.solve());
+                    assertEquals(uninterrupted.getIterations(), solver.getIterations());
+                    assertArrayEquals(uninterrupted.getBaseVars(), solver.getBaseVars());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void checkpoint_deltaProportionalToChangedRows() throws IOException {
+        LinearProgramGenerator generator = new LinearProgramGenerator(3);
+        generator.setDensity(0.02);
+        SimplexSolver solver = new SimplexSolver(generator.random(200, 100), TableauType.SPARSE);
+
+        try (TableauCheckpoint checkpoint = new TableauCheckpoint(folder.newFile().toPath(),
+                1)) {
+            List<Long> sizes = solveUntil(solver, checkpoint, 3);
+
+            // Nach dem ersten Schritt wird das ganze Tableau gesichert, danach nur die Zeilen
+            // mit einem Wert in der Pivotspalte (darunter die voll besetzte erste Zeile und die
+            // Zielfunktionszeile)
+            assertTrue(sizes.get(1) * 4 < sizes.get(0));
+            assertTrue(sizes.get(2) * 4 < sizes.get(0));
+        }
+    }
+
+    @Test
+    public void checkpoint_tornRecord() throws IOException {
+        Path file = folder.newFile().toPath();
+        try (TableauCheckpoint checkpoint = new TableauCheckpoint(file, 1)) {
+            solveUntil(new SimplexSolver(mixed(7), TableauType.FRACTION), checkpoint, 6);
+        }
+
+        // Hinter dem letzten Eintrag steht ein nur teilweise geschriebener Eintrag
+        byte[] torn = {0, 0, 0, 64, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 7, 1, 2, 3};
+        Files.write(file, torn, StandardOpenOption.APPEND);
+
+        try (TableauCheckpoint checkpoint = new TableauCheckpoint(file, 1)) {
+            SimplexSolver solver = checkpoint.resume();
+            assertEquals(6, solver.getIterations());
+            assertArrayEquals(new SimplexSolver(mixed(7), TableauType.FRACTION).solve(),
+                    solver.solve());
+        }
+
+        // Der fortgesetzte Automat hat bis zum Ende weiter gesichert
+        SimplexSolver uninterrupted = new SimplexSolver(mixed(7), TableauType.FRACTION);
+        uninterrupted.solve();
+        try (TableauCheckpoint checkpoint = new TableauCheckpoint(file, 1)) {
+            assertEquals(uninterrupted.getIterations(), checkpoint.resume().getIterations());
+        }
+    }
+
+    @Test
+    public void checkpoint_foreignFile() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, "ROWS\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        try {
+            new TableauCheckpoint(file, 1).close();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("Checkpoint"));
+        }
+    }
+
+}
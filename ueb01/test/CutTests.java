@@ -0,0 +1,100 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.knapsack;
+import static simplex.TestPrograms.packing;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import simplex.BranchAndBoundSolver;
+import simplex.Fraction;
+import simplex.GomoryCutGenerator;
+import simplex.LinearProgram;
+
+/**
+ * Tests für Gomory-Schnitte
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class CutTests {
+
+    /** Alle Variablen des Rucksackproblems sind ganzzahlig */
+    private static final boolean[] BOTH = {true, true};
+
+    /** Pool mit einem Thread, damit die Anzahl der Knoten nicht vom Scheduling abhängt */
+    private static final ForkJoinPool SEQUENTIAL = new ForkJoinPool(1);
+
+    @AfterClass
+    public static void shutdown() {
+        SEQUENTIAL.shutdown();
+    }
+
+    /** Wert des Terms einer Restriktion für die übergebene Lösung */
+    private static Fraction evaluate(LinearProgram.Restriction restriction, Fraction[] x) {
+        Fraction sum = Fraction.ZERO;
+        for (int j = 0; j < restriction.getTerm().length; j++) {
+            sum = sum.add(restriction.getTerm()[j].multiplyBy(x[j]));
+        }
+        return sum;
+    }
+
+    @Test
+    public void cuts_noRoundsSolvesRelaxation() {
+        GomoryCutGenerator generator = new GomoryCutGenerator(knapsack(), BOTH);
+
+        assertArrayEquals(fs(f(3), f(3, 2), f(21)), generator.solve(0));
+        assertTrue(generator.getCuts().isEmpty());
+    }
+
+    @Test
+    public void cuts_firstRound() {
+        GomoryCutGenerator generator = new GomoryCutGenerator(knapsack(), BOTH);
+        Fraction[] result = generator.solve(1);
+        List<LinearProgram.Restriction> cuts = generator.getCuts();
+
+        // Schnitt aus der Zeile von y = 3/2, ausgedrueckt in x und y: 6x + 5y <= 25
+        assertEquals(1, cuts.size());
+        assertArrayEquals(fs(f(6), f(5)), cuts.get(0).getTerm());
+        assertEquals(f(25), cuts.get(0).getRightSide());
+        assertArrayEquals(fs(f(10, 3), f(1), f(62, 3)), result);
+    }
+
+    @Test
+    public void cuts_closeGap() {
+        GomoryCutGenerator generator = new GomoryCutGenerator(knapsack(), BOTH);
+        Fraction[] result = generator.solve(10);
+        Fraction[] integral = {f(4), f(0), f(20)};
+
+        assertArrayEquals(integral, result);
+        for (LinearProgram.Restriction cut : generator.getCuts()) {
+            Fraction value = evaluate(cut, integral);
+            int order = value.compareTo(cut.getRightSide());
+            assertTrue(cut.getType() == LinearProgram.Restriction.Type.LE ? order <= 0
+                    : order >= 0);
+        }
+    }
+
+    @Test
+    public void cuts_fewerNodes() {
+        boolean[] all = {true, true, true, true, true};
+
+        for (long seed = 1; seed <= 3; seed++) {
+            LinearProgram lp = packing(seed, 6, 5);
+            BranchAndBoundSolver plain = new BranchAndBoundSolver(lp, all);
+            BranchAndBoundSolver withCuts = new BranchAndBoundSolver(lp, all);
+            withCuts.setCutRounds(3);
+
+            assertEquals(plain.solve(SEQUENTIAL)[5], withCuts.solve(SEQUENTIAL)[5]);
+            assertTrue(withCuts.getCutCount() > 0);
+            assertTrue(withCuts.getNodeCount() <= plain.getNodeCount());
+        }
+    }
+
+}
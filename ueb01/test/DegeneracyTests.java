@@ -0,0 +1,103 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.beale;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.packing;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import org.junit.Test;
+
+import simplex.AntiCyclingRule;
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.PricingStrategy;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für entartete Probleme: Zyklen, Störung der rechten Seiten und künstliche Variablen auf
+ * Höhe 0
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class DegeneracyTests {
+
+    /** Lösung des Beispiels von Beale */
+    private static final Fraction[] BEALE_SOLUTION = fs(f(1), f(0), f(1), f(0), f(5, 4));
+
+    @Test
+    public void cycling_bland() {
+        for (TableauType type : TableauType.values()) {
+            SimplexSolver solver = new SimplexSolver(beale(), type);
+
+            assertArrayEquals(type.name(), BEALE_SOLUTION, solver.solve());
+            assertEquals(type.name(), 1, solver.getCyclesDetected());
+        }
+    }
+
+    @Test
+    public void cycling_lexicographic() {
+        for (PricingStrategy strategy : PricingStrategy.values()) {
+            SimplexSolver solver = new SimplexSolver(beale(), TableauType.FRACTION);
+            solver.setAntiCyclingRule(AntiCyclingRule.LEXICOGRAPHIC);
+            solver.setPricingStrategy(strategy);
+
+            assertArrayEquals(strategy.name(), BEALE_SOLUTION, solver.solve());
+        }
+    }
+
+    @Test
+    public void perturbation_avoidsCycle() {
+        SimplexSolver solver = new SimplexSolver(beale(), TableauType.PRIMITIVE);
+        solver.setPerturbation(true);
+
+        assertArrayEquals(BEALE_SOLUTION, solver.solve());
+        assertEquals(0, solver.getCyclesDetected());
+        assertTrue(solver.isValidSolution());
+    }
+
+    @Test
+    public void perturbation_exactResult() {
+        LinearProgram[] programs = {example(), minimize(),
+            fractional(), packing(2, 20, 10)};
+
+        for (LinearProgram lp : programs) {
+            SimplexSolver solver = new SimplexSolver(lp, TableauType.SPARSE);
+            solver.setPerturbation(true);
+
+            assertArrayEquals(new SimplexSolver(lp).solve(), solver.solve());
+        }
+    }
+
+    @Test
+    public void phaseOne_redundantRestriction() {
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(1), f(1)), Type.EQ, f(2)),
+                r(fs(f(2), f(2)), Type.EQ, f(4))), SolveType.MAX, f(1), f(0));
+
+        for (boolean perturbation : new boolean[] {false, true}) {
+            SimplexSolver solver = new SimplexSolver(lp);
+            solver.setPerturbation(perturbation);
+
+            assertArrayEquals(fs(f(2), f(0), f(2)), solver.solve());
+            assertTrue(solver.isValidSolution());
+        }
+    }
+
+    @Test
+    public void phaseOne_artificialAtZero() {
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(1), f(-1)), Type.GE, f(0)),
+                r(fs(f(1), f(1)), Type.LE, f(4))), SolveType.MAX, f(0), f(1));
+
+        assertArrayEquals(fs(f(2), f(2), f(2)), new SimplexSolver(lp).solve());
+    }
+
+}
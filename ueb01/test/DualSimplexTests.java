@@ -0,0 +1,136 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.packing;
+import static simplex.TestPrograms.r;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.RevisedSimplexSolver;
+import simplex.SimplexSolver;
+import simplex.SolverListener;
+import simplex.TableauType;
+
+/**
+ * Tests für das Hinzufügen von Restriktionen mit anschließendem dualen Simplex
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class DualSimplexTests {
+
+    /** Zählt die Simplexschritte */
+    private static final class IterationCounter implements SolverListener {
+
+        /** Anzahl der Simplexschritte */
+        private int iterations;
+
+        @Override
+        public void iterationStarted(SimplexSolver solver, int iteration) {
+            iterations++;
+        }
+    }
+
+    /** Das Problem mit zusätzlichen Restriktionen */
+    private static LinearProgram with(LinearProgram lp, Restriction... added) {
+        Restriction[] restrictions = Arrays.copyOf(lp.getRestrictions(),
+                lp.getRestrictions().length + added.length);
+        System.arraycopy(added, 0, restrictions, lp.getRestrictions().length, added.length);
+
+        return new LinearProgram(restrictions, lp.getSolveType(), lp.getObjectiveTerm());
+    }
+
+    /** Löst, fügt die Restriktionen hinzu und löst dual weiter */
+    private static Fraction[] reoptimize(LinearProgram lp, TableauType type,
+            Restriction... added) {
+        SimplexSolver solver = new SimplexSolver(lp, type);
+        solver.solve();
+
+        for (Restriction restriction : added) {
+            solver.addRestriction(restriction);
+        }
+
+        return solver.solveDual();
+    }
+
+    @Test
+    public void dual_le() {
+        Restriction cut = r(fs(f(1), f(0)), Type.LE, f(2));
+
+        assertArrayEquals(new RevisedSimplexSolver(with(maximize(), cut)).solve(),
+                reoptimize(maximize(), TableauType.FRACTION, cut));
+    }
+
+    @Test
+    public void dual_ge() {
+        Restriction cut = r(fs(f(0), f(1)), Type.GE, f(13));
+
+        assertArrayEquals(new RevisedSimplexSolver(with(maximize(), cut)).solve(),
+                reoptimize(maximize(), TableauType.PRIMITIVE, cut));
+    }
+
+    @Test
+    public void dual_eqAfterPhaseOne() {
+        Restriction cut = r(fs(f(1), f(0)), Type.EQ, f(45));
+
+        assertArrayEquals(new RevisedSimplexSolver(with(example(), cut)).solve(),
+                reoptimize(example(), TableauType.SPARSE, cut));
+    }
+
+    @Test
+    public void dual_notViolated() {
+        Restriction cut = r(fs(f(1), f(1)), Type.LE, f(100));
+        SimplexSolver solver = new SimplexSolver(maximize());
+        Fraction[] before = solver.solve();
+        IterationCounter counter = new IterationCounter();
+
+        solver.addRestriction(cut);
+        solver.setListener(counter);
+
+        assertArrayEquals(before, solver.solveDual());
+        assertEquals(0, counter.iterations);
+        assertEquals(4, solver.getBaseVars().length);
+    }
+
+    @Test
+    public void dual_infeasible() {
+        Restriction cut = r(fs(f(1), f(1)), Type.GE, f(100));
+
+        assertNull(reoptimize(maximize(), TableauType.FRACTION, cut));
+    }
+
+    @Test
+    public void dual_branchingCut() {
+        LinearProgram lp = packing(4, 30, 20);
+        IterationCounter counter = new IterationCounter();
+        SimplexSolver solver = new SimplexSolver(lp, TableauType.PRIMITIVE, counter);
+        Fraction[] relaxed = solver.solve();
+        int primalIterations = counter.iterations;
+
+        // x0 ist in der Loesung gebrochen und wird auf den ganzzahligen Anteil beschraenkt
+        Fraction[] term = new Fraction[20];
+        Arrays.fill(term, f(0));
+        term[0] = f(1);
+        Restriction cut =
+                r(term, Type.LE, f(relaxed[0].getNumerator() / relaxed[0].getDenominator()));
+
+        solver.addRestriction(cut);
+        counter.iterations = 0;
+        Fraction[] result = solver.solveDual();
+
+        assertArrayEquals(new RevisedSimplexSolver(with(lp, cut)).solve(), result);
+        assertTrue(counter.iterations < primalIterations);
+    }
+
+}
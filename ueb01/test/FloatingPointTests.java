@@ -0,0 +1,94 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.exampleSolution;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.fractionalSolution;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.large;
+import static simplex.TestPrograms.largeSolution;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.maximizeSolution;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.minimizeSolution;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für das Lösen in Gleitkommaarithmetik mit exakter Prüfung der Basis
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class FloatingPointTests {
+
+    /** Pivottoleranz für die Tests */
+    private static final double PIVOT_TOLERANCE = 1e-9;
+
+    /** Zulässigkeitstoleranz für die Tests */
+    private static final double FEASIBILITY_TOLERANCE = 1e-9;
+
+    /** Löst das Problem in Gleitkommaarithmetik mit den Toleranzen der Tests */
+    private static Fraction[] solveFloatingPoint(LinearProgram lp) {
+        return new SimplexSolver(lp).solveFloatingPoint(PIVOT_TOLERANCE, FEASIBILITY_TOLERANCE);
+    }
+
+    @Test
+    public void floatingPoint_examples() {
+        assertArrayEquals(exampleSolution(), solveFloatingPoint(example()));
+        assertArrayEquals(minimizeSolution(), solveFloatingPoint(minimize()));
+        assertArrayEquals(maximizeSolution(), solveFloatingPoint(maximize()));
+        assertArrayEquals(fractionalSolution(), solveFloatingPoint(fractional()));
+    }
+
+    @Test
+    public void floatingPoint_exactResult() {
+        assertArrayEquals(largeSolution(), solveFloatingPoint(large()));
+        assertArrayEquals(largeSolution(), new SimplexSolver(large(), TableauType.PRIMITIVE)
+                .solveFloatingPoint(PIVOT_TOLERANCE, FEASIBILITY_TOLERANCE));
+    }
+
+    @Test
+    public void floatingPoint_fallbackToExact() {
+
+        // Mit dieser Pivottoleranz findet die Gleitkommarechnung kein Pivotelement
+        assertArrayEquals(exampleSolution(),
+                new SimplexSolver(example()).solveFloatingPoint(1e6, FEASIBILITY_TOLERANCE));
+    }
+
+    @Test
+    public void floatingPoint_rejectedBasis() {
+
+        // max x mit 2x <= 2 und x <= 1 - 10^-10: die Quotienten unterscheiden sich um weniger als
+        // die Toleranz, Gleitkomma wählt daher das größere Pivotelement der ersten Zeile. Exakt
+        // ist diese Basis unzulässig, vom Ausgangstableau aus genügt ein exakter Schritt
+        Fraction bound = f(9999999999L, 10000000000L);
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(2)), Type.LE, f(2)),
+                r(fs(f(1)), Type.LE, bound)), SolveType.MAX, f(1));
+        SimplexSolver solver = new SimplexSolver(lp);
+
+        assertArrayEquals(fs(bound, bound),
+                solver.solveFloatingPoint(PIVOT_TOLERANCE, FEASIBILITY_TOLERANCE));
+        assertEquals(1, solver.getIterations());
+    }
+
+    @Test
+    public void floatingPoint_infeasible() {
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(1), f(1)), Type.LE, f(2)),
+                r(fs(f(1), f(1)), Type.GE, f(3))), SolveType.MAX, f(1), f(1));
+
+        assertNull(solveFloatingPoint(lp));
+    }
+
+}
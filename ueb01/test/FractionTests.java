@@ -0,0 +1,146 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.FractionAccumulator;
+
+/**
+ * Tests für die überlaufsichere Arithmetik der Klasse Fraction
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class FractionTests {
+
+    /** Hilfsmethode zum Erstellen einer Fraction-Instanz */
+    private static Fraction f(long numerator, long denominator) {
+        return new Fraction(numerator, denominator);
+    }
+
+    /** Hilfsmethode zum Erstellen einer Fraction-Instanz aus Strings */
+    private static Fraction big(String numerator, String denominator) {
+        return new Fraction(new BigInteger(numerator), new BigInteger(denominator));
+    }
+
+    @Test
+    public void negativeDenominator() {
+        Fraction fraction = f(3, -6);
+
+        assertEquals(-1, fraction.getNumerator());
+        assertEquals(2, fraction.getDenominator());
+    }
+
+    @Test
+    public void multiplyOverflowPromotes() {
+        Fraction fraction = f(Long.MAX_VALUE, 3).multiplyBy(f(Long.MAX_VALUE, 5));
+
+        assertTrue(fraction.isBig());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).pow(2), fraction.getBigNumerator());
+        assertEquals(BigInteger.valueOf(15), fraction.getBigDenominator());
+    }
+
+    @Test
+    public void addOverflowPromotes() {
+        Fraction fraction = f(Long.MAX_VALUE - 1, 1).add(f(Long.MAX_VALUE - 1, 1));
+
+        assertTrue(fraction.isBig());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE - 1).shiftLeft(1),
+                fraction.getBigNumerator());
+    }
+
+    @Test
+    public void subtractDenominatorOverflow() {
+        Fraction fraction = f(1, 4294967291L).subtract(f(1, 4294967279L));
+
+        assertTrue(fraction.isBig());
+        assertEquals(big("12", "18446743979220271189"), fraction.multiplyBy(f(-1, 1)));
+    }
+
+    @Test
+    public void demoteWhenSmallAgain() {
+        Fraction fraction = f(Long.MAX_VALUE, 3).multiplyBy(f(Long.MAX_VALUE, 5));
+        Fraction back = fraction.divideBy(f(Long.MAX_VALUE, 1));
+
+        assertFalse(back.isBig());
+        assertEquals(f(Long.MAX_VALUE, 15), back);
+    }
+
+    @Test
+    public void compareOverflow() {
+        Fraction a = f(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1);
+        Fraction b = f(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+
+        assertTrue(a.compareTo(b) < 0);
+        assertTrue(b.compareTo(a) > 0);
+        assertTrue(a.multiplyBy(b).compareTo(a) < 0);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void bigNumeratorNotAsLong() {
+        f(Long.MAX_VALUE, 1).add(f(1, 1)).getNumerator();
+    }
+
+    @Test
+    public void subtractProductReduced() {
+        // 5/6 - 3/4 * 2/9 = 5/6 - 1/6 = 2/3, gekuerzt wird nur mit dem ggT der Nenner
+        assertEquals(f(2, 3), f(5, 6).subtractProduct(f(3, 4), f(2, 9)));
+        assertEquals(f(-7, 2), f(1, 2).subtractProduct(f(2, 1), f(2, 1)));
+        assertEquals(Fraction.ZERO, f(1, 6).subtractProduct(f(1, 2), f(1, 3)));
+        assertEquals(f(5, 6), f(5, 6).subtractProduct(Fraction.ZERO, f(7, 3)));
+    }
+
+    @Test
+    public void subtractProductOverflow() {
+        Fraction fraction = f(Long.MIN_VALUE + 1, 1).subtractProduct(f(Long.MAX_VALUE, 1),
+                f(2, 1));
+
+        assertTrue(fraction.isBig());
+        assertEquals(f(Long.MIN_VALUE + 1, 1).subtract(f(Long.MAX_VALUE, 1).multiplyBy(f(2, 1))),
+                fraction);
+        assertEquals(f(1, 2), fraction.subtractProduct(fraction, f(1, 1)).add(f(1, 2)));
+    }
+
+    @Test
+    public void subtractProductMatchesSubtract() {
+        Random random = new Random(5);
+        long[] bounds = {10, 1000, 1L << 20, 1L << 40, Long.MAX_VALUE};
+
+        for (int i = 0; i < 5000; i++) {
+            long bound = bounds[i % bounds.length];
+            Fraction a = f(random.nextLong() % bound, 1 + Math.abs(random.nextLong() % bound));
+            Fraction b = f(random.nextLong() % bound, 1 + Math.abs(random.nextLong() % bound));
+            Fraction c = f(random.nextLong() % bound, 1 + Math.abs(random.nextLong() % bound));
+
+            assertEquals(a.subtract(b.multiplyBy(c)), a.subtractProduct(b, c));
+        }
+    }
+
+    @Test
+    public void accumulatorMatchesAdd() {
+        Random random = new Random(7);
+        long[] bounds = {10, 1L << 20, Long.MAX_VALUE};
+
+        for (int i = 0; i < 300; i++) {
+            long bound = bounds[i % bounds.length];
+            FractionAccumulator accumulator = new FractionAccumulator();
+            Fraction expected = Fraction.ZERO;
+
+            for (int k = 0; k < 20; k++) {
+                Fraction b = f(random.nextLong() % bound, 1 + Math.abs(random.nextLong() % 12));
+                Fraction c = f(random.nextLong() % bound, 1 + Math.abs(random.nextLong() % 12));
+                accumulator.addProduct(b, c);
+                accumulator.add(c);
+                expected = expected.add(b.multiplyBy(c)).add(c);
+            }
+
+            assertEquals(expected, accumulator.toFraction());
+        }
+    }
+
+}
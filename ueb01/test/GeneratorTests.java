@@ -0,0 +1,105 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram.SolveType;
+import simplex.LinearProgramGenerator;
+import simplex.RevisedSimplexSolver;
+import simplex.SimplexSolver;
+import simplex.SparseLinearProgram;
+import simplex.TableauType;
+
+/**
+ * Tests für den Generator linearer Probleme
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class GeneratorTests {
+
+    /** Erzeugt einen Generator mit gemischten Restriktionstypen */
+    private static LinearProgramGenerator mixed(long seed, SolveType solveType) {
+        LinearProgramGenerator generator = new LinearProgramGenerator(seed);
+        generator.setSolveType(solveType);
+        generator.setTypeWeights(2, 1, 1);
+        generator.setDensity(0.5);
+        return generator;
+    }
+
+    @Test
+    public void generator_reproducible() {
+        SparseLinearProgram a = mixed(7, SolveType.MAX).random(20, 15);
+        SparseLinearProgram b = mixed(7, SolveType.MAX).random(20, 15);
+
+        assertArrayEquals(a.getObjectiveTerm(), b.getObjectiveTerm());
+        for (int i = 0; i < a.getRestrictions().length; i++) {
+            SparseLinearProgram.Restriction ra = a.getRestrictions()[i];
+            SparseLinearProgram.Restriction rb = b.getRestrictions()[i];
+
+            assertArrayEquals(ra.getIndices(), rb.getIndices());
+            assertArrayEquals(ra.getCoefficients(), rb.getCoefficients());
+            assertEquals(ra.getType(), rb.getType());
+            assertEquals(ra.getRightSide(), rb.getRightSide());
+        }
+    }
+
+    @Test
+    public void generator_randomIsSolvable() {
+        for (long seed = 1; seed <= 20; seed++) {
+            for (SolveType solveType : SolveType.values()) {
+                SparseLinearProgram lp = mixed(seed, solveType).random(12, 8);
+
+                Fraction[] result = new SimplexSolver(lp, TableauType.SPARSE).solve();
+                Fraction[] expected = new RevisedSimplexSolver(lp.toLinearProgram()).solve();
+
+                assertNotNull(result);
+                assertEquals(expected[8], result[8]);
+            }
+        }
+    }
+
+    @Test
+    public void generator_density() {
+        LinearProgramGenerator generator = new LinearProgramGenerator(1);
+        generator.setDensity(0.01);
+        SparseLinearProgram lp = generator.random(1000, 1000);
+
+        // Erste Restriktion voll besetzt, die uebrigen im Mittel 10 plus die erzwungene Variable
+        assertEquals(1000, lp.getRestrictions().length);
+        assertTrue(lp.getNonZeroCount() < 1000 + 999 * 15);
+    }
+
+    @Test
+    public void generator_kleeMinty() {
+        for (int n = 1; n <= 6; n++) {
+            SimplexSolver solver = new SimplexSolver(LinearProgramGenerator.kleeMinty(n),
+                    TableauType.FRACTION);
+            Fraction[] result = solver.solve();
+
+            assertEquals((1 << n) - 1, solver.getIterations());
+            assertEquals(new Fraction(BigInteger.valueOf(5).pow(n), BigInteger.ONE), result[n]);
+        }
+    }
+
+    @Test
+    public void generator_hardFamilies() {
+        for (long seed = 1; seed <= 10; seed++) {
+            LinearProgramGenerator generator = mixed(seed, SolveType.MIN);
+
+            assertNull(new SimplexSolver(generator.infeasible(10, 6), TableauType.SPARSE).solve());
+            assertNull(new SimplexSolver(generator.unbounded(10, 6), TableauType.SPARSE).solve());
+
+            Fraction[] result = new SimplexSolver(generator.degenerate(10, 6),
+                    TableauType.SPARSE).solve();
+            assertTrue(result[6].signum() >= 0);
+        }
+    }
+
+}
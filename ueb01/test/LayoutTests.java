@@ -0,0 +1,136 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.beale;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.exampleSolution;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.fractionalSolution;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.maximizeSolution;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.minimizeSolution;
+import static simplex.TestPrograms.packing;
+import static simplex.TestPrograms.r;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.SimplexSolver;
+import simplex.SolverListener;
+import simplex.SparseLinearProgram;
+import simplex.TableauLayout;
+import simplex.TableauType;
+
+/**
+ * Tests für die kompakte Aufteilung der Tableauspalten
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class LayoutTests {
+
+    /** Erzeugt einen Automaten mit kompaktem Tableau */
+    private static SimplexSolver compact(SparseLinearProgram lp, TableauType type) {
+        return new SimplexSolver(lp, type, TableauLayout.COMPACT, SolverListener.NOOP);
+    }
+
+    /** Erzeugt eine Zeile aus ganzen Zahlen */
+    private static Fraction[] row(long... values) {
+        Fraction[] row = new Fraction[values.length];
+        for (int j = 0; j < values.length; j++) {
+            row[j] = f(values[j]);
+        }
+        return row;
+    }
+
+    /** Prüft die Lösung des kompakten Layouts für alle Speicherformen */
+    private static void assertCompactSolution(Fraction[] expected, LinearProgram lp) {
+        for (TableauType type : TableauType.values()) {
+            SimplexSolver solver = compact(SparseLinearProgram.of(lp), type);
+            assertArrayEquals(type.toString(), expected, solver.solve());
+            assertTrue(type.toString(), solver.isValidSolution());
+        }
+    }
+
+    @Test
+    public void layout_fullIsDefault() {
+        assertEquals(TableauLayout.FULL, new SimplexSolver(example()).getLayout());
+    }
+
+    @Test
+    public void layout_compactColumns() {
+        SimplexSolver solver = compact(SparseLinearProgram.of(example()), TableauType.FRACTION);
+
+        // Schlupfvariablen fuer LE und GE, kuenstliche Variablen fuer GE und EQ
+        Fraction[][] expected = {
+            row(4, 3, 1, 0, 0, 0, 320),
+            row(2, 4, 0, -1, 1, 0, 100),
+            row(3, 3, 0, 0, 0, 1, 270),
+            row(-2, -8, 0, 0, 0, 0, 0)
+        };
+
+        assertArrayEquals(expected, solver.getTable());
+        assertArrayEquals(new int[] {2, 4, 5}, solver.getBaseVars());
+    }
+
+    @Test
+    public void layout_dropsArtificialColumnsAfterPhaseOne() {
+        SimplexSolver solver = compact(SparseLinearProgram.of(example()), TableauType.SPARSE);
+
+        assertArrayEquals(row(50, 40, 420), solver.solve());
+        assertEquals(5, solver.getTable()[0].length);
+        for (int baseVar : solver.getBaseVars()) {
+            assertTrue(baseVar < 4);
+        }
+    }
+
+    @Test
+    public void layout_onlyLessEqualNeedsNoArtificialColumns() {
+        LinearProgram lp = maximize();
+
+        assertEquals(6, compact(SparseLinearProgram.of(lp), TableauType.PRIMITIVE)
+                .getTable()[0].length);
+        assertEquals(9, new SimplexSolver(lp).getTable()[0].length);
+    }
+
+    @Test
+    public void layout_solutions() {
+        assertCompactSolution(exampleSolution(), example());
+        assertCompactSolution(minimizeSolution(), minimize());
+        assertCompactSolution(maximizeSolution(), maximize());
+        assertCompactSolution(fractionalSolution(), fractional());
+    }
+
+    @Test
+    public void layout_packing() {
+        for (TableauType type : TableauType.values()) {
+            Fraction[] result = compact(SparseLinearProgram.of(packing(2, 40, 30)), type).solve();
+            assertEquals(type.toString(), f(930071, 14045), result[result.length - 1]);
+        }
+    }
+
+    @Test
+    public void layout_perturbation() {
+        SimplexSolver solver = compact(beale(), TableauType.FRACTION);
+        solver.setPerturbation(true);
+
+        assertArrayEquals(fs(f(1), f(0), f(1), f(0), f(5, 4)), solver.solve());
+    }
+
+    @Test
+    public void layout_addRestrictionAfterPhaseOne() {
+        SimplexSolver solver = compact(SparseLinearProgram.of(example()), TableauType.FRACTION);
+        solver.solve();
+        solver.addRestriction(r(row(1, 0), Type.LE, f(40)));
+
+        // Mit x = 40 folgt y = 50 aus der Gleichung 3x + 3y = 270
+        assertArrayEquals(row(40, 50, 480), solver.solveDual());
+        assertEquals(6, solver.getTable()[0].length);
+    }
+
+}
@@ -0,0 +1,229 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import simplex.CancellationToken;
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.LinearProgramGenerator;
+import simplex.SimplexSolver;
+import simplex.SolveConfig;
+import simplex.SolveResult;
+import simplex.SolveResult.Status;
+import simplex.SolverListener;
+import simplex.TableauType;
+
+/**
+ * Tests für Grenzen und Abbruch eines Lösungsvorgangs
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class LimitTests {
+
+    /** max 3x + 2y mit 2x + y <= firstRightSide, 2x + 3y <= 42 und 3x + y <= 24 */
+    private static LinearProgram withFirstRightSide(long firstRightSide) {
+        return new LinearProgram(rs(r(fs(f(2), f(1)), Type.LE, f(firstRightSide)),
+                r(fs(f(2), f(3)), Type.LE, f(42)), r(fs(f(3), f(1)), Type.LE, f(24))),
+                SolveType.MAX, f(3), f(2));
+    }
+
+    @Test
+    public void limits_status() {
+        SolveResult optimal = new SimplexSolver(maximize()).solve(new SolveConfig());
+        assertEquals(Status.OPTIMAL, optimal.getStatus());
+        assertArrayEquals(fs(f(3), f(12), f(33)), optimal.getValues());
+        assertFalse(optimal.getStatus().isLimit());
+
+        for (long seed = 1; seed <= 5; seed++) {
+            LinearProgramGenerator generator = new LinearProgramGenerator(seed);
+            generator.setTypeWeights(2, 1, 1);
+
+            SolveResult infeasible = new SimplexSolver(generator.infeasible(10, 6),
+                    TableauType.SPARSE).solve(new SolveConfig());
+            assertEquals(Status.INFEASIBLE, infeasible.getStatus());
+            assertNull(infeasible.getValues());
+
+            SolveResult unbounded = new SimplexSolver(generator.unbounded(10, 6),
+                    TableauType.SPARSE).solve(new SolveConfig());
+            assertEquals(Status.UNBOUNDED, unbounded.getStatus());
+            assertNull(unbounded.getValues());
+        }
+    }
+
+    @Test
+    public void limits_iterationLimit() {
+        SimplexSolver solver = new SimplexSolver(LinearProgramGenerator.kleeMinty(6),
+                TableauType.PRIMITIVE);
+        SolveConfig config = new SolveConfig();
+        config.setIterationLimit(10);
+
+        SolveResult first = solver.solve(config);
+        assertEquals(Status.ITERATION_LIMIT, first.getStatus());
+        assertTrue(first.getStatus().isLimit());
+        assertEquals(10, first.getIterations());
+        assertArrayEquals(solver.getBaseVars(), first.getBasis());
+
+        // Die bisher beste Basis ist zulässig, ihr Wert liegt unter dem Optimum 5^6
+        Fraction value = first.getValues()[6];
+        assertTrue(value.compareTo(f(15625)) < 0);
+
+        // Jeder weitere Aufruf setzt im erreichten Tableau fort
+        SolveResult second = solver.solve(config);
+        assertEquals(20, second.getIterations());
+        assertTrue(second.getValues()[6].compareTo(value) >= 0);
+
+        SolveResult last = solver.solve(new SolveConfig());
+        assertEquals(Status.OPTIMAL, last.getStatus());
+        assertEquals(63, last.getIterations());
+        assertEquals(f(15625), last.getValues()[6]);
+    }
+
+    @Test
+    public void limits_timeLimit() {
+        SolveConfig config = new SolveConfig();
+        config.setTimeLimit(0, TimeUnit.MILLISECONDS);
+
+        // Vor dem ersten Schritt ist noch Phase 1, es gibt keine zulässige Lösung
+        SolveResult result = new SimplexSolver(example()).solve(config);
+        assertEquals(Status.TIME_LIMIT, result.getStatus());
+        assertEquals(0, result.getIterations());
+        assertNull(result.getValues());
+
+        config.setTimeLimit(1, TimeUnit.MILLISECONDS);
+        result = new SimplexSolver(LinearProgramGenerator.kleeMinty(14), TableauType.FRACTION)
+                .solve(config);
+        assertEquals(Status.TIME_LIMIT, result.getStatus());
+        assertTrue(result.getIterations() < (1 << 14) - 1);
+    }
+
+    @Test
+    public void limits_cancellationToken() {
+        final CancellationToken token = new CancellationToken();
+        SolveConfig config = new SolveConfig();
+        config.setCancellationToken(token);
+
+        // Das Signal wird aus einem Beobachter gesetzt, wie es ein anderer Thread täte
+        SimplexSolver solver = new SimplexSolver(LinearProgramGenerator.kleeMinty(6),
+                TableauType.SPARSE, new SolverListener() {
+                    @Override
+                    public void rowsReduced(SimplexSolver observed) {
+                        if (observed.getIterations() == 5) {
+                            token.cancel();
+                        }
+                    }
+                });
+
+        SolveResult result = solver.solve(config);
+        assertEquals(Status.CANCELLED, result.getStatus());
+        assertEquals(5, result.getIterations());
+
+        assertEquals(5, solver.solve(config).getIterations());
+        assertEquals(Status.OPTIMAL, solver.solve(new SolveConfig()).getStatus());
+    }
+
+    @Test
+    public void limits_interrupt() {
+        SimplexSolver solver = new SimplexSolver(minimize());
+
+        Thread.currentThread().interrupt();
+        SolveResult result = solver.solve(new SolveConfig());
+
+        // Der Status des Threads bleibt für den Aufrufer erhalten
+        assertTrue(Thread.interrupted());
+        assertEquals(Status.CANCELLED, result.getStatus());
+        assertEquals(0, result.getIterations());
+
+        assertArrayEquals(fs(f(0), f(75), f(300)), solver.solve(new SolveConfig()).getValues());
+    }
+
+    @Test
+    public void limits_dualIterationLimit() {
+        SimplexSolver solver = new SimplexSolver(LinearProgramGenerator.kleeMinty(3),
+                TableauType.PRIMITIVE);
+        solver.solve();
+        int before = solver.getIterations();
+        solver.addRestriction(r(fs(f(1), f(1), f(1)), Type.LE, f(1)));
+
+        SolveConfig config = new SolveConfig();
+        config.setIterationLimit(2);
+        SolveResult first = solver.solveDual(config);
+        assertEquals(Status.ITERATION_LIMIT, first.getStatus());
+        assertEquals(before + 2, first.getIterations());
+
+        // Die erreichte Basis bleibt dual zulässig, der duale Simplex setzt dort fort
+        SolveResult last = solver.solveDual(new SolveConfig());
+        assertEquals(Status.OPTIMAL, last.getStatus());
+        assertEquals(before + 4, last.getIterations());
+        assertArrayEquals(fs(f(1), f(0), f(0), f(4)), last.getValues());
+    }
+
+    @Test
+    public void limits_dualInfeasible() {
+        SimplexSolver solver = new SimplexSolver(new LinearProgram(rs(r(fs(f(1)), Type.LE, f(1))),
+                SolveType.MAX, f(1)));
+        solver.solve();
+        solver.addRestriction(r(fs(f(1)), Type.GE, f(2)));
+
+        SolveResult result = solver.solveDual(new SolveConfig());
+        assertEquals(Status.INFEASIBLE, result.getStatus());
+        assertNull(result.getValues());
+    }
+
+    @Test
+    public void limits_warmStartCancelled() {
+        SimplexSolver cold = new SimplexSolver(withFirstRightSide(18));
+        cold.solve();
+
+        // Mit kleinerer rechter Seite ist die alte Basis unzulässig, der Warmstart rechnet dual
+        SimplexSolver warm = new SimplexSolver(withFirstRightSide(8));
+        Thread.currentThread().interrupt();
+        SolveResult result = warm.solveFrom(cold.getBaseVars(), new SolveConfig());
+
+        assertTrue(Thread.interrupted());
+        assertEquals(Status.CANCELLED, result.getStatus());
+        assertEquals(0, result.getIterations());
+        assertNull(result.getValues());
+        assertArrayEquals(fs(f(0), f(8), f(16)), warm.solveDual(new SolveConfig()).getValues());
+    }
+
+    @Test
+    public void limits_perturbationKeepsReachedBasis() {
+        SimplexSolver solver = new SimplexSolver(LinearProgramGenerator.kleeMinty(6),
+                TableauType.SPARSE);
+        int[] initial = solver.getBaseVars().clone();
+        solver.setPerturbation(true);
+        SolveConfig config = new SolveConfig();
+        config.setIterationLimit(10);
+
+        SolveResult result = solver.solve(config);
+        assertEquals(Status.ITERATION_LIMIT, result.getStatus());
+        assertEquals(10, result.getIterations());
+        assertFalse(Arrays.equals(initial, result.getBasis()));
+
+        // Die Störung ist entfernt, die Werte gehören zum ungestörten Problem
+        Fraction value = result.getValues()[6];
+        assertTrue(value.compareTo(f(15625)) < 0);
+        assertEquals(BigInteger.ONE, value.getBigDenominator());
+
+        assertEquals(f(15625), solver.solve(new SolveConfig()).getValues()[6]);
+    }
+
+}
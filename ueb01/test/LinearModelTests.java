@@ -0,0 +1,113 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearModel;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.RevisedSimplexSolver;
+import simplex.SimplexSolver;
+import simplex.SparseLinearProgram;
+import simplex.TableauType;
+
+/**
+ * Tests für das veränderbare lineare Problem
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class LinearModelTests {
+
+    /**
+     * Prüft eine Lösung des Modells gegen die unabhängig berechnete Lösung des aktuellen
+     * Problems.
+     */
+    private static void assertReference(LinearModel model, Fraction[] result) {
+        assertArrayEquals(
+                new RevisedSimplexSolver(model.toLinearProgram().toLinearProgram()).solve(),
+                result);
+    }
+
+    /** Modell zu {@link simplex.TestPrograms#maximize()}, bereits gelöst */
+    private static LinearModel solvedMaximize(TableauType type) {
+        LinearModel model = new LinearModel(SparseLinearProgram.of(maximize()), type);
+        model.solve();
+        return model;
+    }
+
+    @Test
+    public void model_rightSide() {
+        LinearModel model = solvedMaximize(TableauType.FRACTION);
+        SimplexSolver solver = model.getSolver();
+
+        assertReference(model, model.solve());
+        assertArrayEquals(fs(f(15, 4), f(23, 2), f(137, 4)), model.setRightSide(0, f(19)));
+        assertSame(solver, model.getSolver());
+
+        // Basis wird unzulaessig und per dualem Simplex repariert
+        assertReference(model, model.setRightSide(0, f(8)));
+        assertSame(solver, model.getSolver());
+    }
+
+    @Test
+    public void model_objective() {
+        LinearModel model = solvedMaximize(TableauType.PRIMITIVE);
+
+        Fraction[] result = model.setObjectiveCoefficient(0, f(1));
+        assertReference(model, result);
+        assertReference(model, model.setObjectiveCoefficient(1, f(0)));
+    }
+
+    @Test
+    public void model_addAndRemoveRestriction() {
+        LinearModel model = solvedMaximize(TableauType.SPARSE);
+        Fraction[] original = model.solve();
+
+        Fraction[] restricted = model.addRestriction(new SparseLinearProgram.Restriction(
+                new int[] {0, 1}, fs(f(1), f(-1)), Type.EQ, f(0)));
+        assertReference(model, restricted);
+        assertEquals(restricted[0], restricted[1]);
+
+        assertArrayEquals(original, model.removeRestriction(3));
+        assertReference(model, model.removeRestriction(1));
+        assertEquals(2, model.getNumberOfRestrictions());
+    }
+
+    @Test
+    public void model_addVariable() {
+        LinearModel model = solvedMaximize(TableauType.FRACTION);
+
+        Fraction[] result = model.addVariable(f(5), f(1), f(1), f(2));
+        assertEquals(3, model.getNumberOfVariables());
+        assertArrayEquals(fs(f(0), f(0), f(12), f(60)), result);
+        assertReference(model, result);
+    }
+
+    @Test
+    public void model_minimizeWithPhaseOne() {
+        LinearModel model = new LinearModel(example());
+        model.solve();
+
+        assertReference(model, model.setRightSide(1, f(160)));
+        assertReference(model, model.setObjectiveCoefficient(1, f(1)));
+        assertReference(model, model.addVariable(f(1), f(1), f(1), f(1)));
+    }
+
+    @Test
+    public void model_rebuildAfterInfeasible() {
+        LinearModel model = solvedMaximize(TableauType.FRACTION);
+        Fraction[] original = model.solve();
+
+        assertNull(model.addRestriction(new SparseLinearProgram.Restriction(new int[] {0}, fs(f(1)),
+                Type.GE, f(100))));
+        assertArrayEquals(original, model.removeRestriction(3));
+    }
+
+}
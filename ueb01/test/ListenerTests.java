@@ -0,0 +1,148 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import simplex.ConsoleSolverListener;
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.SimplexSolver;
+import simplex.SolverListener;
+import simplex.TableauType;
+
+/**
+ * Tests für die Beobachter eines SimplexSolvers
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class ListenerTests {
+
+    /** Beobachter, der die Ereignisse als Text mitschreibt */
+    private static final class RecordingListener implements SolverListener {
+
+        /** Mitgeschriebene Ereignisse */
+        private final List<String> events = new ArrayList<>();
+
+        /** Ergebnis aus solved */
+        private Fraction[] result;
+
+        @Override
+        public void tableauCreated(SimplexSolver solver) {
+            events.add("created");
+        }
+
+        @Override
+        public void phaseChanged(SimplexSolver solver, int phase) {
+            events.add("phase " + phase);
+        }
+
+        @Override
+        public void basisChanged(SimplexSolver solver, int row, int leavingVar,
+                int enteringVar) {
+            events.add("basis " + row + " " + leavingVar + " " + enteringVar);
+        }
+
+        @Override
+        public void solved(SimplexSolver solver, Fraction[] result) {
+            events.add("solved");
+            this.result = result;
+        }
+    }
+
+    @Test
+    public void listener_events() {
+        RecordingListener listener = new RecordingListener();
+        SimplexSolver solver = new SimplexSolver(maximize(), TableauType.FRACTION, listener);
+        Fraction[] result = solver.solve();
+
+        assertEquals("created", listener.events.get(0));
+        assertEquals("phase 2", listener.events.get(1));
+        assertEquals("solved", listener.events.get(listener.events.size() - 1));
+        assertTrue(listener.events.get(2).startsWith("basis "));
+        assertArrayEquals(result, listener.result);
+    }
+
+    @Test
+    public void listener_phaseChange() {
+        RecordingListener listener = new RecordingListener();
+        SimplexSolver solver = new SimplexSolver(example());
+        solver.setListener(listener);
+        solver.solve();
+
+        assertEquals("phase 1", listener.events.get(0));
+        assertEquals(1, listener.events.stream().filter(e -> e.equals("phase 2")).count());
+    }
+
+    @Test
+    public void listener_unsolvable() {
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(1)), Type.LE, f(1)),
+                r(fs(f(1)), Type.GE, f(2))), SolveType.MAX, f(1));
+        RecordingListener listener = new RecordingListener();
+
+        assertNull(new SimplexSolver(lp, TableauType.FRACTION, listener).solve());
+        assertEquals("solved", listener.events.get(listener.events.size() - 1));
+        assertNull(listener.result);
+    }
+
+    @Test
+    public void noop_printsNothing() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+        try {
+            new SimplexSolver(example()).solve();
+        } finally {
+            System.setOut(original);
+        }
+
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void console_printsSteps() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        new SimplexSolver(example(), TableauType.FRACTION,
+                new ConsoleSolverListener(new PrintStream(buffer))).solve();
+        String output = buffer.toString();
+
+        assertTrue(output.contains("Simplex Solver gestartet!"));
+        assertTrue(output.contains("Durchlauf: 1"));
+        assertTrue(output.contains("Aktueller Table: "));
+        assertTrue(output.contains("Loesung fertig! Ergebnis: "));
+        assertTrue(output.contains("420"));
+    }
+
+    @Test
+    public void listener_composite() {
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        SimplexSolver solver = new SimplexSolver(example(), TableauType.FRACTION,
+                SolverListener.of(first, new ConsoleSolverListener(new PrintStream(buffer))));
+        solver.addListener(second);
+        Fraction[] result = solver.solve();
+
+        // Der spaeter ergaenzte Beobachter verpasst nur das Anlegen des Tableaus
+        assertEquals("created", first.events.get(0));
+        assertEquals(first.events.subList(1, first.events.size()), second.events);
+        assertArrayEquals(result, second.result);
+        assertTrue(buffer.toString().contains("420"));
+    }
+
+}
@@ -0,0 +1,251 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import simplex.BranchAndBoundSolver;
+import simplex.Fraction;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.MpsReader;
+import simplex.MpsReader.Format;
+import simplex.SimplexSolver;
+import simplex.SparseLinearProgram;
+import simplex.TableauType;
+
+/**
+ * Tests für das Lesen von Problemen im MPS-Format
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class MpsTests {
+
+    /** maximize() aus den TestPrograms im freien Format */
+    private static final String MAXIMIZE = String.join("\n",
+            "* Maximierung nur mit LE-Restriktionen",
+            "NAME maximize",
+            "OBJSENSE",
+            "    MAX",
+            "ROWS",
+            " N  z",
+            " L  c1",
+            " L  c2",
+            " L  c3",
+            "COLUMNS",
+            "    x  z  3  c1  2",
+            "    x  c2  2  c3  3",
+            "    y  z  2  c1  1",
+            "    y  c2  3  c3  1",
+            "RHS",
+            "    rhs  c1  18  c2  42",
+            "    rhs  c3  24",
+            "ENDATA");
+
+    /** Verzeichnis für Testdateien */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** Zeile im festen Format mit den Feldern an den Spalten 2, 5, 15, 25, 40 und 50 */
+    private static String fixed(String type, String f2, String f3, String f4, String f5,
+            String f6) {
+        return String.format(" %-2s %-8s  %-8s  %-12s   %-8s  %s", type, f2, f3, f4, f5, f6);
+    }
+
+    /** Liest ein Problem aus einem String */
+    private static MpsReader read(String mps, Format format) throws IOException, ParseException {
+        return new MpsReader(new StringReader(mps), format);
+    }
+
+    /** Löst das gelesene Problem und rechnet die Lösung auf die Spalten der Datei zurück */
+    private static Fraction[] solve(MpsReader reader) {
+        return reader.postsolve(
+                new SimplexSolver(reader.getProgram(), TableauType.FRACTION).solve());
+    }
+
+    @Test
+    public void mps_free() throws Exception {
+        MpsReader reader = read(MAXIMIZE, Format.FREE);
+
+        assertEquals("maximize", reader.getName());
+        assertArrayEquals(new String[] {"x", "y"}, reader.getColumnNames());
+        assertArrayEquals(fs(f(3), f(12), f(33)), solve(reader));
+    }
+
+    @Test
+    public void mps_fixedWithSpacesInNames() throws Exception {
+        String mps = String.join("\n",
+                "NAME          EXAMPLE",
+                "ROWS",
+                fixed("N", "COST", "", "", "", ""),
+                fixed("L", "LIM 1", "", "", "", ""),
+                fixed("G", "LIM 2", "", "", "", ""),
+                fixed("E", "MY EQN", "", "", "", ""),
+                "COLUMNS",
+                fixed("", "x one", "COST", "2", "LIM 1", "4"),
+                fixed("", "x one", "LIM 2", "2", "MY EQN", "3"),
+                fixed("", "y two", "COST", "8", "LIM 1", "3"),
+                fixed("", "y two", "LIM 2", "4", "MY EQN", "3"),
+                "RHS",
+                fixed("", "RHS", "LIM 1", "320", "LIM 2", "100"),
+                fixed("", "RHS", "MY EQN", "270", "", ""),
+                "ENDATA");
+        MpsReader reader = read(mps, Format.FIXED);
+
+        assertArrayEquals(new String[] {"x one", "y two"}, reader.getColumnNames());
+        assertArrayEquals(fs(f(50), f(40), f(420)), solve(reader));
+    }
+
+    @Test
+    public void mps_exactDecimals() throws Exception {
+        String mps = String.join("\n",
+                "ROWS",
+                " N obj",
+                " L c1",
+                " G c2",
+                "COLUMNS",
+                " x obj 1 c1 0.5",
+                " x c2 -1",
+                " y obj 1 c1 1.5E1",
+                "RHS",
+                " c1 0.25 c2 -3",
+                "ENDATA");
+        SparseLinearProgram.Restriction[] restrictions = read(mps, Format.FREE).getProgram()
+                .getRestrictions();
+
+        assertArrayEquals(fs(f(1, 2), f(15)), restrictions[0].getCoefficients());
+        assertEquals(f(1, 4), restrictions[0].getRightSide());
+
+        // -x >= -3 wird mit -1 multipliziert zu x <= 3
+        assertEquals(Type.LE, restrictions[1].getType());
+        assertArrayEquals(fs(f(1)), restrictions[1].getCoefficients());
+        assertEquals(f(3), restrictions[1].getRightSide());
+    }
+
+    @Test
+    public void mps_boundsAndFreeVariable() throws Exception {
+        // min 3x + y - 10 mit x + y >= 2, x - y <= -4, x frei, y <= 3: Lösung (-1, 3, -10)
+        String mps = String.join("\n",
+                "ROWS",
+                " N obj",
+                " G c1",
+                " L c2",
+                "COLUMNS",
+                " x obj 3 c1 1",
+                " x c2 1",
+                " y obj 1 c1 1",
+                " y c2 -1",
+                "RHS",
+                " rhs obj 10 c1 2",
+                " rhs c2 -4",
+                "BOUNDS",
+                " FR bnd x",
+                " UP bnd y 3",
+                "ENDATA");
+        MpsReader reader = read(mps, Format.FREE);
+
+        assertEquals(3, reader.getProgram().getNumberOfVariables());
+        assertArrayEquals(fs(f(-1), f(3), f(-10)), solve(reader));
+    }
+
+    @Test
+    public void mps_ranges() throws Exception {
+        for (String sense : Arrays.asList("MAX", "MIN")) {
+            // 6 <= x + y <= 10 und 0 <= x - y <= 2
+            String mps = String.join("\n",
+                    "OBJSENSE " + sense,
+                    "ROWS",
+                    " N obj",
+                    " L lim",
+                    " E eq",
+                    "COLUMNS",
+                    " x obj 1 lim 1",
+                    " x eq 1",
+                    " y obj 1 lim 1",
+                    " y eq -1",
+                    "RHS",
+                    " lim 10 eq 2",
+                    "RANGES",
+                    " rng lim 4 eq -2",
+                    "ENDATA");
+            MpsReader reader = read(mps, Format.FREE);
+
+            assertEquals(4, reader.getProgram().getRestrictions().length);
+            assertEquals(f("MAX".equals(sense) ? 10 : 6), solve(reader)[2]);
+        }
+    }
+
+    @Test
+    public void mps_integerMarkers() throws Exception {
+        String mps = String.join("\n",
+                "OBJSENSE MAX",
+                "ROWS",
+                " N obj",
+                " L c1",
+                " L c2",
+                "COLUMNS",
+                " MARKER 'MARKER' 'INTORG'",
+                " x obj 5 c1 6",
+                " x c2 1",
+                " y obj 4 c1 4",
+                " y c2 2",
+                " MARKER 'MARKER' 'INTEND'",
+                "RHS",
+                " rhs c1 24 c2 6",
+                "ENDATA");
+        MpsReader reader = read(mps, Format.FREE);
+        BranchAndBoundSolver solver = new BranchAndBoundSolver(
+                reader.getProgram().toLinearProgram(), reader.getIntegral());
+
+        assertArrayEquals(new boolean[] {true, true}, reader.getIntegral());
+        assertArrayEquals(fs(f(4), f(0), f(20)), reader.postsolve(solver.solve()));
+    }
+
+    @Test
+    public void mps_file() throws Exception {
+        Path file = folder.newFile("maximize.mps").toPath();
+        Files.write(file, MAXIMIZE.getBytes(StandardCharsets.ISO_8859_1));
+
+        MpsReader reader = new MpsReader(file, Format.FREE);
+        assertEquals(f(33), solve(reader)[2]);
+        assertNull(reader.postsolve(null));
+    }
+
+    @Test
+    public void mps_errors() throws Exception {
+        try {
+            read("ROWS\n N obj\nCOLUMS\n", Format.FREE);
+            fail();
+        } catch (ParseException e) {
+            assertEquals(3, e.getErrorOffset());
+        }
+
+        try {
+            read(MAXIMIZE.replace("ENDATA", ""), Format.FREE);
+            fail();
+        } catch (ParseException e) {
+            assertEquals(17, e.getErrorOffset());
+        }
+
+        try {
+            read(MAXIMIZE.replace("c2  2  c3  3", "c2  2  c4  3"), Format.FREE);
+            fail();
+        } catch (ParseException e) {
+            assertEquals(12, e.getErrorOffset());
+        }
+    }
+
+}
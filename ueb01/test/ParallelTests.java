@@ -0,0 +1,69 @@
+import static org.junit.Assert.assertArrayEquals;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.large;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.packing;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import simplex.LinearProgram;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für die parallele Reduktion der Zeilen
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class ParallelTests {
+
+    /** Pool mit mehreren Threads, unabhängig von der Anzahl der Kerne des Testrechners */
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    /** Vergleicht paralleles und sequentielles Lösen in allen Speicherformen */
+    private static void assertSameAsSequential(LinearProgram lp, int threshold) {
+        for (TableauType type : TableauType.values()) {
+            SimplexSolver sequential = new SimplexSolver(lp, type);
+            SimplexSolver parallel = new SimplexSolver(lp, type);
+            parallel.setParallelElimination(POOL, threshold);
+
+            assertArrayEquals(type.name(), sequential.solve(), parallel.solve());
+            assertArrayEquals(type.name(), sequential.getTable(), parallel.getTable());
+            assertArrayEquals(type.name(), sequential.getBaseVars(), parallel.getBaseVars());
+        }
+    }
+
+    @Test
+    public void parallel_examples() {
+        assertSameAsSequential(example(), 1);
+        assertSameAsSequential(minimize(), 1);
+        assertSameAsSequential(fractional(), 1);
+    }
+
+    @Test
+    public void parallel_large() {
+        assertSameAsSequential(large(), 1);
+    }
+
+    @Test
+    public void parallel_packing() {
+        assertSameAsSequential(packing(1, 40, 30), 200);
+        assertSameAsSequential(packing(2, 60, 20), 1);
+    }
+
+    @Test
+    public void parallel_belowThreshold() {
+        assertSameAsSequential(example(), Integer.MAX_VALUE);
+    }
+
+}
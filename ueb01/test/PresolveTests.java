@@ -0,0 +1,109 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.Presolver;
+import simplex.RevisedSimplexSolver;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für die Verkleinerung linearer Probleme vor dem Lösen
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class PresolveTests {
+
+    /** Kurzform für einen Term */
+    private static Fraction[] t(long... coefficients) {
+        Fraction[] term = new Fraction[coefficients.length];
+        for (int j = 0; j < coefficients.length; j++) {
+            term[j] = f(coefficients[j]);
+        }
+        return term;
+    }
+
+    /**
+     * Problem mit leerer, doppelter, dominierter und einelementigen Restriktionen, Lösung
+     * (3, 6, 1, 2, 27)
+     */
+    private static LinearProgram reducible() {
+        return new LinearProgram(rs(
+                r(t(1, 1, 1, 0), Type.LE, f(10)),
+                r(t(2, 2, 2, 0), Type.LE, f(30)),
+                r(t(0, 0, 0, 0), Type.LE, f(5)),
+                r(t(0, 0, 0, 1), Type.EQ, f(2)),
+                r(t(0, 0, 1, 0), Type.GE, f(1)),
+                r(t(-1, -1, 0, 0), Type.LE, f(4)),
+                r(t(0, 1, 0, 0), Type.LE, f(6))),
+                SolveType.MAX, t(2, 3, 1, 1));
+    }
+
+    @Test
+    public void presolve_reduces() {
+        Presolver presolver = new Presolver(reducible());
+
+        assertFalse(presolver.isUnsolvable());
+        assertEquals(5, presolver.getRemovedRestrictions());
+        assertEquals(1, presolver.getRemovedVariables());
+        assertEquals(2, presolver.getReducedProgram().getRestrictions().length);
+        assertEquals(3, presolver.getReducedProgram().getNumberOfVariables());
+    }
+
+    @Test
+    public void presolve_postsolveOrder() {
+        Fraction[] expected = t(3, 6, 1, 2, 27);
+
+        for (TableauType type : TableauType.values()) {
+            assertArrayEquals(type.name(), expected, new Presolver(reducible()).solve(type));
+        }
+        assertArrayEquals(expected, new RevisedSimplexSolver(reducible()).solve());
+    }
+
+    @Test
+    public void presolve_nothingToReduce() {
+        Presolver presolver = new Presolver(example());
+
+        assertEquals(0, presolver.getRemovedRestrictions());
+        assertEquals(0, presolver.getRemovedVariables());
+        assertArrayEquals(new SimplexSolver(example()).solve(),
+                presolver.solve(TableauType.FRACTION));
+    }
+
+    @Test
+    public void presolve_solvedCompletely() {
+        LinearProgram lp = new LinearProgram(rs(r(t(1, 0), Type.EQ, f(3)),
+                r(t(0, 1), Type.GE, f(2))), SolveType.MIN, t(1, 1));
+        Presolver presolver = new Presolver(lp);
+
+        assertNull(presolver.getReducedProgram());
+        assertArrayEquals(t(3, 2, 5), presolver.solve(TableauType.FRACTION));
+    }
+
+    @Test
+    public void presolve_unsolvable() {
+        LinearProgram conflicting = new LinearProgram(rs(r(t(1, 1), Type.LE, f(3)),
+                r(t(2, 2), Type.GE, f(8))), SolveType.MAX, t(1, 1));
+        LinearProgram unbounded = new LinearProgram(rs(r(t(1, 0), Type.LE, f(3)),
+                r(t(1, 0), Type.GE, f(1))), SolveType.MAX, t(1, 1));
+
+        assertTrue(new Presolver(conflicting).isUnsolvable());
+        assertTrue(new Presolver(unbounded).isUnsolvable());
+        assertNull(new Presolver(unbounded).solve(TableauType.SPARSE));
+        assertNull(new SimplexSolver(unbounded).solve());
+    }
+
+}
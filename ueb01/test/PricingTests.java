@@ -0,0 +1,88 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.kleeMinty;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.packing;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.PricingStrategy;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für die Regeln zur Wahl der Pivotspalte
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class PricingTests {
+
+    /** Löst mit der übergebenen Regel und gibt den Automaten zurück */
+    private static SimplexSolver solved(LinearProgram lp, TableauType type,
+            PricingStrategy strategy) {
+        SimplexSolver solver = new SimplexSolver(lp, type);
+        solver.setPricingStrategy(strategy);
+        solver.solve();
+        return solver;
+    }
+
+    /** Prüft den Zielfunktionswert aller Regeln in allen Speicherformen */
+    private static void assertOptimum(Fraction expected, LinearProgram lp) {
+        for (PricingStrategy strategy : PricingStrategy.values()) {
+            for (TableauType type : TableauType.values()) {
+                SimplexSolver solver = new SimplexSolver(lp, type);
+                solver.setPricingStrategy(strategy);
+                Fraction[] result = solver.solve();
+
+                assertEquals(strategy + " " + type, expected, result[result.length - 1]);
+                assertTrue(strategy + " " + type, solver.isValidSolution());
+            }
+        }
+    }
+
+    @Test
+    public void pricing_dantzigIsDefault() {
+        SimplexSolver dantzig = solved(example(), TableauType.FRACTION, PricingStrategy.DANTZIG);
+        SimplexSolver standard = new SimplexSolver(example());
+        standard.solve();
+
+        assertEquals(PricingStrategy.DANTZIG, standard.getPricingStrategy());
+        assertArrayEquals(standard.getTable(), dantzig.getTable());
+        assertEquals(standard.getIterations(), dantzig.getIterations());
+    }
+
+    @Test
+    public void pricing_sameOptimum() {
+        assertOptimum(f(420), example());
+        assertOptimum(f(300), minimize());
+        assertOptimum(f(20), fractional());
+        assertOptimum(f(7991429, 102933), packing(1, 40, 30));
+        assertOptimum(f(204466784, 3570911), packing(3, 60, 40));
+    }
+
+    @Test
+    public void pricing_kleeMinty() {
+        LinearProgram lp = kleeMinty(6);
+        int dantzig = solved(lp, TableauType.FRACTION, PricingStrategy.DANTZIG).getIterations();
+
+        // Dantzig besucht alle Ecken des Wuerfels
+        assertEquals(63, dantzig);
+        assertEquals(1, solved(lp, TableauType.PRIMITIVE, PricingStrategy.STEEPEST_EDGE)
+                .getIterations());
+        assertTrue(solved(lp, TableauType.SPARSE, PricingStrategy.DEVEX).getIterations()
+                < dantzig);
+        assertTrue(solved(lp, TableauType.FRACTION, PricingStrategy.PARTIAL).getIterations()
+                < dantzig);
+        assertTrue(solved(lp, TableauType.PRIMITIVE, PricingStrategy.MULTIPLE).getIterations()
+                <= dantzig);
+        assertOptimum(f(15625), lp);
+    }
+
+}
@@ -0,0 +1,70 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.exampleSolution;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.fractionalSolution;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.large;
+import static simplex.TestPrograms.largeSolution;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.maximizeSolution;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.minimizeSolution;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import org.junit.Test;
+
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.RevisedSimplexSolver;
+
+/**
+ * Tests für das revidierte Simplexverfahren
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class RevisedSimplexTests {
+
+    @Test
+    public void revised_examples() {
+        assertArrayEquals(exampleSolution(), new RevisedSimplexSolver(example()).solve());
+        assertArrayEquals(minimizeSolution(), new RevisedSimplexSolver(minimize()).solve());
+        assertArrayEquals(maximizeSolution(), new RevisedSimplexSolver(maximize()).solve());
+        assertArrayEquals(fractionalSolution(), new RevisedSimplexSolver(fractional()).solve());
+    }
+
+    @Test
+    public void revised_refactorizeEveryPivot() {
+        assertArrayEquals(exampleSolution(), new RevisedSimplexSolver(example(), 1).solve());
+        assertArrayEquals(minimizeSolution(), new RevisedSimplexSolver(minimize(), 1).solve());
+        assertArrayEquals(maximizeSolution(), new RevisedSimplexSolver(maximize(), 2).solve());
+        assertArrayEquals(fractionalSolution(), new RevisedSimplexSolver(fractional(), 1).solve());
+    }
+
+    @Test
+    public void revised_large() {
+        assertArrayEquals(largeSolution(), new RevisedSimplexSolver(large(), 1).solve());
+    }
+
+    @Test
+    public void revised_infeasible() {
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(1), f(1)), Type.LE, f(2)),
+                r(fs(f(1), f(1)), Type.GE, f(3))), SolveType.MAX, f(1), f(1));
+
+        assertNull(new RevisedSimplexSolver(lp).solve());
+    }
+
+    @Test
+    public void revised_unbounded() {
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(1), f(-1)), Type.LE, f(2)),
+                r(fs(f(0), f(1)), Type.GE, f(1))), SolveType.MAX, f(1), f(1));
+
+        assertNull(new RevisedSimplexSolver(lp).solve());
+    }
+
+}
@@ -0,0 +1,109 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.packing;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction;
+import simplex.RevisedSimplexSolver;
+import simplex.SensitivityAnalysis;
+import simplex.SensitivityAnalysis.Range;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für die Sensitivitätsanalyse aus dem optimalen Tableau
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class SensitivityTests {
+
+    /** Löst das Problem und liest die Analyse aus dem Tableau */
+    private static SensitivityAnalysis analyze(LinearProgram lp, TableauType type) {
+        SimplexSolver solver = new SimplexSolver(lp, type);
+        solver.solve();
+        return new SensitivityAnalysis(solver);
+    }
+
+    /** Prüft die Grenzen eines Bereichs, null steht für unbeschränkt */
+    private static void assertRange(Fraction min, Fraction max, Range range) {
+        assertEquals(min, range.getMinChange());
+        assertEquals(max, range.getMaxChange());
+    }
+
+    @Test
+    public void sensitivity_maximize() {
+        for (TableauType type : TableauType.values()) {
+            SensitivityAnalysis analysis = analyze(maximize(), type);
+
+            // Die ersten beiden Restriktionen sind bindend, die dritte hat Schlupf 3
+            assertArrayEquals(fs(f(5, 4), f(1, 4),
+                    f(0)), analysis.getDualValues());
+            assertRange(f(-4), f(12, 7), analysis.getRightSideRange(0));
+            assertRange(f(-3), null, analysis.getRightSideRange(2));
+
+            assertArrayEquals(fs(f(0), f(0)), analysis.getReducedCosts());
+            assertRange(f(-5, 3), f(1), analysis.getObjectiveRange(0));
+            assertRange(f(-1, 2), f(5, 2), analysis.getObjectiveRange(1));
+        }
+    }
+
+    @Test
+    public void sensitivity_minimize() {
+        SensitivityAnalysis analysis = analyze(minimize(), TableauType.SPARSE);
+
+        assertEquals(f(2), analysis.getDualValue(2));
+        assertRange(f(-150), f(350), analysis.getRightSideRange(2));
+
+        // x bleibt 0, solange sein Koeffizient nicht unter 0 faellt
+        assertEquals(f(3), analysis.getReducedCost(0));
+        assertRange(f(-3), null, analysis.getObjectiveRange(0));
+    }
+
+    @Test
+    public void sensitivity_rangeContains() {
+        Range range = analyze(example(), TableauType.PRIMITIVE).getRightSideRange(1);
+
+        assertNull(range.getMinChange());
+        assertTrue(range.contains(f(-1000)));
+        assertTrue(range.contains(f(160)));
+        assertFalse(range.contains(f(161)));
+    }
+
+    @Test
+    public void sensitivity_matchesResolve() {
+        LinearProgram lp = packing(5, 12, 8);
+        SimplexSolver solver = new SimplexSolver(lp);
+        Fraction value = solver.solve()[8];
+        SensitivityAnalysis analysis = new SensitivityAnalysis(solver);
+        Restriction[] restrictions = lp.getRestrictions();
+
+        // Jede rechte Seite bis an die obere Grenze ihres Bereichs erhoehen und neu loesen
+        for (int k = 0; k < restrictions.length; k++) {
+            Fraction change = analysis.getRightSideRange(k).getMaxChange();
+            if (change == null) {
+                change = f(10);
+            }
+
+            Restriction[] changed = restrictions.clone();
+            changed[k] = new Restriction(restrictions[k].getTerm(), restrictions[k].getType(),
+                    restrictions[k].getRightSide().add(change));
+            Fraction[] resolved = new RevisedSimplexSolver(
+                    new LinearProgram(changed, lp.getSolveType(), lp.getObjectiveTerm())).solve();
+
+            assertEquals(value.add(analysis.getDualValue(k).multiplyBy(change)), resolved[8]);
+        }
+    }
+
+}
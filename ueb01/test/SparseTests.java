@@ -0,0 +1,110 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.exampleSolution;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.fractionalSolution;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.large;
+import static simplex.TestPrograms.largeSolution;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.maximizeSolution;
+import static simplex.TestPrograms.minimize;
+import static simplex.TestPrograms.minimizeSolution;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.SimplexSolver;
+import simplex.SparseLinearProgram;
+import simplex.TableauType;
+
+/**
+ * Tests für das dünn besetzte Problemformat und das dünn besetzte Tableau
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class SparseTests {
+
+    /** Löst das Problem mit dünn besetztem Tableau */
+    private static Fraction[] solveSparse(LinearProgram lp) {
+        return new SimplexSolver(lp, TableauType.SPARSE).solve();
+    }
+
+    @Test
+    public void program_skipsZeros() {
+        SparseLinearProgram sparse = SparseLinearProgram.of(minimize());
+
+        assertEquals(5, sparse.getNonZeroCount());
+        assertArrayEquals(new int[] {1}, sparse.getRestrictions()[2].getIndices());
+        assertArrayEquals(fs(f(2)), sparse.getRestrictions()[2].getCoefficients());
+    }
+
+    @Test
+    public void program_toLinearProgram() {
+        LinearProgram lp = minimize();
+        LinearProgram dense = SparseLinearProgram.of(lp).toLinearProgram();
+
+        for (int i = 0; i < lp.getRestrictions().length; i++) {
+            assertArrayEquals(lp.getRestrictions()[i].getTerm(),
+                    dense.getRestrictions()[i].getTerm());
+            assertEquals(lp.getRestrictions()[i].getType(), dense.getRestrictions()[i].getType());
+            assertEquals(lp.getRestrictions()[i].getRightSide(),
+                    dense.getRestrictions()[i].getRightSide());
+        }
+        assertArrayEquals(lp.getObjectiveTerm(), dense.getObjectiveTerm());
+        assertEquals(lp.getSolveType(), dense.getSolveType());
+    }
+
+    @Test
+    public void sparse_solve() {
+        assertArrayEquals(exampleSolution(), solveSparse(example()));
+        assertArrayEquals(minimizeSolution(), solveSparse(minimize()));
+        assertArrayEquals(maximizeSolution(), solveSparse(maximize()));
+        assertArrayEquals(fractionalSolution(), solveSparse(fractional()));
+    }
+
+    @Test
+    public void sparse_sameTableAsFraction() {
+        SimplexSolver fraction = new SimplexSolver(fractional(), TableauType.FRACTION);
+        SimplexSolver sparse = new SimplexSolver(fractional(), TableauType.SPARSE);
+        fraction.solve();
+        sparse.solve();
+
+        // Beide Speicherformen pivotisieren gleich, nur die Ablage der Werte unterscheidet sich
+        assertArrayEquals(fraction.getTable(), sparse.getTable());
+        assertArrayEquals(fraction.getBaseVars(), sparse.getBaseVars());
+    }
+
+    @Test
+    public void sparse_solveLarge() {
+        assertArrayEquals(largeSolution(), solveSparse(large()));
+    }
+
+    @Test
+    public void sparse_fewerRestrictionsThanVariables() {
+        SparseLinearProgram lp = new SparseLinearProgram(
+                new SparseLinearProgram.Restriction[] {new SparseLinearProgram.Restriction(
+                        new int[] {0, 1, 2}, fs(f(1), f(1), f(1)), Type.LE, f(6))},
+                SolveType.MAX, f(1), f(2), f(1));
+
+        assertArrayEquals(fs(f(0), f(6), f(0), f(12)),
+                new SimplexSolver(lp, TableauType.SPARSE).solve());
+    }
+
+    @Test
+    public void sparse_initialTable() {
+        SimplexSolver sparse = new SimplexSolver(minimize(), TableauType.SPARSE);
+        Fraction[][] table = sparse.getTable();
+
+        assertEquals(Fraction.ZERO, table[2][0]);
+        assertEquals(f(-1), table[2][4]);
+        assertEquals(f(1), table[2][7]);
+    }
+
+}
@@ -0,0 +1,171 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.kleeMinty;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.packing;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import simplex.LinearProgram;
+import simplex.LinearProgramGenerator;
+import simplex.LinearProgram.Restriction;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.SimplexSolver;
+import simplex.SolverStatistics;
+import simplex.TableauType;
+
+/**
+ * Tests für die Kennzahlen eines Lösungsvorgangs
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class StatisticsTests {
+
+    /** Löst das Problem und gibt die gesammelten Kennzahlen zurück */
+    private static SolverStatistics solve(LinearProgram lp, TableauType type) {
+        SolverStatistics statistics = new SolverStatistics();
+        new SimplexSolver(lp, type, statistics).solve();
+        return statistics;
+    }
+
+    /**
+     * Gibt einen Automaten mit Störung der rechten Seiten für ein zufälliges Problem mit LE- und
+     * GE-Restriktionen zurück. Sein Lösen besteht aus mehreren inneren Lösungsvorgängen.
+     */
+    private static SimplexSolver perturbed(SolverStatistics statistics) {
+        LinearProgramGenerator generator = new LinearProgramGenerator(7);
+        generator.setTypeWeights(1, 0, 1);
+        SimplexSolver solver = new SimplexSolver(generator.random(30, 30), TableauType.SPARSE,
+                statistics);
+        solver.setPerturbation(true);
+        return solver;
+    }
+
+    @Test
+    public void statistics_phases() {
+        for (TableauType type : TableauType.values()) {
+            SolverStatistics statistics = new SolverStatistics();
+            SimplexSolver solver = new SimplexSolver(example(), type, statistics);
+            solver.solve();
+
+            assertFalse(statistics.isSolving());
+            assertTrue(statistics.getPhaseOneIterations() > 0);
+            assertEquals(solver.getIterations(), statistics.getIterations());
+            assertTrue(statistics.getPricingNanos() + statistics.getRatioTestNanos()
+                    + statistics.getEliminationNanos() <= statistics.getSolveNanos());
+            assertTrue(statistics.getGcMillis() >= 0);
+        }
+    }
+
+    @Test
+    public void statistics_estimatedFractionOperations() {
+        SolverStatistics small = solve(kleeMinty(3), TableauType.SPARSE);
+        SolverStatistics large = solve(kleeMinty(6), TableauType.SPARSE);
+
+        assertTrue(small.getEstimatedFractionOperations() > 0);
+        assertTrue(large.getEstimatedFractionOperations()
+                > small.getEstimatedFractionOperations());
+    }
+
+    @Test
+    public void statistics_largestValueInReducedRow() {
+        // max x mit x <= 4 und x + 100000 y <= 6: der Koeffizient 100000 (17 Bit) steht nur in
+        // der reduzierten zweiten Zeile, nicht in Pivotzeile, rechter Seite oder Zielfunktion
+        LinearProgram lp = new LinearProgram(rs(r(fs(f(1), f(0)), Type.LE, f(4)),
+                r(fs(f(1), f(100000)), Type.LE, f(6))), SolveType.MAX, f(1), f(0));
+        SolverStatistics statistics = solve(lp, TableauType.SPARSE);
+
+        assertEquals(1, statistics.getPhaseTwoIterations());
+        assertEquals(17, statistics.getLargestNumeratorBits());
+    }
+
+    @Test
+    public void statistics_largestValues() {
+        SolverStatistics statistics = solve(kleeMinty(6), TableauType.FRACTION);
+
+        // Der optimale Wert 5^6 = 15625 hat 14 Bit
+        assertEquals(63, statistics.getPhaseTwoIterations());
+        assertTrue(statistics.getLargestNumeratorBits() >= 14);
+        assertEquals(1, statistics.getLargestDenominatorBits());
+    }
+
+    @Test
+    public void statistics_perSolve() {
+        SolverStatistics statistics = new SolverStatistics();
+        SimplexSolver solver = new SimplexSolver(maximize(), TableauType.PRIMITIVE, statistics);
+        solver.solve();
+        assertEquals(solver.getIterations(), statistics.getIterations());
+
+        // Die Schritte des dualen Simplex zählen zu Phase 2
+        Restriction cut = r(fs(f(1), f(0)), Type.LE, f(2));
+        int before = solver.getIterations();
+        solver.addRestriction(cut);
+        solver.solveDual();
+
+        assertEquals(0, statistics.getPhaseOneIterations());
+        assertEquals(solver.getIterations() - before, statistics.getPhaseTwoIterations());
+        assertTrue(statistics.getPhaseTwoIterations() > 0);
+    }
+
+    @Test
+    public void statistics_perturbedSolve() {
+        SolverStatistics statistics = new SolverStatistics();
+        SimplexSolver solver = perturbed(statistics);
+        solver.solve();
+
+        assertTrue(statistics.getPhaseOneIterations() > 0);
+        assertEquals(solver.getIterations(), statistics.getIterations());
+    }
+
+    @Test
+    public void statistics_warmStartedSolve() {
+        SolverStatistics statistics = new SolverStatistics();
+        SimplexSolver solver = perturbed(statistics);
+        solver.solveFrom(solver.getBaseVars());
+
+        assertTrue(statistics.getIterations() > 0);
+        assertEquals(solver.getIterations(), statistics.getIterations());
+    }
+
+    @Test
+    public void statistics_floatingPointSolve() {
+        SolverStatistics statistics = new SolverStatistics();
+        SimplexSolver solver = perturbed(statistics);
+        // Die grobe Toleranz verwirft die Gleitkomma-Basis, exakt wird gestört neu gelöst
+        solver.solveFloatingPoint(1e-9, 0.5);
+
+        assertTrue(statistics.getIterations() > 0);
+        assertEquals(solver.getIterations(), statistics.getIterations());
+    }
+
+    @Test
+    public void statistics_jmx() throws JMException {
+        SolverStatistics statistics = solve(packing(2, 10, 8), TableauType.SPARSE);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = statistics.register("statistics_jmx");
+
+        try {
+            assertEquals(statistics.getIterations(), server.getAttribute(name, "Iterations"));
+            assertEquals(statistics.getEstimatedFractionOperations(),
+                    server.getAttribute(name, "EstimatedFractionOperations"));
+            assertEquals(Boolean.FALSE, server.getAttribute(name, "Solving"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+}
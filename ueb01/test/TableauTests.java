@@ -0,0 +1,72 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fractional;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.large;
+import static simplex.TestPrograms.largeSolution;
+
+import org.junit.Test;
+
+import simplex.Fraction;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für die Speicherformen des Simplex-Tableaus
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class TableauTests {
+
+    @Test
+    public void primitive_initialTable() {
+        SimplexSolver fraction = new SimplexSolver(example(), TableauType.FRACTION);
+        SimplexSolver primitive = new SimplexSolver(example(), TableauType.PRIMITIVE);
+
+        assertArrayEquals(fraction.getTable(), primitive.getTable());
+        assertArrayEquals(fraction.getBaseVars(), primitive.getBaseVars());
+    }
+
+    @Test
+    public void primitive_solve() {
+        SimplexSolver fraction = new SimplexSolver(example(), TableauType.FRACTION);
+        SimplexSolver primitive = new SimplexSolver(example(), TableauType.PRIMITIVE);
+
+        assertArrayEquals(fs(f(50), f(40), f(420)), primitive.solve());
+        fraction.solve();
+        assertArrayEquals(fraction.getTable(), primitive.getTable());
+        assertArrayEquals(fraction.getBaseVars(), primitive.getBaseVars());
+    }
+
+    @Test
+    public void primitive_solveFractional() {
+        SimplexSolver fraction = new SimplexSolver(fractional(), TableauType.FRACTION);
+        SimplexSolver primitive = new SimplexSolver(fractional(), TableauType.PRIMITIVE);
+
+        assertArrayEquals(fraction.solve(), primitive.solve());
+        assertArrayEquals(fraction.getTable(), primitive.getTable());
+    }
+
+    @Test
+    public void primitive_tableIsSnapshot() {
+        SimplexSolver primitive = new SimplexSolver(example(), TableauType.PRIMITIVE);
+
+        Fraction[][] before = primitive.getTable();
+        primitive.solve();
+
+        assertEquals(f(320), before[0][before[0].length - 1]);
+        assertEquals(f(160), primitive.getTable()[0][before[0].length - 1]);
+    }
+
+    @Test
+    public void overflow_solveLarge() {
+        assertArrayEquals(largeSolution(),
+                new SimplexSolver(large(), TableauType.FRACTION).solve());
+        assertArrayEquals(largeSolution(),
+                new SimplexSolver(large(), TableauType.PRIMITIVE).solve());
+    }
+
+}
@@ -3,7 +3,30 @@ import org.junit.runners.Suite;
 
 /* Angabe der Test-Klassen die zu dieser Test-Suite gehören sollen: */
 @Suite.SuiteClasses({
-    ExampleTests.class
+    ExampleTests.class,
+    TableauTests.class,
+    FractionTests.class,
+    FloatingPointTests.class,
+    RevisedSimplexTests.class,
+    SparseTests.class,
+    ListenerTests.class,
+    ParallelTests.class,
+    DualSimplexTests.class,
+    WarmStartTests.class,
+    LinearModelTests.class,
+    BatchTests.class,
+    PricingTests.class,
+    DegeneracyTests.class,
+    PresolveTests.class,
+    LayoutTests.class,
+    BranchAndBoundTests.class,
+    CutTests.class,
+    SensitivityTests.class,
+    GeneratorTests.class,
+    MpsTests.class,
+    CheckpointTests.class,
+    StatisticsTests.class,
+    LimitTests.class
 })
 /* Tests über eine Test-Suite ausführen */
 @RunWith(Suite.class)
@@ -0,0 +1,82 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static simplex.TestPrograms.example;
+import static simplex.TestPrograms.f;
+import static simplex.TestPrograms.fs;
+import static simplex.TestPrograms.maximize;
+import static simplex.TestPrograms.r;
+import static simplex.TestPrograms.rs;
+
+import org.junit.Test;
+
+import simplex.LinearProgram;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+import simplex.RevisedSimplexSolver;
+import simplex.SimplexSolver;
+import simplex.TableauType;
+
+/**
+ * Tests für das Lösen ausgehend von einer vorgegebenen Basis
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public class WarmStartTests {
+
+    /** {@link simplex.TestPrograms#maximize()} mit anderer rechter Seite der ersten Restriktion */
+    private static LinearProgram maximizeWithRightSide(long firstRightSide) {
+        return new LinearProgram(rs(r(fs(f(2), f(1)), Type.LE, f(firstRightSide)), r(fs(f(2), f(3)),
+                Type.LE, f(42)), r(fs(f(3), f(1)), Type.LE, f(24))), SolveType.MAX, f(3), f(2));
+    }
+
+    @Test
+    public void warm_optimalBasis() {
+        SimplexSolver cold = new SimplexSolver(example());
+        cold.solve();
+
+        SimplexSolver warm = new SimplexSolver(example(), TableauType.SPARSE);
+
+        assertArrayEquals(fs(f(50), f(40), f(420)), warm.solveFrom(cold.getBaseVars()));
+        assertEquals(0, warm.getIterations());
+        assertEquals(3, warm.getInstalledBasisColumns());
+    }
+
+    @Test
+    public void warm_changedRightSide() {
+        SimplexSolver cold = new SimplexSolver(maximizeWithRightSide(18));
+        cold.solve();
+
+        SimplexSolver warm = new SimplexSolver(maximizeWithRightSide(19));
+        SimplexSolver reference = new SimplexSolver(maximizeWithRightSide(19));
+
+        assertArrayEquals(reference.solve(), warm.solveFrom(cold.getBaseVars()));
+        assertTrue(warm.getIterations() <= reference.getIterations());
+        assertEquals(2, warm.getInstalledBasisColumns());
+    }
+
+    @Test
+    public void warm_infeasibleBasisUsesDual() {
+        SimplexSolver cold = new SimplexSolver(maximizeWithRightSide(18));
+        cold.solve();
+
+        // Mit kleinerer rechter Seite ist die alte Basis unzulaessig, aber weiter dual zulaessig
+        SimplexSolver warm = new SimplexSolver(maximizeWithRightSide(8), TableauType.PRIMITIVE);
+
+        assertArrayEquals(new RevisedSimplexSolver(maximizeWithRightSide(8)).solve(),
+                warm.solveFrom(cold.getBaseVars()));
+        assertEquals(2, warm.getInstalledBasisColumns());
+    }
+
+    @Test
+    public void warm_singularBasis() {
+
+        // Die kuenstlichen Variablen von maximize() haben nur Nullen in ihren Spalten
+        SimplexSolver warm = new SimplexSolver(maximize());
+
+        assertArrayEquals(fs(f(3), f(12), f(33)), warm.solveFrom(new int[] {0, 1, 5}));
+        assertEquals(0, warm.getInstalledBasisColumns());
+    }
+
+}
@@ -0,0 +1,186 @@
+package simplex;
+
+import java.util.Random;
+
+import simplex.LinearProgram.Restriction;
+import simplex.LinearProgram.Restriction.Type;
+import simplex.LinearProgram.SolveType;
+
+/**
+ * Lineare Optimierungsprobleme und Hilfsmethoden, die von mehreren Testklassen genutzt werden
+ *
+ * @author Alexander Loeffler
+ *
+ */
+public final class TestPrograms {
+
+    /** Keine Instanzen */
+    private TestPrograms() {
+    }
+
+    /** Hilfsmethode zum Erstellen einer Fraction-Instanz */
+    public static Fraction f(long numerator) {
+        return new Fraction(numerator);
+    }
+
+    /** Hilfsmethode zum Erstellen einer Fraction-Instanz */
+    public static Fraction f(long numerator, long denominator) {
+        return new Fraction(numerator, denominator);
+    }
+
+    /** Hilfsmethode zum Erstellen eines Fraction-Arrays */
+    public static Fraction[] fs(Fraction... fs) {
+        return fs;
+    }
+
+    /** Hilfsmethode zum Erstellen einer Restriction-Instanz */
+    public static Restriction r(Fraction[] term, Type type, Fraction rightSide) {
+        return new Restriction(term, type, rightSide);
+    }
+
+    /** Hilfsmethode zum Erstellen eines Restriction-Arrays */
+    public static Restriction[] rs(Restriction... rs) {
+        return rs;
+    }
+
+    /** Beispiel 1 aus den ExampleTests, Lösung {@link #exampleSolution()} */
+    public static LinearProgram example() {
+        return new LinearProgram(rs(r(fs(f(4), f(3)), Type.LE, f(320)),
+                r(fs(f(2), f(4)), Type.GE, f(100)), r(fs(f(3), f(3)), Type.EQ, f(270))),
+                SolveType.MIN, f(2), f(8));
+    }
+
+    /** Lösung von {@link #example()} */
+    public static Fraction[] exampleSolution() {
+        return fs(f(50), f(40), f(420));
+    }
+
+    /** Minimierung mit GE-Restriktion, Lösung {@link #minimizeSolution()} */
+    public static LinearProgram minimize() {
+        return new LinearProgram(rs(r(fs(f(2), f(1)), Type.LE, f(600)),
+                r(fs(f(5), f(4)), Type.LE, f(1000)), r(fs(f(0), f(2)), Type.GE, f(150))),
+                SolveType.MIN, f(3), f(4));
+    }
+
+    /** Lösung von {@link #minimize()} */
+    public static Fraction[] minimizeSolution() {
+        return fs(f(0), f(75), f(300));
+    }
+
+    /** Maximierung nur mit LE-Restriktionen, Lösung {@link #maximizeSolution()} */
+    public static LinearProgram maximize() {
+        return new LinearProgram(rs(r(fs(f(2), f(1)), Type.LE, f(18)),
+                r(fs(f(2), f(3)), Type.LE, f(42)), r(fs(f(3), f(1)), Type.LE, f(24))),
+                SolveType.MAX, f(3), f(2));
+    }
+
+    /** Lösung von {@link #maximize()} */
+    public static Fraction[] maximizeSolution() {
+        return fs(f(3), f(12), f(33));
+    }
+
+    /** Problem mit echten Brüchen im Tableau, Lösung {@link #fractionalSolution()} */
+    public static LinearProgram fractional() {
+        return new LinearProgram(rs(r(fs(f(3), f(2), f(1)), Type.LE, f(10)),
+                r(fs(f(2), f(5), f(3)), Type.LE, f(15)),
+                r(fs(f(1, 2), f(1), f(7, 3)), Type.GE, f(2))),
+                SolveType.MAX, f(2), f(3), f(4));
+    }
+
+    /** Lösung von {@link #fractional()} */
+    public static Fraction[] fractionalSolution() {
+        return fs(f(0), f(0), f(5), f(20));
+    }
+
+    /** Problem mit Koeffizienten nahe 2^32, dessen Zwischenergebnisse nicht in long passen */
+    public static LinearProgram large() {
+        return new LinearProgram(
+                rs(r(fs(f(3037000493L), f(2147483647L), f(1000000007L)), Type.LE,
+                        f(8589934583L)),
+                        r(fs(f(2147483629L), f(4294967291L), f(3037000453L)), Type.LE,
+                                f(6442450939L)),
+                        r(fs(f(1000000009L), f(3037000427L), f(4294967279L)), Type.LE,
+                                f(7516192771L))),
+                SolveType.MAX, f(5), f(4), f(3));
+    }
+
+    /** Lösung von {@link #large()} */
+    public static Fraction[] largeSolution() {
+        return fs(f(3274197372619034921L, 1179314704828306321L), f(0),
+                f(186497131116311870L, 1179314704828306321L),
+                f(1539134386949464565L, 107210427711664211L));
+    }
+
+    /**
+     * Zufälliges Packproblem mit LE-Restriktionen und positiven Koeffizienten, das daher immer
+     * lösbar und beschränkt ist. Etwa jeder dritte Koeffizient ist 0.
+     */
+    public static LinearProgram packing(long seed, int rows, int vars) {
+        Random random = new Random(seed);
+        Restriction[] restrictions = new Restriction[rows];
+
+        for (int i = 0; i < rows; i++) {
+            Fraction[] term = new Fraction[vars];
+            for (int j = 0; j < vars; j++) {
+                term[j] = random.nextInt(3) == 0 ? f(0) : f(1 + random.nextInt(9));
+            }
+            restrictions[i] = r(term, Type.LE, f(10 + random.nextInt(90)));
+        }
+
+        Fraction[] objective = new Fraction[vars];
+        for (int j = 0; j < vars; j++) {
+            objective[j] = f(1 + random.nextInt(9));
+        }
+
+        return new LinearProgram(restrictions, SolveType.MAX, objective);
+    }
+
+    /**
+     * max 5x + 4y mit 6x + 4y &le; 24 und x + 2y &le; 6. Lösung der Relaxation (3, 3/2, 21),
+     * ganzzahlige Lösung (4, 0, 20).
+     */
+    public static LinearProgram knapsack() {
+        return new LinearProgram(rs(r(fs(f(6), f(4)), Type.LE, f(24)),
+                r(fs(f(1), f(2)), Type.LE, f(6))), SolveType.MAX, f(5), f(4));
+    }
+
+    /**
+     * Beispiel von Beale, bei dem die Regel von Dantzig mit der ersten Zeile bei gleichen
+     * Quotienten endlos zyklisch pivotisiert. Lösung (1, 0, 1, 0, 5/4).
+     */
+    public static SparseLinearProgram beale() {
+        int[] all = {0, 1, 2, 3};
+
+        return new SparseLinearProgram(new SparseLinearProgram.Restriction[] {
+            new SparseLinearProgram.Restriction(all, fs(f(1, 4), f(-8), f(-1), f(9)), Type.LE,
+                    f(0)),
+            new SparseLinearProgram.Restriction(all, fs(f(1, 2), f(-12), f(-1, 2), f(3)),
+                    Type.LE, f(0)),
+            new SparseLinearProgram.Restriction(new int[] {2}, fs(f(1)), Type.LE, f(1))},
+                SolveType.MAX, f(3, 4), f(-20), f(1, 2), f(-6));
+    }
+
+    /**
+     * Würfel von Klee und Minty in n Dimensionen, für den die Regel von Dantzig alle 2^n Ecken
+     * besucht. Optimum ist x_n = 5^n mit z = 5^n.
+     */
+    public static LinearProgram kleeMinty(int n) {
+        Restriction[] restrictions = new Restriction[n];
+
+        for (int i = 0; i < n; i++) {
+            Fraction[] term = new Fraction[n];
+            for (int j = 0; j < n; j++) {
+                term[j] = (j < i) ? f(1L << (i - j + 1)) : f((j == i) ? 1 : 0);
+            }
+            restrictions[i] = r(term, Type.LE, f((long) Math.pow(5, i + 1)));
+        }
+
+        Fraction[] objective = new Fraction[n];
+        for (int j = 0; j < n; j++) {
+            objective[j] = f(1L << (n - j - 1));
+        }
+
+        return new LinearProgram(restrictions, SolveType.MAX, objective);
+    }
+
+}